@@ -0,0 +1,86 @@
+package com.example.capstonedesign.application.ingest.LH;
+
+import com.example.capstonedesign.bench.BenchData;
+import com.example.capstonedesign.bench.BenchStubs;
+import com.example.capstonedesign.common.metrics.AppMetrics;
+import com.example.capstonedesign.domain.housingannouncements.repository.HousingAnnouncementsRepository;
+import com.example.capstonedesign.domain.products.repository.ProductsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LhRowParsingBenchmark
+ * -------------------------------------------------
+ * LH 목록 페이지 1장 처리 비용 (네트워크 제외)
+ * - parse           : HTML → Document + "table tbody tr" 선택
+ * - resolveDetailUrl: 행마다 상세 링크 탐색 (data-id / onclick / data-panid / hidden / href 순 폴백)
+ * - crawlAndSave    : 행 파싱 + 날짜/상태 매핑 + upsert 분기 (repository 는 메모리 스텁)
+ * - 대상 메서드는 private 이므로 리플렉션으로 호출 (호출 오버헤드는 행 처리 비용 대비 무시 가능)
+ * <p>
+ * 실행 예: ./gradlew jmh -Pjmh.includes=LhRowParsingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LhRowParsingBenchmark {
+
+    private static final String LIST_URL = "https://apply.lh.or.kr/lhapply/apply/wt/wrtanc/selectWrtancList.do?mi=1026";
+
+    /** 페이지당 행 수 (LH 기본 50, 최대 노출 500 가정) */
+    @Param({"50", "500"})
+    public int rows;
+
+    private String html;
+    private Elements parsedRows;
+    private LhHousingIngestService service;
+    private Method resolveDetailUrl;
+    private Method crawlAndSave;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        html = BenchData.lhListHtml(rows);
+        parsedRows = Jsoup.parse(html, "https://apply.lh.or.kr").select("table tbody tr");
+
+        ProductsRepository products = BenchStubs.stub(ProductsRepository.class, Map.of(
+                "findByDetailUrl", args -> Optional.empty(),
+                "save", args -> args[0]));
+        HousingAnnouncementsRepository housing = BenchStubs.stub(HousingAnnouncementsRepository.class, Map.of(
+                "findByProduct", args -> Optional.empty(),
+                "save", args -> args[0]));
+        service = new LhHousingIngestService(products, housing, new AppMetrics(new SimpleMeterRegistry()));
+        BenchStubs.silence(LhHousingIngestService.class);
+
+        resolveDetailUrl = LhHousingIngestService.class.getDeclaredMethod("resolveDetailUrl", Element.class, String.class);
+        resolveDetailUrl.setAccessible(true);
+        crawlAndSave = LhHousingIngestService.class.getDeclaredMethod("crawlAndSave", Elements.class, String.class, String.class);
+        crawlAndSave.setAccessible(true);
+    }
+
+    @Benchmark
+    public Elements parse() {
+        Document doc = Jsoup.parse(html, "https://apply.lh.or.kr");
+        return doc.select("table tbody tr");
+    }
+
+    @Benchmark
+    public void resolveDetailUrl(Blackhole bh) throws Exception {
+        for (Element tr : parsedRows) {
+            bh.consume(resolveDetailUrl.invoke(service, tr, LIST_URL));
+        }
+    }
+
+    @Benchmark
+    public void crawlAndSave() throws Exception {
+        crawlAndSave.invoke(service, parsedRows, "임대주택", LIST_URL);
+    }
+}
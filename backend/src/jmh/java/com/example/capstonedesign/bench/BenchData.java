@@ -0,0 +1,204 @@
+package com.example.capstonedesign.bench;
+
+import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProductType;
+import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProducts;
+import com.example.capstonedesign.domain.housingannouncements.entity.LhNotice;
+import com.example.capstonedesign.domain.products.entity.ProductType;
+import com.example.capstonedesign.domain.products.entity.Products;
+import com.example.capstonedesign.domain.shannouncements.entity.RecruitStatus;
+import com.example.capstonedesign.domain.shannouncements.entity.SHHousingCategory;
+import com.example.capstonedesign.domain.shannouncements.entity.ShAnnouncement;
+import com.example.capstonedesign.domain.users.entity.Users;
+import com.example.capstonedesign.domain.youthpolicies.entity.YouthPolicy;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * BenchData
+ * -------------------------------------------------
+ * 벤치마크용 합성 데이터 (고정 시드 → 실행마다 동일한 분포)
+ * - 날짜는 오늘 기준 ±90일 범위로 생성 (최근/마감 임박 필터가 실제로 걸리도록)
+ * - 실데이터에서 보이는 형식 차이(yyyyMMdd / yyyy.MM.dd / 상시 / 빈 값)를 섞어서 생성
+ */
+public final class BenchData {
+
+    public static final long SEED = 42L;
+
+    private static final String[] REGIONS = {"서울특별시", "경기도", "인천광역시", "부산광역시", "대구광역시", "광주광역시", "대전광역시"};
+    private static final String[] REGION_CODES = {"11110", "41110", "28110", "26110", "27110", "29110", "30110"};
+    private static final String[] LH_CATEGORIES = {"임대주택", "분양주택", "상가", "토지", "주거복지"};
+    private static final String[] LH_TYPES = {"행복주택", "국민임대", "영구임대", "공공분양(신혼희망)", "매입임대", "통합공공임대"};
+    private static final String[] LH_STATUSES = {"공고중", "접수중", "정정공고중", "접수마감", "모집완료"};
+    private static final String[] SH_SUPPLY = {"청년안심주택", "행복주택", "국민임대", "공공임대", "장기전세", "분양주택"};
+    private static final String[] SH_REGIONS = {"강남", "송파", "마포", "노원", "은평", "서울"};
+    private static final String[] KEYWORDS = {"소득,지원", "보조금", "장려금", "대출", "교육", "창업,일자리", ""};
+    private static final String[] AGES = {"19 ~ 34", "0 ~ 0", "18 ~ 39", "만 19세 이상", "만 34세 이하", ""};
+    private static final String[] BANKS = {"국민은행", "신한은행", "우리은행", "하나은행", "농협은행", "카카오뱅크", "토스뱅크"};
+
+    private static final DateTimeFormatter DOT = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+    private static final DateTimeFormatter COMPACT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private BenchData() {}
+
+    public static Users user() {
+        return Users.builder()
+                .id(1)
+                .email("bench@example.com")
+                .age(27)
+                .region("서울특별시")
+                .income_band("중위소득 150% 이하")
+                .build();
+    }
+
+    public static List<YouthPolicy> youthPolicies(int n) {
+        Random r = new Random(SEED);
+        LocalDate today = LocalDate.now();
+        List<YouthPolicy> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            LocalDate start = today.minusDays(r.nextInt(90));
+            LocalDate end = today.plusDays(r.nextInt(60) - 10);
+            int region = r.nextInt(REGION_CODES.length);
+            list.add(YouthPolicy.builder()
+                    .id((long) i + 1)
+                    .policyNo("R2025" + i)
+                    .policyName(REGIONS[region] + " 청년 지원 정책 " + i)
+                    .agency(REGIONS[region])
+                    .keyword(KEYWORDS[r.nextInt(KEYWORDS.length)])
+                    .regionCode(r.nextInt(5) == 0
+                            ? REGION_CODES[region] + "," + REGION_CODES[(region + 1) % REGION_CODES.length]
+                            : REGION_CODES[region])
+                    .targetAge(AGES[r.nextInt(AGES.length)])
+                    .startDate(dateText(r, start))
+                    .endDate(r.nextInt(8) == 0 ? (r.nextBoolean() ? "상시" : "") : dateText(r, end))
+                    .applyUrl("https://www.youthcenter.go.kr/plcy/" + i)
+                    .createdAt(LocalDateTime.now().minusDays(r.nextInt(120)))
+                    .build());
+        }
+        return list;
+    }
+
+    public static List<LhNotice> lhNotices(int n) {
+        Random r = new Random(SEED);
+        LocalDate today = LocalDate.now();
+        List<LhNotice> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            String region = REGIONS[r.nextInt(REGIONS.length)];
+            String type = LH_TYPES[r.nextInt(LH_TYPES.length)];
+            list.add(LhNotice.builder()
+                    .id((long) i + 1)
+                    .product(product(i + 1, ProductType.HOUSING, region + " " + type + " " + i))
+                    .uppAisTpNm(LH_CATEGORIES[r.nextInt(LH_CATEGORIES.length)])
+                    .aisTpCdNm(type)
+                    .panNm(region + " " + type + " 입주자 모집공고 " + i)
+                    .cnpCdNm(region)
+                    .panSs(LH_STATUSES[r.nextInt(LH_STATUSES.length)])
+                    .panNtStDt(today.minusDays(r.nextInt(90)).format(DOT))
+                    .clsgDt(r.nextInt(10) == 0 ? "" : today.plusDays(r.nextInt(45) - 5).format(DOT))
+                    .dtlUrl("https://apply.lh.or.kr/lhapply/apply/wt/wrtanc/selectWrtancInfo.do?panId=" + i)
+                    .build());
+        }
+        return list;
+    }
+
+    public static List<ShAnnouncement> shAnnouncements(int n) {
+        Random r = new Random(SEED);
+        LocalDate today = LocalDate.now();
+        List<ShAnnouncement> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            String supply = SH_SUPPLY[r.nextInt(SH_SUPPLY.length)];
+            list.add(ShAnnouncement.builder()
+                    .id((long) i + 1)
+                    .product(product(i + 1, ProductType.HOUSING, "SH " + supply + " " + i))
+                    .source("i-sh")
+                    .externalId(String.valueOf(300000 + i))
+                    .title("[" + SH_REGIONS[r.nextInt(SH_REGIONS.length)] + "] " + supply + " 입주자 모집 공고 " + i)
+                    .department("주거복지처")
+                    .postDate(today.minusDays(r.nextInt(90)))
+                    .views(r.nextInt(5000))
+                    .recruitStatus(RecruitStatus.now)
+                    .supplyType(supply)
+                    .category(supply.contains("분양") ? SHHousingCategory.주택분양 : SHHousingCategory.주택임대)
+                    .region(SH_REGIONS[r.nextInt(SH_REGIONS.length)])
+                    .attachments(r.nextBoolean()
+                            ? "[{\"name\":\"공고문.pdf\",\"url\":\"https://www.i-sh.co.kr/files/" + i + ".pdf\"}]"
+                            : "[]")
+                    .detailUrl("https://www.i-sh.co.kr/main/view.do?seq=" + (300000 + i))
+                    .crawledAt(LocalDateTime.now())
+                    .build());
+        }
+        return list;
+    }
+
+    public static List<FinanceProducts> financeProducts(int n, FinanceProductType type) {
+        Random r = new Random(SEED);
+        List<FinanceProducts> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            String bank = BANKS[r.nextInt(BANKS.length)];
+            list.add(FinanceProducts.builder()
+                    .id(i + 1)
+                    .product(product(i + 1, ProductType.FINANCE, bank + " " + type.getDisplayName() + " " + i, bank))
+                    .finCoNo(String.valueOf(10000 + r.nextInt(50)))
+                    .productType(type)
+                    .joinCondition(r.nextBoolean() ? "만 19세 이상 ~ 34세 이하" : "제한없음")
+                    .interestRate(r.nextInt(12) == 0 ? null : BigDecimal.valueOf(150 + r.nextInt(350), 2))
+                    .minDeposit(r.nextBoolean() ? null : (1 + r.nextInt(100)) * 10000)
+                    .build());
+        }
+        return list;
+    }
+
+    /**
+     * LH 목록 페이지 HTML (table tbody tr × n)
+     * - 상세 링크 형태를 실제 페이지처럼 섞음: data-id1..4 버튼 / onclick / data-panid / hidden / a[href] / 링크 없음
+     */
+    public static String lhListHtml(int n) {
+        Random r = new Random(SEED);
+        LocalDate today = LocalDate.now();
+        StringBuilder sb = new StringBuilder(n * 600);
+        sb.append("<html><body><table><thead><tr><th>번호</th></tr></thead><tbody>");
+        for (int i = 0; i < n; i++) {
+            String pan = "2025" + String.format("%07d", i);
+            String title = REGIONS[r.nextInt(REGIONS.length)] + " " + LH_TYPES[r.nextInt(LH_TYPES.length)] + " 모집공고 " + i;
+            String link = switch (i % 6) {
+                case 0 -> "<a href=\"#\" class=\"wrtancInfoBtn\" data-id1=\"" + pan + "\" data-id2=\"10\" data-id3=\"01\" data-id4=\"03\">" + title + "</a>";
+                case 1 -> "<a href=\"#\" onclick=\"goView('" + pan + "','10','01','03'); return false;\">" + title + "</a>";
+                case 2 -> "<a href=\"#\" data-panid=\"" + pan + "\" data-ais=\"10\" data-upp=\"01\" data-ccr=\"03\">" + title + "</a>";
+                case 3 -> "<input type=\"hidden\" name=\"panId\" value=\"" + pan + "\"><a href=\"#\">" + title + "</a>";
+                case 4 -> "<a href=\"/lhapply/apply/wt/wrtanc/selectWrtancInfo.do?panId=" + pan + "\">" + title + "</a>";
+                default -> "<a href=\"#\">" + title + "</a>";
+            };
+            sb.append("<tr><td>").append(n - i).append("</td><td>임대주택</td><td class=\"bbs_tit\">").append(link)
+                    .append("</td><td>").append(REGIONS[r.nextInt(REGIONS.length)]).append("</td><td>-</td><td>")
+                    .append(today.minusDays(r.nextInt(60)).format(DOT)).append("</td><td>")
+                    .append(today.plusDays(r.nextInt(30)).format(DOT)).append("</td><td>")
+                    .append(LH_STATUSES[r.nextInt(LH_STATUSES.length)]).append("</td></tr>");
+        }
+        sb.append("</tbody></table></body></html>");
+        return sb.toString();
+    }
+
+    private static Products product(int id, ProductType type, String name) {
+        return product(id, type, name, type == ProductType.HOUSING ? "LH" : "온통청년");
+    }
+
+    private static Products product(int id, ProductType type, String name, String provider) {
+        return Products.builder()
+                .id(id)
+                .type(type)
+                .name(name)
+                .provider(provider)
+                .detailUrl("https://example.com/products/" + id)
+                .build();
+    }
+
+    /** 공공 API 들이 섞어 쓰는 날짜 형식 (yyyyMMdd 위주, 일부 yyyy.MM.dd) */
+    private static String dateText(Random r, LocalDate date) {
+        return r.nextInt(4) == 0 ? date.format(DOT) : date.format(COMPACT);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.capstonedesign.bench;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * BenchStubs
+ * -------------------------------------------------
+ * 벤치마크용 인터페이스 스텁 (JDK Proxy, Mockito 미사용)
+ * - repository: 메서드 이름 → 응답 함수 매핑, 나머지는 기본값(null/0/false)
+ * - criteria: jakarta.persistence.criteria 인터페이스를 반환하는 메서드는 같은 타입의 스텁을 재사용해 반환
+ *   → Specification.toPredicate 의 조립 비용만 측정 (Hibernate SQM 생성 비용 제외)
+ * - silence: 측정 루프 안의 info 로그가 콘솔 I/O 로 결과를 왜곡하지 않도록 WARN 으로 올림
+ */
+public final class BenchStubs {
+
+    private static final String CRITERIA_PACKAGE = "jakarta.persistence.criteria";
+
+    private BenchStubs() {}
+
+    /** 이름으로 응답을 지정한 인터페이스 스텁 */
+    public static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) return answer.apply(args);
+            return objectMethodOrDefault(proxy, method.getName(), method.getReturnType(), args);
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    /** 대상 클래스 로거를 WARN 이상만 출력하도록 설정 */
+    public static void silence(Class<?>... types) {
+        for (Class<?> type : types) {
+            ((Logger) LoggerFactory.getLogger(type)).setLevel(Level.WARN);
+        }
+    }
+
+    /** Criteria API 스텁 (CriteriaBuilder / Root / CriteriaQuery 등 공통) */
+    public static <T> T criteria(Class<T> type) {
+        return new CriteriaStubs().get(type);
+    }
+
+    private static final class CriteriaStubs {
+        private final Map<Class<?>, Object> cache = new ConcurrentHashMap<>();
+
+        <T> T get(Class<T> type) {
+            return type.cast(cache.computeIfAbsent(type, this::create));
+        }
+
+        private Object create(Class<?> type) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                Class<?> rt = method.getReturnType();
+                if (rt.isInterface() && rt.getPackageName().startsWith(CRITERIA_PACKAGE)) {
+                    return get(rt);
+                }
+                return objectMethodOrDefault(proxy, method.getName(), rt, args);
+            };
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+    }
+
+    private static Object objectMethodOrDefault(Object proxy, String name, Class<?> returnType, Object[] args) {
+        switch (name) {
+            case "equals": return proxy == args[0];
+            case "hashCode": return System.identityHashCode(proxy);
+            case "toString": return "stub@" + Integer.toHexString(System.identityHashCode(proxy));
+            default: break;
+        }
+        if (!returnType.isPrimitive()) return null;
+        if (returnType == boolean.class) return false;
+        if (returnType == void.class) return null;
+        if (returnType == long.class) return 0L;
+        if (returnType == double.class) return 0.0d;
+        if (returnType == float.class) return 0.0f;
+        if (returnType == char.class) return '\0';
+        if (returnType == byte.class) return (byte) 0;
+        if (returnType == short.class) return (short) 0;
+        return 0;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.capstonedesign.domain;
+
+import com.example.capstonedesign.bench.BenchData;
+import com.example.capstonedesign.bench.BenchStubs;
+import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProductType;
+import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProducts;
+import com.example.capstonedesign.domain.finance.financeproducts.repository.FinanceProductsRepository;
+import com.example.capstonedesign.domain.finance.financeproducts.service.FinanceProductRecommendationService;
+import com.example.capstonedesign.domain.housingannouncements.entity.LhNotice;
+import com.example.capstonedesign.domain.housingannouncements.repository.LhNoticeRepository;
+import com.example.capstonedesign.domain.housingannouncements.service.HousingAnnouncementsService;
+import com.example.capstonedesign.domain.shannouncements.entity.ShAnnouncement;
+import com.example.capstonedesign.domain.shannouncements.repository.ShAnnouncementRepository;
+import com.example.capstonedesign.domain.shannouncements.service.ShAnnouncementService;
+import com.example.capstonedesign.domain.users.entity.Users;
+import com.example.capstonedesign.domain.users.repository.UsersRepository;
+import com.example.capstonedesign.domain.users.service.UserProfileCache;
+import com.example.capstonedesign.domain.youthpolicies.entity.YouthPolicy;
+import com.example.capstonedesign.domain.youthpolicies.repository.YouthPolicyRepository;
+import com.example.capstonedesign.domain.youthpolicies.service.YouthPolicyQueryService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RecommendationBenchmark
+ * -------------------------------------------------
+ * 사용자 맞춤 추천 4종의 점수 계산 루프 (전체 로드 → 필터 → 점수/사유 → 정렬 → 상위 10)
+ * - youthPolicy : YouthPolicyQueryService.recommendForUser
+ * - lhHousing   : HousingAnnouncementsService.recommendForUser
+ * - shHousing   : ShAnnouncementService.recommendForUser (첨부 JSON 파싱 포함)
+ * - deposit     : FinanceProductRecommendationService.recommendDepositOrSaving
+ * - repository 는 고정 시드 합성 데이터를 반환하는 메모리 스텁 (DB 비용 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RecommendationBenchmark {
+
+    /** 도메인별 전체 건수 */
+    @Param({"1000", "10000"})
+    public int items;
+
+    private YouthPolicyQueryService youthPolicyService;
+    private HousingAnnouncementsService housingService;
+    private ShAnnouncementService shService;
+    private FinanceProductRecommendationService financeService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Users user = BenchData.user();
+        UsersRepository users = BenchStubs.stub(UsersRepository.class, Map.of(
+                "findById", args -> Optional.of(user)));
+
+        List<YouthPolicy> policies = BenchData.youthPolicies(items);
+        List<LhNotice> notices = BenchData.lhNotices(items);
+        List<ShAnnouncement> announcements = BenchData.shAnnouncements(items);
+        List<FinanceProducts> deposits = BenchData.financeProducts(items, FinanceProductType.DEPOSIT);
+
+        // 같은 사용자 반복 → 두 번째 호출부터 프로필 캐시 적중 (점수 계산 루프만 측정)
+        UserProfileCache profiles = new UserProfileCache(10_000, 300);
+
+        youthPolicyService = new YouthPolicyQueryService(
+                BenchStubs.stub(YouthPolicyRepository.class, Map.of("findAll", args -> policies)), users, profiles);
+        housingService = new HousingAnnouncementsService(
+                BenchStubs.stub(LhNoticeRepository.class, Map.of("findAll", args -> notices)), users, profiles, null, null);
+        shService = new ShAnnouncementService(
+                BenchStubs.stub(ShAnnouncementRepository.class, Map.of("findAll", args -> announcements)), users, profiles, null, null);
+        financeService = new FinanceProductRecommendationService(
+                users, profiles, BenchStubs.stub(FinanceProductsRepository.class, Map.of("findByProductType", args -> deposits)));
+    }
+
+    @Benchmark
+    public Object youthPolicy() {
+        return youthPolicyService.recommendForUser(1, false);
+    }
+
+    @Benchmark
+    public Object lhHousing() {
+        return housingService.recommendForUser(1, false);
+    }
+
+    @Benchmark
+    public Object shHousing() {
+        return shService.recommendForUser(1, false);
+    }
+
+    @Benchmark
+    public Object deposit() {
+        return financeService.recommendDepositOrSaving(1, FinanceProductType.DEPOSIT);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.capstonedesign.domain.chatbot;
+
+import com.example.capstonedesign.domain.chatbot.entity.IntentType;
+import com.example.capstonedesign.domain.chatbot.service.ChatKeywordDictionary;
+import com.example.capstonedesign.domain.chatbot.service.ChatKeywordDictionary.Category;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ChatKeywordMatchingBenchmark
+ * -------------------------------------------------
+ * 챗봇 의도 판별 + 엔티티 추출 비교
+ * - legacy : 기존 String.contains 체인 (의도 판별 1회 + 지역/키워드 추출 각각 재스캔)
+ * - automaton : ChatKeywordDictionary 단일 패스 스캔 1회 후 사전별 판단
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatKeywordMatchingBenchmark {
+
+    @Param({
+            "서울 전세 지원 뭐 있어?",
+            "청년 적금 추천해 줘",
+            "교통비 지원 정책 있어?",
+            "의미 없는 문장 아무거나 길게 적어 보면 어떤 결과가 나오는지 궁금해서 한번 물어봅니다"
+    })
+    public String message;
+
+    private final ChatKeywordDictionary dictionary = ChatKeywordDictionary.INSTANCE;
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        bh.consume(legacyIntent(message));
+        bh.consume(legacyRegion(message));
+        bh.consume(legacyHousingKeyword(message));
+        bh.consume(legacyPolicyKeyword(message));
+    }
+
+    @Benchmark
+    public void automaton(Blackhole bh) {
+        ChatKeywordDictionary.Scan scan = dictionary.scan(message);
+        bh.consume(scan.any(Category.AGENCY) || scan.any(Category.REGION_INTENT) || scan.any(Category.HOUSING_INTENT)
+                ? IntentType.HOUSING
+                : scan.any(Category.FINANCE_INTENT) ? IntentType.FINANCE
+                : scan.any(Category.POLICY_INTENT) ? IntentType.POLICY
+                : scan.any(Category.HELP_INTENT) ? IntentType.HELP
+                : IntentType.UNKNOWN);
+        bh.consume(scan.first(Category.REGION));
+        bh.consume(scan.first(Category.HOUSING_KEYWORD));
+        bh.consume(scan.first(Category.POLICY_KEYWORD));
+    }
+
+    // ====== 기존 구현 (비교 기준) ======
+
+    private static final String[] REGIONS = {
+            "서울", "경기", "인천", "부산", "대구",
+            "대전", "광주", "울산", "세종",
+            "강원", "충북", "충남", "전북", "전남",
+            "경북", "경남", "제주"
+    };
+
+    private static IntentType legacyIntent(String message) {
+        String text = message.toLowerCase();
+        if (message.contains("LH") || message.contains("엘에이치")
+                || message.contains("SH") || message.contains("에스에이치")) return IntentType.HOUSING;
+        for (String r : REGIONS) {
+            if (message.contains(r)) return IntentType.HOUSING;
+        }
+        if (text.contains("전세") || text.contains("월세") || text.contains("임대") || text.contains("공고")
+                || text.contains("주택") || text.contains("청년주택")) return IntentType.HOUSING;
+        if (text.contains("대출") || text.contains("예금") || text.contains("적금")
+                || text.contains("금리") || text.contains("통장")) return IntentType.FINANCE;
+        if (text.contains("정책") || text.contains("청년정책") || text.contains("지원금")
+                || text.contains("사업") || text.contains("보조금")) return IntentType.POLICY;
+        if (text.contains("사용법") || text.contains("어떻게") || text.contains("도움말")
+                || text.contains("설명") || text.contains("뭐 하는 서비스")) return IntentType.HELP;
+        return IntentType.UNKNOWN;
+    }
+
+    private static String legacyRegion(String message) {
+        for (String r : new String[]{"서울", "경기", "인천", "부산", "대구", "대전", "광주", "울산"}) {
+            if (message.contains(r)) return r;
+        }
+        return "전체";
+    }
+
+    private static String legacyHousingKeyword(String message) {
+        if (message.contains("전세")) return "전세";
+        if (message.contains("월세")) return "월세";
+        if (message.contains("청년")) return "청년";
+        if (message.contains("임대")) return "임대";
+        return "";
+    }
+
+    private static String legacyPolicyKeyword(String message) {
+        String text = message.toLowerCase();
+        if (text.contains("취업")) return "취업";
+        if (text.contains("창업")) return "창업";
+        if (text.contains("교통")) return "교통";
+        if (text.contains("전세") || text.contains("월세") || text.contains("주거")) return "전세";
+        if (text.contains("청년 정책") || text.contains("청년정책")) return "청년";
+        if (text.contains("청년")) return "청년";
+        if (text.contains("정책")) return "정책";
+        return "";
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.capstonedesign.domain.finance;
+
+import com.example.capstonedesign.bench.BenchStubs;
+import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProductType;
+import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProducts;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FinanceProductSpecsBenchmark
+ * -------------------------------------------------
+ * 금융상품 검색 조건(Specification) 조립 + toPredicate 호출 비용
+ * - filters=none     : 모든 조건 null (조건 미적용 경로)
+ * - filters=typical  : 유형 + 키워드 + 금리 하한
+ * - filters=all      : 유형 + 회사 + 키워드 + 은행 포함/제외 목록 + 금리 범위
+ * - Criteria API 는 BenchStubs.criteria 스텁 → 조건 조립/정규화 비용만 측정 (Hibernate SQM 생성 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FinanceProductSpecsBenchmark {
+
+    @Param({"none", "typical", "all"})
+    public String filters;
+
+    private static final List<String> INCLUDES = List.of(" 국민은행", "신한은행 ", "우리은행", "하나은행", "국민은행");
+    private static final List<String> EXCLUDES = List.of("국민은행", "신한은행", "우리은행", "하나은행", "농협은행", "기업은행");
+
+    private Root<FinanceProducts> root;
+    private CriteriaQuery<?> query;
+    private CriteriaBuilder cb;
+
+    private FinanceProductType type;
+    private String finCoNo;
+    private String keyword;
+    private List<String> includes;
+    private List<String> excludes;
+    private BigDecimal minRate;
+    private BigDecimal maxRate;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        root = BenchStubs.criteria(Root.class);
+        query = BenchStubs.criteria(CriteriaQuery.class);
+        cb = BenchStubs.criteria(CriteriaBuilder.class);
+
+        boolean typical = !"none".equals(filters);
+        boolean all = "all".equals(filters);
+        type = typical ? FinanceProductType.SAVING : null;
+        keyword = typical ? "  청년 " : null;
+        minRate = typical ? new BigDecimal("3.00") : null;
+        finCoNo = all ? "0010001" : null;
+        includes = all ? INCLUDES : null;
+        excludes = all ? EXCLUDES : null;
+        maxRate = all ? new BigDecimal("6.50") : null;
+    }
+
+    /** FinanceProductQueryController.filterSpec 과 같은 조립 */
+    private Specification<FinanceProducts> build() {
+        return Specification.allOf(
+                FinanceProductSpecs.productType(type),
+                FinanceProductSpecs.finCoNo(finCoNo),
+                FinanceProductSpecs.keyword(keyword),
+                FinanceProductSpecs.providers(includes, excludes),
+                FinanceProductSpecs.minRate(minRate),
+                FinanceProductSpecs.maxRate(maxRate));
+    }
+
+    @Benchmark
+    public Specification<FinanceProducts> compose() {
+        return build();
+    }
+
+    @Benchmark
+    public Object composeAndPredicate() {
+        return build().toPredicate(root, query, cb);
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.capstonedesign.domain.housingannouncements;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LhNoticeSearchQueryBenchmark
+ * -------------------------------------------------
+ * LH 공고 검색 SQL 비교 (MySQL 실측)
+ * - catchAll : 기존 JPQL 과 같은 형태 ":x IS NULL OR ..." + LOWER(col) LIKE
+ * - dynamic  : LhNoticeSpecs 처럼 주어진 조건만 포함 + 소문자 생성 컬럼 비교
+ * - 벤치 전용 스키마에 합성 공고 rows 건을 고정 시드로 채운 뒤 측정 (기존 데이터 미사용)
+ * <p>
+ * 실행 예:
+ * ./gradlew jmh -Pjmh.includes=LhNoticeSearchQueryBenchmark
+ *   -Dbench.jdbc.url=jdbc:mysql://localhost:3306/ynest_bench -Dbench.jdbc.user=root -Dbench.jdbc.password=...
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LhNoticeSearchQueryBenchmark {
+
+    /** 필터 조합: category / keyword / category+keyword / none */
+    @Param({"category", "keyword", "category+keyword", "none"})
+    public String filter;
+
+    @Param({"200000"})
+    public int rows;
+
+    private static final String[] CATEGORIES = {"임대주택", "분양주택", "상가", "토지", "주거복지"};
+    private static final String[] STATUSES = {"공고중", "접수중", "정정공고중", "접수마감", "모집완료"};
+    private static final String[] REGIONS = {"서울특별시", "경기도", "인천광역시", "부산광역시", "대구광역시", "광주광역시", "대전광역시"};
+    private static final String[] TYPES = {"행복주택", "국민임대", "영구임대", "공공분양", "매입임대", "전세임대"};
+
+    private static final String CATCH_ALL_SQL = """
+            SELECT id, pan_nm, cnp_cd_nm, pan_ss, pan_nt_st_dt FROM lh_notices
+            WHERE (? IS NULL OR upp_ais_tp_nm LIKE CONCAT('%', ?, '%'))
+              AND (? IS NULL OR LOWER(pan_nm) LIKE LOWER(CONCAT('%', ?, '%'))
+                             OR LOWER(cnp_cd_nm) LIKE LOWER(CONCAT('%', ?, '%'))
+                             OR LOWER(upp_ais_tp_nm) LIKE LOWER(CONCAT('%', ?, '%')))
+            ORDER BY pan_nt_st_dt DESC LIMIT 20
+            """;
+
+    private Connection connection;
+    private String category;
+    private String keyword;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("bench.jdbc.url", "jdbc:mysql://localhost:3306/ynest_bench"),
+                System.getProperty("bench.jdbc.user", "root"),
+                System.getProperty("bench.jdbc.password", ""));
+        createSchema();
+        seed();
+
+        category = filter.contains("category") ? "임대주택" : null;
+        keyword = filter.contains("keyword") ? "행복" : null;
+
+        explain("catchAll", CATCH_ALL_SQL, catchAllParams());
+        explain("dynamic", dynamicSql(), dynamicParams());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void catchAll(Blackhole bh) throws SQLException {
+        bh.consume(run(CATCH_ALL_SQL, catchAllParams()));
+    }
+
+    @Benchmark
+    public void dynamic(Blackhole bh) throws SQLException {
+        bh.consume(run(dynamicSql(), dynamicParams()));
+    }
+
+    private List<Object> catchAllParams() {
+        List<Object> p = new ArrayList<>();
+        p.add(category);
+        p.add(category);
+        for (int i = 0; i < 4; i++) p.add(keyword);
+        return p;
+    }
+
+    /** LhNoticeSpecs 가 만드는 WHERE 절과 같은 형태 */
+    private String dynamicSql() {
+        List<String> where = new ArrayList<>();
+        if (category != null) where.add("upp_ais_tp_nm = ?");
+        if (keyword != null) where.add("(pan_nm_lc LIKE ? OR cnp_cd_nm_lc LIKE ? OR upp_ais_tp_nm_lc LIKE ?)");
+
+        return "SELECT id, pan_nm, cnp_cd_nm, pan_ss, pan_nt_st_dt FROM lh_notices"
+                + (where.isEmpty() ? "" : " WHERE " + String.join(" AND ", where))
+                + " ORDER BY pan_nt_st_dt DESC LIMIT 20";
+    }
+
+    private List<Object> dynamicParams() {
+        List<Object> p = new ArrayList<>();
+        if (category != null) p.add(category);
+        if (keyword != null) {
+            String like = "%" + keyword.toLowerCase() + "%";
+            p.add(like);
+            p.add(like);
+            p.add(like);
+        }
+        return p;
+    }
+
+    private int run(String sql, List<Object> params) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.size(); i++) ps.setObject(i + 1, params.get(i));
+            int n = 0;
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) n++;
+            }
+            return n;
+        }
+    }
+
+    private void explain(String label, String sql, List<Object> params) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < params.size(); i++) ps.setObject(i + 1, params.get(i));
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    System.out.printf("[%s/%s] key=%s rows=%s extra=%s%n",
+                            filter, label, rs.getString("key"), rs.getString("rows"), rs.getString("Extra"));
+                }
+            }
+        }
+    }
+
+    private void createSchema() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("""
+                    CREATE TABLE IF NOT EXISTS lh_notices
+                    (
+                        id               BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        product_id       INT NOT NULL,
+                        upp_ais_tp_nm    VARCHAR(100),
+                        ais_tp_cd_nm     VARCHAR(100),
+                        pan_nm           VARCHAR(255),
+                        cnp_cd_nm        VARCHAR(100),
+                        pan_ss           VARCHAR(50),
+                        pan_nt_st_dt     VARCHAR(50),
+                        clsg_dt          VARCHAR(50),
+                        dtl_url          VARCHAR(500),
+                        created_at       DATETIME DEFAULT CURRENT_TIMESTAMP,
+                        pan_nm_lc        VARCHAR(255) GENERATED ALWAYS AS (LOWER(pan_nm)) STORED,
+                        cnp_cd_nm_lc     VARCHAR(100) GENERATED ALWAYS AS (LOWER(cnp_cd_nm)) STORED,
+                        upp_ais_tp_nm_lc VARCHAR(100) GENERATED ALWAYS AS (LOWER(upp_ais_tp_nm)) STORED,
+                        INDEX idx_lh_category_posted (upp_ais_tp_nm, pan_nt_st_dt),
+                        INDEX idx_lh_posted (pan_nt_st_dt)
+                    )
+                    """);
+        }
+    }
+
+    private void seed() throws SQLException {
+        int existing;
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("SELECT COUNT(*) FROM lh_notices")) {
+            rs.next();
+            existing = rs.getInt(1);
+        }
+        if (existing >= rows) return;
+
+        Random random = new Random(42);
+        connection.setAutoCommit(false);
+        try (PreparedStatement ps = connection.prepareStatement("""
+                INSERT INTO lh_notices (product_id, upp_ais_tp_nm, ais_tp_cd_nm, pan_nm, cnp_cd_nm, pan_ss, pan_nt_st_dt, clsg_dt)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """)) {
+            for (int i = existing; i < rows; i++) {
+                String region = REGIONS[random.nextInt(REGIONS.length)];
+                String type = TYPES[random.nextInt(TYPES.length)];
+                String date = String.format("20%02d.%02d.%02d", 20 + random.nextInt(6), 1 + random.nextInt(12), 1 + random.nextInt(28));
+
+                ps.setInt(1, i + 1);
+                ps.setString(2, CATEGORIES[random.nextInt(CATEGORIES.length)]);
+                ps.setString(3, type);
+                ps.setString(4, region + " " + type + " 입주자 모집공고 " + i);
+                ps.setString(5, region);
+                ps.setString(6, STATUSES[random.nextInt(STATUSES.length)]);
+                ps.setString(7, date);
+                ps.setString(8, date);
+                ps.addBatch();
+
+                if ((i + 1) % 1000 == 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+            }
+            ps.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+}
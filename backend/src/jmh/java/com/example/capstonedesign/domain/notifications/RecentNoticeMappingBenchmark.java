@@ -0,0 +1,55 @@
+package com.example.capstonedesign.domain.notifications;
+
+import com.example.capstonedesign.bench.BenchData;
+import com.example.capstonedesign.domain.housingannouncements.entity.LhNotice;
+import com.example.capstonedesign.domain.notifications.dto.RecentNoticeDto;
+import com.example.capstonedesign.domain.shannouncements.entity.ShAnnouncement;
+import com.example.capstonedesign.domain.youthpolicies.entity.YouthPolicy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RecentNoticeMappingBenchmark
+ * -------------------------------------------------
+ * 홈 "최근 게시물" DTO 변환 비용 (엔티티 n건 → RecentNoticeDto)
+ * - fromLh     : yyyy.MM.dd 파싱 (호출마다 DateTimeFormatter 생성)
+ * - fromSh     : 날짜 필드 폴백만 수행 (비교 기준)
+ * - fromPolicy : yyyyMMdd 파싱 + 기간 필터 + 지역코드 Map 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecentNoticeMappingBenchmark {
+
+    @Param({"100", "1000"})
+    public int items;
+
+    private List<LhNotice> notices;
+    private List<ShAnnouncement> announcements;
+    private List<YouthPolicy> policies;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        notices = BenchData.lhNotices(items);
+        announcements = BenchData.shAnnouncements(items);
+        policies = BenchData.youthPolicies(items);
+    }
+
+    @Benchmark
+    public void fromLh(Blackhole bh) {
+        for (LhNotice n : notices) bh.consume(RecentNoticeDto.fromLh(n));
+    }
+
+    @Benchmark
+    public void fromSh(Blackhole bh) {
+        for (ShAnnouncement a : announcements) bh.consume(RecentNoticeDto.fromSh(a));
+    }
+
+    @Benchmark
+    public void fromPolicy(Blackhole bh) {
+        for (YouthPolicy p : policies) bh.consume(RecentNoticeDto.fromPolicy(p));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.capstonedesign.domain.users;
+
+import com.example.capstonedesign.domain.users.config.JwtTokenProvider;
+import com.example.capstonedesign.domain.users.entity.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtParseBenchmark
+ * -------------------------------------------------
+ * 요청마다 실행되는 JWT 검증 비용 (JwtAuthenticationFilter → JwtTokenProvider.parse)
+ * - parse    : 유효 토큰 서명 검증 + Claims 파싱
+ * - verify   : 필터 경로 (검증 캐시 적중 → 토큰 해시 조회만)
+ * - generate : 로그인 시 토큰 발급 (비교 기준)
+ * - distinctTokens 만큼 서로 다른 사용자 토큰을 돌려가며 검증 (같은 문자열 반복 최적화 방지)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "bench-secret-key-bench-secret-key-0123456789";
+
+    @Param({"1", "1000"})
+    public int distinctTokens;
+
+    private JwtTokenProvider provider;
+    private String[] tokens;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        provider = new JwtTokenProvider(SECRET, 3600);
+        tokens = new String[distinctTokens];
+        for (int i = 0; i < distinctTokens; i++) {
+            tokens[i] = provider.generate((long) i + 1, "user" + i + "@example.com", UserRole.USER);
+        }
+    }
+
+    @Benchmark
+    public Object parse() {
+        String token = tokens[next];
+        next = (next + 1) % tokens.length;
+        return provider.parse(token);
+    }
+
+    @Benchmark
+    public Object verify() {
+        String token = tokens[next];
+        next = (next + 1) % tokens.length;
+        return provider.verify(token);
+    }
+
+    @Benchmark
+    public String generate() {
+        return provider.generate(1L, "user@example.com", UserRole.USER);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.capstonedesign.domain.users;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import com.example.capstonedesign.common.metrics.AppMetrics;
+import com.example.capstonedesign.domain.users.config.PasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PasswordHashBenchmark
+ * -------------------------------------------------
+ * 비용 인자(password.bcrypt.cost)별 로그인 처리량 (ops/s = 초당 로그인 수)
+ * - verifyDirect  : 요청 스레드에서 BCrypt 검증만 (스레드 1개의 상한)
+ * - verifyEncoder : PasswordEncoder 경유 (전용 풀 제출/대기 비용 포함)
+ * - verifySaturated : 요청 스레드 수 > 해싱 스레드 수 → 서버 1대의 로그인 처리 한계
+ * - encode        : 회원 가입 / 재해싱 1건
+ * - 결과를 cost 별로 비교해 로그인 목표 처리량에 맞는 cost 를 고름 (cost +1 → 처리량 약 1/2)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class PasswordHashBenchmark {
+
+    private static final String PASSWORD = "Password1!";
+
+    @Param({"4", "8", "10", "12"})
+    public int cost;
+
+    private PasswordEncoder encoder;
+    private String hash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 대기열을 넉넉히 → 포화 측정 중 503 으로 끊기지 않도록
+        encoder = new PasswordEncoder(cost, 0, 4096, 60_000, new AppMetrics(new SimpleMeterRegistry()));
+        hash = BCrypt.withDefaults().hashToString(cost, PASSWORD.toCharArray());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        encoder.shutdown();
+    }
+
+    @Benchmark
+    public boolean verifyDirect() {
+        return BCrypt.verifyer().verify(PASSWORD.toCharArray(), hash).verified;
+    }
+
+    @Benchmark
+    public boolean verifyEncoder() {
+        return encoder.matches(PASSWORD, hash);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public boolean verifySaturated() {
+        return encoder.matches(PASSWORD, hash);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(PASSWORD);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.capstonedesign.domain.youthpolicies;
+
+import com.example.capstonedesign.bench.BenchData;
+import com.example.capstonedesign.bench.BenchStubs;
+import com.example.capstonedesign.domain.users.repository.UsersRepository;
+import com.example.capstonedesign.domain.users.service.UserProfileCache;
+import com.example.capstonedesign.domain.youthpolicies.entity.YouthPolicy;
+import com.example.capstonedesign.domain.youthpolicies.repository.YouthPolicyRepository;
+import com.example.capstonedesign.domain.youthpolicies.service.YouthPolicyQueryService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * YouthPolicyQueryBenchmark
+ * -------------------------------------------------
+ * 청년정책 목록 조회의 메모리 내 정렬/필터 비용 (DB 조회 제외)
+ * - paged       : getPaged — "상시 공고 뒤로" + 요청 Sort 체인 비교자, 비교마다 날짜 문자열 파싱
+ * - recent      : getRecentPolicies — 필터 + 정렬 키 계산에서 각각 parseDate
+ * - closingSoon : getClosingSoonPolicies — 상시 판별 + 마감일 파싱
+ * - repository.findAll() 은 고정 시드 합성 정책 목록을 그대로 반환
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class YouthPolicyQueryBenchmark {
+
+    @Param({"1000", "10000"})
+    public int policies;
+
+    private YouthPolicyQueryService service;
+    private final Pageable firstPage = PageRequest.of(0, 10);
+
+    /** paged 전용 정렬 조건 (recent / closingSoon 은 정렬 파라미터와 무관하므로 분리) */
+    @State(Scope.Benchmark)
+    public static class SortState {
+
+        /** none / startDate / endDate / createdAt (속성:방향) */
+        @Param({"none", "startDate:desc", "endDate:asc", "createdAt:desc"})
+        public String sort;
+
+        Sort requestedSort;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            if ("none".equals(sort)) {
+                requestedSort = Sort.unsorted();
+            } else {
+                String[] parts = sort.split(":");
+                requestedSort = Sort.by(Sort.Direction.fromString(parts[1]), parts[0]);
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<YouthPolicy> data = BenchData.youthPolicies(policies);
+        YouthPolicyRepository repository = BenchStubs.stub(YouthPolicyRepository.class, Map.of(
+                "findAll", args -> data));
+        service = new YouthPolicyQueryService(repository, BenchStubs.stub(UsersRepository.class, Map.of()),
+                new UserProfileCache(10_000, 300));
+    }
+
+    @Benchmark
+    public Object paged(SortState state) {
+        return service.getPaged(null, null, firstPage, state.requestedSort);
+    }
+
+    @Benchmark
+    public Object recent() {
+        return service.getRecentPolicies(firstPage);
+    }
+
+    @Benchmark
+    public Object closingSoon() {
+        return service.getClosingSoonPolicies(firstPage);
+    }
+}
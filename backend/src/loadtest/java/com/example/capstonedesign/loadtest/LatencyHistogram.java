@@ -0,0 +1,107 @@
+package com.example.capstonedesign.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram
+ * -------------------------------------------------
+ * HdrHistogram 과 같은 log-linear 버킷 구조의 동시성 지연 히스토그램 (단위: µs)
+ * - 0 ~ 255µs 는 1µs 단위, 그 위는 2의 거듭제곱 구간마다 128칸 → 상대 오차 1% 미만 (유효숫자 2자리)
+ * - 1µs ~ 1시간 범위를 버킷 약 3.3천 개(고정 메모리)로 표현, 기록은 잠금 없이 O(1)
+ * - 백분위는 해당 버킷의 상한값으로 보고 (실제보다 작게 보고하지 않음)
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 8;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;      // 256
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;       // 128
+    private static final int HALF_BITS = SUB_BUCKET_BITS - 1;
+
+    /** 기록 상한 (1시간) — 넘는 값은 상한으로 기록 */
+    static final long MAX_VALUE_MICROS = 3_600_000_000L;
+
+    private static final int BUCKET_COUNT = indexOf(MAX_VALUE_MICROS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void recordMicros(long micros) {
+        long v = Math.min(Math.max(micros, 0), MAX_VALUE_MICROS);
+        counts.incrementAndGet(indexOf(v));
+        total.increment();
+        sum.add(v);
+        min.accumulate(v);
+        max.accumulate(v);
+    }
+
+    public void recordNanos(long nanos) {
+        recordMicros(nanos / 1_000);
+    }
+
+    public long count() {
+        return total.sum();
+    }
+
+    public double meanMicros() {
+        long n = count();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    public long minMicros() {
+        return count() == 0 ? 0 : min.get();
+    }
+
+    public long maxMicros() {
+        return max.get();
+    }
+
+    /** p (0~100) 백분위 값 — 해당 순위가 속한 버킷의 상한 (최댓값을 넘지 않음) */
+    public long percentileMicros(double p) {
+        long n = count();
+        if (n == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(p / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestEquivalent(i), maxMicros());
+            }
+        }
+        return maxMicros();
+    }
+
+    /** 비어 있지 않은 버킷 [상한µs, 건수] 목록 — 리포트 간 분포 비교/병합용 */
+    public List<long[]> nonEmptyBuckets() {
+        List<long[]> buckets = new ArrayList<>();
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long c = counts.get(i);
+            if (c > 0) buckets.add(new long[]{highestEquivalent(i), c});
+        }
+        return buckets;
+    }
+
+    /* ---------------- 버킷 계산 ---------------- */
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) return (int) value;
+        int exponent = (63 - Long.numberOfLeadingZeros(value)) - HALF_BITS;   // value >> exponent ∈ [128, 255]
+        int sub = (int) (value >>> exponent) - SUB_BUCKET_HALF;
+        return SUB_BUCKET_COUNT + (exponent - 1) * SUB_BUCKET_HALF + sub;
+    }
+
+    /** 버킷 i 에 들어가는 가장 큰 값 */
+    static long highestEquivalent(int index) {
+        if (index < SUB_BUCKET_COUNT) return index;
+        int offset = index - SUB_BUCKET_COUNT;
+        int exponent = offset / SUB_BUCKET_HALF + 1;
+        long lower = (long) (offset % SUB_BUCKET_HALF + SUB_BUCKET_HALF) << exponent;
+        return lower + (1L << exponent) - 1;
+    }
+}
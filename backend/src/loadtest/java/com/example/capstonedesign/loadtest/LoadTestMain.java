@@ -0,0 +1,232 @@
+package com.example.capstonedesign.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.random.RandomGenerator;
+
+/**
+ * LoadTestMain
+ * -------------------------------------------------
+ * 실행 중인 서버에 시나리오 트래픽을 보내고 라우트별 지연 분포를 리포트로 남기는 부하 생성기
+ * - 실행: ./gradlew loadTest -PloadTestArgs="--base-url=http://localhost:8080 --concurrency=128 --duration=2m"
+ * - closed-loop(기본): 가상 사용자 concurrency 명이 응답을 받자마자 다음 요청
+ * - open-loop(--rate): 정해진 간격으로 요청을 발사, 지연은 "원래 보냈어야 할 시각" 기준으로 측정
+ *   → 서버가 느려져 요청이 밀린 시간까지 포함 (coordinated omission 보정)
+ * - 로그인이 필요한 시나리오는 측정 전에 세션별로 한 번 로그인해 두고, 실패하면 해당 시나리오 제외
+ */
+public final class LoadTestMain {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final List<Scenario> scenarios;
+    private final int[] cumulativeWeights;
+    private final List<Session> sessions;
+
+    private LoadTestMain(LoadTestOptions options, HttpClient client, List<Scenario> scenarios, List<Session> sessions) {
+        this.options = options;
+        this.client = client;
+        this.scenarios = scenarios;
+        this.sessions = sessions;
+        this.cumulativeWeights = new int[scenarios.size()];
+        int sum = 0;
+        for (int i = 0; i < scenarios.size(); i++) {
+            sum += scenarios.get(i).weight();
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(options.timeout())
+                .build();
+
+        List<Scenario> selected = Scenarios.all(options).stream()
+                .filter(s -> options.scenarios().isEmpty() || options.scenarios().contains(s.name()))
+                .toList();
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("선택된 시나리오가 없습니다: " + options.scenarios());
+        }
+
+        List<Session> sessions = List.of();
+        if (selected.stream().anyMatch(s -> s.authenticated() || s.name().equals("login"))) {
+            sessions = signIn(options, client);
+            if (sessions.isEmpty()) {
+                System.out.println("⚠️ 로그인 가능한 계정이 없어 로그인/인증 시나리오를 제외합니다 (--email-pattern, --account-from 확인)");
+                selected = selected.stream().filter(s -> !s.authenticated() && !s.name().equals("login")).toList();
+                if (selected.isEmpty()) return;
+            }
+        }
+
+        LoadTestMain test = new LoadTestMain(options, client, selected, sessions);
+        System.out.printf("🚀 %s %s, concurrency=%d%s, warmup=%ss, duration=%ss, scenarios=%s, sessions=%d%n",
+                options.baseUrl(), options.openLoop() ? "open-loop" : "closed-loop", options.concurrency(),
+                options.openLoop() ? ", rate=" + options.rate() + "/s" : "",
+                options.warmup().toSeconds(), options.duration().toSeconds(),
+                selected.stream().map(Scenario::name).toList(), sessions.size());
+
+        if (!options.warmup().isZero()) {
+            test.runPhase(options.warmup().toNanos(), new RouteRecorder());
+            System.out.println("🔥 예열 완료 → 측정 시작");
+        }
+
+        RouteRecorder recorder = new RouteRecorder();
+        long started = System.nanoTime();
+        test.runPhase(options.duration().toNanos(), recorder);
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        Map<String, Object> report = LoadTestReport.build(options, recorder, seconds, sessions.size());
+        LoadTestReport.print(report);
+        LoadTestReport.write(report, options.out());
+        System.out.println("📝 리포트 저장: " + options.out().toAbsolutePath());
+
+        if (options.baseline() != null) {
+            List<String> regressed = LoadTestReport.compare(report, options.baseline(), options.maxP99RegressionPercent());
+            if (!regressed.isEmpty()) {
+                System.out.println("❌ p99 회귀 허용치(" + options.maxP99RegressionPercent() + "%) 초과: " + regressed);
+                System.exit(1);
+            }
+        }
+    }
+
+    /* ---------------- 실행 구간 ---------------- */
+
+    private void runPhase(long durationNanos, RouteRecorder recorder) throws InterruptedException {
+        ExecutorService executor = executor();
+        long start = System.nanoTime();
+        long deadline = start + durationNanos;
+
+        if (options.openLoop()) {
+            long interval = (long) (1_000_000_000L / options.rate());
+            for (long i = 0; ; i++) {
+                long intended = start + i * interval;
+                if (intended - deadline >= 0) break;
+                long wait = intended - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+                executor.execute(() -> {
+                    ThreadLocalRandom r = ThreadLocalRandom.current();
+                    Session session = sessions.isEmpty() ? null : sessions.get(r.nextInt(sessions.size()));
+                    execute(pick(r), session, r, intended, recorder);
+                });
+            }
+        } else {
+            for (int w = 0; w < options.concurrency(); w++) {
+                int worker = w;
+                executor.execute(() -> {
+                    SplittableRandom r = new SplittableRandom(worker * 0x9E3779B97F4A7C15L);
+                    Session session = sessions.isEmpty() ? null : sessions.get(worker % sessions.size());
+                    while (System.nanoTime() - deadline < 0 && !Thread.currentThread().isInterrupted()) {
+                        execute(pick(r), session, r, System.nanoTime(), recorder);
+                    }
+                });
+            }
+        }
+
+        executor.shutdown();
+        long grace = options.timeout().toNanos() + TimeUnit.SECONDS.toNanos(5);
+        if (!executor.awaitTermination(Math.max(0, deadline - System.nanoTime()) + grace, TimeUnit.NANOSECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void execute(Scenario scenario, Session session, RandomGenerator r, long startNanos, RouteRecorder recorder) {
+        HttpRequest.Builder builder = scenario.request().create(options.baseUrl(), session, r)
+                .timeout(options.timeout())
+                .header("Accept", "application/json");
+        if (scenario.authenticated()) {
+            builder.header("Authorization", "Bearer " + session.token());
+        }
+        try {
+            HttpResponse<Void> response = client.send(builder.build(), HttpResponse.BodyHandlers.discarding());
+            recorder.response(scenario.name(), response.statusCode(), System.nanoTime() - startNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            recorder.failure(scenario.name(), e);
+        }
+    }
+
+    private Scenario pick(RandomGenerator r) {
+        int roll = r.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) return scenarios.get(i);
+        }
+        return scenarios.get(scenarios.size() - 1);
+    }
+
+    /** platform: concurrency 개 고정 풀 / virtual: 요청마다 가상 스레드 (실행 JVM 21+) */
+    private ExecutorService executor() {
+        if (options.virtualThreads()) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                System.out.println("⚠️ 가상 스레드를 지원하지 않는 JVM(" + Runtime.version() + ") → 플랫폼 스레드 사용");
+            }
+        }
+        return Executors.newFixedThreadPool(options.concurrency());
+    }
+
+    /* ---------------- 세션 준비 ---------------- */
+
+    /** 가상 사용자 수만큼(계정 수 한도) 로그인 + 내 정보 조회로 userId 확보 */
+    private static List<Session> signIn(LoadTestOptions options, HttpClient client) throws InterruptedException {
+        int n = Math.min(options.concurrency(), options.accountCount());
+        List<Session> sessions = Collections.synchronizedList(new ArrayList<>(n));
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(n, 16));
+        for (int i = 0; i < n; i++) {
+            Session session = new Session(options.email(options.accountFrom() + i));
+            pool.execute(() -> {
+                try {
+                    signIn(options, client, session);
+                    sessions.add(session);
+                } catch (IOException e) {
+                    // 없는 계정 등은 건너뜀
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(5, TimeUnit.MINUTES);
+        System.out.printf("🔑 세션 로그인 %d/%d%n", sessions.size(), n);
+        return new ArrayList<>(sessions);
+    }
+
+    private static void signIn(LoadTestOptions options, HttpClient client, Session session)
+            throws IOException, InterruptedException {
+        HttpResponse<String> login = client.send(
+                Scenarios.loginRequest(options.baseUrl(), session.email(), options.password()).timeout(options.timeout()).build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (login.statusCode() != 200) throw new IOException("login " + login.statusCode());
+        String token = MAPPER.readTree(login.body()).path("token").asText();
+
+        HttpResponse<String> me = client.send(
+                HttpRequest.newBuilder(URI.create(options.baseUrl() + "/api/users/me"))
+                        .header("Authorization", "Bearer " + token)
+                        .timeout(options.timeout())
+                        .GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (me.statusCode() != 200) throw new IOException("me " + me.statusCode());
+        JsonNode body = MAPPER.readTree(me.body());
+        session.signedIn(token, body.path("id").asLong());
+    }
+}
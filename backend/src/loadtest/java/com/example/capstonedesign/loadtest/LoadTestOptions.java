@@ -0,0 +1,107 @@
+package com.example.capstonedesign.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * LoadTestOptions
+ * -------------------------------------------------
+ * 부하 테스트 실행 옵션 (--key=value 형식 인자)
+ * - --base-url        대상 서버 (기본 http://localhost:8080)
+ * - --concurrency     동시 가상 사용자 수 (기본 64)
+ * - --rate            초당 요청 수. 0 이면 closed-loop(응답 받자마자 다음 요청), 양수면 open-loop 고정 속도
+ * - --warmup / --duration   예열(집계 제외) / 측정 시간 (예: 30s, 2m, 500ms)
+ * - --scenarios       실행할 시나리오 이름 (쉼표 구분, 기본 전체)
+ * - --email-pattern / --password / --account-from / --account-count
+ *                     로그인 계정 (기본: seed 프로필로 적재한 seed{id}@example.com / Seed1234!)
+ * - --product-from / --product-count   즐겨찾기 토글 대상 상품 id 범위
+ * - --virtual-threads 실행 JVM 이 21 이상이면 가상 스레드로 요청 실행
+ * - --out             리포트 JSON 경로 (기본 build/loadtest/report-{시각}.json)
+ * - --baseline        비교할 이전 리포트 JSON
+ * - --max-p99-regression   baseline 대비 p99 증가 허용치(%) — 넘으면 종료 코드 1
+ */
+public record LoadTestOptions(
+        String baseUrl,
+        int concurrency,
+        double rate,
+        Duration warmup,
+        Duration duration,
+        Duration timeout,
+        Set<String> scenarios,
+        String emailPattern,
+        String password,
+        long accountFrom,
+        int accountCount,
+        long productFrom,
+        long productCount,
+        boolean virtualThreads,
+        Path out,
+        Path baseline,
+        double maxP99RegressionPercent
+) {
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> m = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("알 수 없는 인자: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) m.put(arg.substring(2), "true");
+            else m.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        String scenarios = m.getOrDefault("scenarios", "");
+        Set<String> selected = new LinkedHashSet<>();
+        Arrays.stream(scenarios.split(",")).map(String::trim).filter(s -> !s.isEmpty()).forEach(selected::add);
+
+        String stamp = java.time.LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+
+        return new LoadTestOptions(
+                stripSlash(m.getOrDefault("base-url", "http://localhost:8080")),
+                Integer.parseInt(m.getOrDefault("concurrency", "64")),
+                Double.parseDouble(m.getOrDefault("rate", "0")),
+                duration(m.getOrDefault("warmup", "15s")),
+                duration(m.getOrDefault("duration", "60s")),
+                duration(m.getOrDefault("timeout", "10s")),
+                selected,
+                m.getOrDefault("email-pattern", "seed%d@example.com"),
+                m.getOrDefault("password", "Seed1234!"),
+                Long.parseLong(m.getOrDefault("account-from", "1")),
+                Integer.parseInt(m.getOrDefault("account-count", "1000")),
+                Long.parseLong(m.getOrDefault("product-from", "1")),
+                Long.parseLong(m.getOrDefault("product-count", "10000")),
+                Boolean.parseBoolean(m.getOrDefault("virtual-threads", "false")),
+                Path.of(m.getOrDefault("out", "build/loadtest/report-" + stamp + ".json")),
+                m.containsKey("baseline") ? Path.of(m.get("baseline")) : null,
+                Double.parseDouble(m.getOrDefault("max-p99-regression", "-1"))
+        );
+    }
+
+    /** 30s / 2m / 500ms / 1h / 숫자만(초) */
+    static Duration duration(String v) {
+        String s = v.trim().toLowerCase();
+        if (s.endsWith("ms")) return Duration.ofMillis(Long.parseLong(s.substring(0, s.length() - 2)));
+        if (s.endsWith("s")) return Duration.ofSeconds(Long.parseLong(s.substring(0, s.length() - 1)));
+        if (s.endsWith("m")) return Duration.ofMinutes(Long.parseLong(s.substring(0, s.length() - 1)));
+        if (s.endsWith("h")) return Duration.ofHours(Long.parseLong(s.substring(0, s.length() - 1)));
+        return Duration.ofSeconds(Long.parseLong(s));
+    }
+
+    private static String stripSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    public boolean openLoop() {
+        return rate > 0;
+    }
+
+    public String email(long accountId) {
+        return String.format(emailPattern, accountId);
+    }
+}
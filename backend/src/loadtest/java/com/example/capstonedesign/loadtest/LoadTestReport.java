@@ -0,0 +1,136 @@
+package com.example.capstonedesign.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LoadTestReport
+ * -------------------------------------------------
+ * 측정 결과를 릴리스 간 비교 가능한 JSON 으로 저장/출력
+ * - routes.{이름}: count, errors, throughputRps, mean/p50/p90/p99/p99.9/max(ms), outcomes, buckets
+ * - buckets: [상한µs, 건수] — 히스토그램 원본 (다른 리포트와 분포 비교·병합용)
+ * - baseline 리포트가 있으면 라우트별 p99·처리량 변화율을 출력
+ */
+public final class LoadTestReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private LoadTestReport() {}
+
+    public static Map<String, Object> build(LoadTestOptions options, RouteRecorder recorder, double measuredSeconds,
+                                            int sessions) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", OffsetDateTime.now().toString());
+        report.put("baseUrl", options.baseUrl());
+        report.put("mode", options.openLoop() ? "open-loop" : "closed-loop");
+        report.put("concurrency", options.concurrency());
+        report.put("targetRps", options.rate());
+        report.put("warmupSeconds", options.warmup().toSeconds());
+        report.put("durationSeconds", round(measuredSeconds));
+        report.put("sessions", sessions);
+        report.put("virtualThreads", options.virtualThreads());
+        report.put("javaVersion", Runtime.version().toString());
+
+        Map<String, Object> routes = new LinkedHashMap<>();
+        recorder.routes().forEach((name, route) -> routes.put(name, route(route, measuredSeconds, true)));
+        report.put("routes", routes);
+        report.put("all", route(recorder.all(), measuredSeconds, false));
+        return report;
+    }
+
+    private static Map<String, Object> route(RouteRecorder.Route route, double seconds, boolean withBuckets) {
+        LatencyHistogram h = route.latency();
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("count", h.count());
+        m.put("errors", route.errors());
+        m.put("throughputRps", round(h.count() / seconds));
+        m.put("meanMs", round(h.meanMicros() / 1000.0));
+        for (double p : PERCENTILES) {
+            m.put("p" + (p == Math.rint(p) ? String.valueOf((int) p) : String.valueOf(p)) + "Ms",
+                    round(h.percentileMicros(p) / 1000.0));
+        }
+        m.put("maxMs", round(h.maxMicros() / 1000.0));
+        m.put("outcomes", route.outcomes());
+        if (withBuckets) m.put("buckets", h.nonEmptyBuckets());
+        return m;
+    }
+
+    public static void write(Map<String, Object> report, Path out) throws IOException {
+        Path parent = out.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        MAPPER.writeValue(out.toFile(), report);
+    }
+
+    /* ---------------- 콘솔 출력 ---------------- */
+
+    @SuppressWarnings("unchecked")
+    public static void print(Map<String, Object> report) {
+        System.out.printf("%n%-20s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "route", "count", "errors", "rps", "mean", "p50", "p90", "p99", "max");
+        Map<String, Object> routes = (Map<String, Object>) report.get("routes");
+        routes.forEach((name, v) -> printRow(name, (Map<String, Object>) v));
+        printRow("ALL", (Map<String, Object>) report.get("all"));
+        System.out.println("(단위: ms, rps = 측정 구간 초당 응답 수)");
+    }
+
+    private static void printRow(String name, Map<String, Object> r) {
+        System.out.printf("%-20s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, (Long) r.get("count"), (Long) r.get("errors"), (Double) r.get("throughputRps"),
+                (Double) r.get("meanMs"), (Double) r.get("p50Ms"), (Double) r.get("p90Ms"),
+                (Double) r.get("p99Ms"), (Double) r.get("maxMs"));
+    }
+
+    /* ---------------- baseline 비교 ---------------- */
+
+    /**
+     * baseline 대비 라우트별 p99/처리량 변화 출력
+     *
+     * @return p99 증가율이 maxRegressionPercent 를 넘은 라우트 목록 (허용치 음수면 판정 안 함)
+     */
+    @SuppressWarnings("unchecked")
+    public static List<String> compare(Map<String, Object> report, Path baselinePath, double maxRegressionPercent)
+            throws IOException {
+        JsonNode baseline = MAPPER.readTree(baselinePath.toFile()).path("routes");
+        Map<String, Object> routes = (Map<String, Object>) report.get("routes");
+        List<String> regressed = new java.util.ArrayList<>();
+
+        System.out.printf("%n[baseline: %s]%n%-20s %12s %12s %9s %12s %12s %9s%n", baselinePath,
+                "route", "p99 before", "p99 after", "Δp99", "rps before", "rps after", "Δrps");
+        routes.forEach((name, v) -> {
+            JsonNode before = baseline.path(name);
+            if (before.isMissingNode()) {
+                System.out.printf("%-20s (baseline 에 없음)%n", name);
+                return;
+            }
+            Map<String, Object> after = (Map<String, Object>) v;
+            double p99Before = before.path("p99Ms").asDouble();
+            double p99After = (Double) after.get("p99Ms");
+            double rpsBefore = before.path("throughputRps").asDouble();
+            double rpsAfter = (Double) after.get("throughputRps");
+            double p99Delta = change(p99Before, p99After);
+
+            System.out.printf("%-20s %12.2f %12.2f %8.1f%% %12.1f %12.1f %8.1f%%%n", name,
+                    p99Before, p99After, p99Delta, rpsBefore, rpsAfter, change(rpsBefore, rpsAfter));
+            if (maxRegressionPercent >= 0 && p99Delta > maxRegressionPercent) regressed.add(name);
+        });
+        return regressed;
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100.0;
+    }
+
+    private static double round(double v) {
+        return Math.round(v * 1000.0) / 1000.0;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.capstonedesign.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RouteRecorder
+ * -------------------------------------------------
+ * 라우트(시나리오)별 지연 히스토그램 + 상태 코드/오류 집계
+ * - 응답을 받은 요청은 상태 코드와 관계없이 지연을 기록, 4xx/5xx 는 오류로도 셈
+ * - 연결 실패·타임아웃은 지연 없이 오류 종류별로만 셈
+ * - 예열 구간이 끝나면 새 인스턴스로 교체해 측정 구간만 남김
+ */
+public final class RouteRecorder {
+
+    public static final class Route {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+        final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+        void outcome(String key) {
+            outcomes.computeIfAbsent(key, k -> new LongAdder()).increment();
+        }
+
+        public LatencyHistogram latency() {
+            return latency;
+        }
+
+        public long errors() {
+            return errors.sum();
+        }
+
+        /** 상태 코드/오류 종류 → 건수 (이름순) */
+        public Map<String, Long> outcomes() {
+            Map<String, Long> sorted = new TreeMap<>();
+            outcomes.forEach((k, v) -> sorted.put(k, v.sum()));
+            return sorted;
+        }
+    }
+
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+    private final Route all = new Route();
+
+    public void response(String route, int status, long latencyNanos) {
+        Route r = route(route);
+        String key = String.valueOf(status);
+        r.latency.recordNanos(latencyNanos);
+        r.outcome(key);
+        all.latency.recordNanos(latencyNanos);
+        all.outcome(key);
+        if (status >= 400) {
+            r.errors.increment();
+            all.errors.increment();
+        }
+    }
+
+    public void failure(String route, Throwable error) {
+        Route r = route(route);
+        String key = error.getClass().getSimpleName();
+        r.errors.increment();
+        r.outcome(key);
+        all.errors.increment();
+        all.outcome(key);
+    }
+
+    private Route route(String name) {
+        return routes.computeIfAbsent(name, k -> new Route());
+    }
+
+    /** 라우트 이름순 */
+    public Map<String, Route> routes() {
+        return new TreeMap<>(routes);
+    }
+
+    public Route all() {
+        return all;
+    }
+}
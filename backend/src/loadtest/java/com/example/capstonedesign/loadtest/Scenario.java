@@ -0,0 +1,20 @@
+package com.example.capstonedesign.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.random.RandomGenerator;
+
+/**
+ * Scenario
+ * -------------------------------------------------
+ * 부하 시나리오 1개 = 리포트의 라우트 1개
+ * - weight: 전체 요청 중 이 시나리오가 차지하는 비율 (가중치 합 대비)
+ * - authenticated: true 면 로그인된 세션의 Bearer 토큰을 붙여 요청
+ * - request: 세션/난수로 매 요청의 URI·본문을 만든다 (경로 변수·페이지 번호 분산)
+ */
+public record Scenario(String name, int weight, boolean authenticated, RequestFactory request) {
+
+    @FunctionalInterface
+    public interface RequestFactory {
+        HttpRequest.Builder create(String baseUrl, Session session, RandomGenerator random);
+    }
+}
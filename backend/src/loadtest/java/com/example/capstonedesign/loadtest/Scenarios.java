@@ -0,0 +1,91 @@
+package com.example.capstonedesign.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Scenarios
+ * -------------------------------------------------
+ * 공개/로그인 사용자 주요 경로 시나리오와 기본 트래픽 비율
+ * - 홈 최근 피드 / LH 검색 / 청년정책 페이지 / 대출 목록 → 비로그인 트래픽 대부분
+ * - 맞춤 추천 3종 / 즐겨찾기 토글 → 로그인 세션 필요
+ * - login → 매번 새로 로그인 (BCrypt 검증 비용 측정)
+ */
+public final class Scenarios {
+
+    private static final String[] REGIONS = {"서울", "경기", "인천", "부산", "대구", "광주", "대전", "강남", "수원", "세종"};
+    private static final String[] HOUSING_CATEGORIES = {"임대주택", "분양주택"};
+    private static final String[] POLICY_KEYWORDS = {"주거", "취업", "창업", "월세", "청년", "교육"};
+    private static final String[] LOAN_TYPES = {"MORTGAGE_LOAN", "RENT_HOUSE_LOAN", "CREDIT_LOAN"};
+
+    private Scenarios() {}
+
+    public static List<Scenario> all(LoadTestOptions options) {
+        return List.of(
+                new Scenario("home-recent", 20, false, (base, s, r) ->
+                        get(base + "/api/notices/recent")),
+
+                new Scenario("housing-search", 15, false, (base, s, r) -> {
+                    StringBuilder q = new StringBuilder("/api/housings/search?size=20&page=").append(r.nextInt(5))
+                            .append("&region=").append(encode(pick(r, REGIONS)));
+                    if (r.nextBoolean()) q.append("&category=").append(encode(pick(r, HOUSING_CATEGORIES)));
+                    return get(base + q);
+                }),
+
+                new Scenario("youth-paging", 15, false, (base, s, r) -> {
+                    StringBuilder q = new StringBuilder("/api/youth-policies?size=20&page=").append(r.nextInt(50));
+                    if (r.nextInt(3) == 0) q.append("&keyword=").append(encode(pick(r, POLICY_KEYWORDS)));
+                    if (r.nextBoolean()) q.append("&sort=").append(encode("endDate,asc"));
+                    return get(base + q);
+                }),
+
+                new Scenario("loan-list", 10, false, (base, s, r) ->
+                        get(base + "/api/finance/loans/options/type/" + pick(r, LOAN_TYPES)
+                                + "?size=20&page=" + r.nextInt(10))),
+
+                new Scenario("recommend-housing", 5, true, (base, s, r) ->
+                        get(base + "/api/housings/recommend/" + s.userId())),
+
+                new Scenario("recommend-youth", 5, true, (base, s, r) ->
+                        get(base + "/api/youth-policies/recommend/" + s.userId())),
+
+                new Scenario("recommend-loans", 5, true, (base, s, r) ->
+                        get(base + "/api/finance/loans/options/recommend/" + s.userId())),
+
+                new Scenario("login", 5, false, (base, s, r) ->
+                        loginRequest(base, s.email(), options.password())),
+
+                new Scenario("favorites-toggle", 10, true, (base, s, r) ->
+                        HttpRequest.newBuilder(URI.create(base + "/api/favorites/toggle/"
+                                        + (options.productFrom() + r.nextLong(options.productCount()))))
+                                .POST(HttpRequest.BodyPublishers.noBody()))
+        );
+    }
+
+    static HttpRequest.Builder loginRequest(String base, String email, String password) {
+        String body = "{\"email\":\"" + json(email) + "\",\"password\":\"" + json(password) + "\"}";
+        return HttpRequest.newBuilder(URI.create(base + "/api/users/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static HttpRequest.Builder get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET();
+    }
+
+    private static String pick(RandomGenerator r, String[] values) {
+        return values[r.nextInt(values.length)];
+    }
+
+    private static String encode(String v) {
+        return URLEncoder.encode(v, StandardCharsets.UTF_8);
+    }
+
+    private static String json(String v) {
+        return v.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.capstonedesign.loadtest;
+
+/**
+ * Session
+ * -------------------------------------------------
+ * 가상 사용자 1명의 로그인 상태 (계정 이메일, JWT, 사용자 id)
+ * - 측정 시작 전에 한 번 로그인해 두고 인증 시나리오에서 재사용
+ */
+public final class Session {
+
+    private final String email;
+    private volatile String token;
+    private volatile long userId;
+
+    public Session(String email) {
+        this.email = email;
+    }
+
+    public String email() {
+        return email;
+    }
+
+    public String token() {
+        return token;
+    }
+
+    public long userId() {
+        return userId;
+    }
+
+    void signedIn(String token, long userId) {
+        this.token = token;
+        this.userId = userId;
+    }
+}
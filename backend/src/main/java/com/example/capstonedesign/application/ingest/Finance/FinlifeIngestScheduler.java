@@ -1,5 +1,6 @@
 package com.example.capstonedesign.application.ingest.Finance;
 
+import com.example.capstonedesign.common.metrics.AppMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Component;
 public class FinlifeIngestScheduler {
 
     private final FinlifeIngestService service;
+    private final AppMetrics metrics;
 
     /** 실제 운영 시: 06시 / 18시 실행
      *  cron 예시 → "0 0 6,18 * * *"
@@ -19,9 +21,20 @@ public class FinlifeIngestScheduler {
     @Scheduled(cron = "${finlife.ingest.cron}")
     public void runNightly() {
         log.info("FinLife nightly ingest start");
-        int company = service.syncCompanies(10);
-        int products = service.syncDepositAndSaving(20);
-        int loans = service.syncLoans(20);
-        log.info("FinLife nightly ingest done - companies: {}, products: {}, loans: {}", company, products, loans);
+        long start = AppMetrics.start();
+        boolean success = false;
+        try {
+            int company = service.syncCompanies(10);
+            int products = service.syncDepositAndSaving(20);
+            int loans = service.syncLoans(20);
+            log.info("FinLife nightly ingest done - companies: {}, products: {}, loans: {}", company, products, loans);
+
+            metrics.ingestRows("finlife-company", "upserted", company);
+            metrics.ingestRows("finlife-product", "upserted", products);
+            metrics.ingestRows("finlife-loan", "upserted", loans);
+            success = true;
+        } finally {
+            metrics.ingestRun("finlife", start, success);
+        }
     }
 }
@@ -1,5 +1,7 @@
 package com.example.capstonedesign.application.ingest.Finance;
 
+import com.example.capstonedesign.application.ingest.IngestDataVersions;
+import com.example.capstonedesign.application.ingest.IngestDomain;
 import com.example.capstonedesign.domain.finance.financecompanies.entity.FinanceCompanies;
 import com.example.capstonedesign.domain.finance.financecompanies.repository.FinanceCompaniesRepository;
 import com.example.capstonedesign.domain.finance.financeproducts.dto.response.FinlifeCreditLoanResponse;
@@ -23,6 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -48,6 +51,7 @@ public class FinlifeIngestService {
     private final FinanceProductsRepository financeProductsRepository;
     private final ProductsRepository productsRepository;
     private final FinanceLoanOptionRepository loanOptionRepository;
+    private final IngestDataVersions dataVersions;
 
     /* ==================== 공통 유틸 ==================== */
 
@@ -115,15 +119,19 @@ public class FinlifeIngestService {
     /** 예금 및 적금 상품 전체 동기화 */
     @Transactional
     public int syncDepositAndSaving(int maxPages) {
-        return syncProductType(FinanceProductType.DEPOSIT, maxPages)
-                + syncProductType(FinanceProductType.SAVING, maxPages);
+        List<Long> productIds = new ArrayList<>();
+        int saved = syncProductType(FinanceProductType.DEPOSIT, maxPages, productIds)
+                + syncProductType(FinanceProductType.SAVING, maxPages, productIds);
+        dataVersions.bump(IngestDomain.FINANCE, productIds);
+        return saved;
     }
 
     /**
      * 예금/적금 상품 정보 수집 및 저장
      * - Products / FinanceProducts 테이블에 저장
+     * @param productIds 저장한 Products id 누적 (검색 색인 부분 갱신용)
      */
-    private int syncProductType(FinanceProductType type, int maxPages) {
+    private int syncProductType(FinanceProductType type, int maxPages, List<Long> productIds) {
         int saved = 0;
         for (String grp : GROUPS) {
             for (int page = 1; page <= maxPages; page++) {
@@ -153,6 +161,7 @@ public class FinlifeIngestService {
                     }
                     prod.setDetailUrl(url);
                     productsRepository.save(prod);
+                    productIds.add(idOf(prod));
 
                     // 2) FinanceProducts(하위 상품) upsert
                     FinanceProducts fp = financeProductsRepository.findByProductAndFinCoNo(prod, base.getFinCoNo())
@@ -199,16 +208,19 @@ public class FinlifeIngestService {
     /** 대출유형별 분기처리 */
     @Transactional
     public int syncLoanProductType(FinanceProductType type, int maxPages) {
-        return switch (type) {
-            case MORTGAGE_LOAN -> ingestMortgageLoans(maxPages);
-            case RENT_HOUSE_LOAN -> ingestRentLoans(maxPages);
-            case CREDIT_LOAN -> ingestCreditLoans(maxPages);
+        List<Long> productIds = new ArrayList<>();
+        int saved = switch (type) {
+            case MORTGAGE_LOAN -> ingestMortgageLoans(maxPages, productIds);
+            case RENT_HOUSE_LOAN -> ingestRentLoans(maxPages, productIds);
+            case CREDIT_LOAN -> ingestCreditLoans(maxPages, productIds);
             default -> throw new IllegalArgumentException("Unsupported loan type: " + type);
         };
+        dataVersions.bump(IngestDomain.FINANCE, productIds);
+        return saved;
     }
 
     /** 주택담보대출(MORTGAGE_LOAN) 동기화 */
-    private int ingestMortgageLoans(int maxPages) {
+    private int ingestMortgageLoans(int maxPages, List<Long> productIds) {
         int saved = 0;
         for (String grp : GROUPS) {
             for (int page = 1; page <= maxPages; page++) {
@@ -221,6 +233,7 @@ public class FinlifeIngestService {
                     ensureCompany(base.getFinCoNo(), base.getKorCoNm(), null, null);
 
                     Products prod = upsertProduct(base.getFinPrdtNm(), base.getKorCoNm(), base.getFinCoNo());
+                    productIds.add(idOf(prod));
                     FinanceProducts fp = upsertFinanceProduct(prod, base.getFinCoNo(), FinanceProductType.MORTGAGE_LOAN);
 
                     // 대표 금리
@@ -254,7 +267,7 @@ public class FinlifeIngestService {
     }
 
     /** 전세자금대출(RENT_HOUSE_LOAN) 동기화 */
-    private int ingestRentLoans(int maxPages) {
+    private int ingestRentLoans(int maxPages, List<Long> productIds) {
         int saved = 0;
         for (String grp : GROUPS) {
             for (int page = 1; page <= maxPages; page++) {
@@ -267,6 +280,7 @@ public class FinlifeIngestService {
                     ensureCompany(base.getFinCoNo(), base.getKorCoNm(), null, null);
 
                     Products prod = upsertProduct(base.getFinPrdtNm(), base.getKorCoNm(), base.getFinCoNo());
+                    productIds.add(idOf(prod));
                     FinanceProducts fp = upsertFinanceProduct(prod, base.getFinCoNo(), FinanceProductType.RENT_HOUSE_LOAN);
 
                     BigDecimal rate = extractLendRate(options, base.getFinPrdtCd(), base.getFinCoNo());
@@ -297,7 +311,7 @@ public class FinlifeIngestService {
     }
 
     /** 개인신용대출(CREDIT_LOAN) 동기화 */
-    private int ingestCreditLoans(int maxPages) {
+    private int ingestCreditLoans(int maxPages, List<Long> productIds) {
         int saved = 0;
         for (String grp : GROUPS) {
             for (int page = 1; page <= maxPages; page++) {
@@ -310,6 +324,7 @@ public class FinlifeIngestService {
                     ensureCompany(base.getFinCoNo(), base.getKorCoNm(), null, null);
 
                     Products prod = upsertProduct(base.getFinPrdtNm(), base.getKorCoNm(), base.getFinCoNo());
+                    productIds.add(idOf(prod));
                     FinanceProducts fp = upsertFinanceProduct(prod, base.getFinCoNo(), FinanceProductType.CREDIT_LOAN);
 
                     // 대표 금리: crdt_grad_avg 중 최대값
@@ -375,6 +390,11 @@ public class FinlifeIngestService {
                 ));
     }
 
+    /** Products id (저장 전이면 null → 버전 갱신 시 무시) */
+    private static Long idOf(Products prod) {
+        return prod.getId() == null ? null : prod.getId().longValue();
+    }
+
     /** FinanceProducts 엔티티 존재 확인 및 생성 */
     private FinanceProducts upsertFinanceProduct(Products prod, String finCoNo, FinanceProductType type) {
         return financeProductsRepository.findByProductAndFinCoNo(prod, finCoNo)
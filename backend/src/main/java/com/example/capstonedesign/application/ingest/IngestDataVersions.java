@@ -0,0 +1,105 @@
+package com.example.capstonedesign.application.ingest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * IngestDataVersions
+ * -------------------------------------------------
+ * 수집 도메인별 데이터 버전 카운터
+ * - 각 IngestService 가 저장을 마치면 bump → 버전 증가
+ * - 트랜잭션 안에서 호출되면 커밋 이후에 증가 (커밋 전 데이터로 캐시가 채워지는 것 방지)
+ * - 조회 결과 캐시는 저장 시점 버전과 현재 버전을 비교해 무효화 판단
+ * - 버전 증가 시 등록된 리스너 호출 (검색 색인 재구성 등)
+ *   · 저장한 행 id 를 함께 넘기면 변경 리스너가 해당 행만 다시 읽어 반영 (id 를 모르면 null → 전체 재구성)
+ */
+@Slf4j
+@Component
+public class IngestDataVersions {
+
+    private final Map<IngestDomain, AtomicLong> versions = new EnumMap<>(IngestDomain.class);
+    private final List<BiConsumer<IngestDomain, Set<Long>>> listeners = new CopyOnWriteArrayList<>();
+
+    public IngestDataVersions() {
+        for (IngestDomain d : IngestDomain.values()) {
+            versions.put(d, new AtomicLong());
+        }
+    }
+
+    /** 현재 버전 */
+    public long current(IngestDomain domain) {
+        return versions.get(domain).get();
+    }
+
+    /** 여러 도메인 버전의 합 (각 버전은 단조 증가 → 하나라도 바뀌면 합도 바뀜) */
+    public long combined(IngestDomain... domains) {
+        long sum = 0;
+        for (IngestDomain d : domains) sum += current(d);
+        return sum;
+    }
+
+    /** 버전 증가 리스너 등록 (버전 증가 스레드에서 호출되므로 오래 걸리는 작업은 비동기로) */
+    public void addListener(Consumer<IngestDomain> listener) {
+        listeners.add((domain, changedIds) -> listener.accept(domain));
+    }
+
+    /** 변경 행 리스너 등록 (changedIds 가 null 이면 변경 범위를 모름 → 전체 갱신) */
+    public void addChangeListener(BiConsumer<IngestDomain, Set<Long>> listener) {
+        listeners.add(listener);
+    }
+
+    /** 데이터 변경 알림 (변경 범위 모름) */
+    public void bump(IngestDomain domain) {
+        afterCommit(domain, null);
+    }
+
+    /**
+     * 데이터 변경 알림 (저장한 행 id 지정)
+     * - 비어 있으면 바뀐 게 없으므로 버전 유지
+     *
+     * @param changedIds 추가·수정된 원본 테이블 PK (null 원소는 무시)
+     */
+    public void bump(IngestDomain domain, Collection<Long> changedIds) {
+        Set<Long> ids = changedIds.stream().filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet());
+        if (ids.isEmpty()) return;
+        afterCommit(domain, ids);
+    }
+
+    private void afterCommit(IngestDomain domain, Set<Long> changedIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(domain, changedIds);
+                }
+            });
+            return;
+        }
+        increment(domain, changedIds);
+    }
+
+    private void increment(IngestDomain domain, Set<Long> changedIds) {
+        versions.get(domain).incrementAndGet();
+        for (BiConsumer<IngestDomain, Set<Long>> l : listeners) {
+            try {
+                l.accept(domain, changedIds);
+            } catch (Exception e) {
+                log.warn("⚠️ 데이터 버전 리스너 실패 ({}): {}", domain, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.capstonedesign.application.ingest;
+
+/**
+ * IngestDomain
+ * -------------------------------------------------
+ * 외부 수집(ingest) 단위 구분
+ * - 도메인별 데이터 버전 관리에 사용 ({@link IngestDataVersions})
+ */
+public enum IngestDomain {
+    LH,
+    SH,
+    FINANCE,
+    YOUTH_POLICY
+}
@@ -0,0 +1,130 @@
+package com.example.capstonedesign.application.ingest;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * IngestRebuildScheduler
+ * -------------------------------------------------
+ * 수집 데이터 버전 변경 → 메모리 색인 백그라운드 재구성 예약기 (검색 색인, 패싯 색인 공용)
+ * - 색인 키(K)별로 대기 중인 재구성은 1회로 합침
+ * - 변경 행 id 가 오면 부분 갱신으로 예약 (대기 중인 id 는 합집합으로 합침, 전체 재구성이 대기 중이면 흡수)
+ * - 색인마다 전용 단일 데몬 스레드에서 순서대로 재구성 (조회 스레드는 이전 색인으로 계속 응답)
+ * - 사용하는 서비스는 기동 시 listenTo(), 기동 완료 시 scheduleAll(), 종료 시 shutdown() 호출
+ *
+ * @param <K> 색인 키 (SearchDomain, FacetSource 등 enum)
+ */
+public final class IngestRebuildScheduler<K extends Enum<K>> {
+
+    private final Class<K> keyType;
+    private final Function<IngestDomain, Optional<K>> keyOf;
+    private final BiConsumer<K, Set<Long>> update;
+    private final boolean incremental;
+
+    private final Set<K> pending = ConcurrentHashMap.newKeySet();
+    private final Map<K, Set<Long>> pendingIds = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+
+    /**
+     * 항상 전체 재구성하는 색인용 (변경 행 id 는 무시)
+     *
+     * @param threadName 재구성 스레드 이름
+     * @param keyType    색인 키 enum 타입
+     * @param keyOf      수집 도메인 → 색인 키 (해당 없으면 empty)
+     * @param rebuild    동기 재구성 (재구성 스레드에서 호출, 예외는 직접 처리)
+     */
+    public IngestRebuildScheduler(String threadName, Class<K> keyType,
+                                  Function<IngestDomain, Optional<K>> keyOf, Consumer<K> rebuild) {
+        this(threadName, keyType, keyOf, (key, changedIds) -> rebuild.accept(key), false);
+    }
+
+    /**
+     * 부분 갱신을 지원하는 색인용
+     *
+     * @param update 동기 갱신 (changedIds 가 null 이면 전체 재구성, 아니면 해당 행만 반영)
+     */
+    public IngestRebuildScheduler(String threadName, Class<K> keyType,
+                                  Function<IngestDomain, Optional<K>> keyOf, BiConsumer<K, Set<Long>> update) {
+        this(threadName, keyType, keyOf, update, true);
+    }
+
+    private IngestRebuildScheduler(String threadName, Class<K> keyType, Function<IngestDomain, Optional<K>> keyOf,
+                                   BiConsumer<K, Set<Long>> update, boolean incremental) {
+        this.keyType = keyType;
+        this.keyOf = keyOf;
+        this.update = update;
+        this.incremental = incremental;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, threadName);
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** 수집 데이터 버전 변경 시 해당 키 재구성(변경 행을 알면 부분 갱신) 예약 */
+    public void listenTo(IngestDataVersions dataVersions) {
+        dataVersions.addChangeListener((d, changedIds) -> keyOf.apply(d).ifPresent(key -> {
+            if (changedIds == null) {
+                schedule(key);
+            } else {
+                scheduleChanges(key, changedIds);
+            }
+        }));
+    }
+
+    /** 비동기 전체 재구성 예약 (이미 대기 중이면 합침) */
+    public void schedule(K key) {
+        if (!pending.add(key)) return;
+        executor.execute(() -> {
+            pending.remove(key);
+            // 이 시점 이전에 커밋된 변경 행은 전체 재구성이 함께 읽으므로 대기 중인 부분 갱신은 버림
+            pendingIds.remove(key);
+            update.accept(key, null);
+        });
+    }
+
+    /** 비동기 부분 갱신 예약 (대기 중인 부분 갱신과 id 합침, 전체 재구성이 대기 중이면 생략) */
+    public void scheduleChanges(K key, Collection<Long> changedIds) {
+        if (!incremental) {
+            schedule(key);
+            return;
+        }
+        if (pending.contains(key)) return;
+
+        boolean[] created = new boolean[1];
+        pendingIds.compute(key, (k, ids) -> {
+            Set<Long> merged = (ids == null) ? new HashSet<>() : ids;
+            created[0] = (ids == null);
+            merged.addAll(changedIds);
+            return merged;
+        });
+        if (!created[0]) return;
+
+        executor.execute(() -> {
+            Set<Long> ids = pendingIds.remove(key);
+            if (ids != null) {
+                update.accept(key, ids);
+            }
+        });
+    }
+
+    /** 전체 키 재구성 예약 (기동 완료 시) */
+    public void scheduleAll() {
+        for (K key : keyType.getEnumConstants()) {
+            schedule(key);
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
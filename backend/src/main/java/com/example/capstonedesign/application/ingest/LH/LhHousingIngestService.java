@@ -1,5 +1,7 @@
 package com.example.capstonedesign.application.ingest.LH;
 
+import com.example.capstonedesign.common.metrics.AppMetrics;
+import com.example.capstonedesign.common.metrics.JsoupMetrics;
 import com.example.capstonedesign.domain.housingannouncements.entity.HousingAnnouncements;
 import com.example.capstonedesign.domain.housingannouncements.entity.HousingCategory;
 import com.example.capstonedesign.domain.housingannouncements.entity.HousingStatus;
@@ -29,12 +31,14 @@ public class LhHousingIngestService {
 
     private final ProductsRepository productsRepository;
     private final HousingAnnouncementsRepository housingRepository;
+    private final AppMetrics metrics;
 
     /** LH 공고 목록/상세 베이스 URL 및 고정 파라미터 */
     private static final String BASE = "https://apply.lh.or.kr";
     private static final String RENT_URL = BASE + "/lhapply/apply/wt/wrtanc/selectWrtancList.do?mi=1026"; // 임대
     private static final String SALE_URL = BASE + "/lhapply/apply/wt/wrtanc/selectWrtancList.do?mi=1027"; // 분양
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+    private static final String METRIC_SOURCE = "lh-housing";
     private static final String UA = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/127 Safari/537.36";
 
     /**
@@ -44,8 +48,10 @@ public class LhHousingIngestService {
     @Transactional
     public void ingest() {
         log.info("LH 공고 데이터 수집 시작");
-        crawlAllPagesWithState(RENT_URL, "임대주택");
-        crawlAllPagesWithState(SALE_URL, "분양주택");
+        long start = AppMetrics.start();
+        boolean rentOk = crawlAllPagesWithState(RENT_URL, "임대주택");
+        boolean saleOk = crawlAllPagesWithState(SALE_URL, "분양주택");
+        metrics.ingestRun(METRIC_SOURCE, start, rentOk && saleOk);
         log.info("LH 공고 데이터 수집 완료");
     }
 
@@ -55,8 +61,9 @@ public class LhHousingIngestService {
      *
      * @param url       LH 목록 페이지(URL에 mi=1026/1027 포함)
      * @param category  "임대주택" | "분양주택" (도메인 매핑용)
+     * @return 예외 없이 순회를 마쳤는지 여부
      */
-    private void crawlAllPagesWithState(String url, String category) {
+    private boolean crawlAllPagesWithState(String url, String category) {
         try {
             // 1) 첫 페이지는 보통 POST currPage=1로 진입해야 히든/쿠키가 정상 세팅됨
             org.jsoup.Connection firstConn = Jsoup.connect(url)
@@ -71,7 +78,7 @@ public class LhHousingIngestService {
                     .header("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8")
                     .data("currPage", "1"); // 페이지 인자: 사이트마다 명칭이 다름(currPage/pageIndex/pageNo 등)
 
-            org.jsoup.Connection.Response firstRes = firstConn.execute();
+            org.jsoup.Connection.Response firstRes = JsoupMetrics.execute(metrics, firstConn);
             Document firstDoc = firstRes.parse();
             Map<String, String> cookies = new HashMap<>(firstRes.cookies()); // 쿠키 보존(세션성 페이징 사이트 대응)
 
@@ -115,7 +122,9 @@ public class LhHousingIngestService {
         } catch (Exception e) {
             // 전체 수집 실패가 다른 카테고리에 영향 주지 않도록 내부에서 에러 처리 후 로그만 남김
             log.error("crawlAllPagesWithState 실패: {}", e.getMessage(), e);
+            return false;
         }
+        return true;
     }
 
     /**
@@ -164,10 +173,14 @@ public class LhHousingIngestService {
         candidates.add(buildPageParams(baseHidden, page, "currPage", minSn, maxSn, false));
 
         // ---- POST 시도(우선) ----
+        // 첫 전략이 아닌 방식으로 행을 얻은 페이지는 대체 방식 사용으로 집계(ingest.paging.fallbacks)
         for (int i = 0; i < candidates.size(); i++) {
             Map<String, String> params = candidates.get(i);
             Document doc = post(url, cookies, params, "POST#" + (i + 1));
-            if (!doc.select("table tbody tr").isEmpty()) return doc; // 성공 기준: 테이블 행 존재
+            if (!doc.select("table tbody tr").isEmpty()) { // 성공 기준: 테이블 행 존재
+                if (i > 0) metrics.pagingFallback(METRIC_SOURCE, "POST#" + (i + 1));
+                return doc;
+            }
         }
 
         // ---- GET 시도(보조) ----
@@ -175,10 +188,14 @@ public class LhHousingIngestService {
         for (String pn : pageNames) {
             String qs = pn + "=" + page;
             Document doc = get(url, cookies, qs, "GET#" + pn);
-            if (!doc.select("table tbody tr").isEmpty()) return doc;
+            if (!doc.select("table tbody tr").isEmpty()) {
+                metrics.pagingFallback(METRIC_SOURCE, "GET#" + pn);
+                return doc;
+            }
         }
 
         // 마지막 안전장치: 가장 첫 POST 조합 결과 반환(디버깅 로그 참고)
+        metrics.pagingFallback(METRIC_SOURCE, "none");
         return post(url, cookies, candidates.get(0), "POST#fallback");
     }
 
@@ -234,7 +251,7 @@ public class LhHousingIngestService {
         }
 
         logDebugParams(tag, data);
-        org.jsoup.Connection.Response res = conn.execute();
+        org.jsoup.Connection.Response res = JsoupMetrics.execute(metrics, conn);
         cookies.putAll(res.cookies()); // 서버가 세션 쿠키를 갱신하는 패턴 대응
         return res.parse();
     }
@@ -243,7 +260,7 @@ public class LhHousingIngestService {
     private Document get(String url, Map<String, String> cookies, String qs, String tag) throws Exception {
         String getUrl = url + (url.contains("?") ? "&" : "?") + qs;
         log.info("{} → GET {}", tag, getUrl.replace(BASE, "")); // 내부 로그에서 호스트 생략(가독성)
-        org.jsoup.Connection.Response res = Jsoup.connect(getUrl)
+        org.jsoup.Connection.Response res = JsoupMetrics.execute(metrics, Jsoup.connect(getUrl)
                 .userAgent(UA)
                 .referrer(url)
                 .timeout(20000)
@@ -251,8 +268,7 @@ public class LhHousingIngestService {
                 .followRedirects(true)
                 .cookies(cookies)
                 .header("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8")
-                .header("Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8,en;q=0.7")
-                .execute();
+                .header("Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8,en;q=0.7"));
         cookies.putAll(res.cookies());
         return res.parse();
     }
@@ -403,6 +419,10 @@ public class LhHousingIngestService {
 
         log.info("[{}] 결과 요약: success={}, skipped={}, failed={}, insertProducts={}, insertHA={}, updateHA={}",
                 category, success, skipped, failed, insertProducts, insertHA, updateHA);
+        metrics.ingestRows(METRIC_SOURCE, "inserted", insertHA);
+        metrics.ingestRows(METRIC_SOURCE, "updated", updateHA);
+        metrics.ingestRows(METRIC_SOURCE, "skipped", skipped);
+        metrics.ingestRows(METRIC_SOURCE, "failed", failed);
     }
 
     // ------------------------- 유틸 ----------------------------
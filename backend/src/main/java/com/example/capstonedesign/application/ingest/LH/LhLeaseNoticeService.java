@@ -1,5 +1,8 @@
 package com.example.capstonedesign.application.ingest.LH;
 
+import com.example.capstonedesign.application.ingest.IngestDataVersions;
+import com.example.capstonedesign.application.ingest.IngestDomain;
+import com.example.capstonedesign.common.metrics.AppMetrics;
 import com.example.capstonedesign.domain.housingannouncements.entity.LhNotice;
 import com.example.capstonedesign.domain.housingannouncements.repository.LhNoticeRepository;
 import com.example.capstonedesign.domain.products.entity.ProductType;
@@ -13,11 +16,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -35,6 +41,8 @@ public class LhLeaseNoticeService {
     /** LH 공고 Repository (DB 저장용) */
     private final LhNoticeRepository lhNoticeRepository;
     private final ProductsRepository productsRepository;
+    private final IngestDataVersions dataVersions;
+    private final AppMetrics metrics;
 
     /** 공공데이터포털 API 인증키 (application.yml에서 주입) */
     @Value("${lh.api.service-key}")
@@ -50,10 +58,15 @@ public class LhLeaseNoticeService {
      * - 페이지 단위로 API 호출
      * - JSON 파싱 후 신규 데이터만 DB 저장
      * - "공고중" 상태 데이터만 수집
+     * - 지표: ingest.run / ingest.rows (source=lh-notice), 페이지 호출은 outbound.requests
      */
     public void fetchNotices() {
         int page = 1;
         int totalCount = 0;
+        int skipped = 0;
+        List<Long> insertedIds = new ArrayList<>();
+        boolean success = false;
+        long runStart = AppMetrics.start();
         ObjectMapper mapper = new ObjectMapper();
 
         try {
@@ -70,14 +83,22 @@ public class LhLeaseNoticeService {
                 log.info("🔗 Request URL: {}", apiUrl);
 
                 // HTTP GET 요청 설정
+                long callStart = AppMetrics.start();
                 URL url = new URL(apiUrl);
                 HttpURLConnection conn = (HttpURLConnection) url.openConnection();
                 conn.setRequestMethod("GET");
                 conn.setRequestProperty("Accept", "application/json");
 
                 // 응답 코드 확인
-                int responseCode = conn.getResponseCode();
+                int responseCode;
+                try {
+                    responseCode = conn.getResponseCode();
+                } catch (IOException e) {
+                    metrics.outbound(apiUrl, 0, callStart);
+                    throw e;
+                }
                 if (responseCode != 200) {
+                    metrics.outbound(apiUrl, responseCode, callStart);
                     log.error("❌ API 호출 실패: HTTP {}", responseCode);
                     conn.disconnect();
                     break;
@@ -92,6 +113,7 @@ public class LhLeaseNoticeService {
                 while ((line = br.readLine()) != null) sb.append(line);
                 br.close();
                 conn.disconnect();
+                metrics.outbound(apiUrl, responseCode, callStart);
 
                 // JSON 파싱 (ObjectMapper 사용)
                 JsonNode root = mapper.readTree(sb.toString());
@@ -108,6 +130,7 @@ public class LhLeaseNoticeService {
                 // 데이터가 없으면 종료
                 if (dsListNode == null || dsListNode.isEmpty()) {
                     log.info("📭 더 이상 데이터 없음 (page={})", page);
+                    success = true;
                     break;
                 }
 
@@ -119,7 +142,10 @@ public class LhLeaseNoticeService {
                     // 중복 확인 (공고명 + 게시일)
                     Optional<LhNotice> existing =
                             lhNoticeRepository.findByPanNmAndPanNtStDt(panNm, panNtStDt);
-                    if (existing.isPresent()) continue;
+                    if (existing.isPresent()) {
+                        skipped++;
+                        continue;
+                    }
 
                     // ===============================
                     // 1) Products 먼저 생성
@@ -149,6 +175,7 @@ public class LhLeaseNoticeService {
                             .build();
 
                     lhNoticeRepository.save(notice);
+                    insertedIds.add(notice.getId());
                     totalCount++;
                 }
 
@@ -161,6 +188,13 @@ public class LhLeaseNoticeService {
         } catch (Exception e) {
             log.error("❌ LH 공고 수집 실패: {}", e.getMessage(), e);
         }
+
+        metrics.ingestRun("lh-notice", runStart, success);
+        metrics.ingestRows("lh-notice", "inserted", totalCount);
+        metrics.ingestRows("lh-notice", "skipped", skipped);
+
+        // 중간 실패여도 일부 저장됐다면 버전 갱신 (저장한 공고만 검색 색인에 반영)
+        dataVersions.bump(IngestDomain.LH, insertedIds);
     }
 
     /** 프로젝트 전체 구조 통일용 Wrapper 메서드 */
@@ -1,5 +1,10 @@
 package com.example.capstonedesign.application.ingest.SH;
 
+import com.example.capstonedesign.application.ingest.IngestDataVersions;
+import com.example.capstonedesign.application.ingest.IngestDomain;
+import com.example.capstonedesign.common.metrics.AppMetrics;
+import com.example.capstonedesign.common.metrics.JsoupMetrics;
+import com.example.capstonedesign.common.text.AhoCorasickMatcher;
 import com.example.capstonedesign.domain.products.entity.ProductType;
 import com.example.capstonedesign.domain.products.entity.Products;
 import com.example.capstonedesign.domain.products.repository.ProductsRepository;
@@ -22,6 +27,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -37,6 +43,8 @@ public class ShIngestService {
 
     private final ShAnnouncementRepository repo;
     private final ProductsRepository productsRepository;
+    private final IngestDataVersions dataVersions;
+    private final AppMetrics metrics;
 
     private static final String BASE = "https://www.i-sh.co.kr";
     private static final ObjectMapper MAPPER = new ObjectMapper();
@@ -68,45 +76,54 @@ public class ShIngestService {
             "성북", "송파", "양천", "영등포", "용산", "은평", "종로", "중구", "중랑"
     );
 
-    /** 공고 제목에서 지역 추출 */
+    /** 자치구 사전 (목록 순서 = 우선순위) */
+    private static final AhoCorasickMatcher SEOUL_REGION_MATCHER = AhoCorasickMatcher.of(SEOUL_REGIONS);
+
+    /** 공고 제목에서 지역 추출 (제목 단일 패스) */
     private String extractRegion(String title) {
-        return SEOUL_REGIONS.stream()
-                .filter(title::contains)
-                .findFirst()
-                .orElse("서울");
+        int id = SEOUL_REGION_MATCHER.firstMatch(title);
+        return id >= 0 ? SEOUL_REGIONS.get(id) : "서울";
     }
 
     private static final String STATUS = "now"; // 진행 중 상태만 크롤링
     private static final int MAX_PAGES = 3;     // 페이지 제한
+    private static final String METRIC_SOURCE = "sh";
 
     /** 전체(임대 + 분양) 크롤링 실행 */
     public void crawlAll() {
         log.info("🚀 SH 공사 임대/분양 공고 크롤링 시작");
+        long start = AppMetrics.start();
 
-        crawlType("주택임대", "/main/lay2/program/S1T297C4476/www/brd/m_247/list.do", "2", SUPPLY_TYPES_RENT);
-        crawlType("주택분양", "/main/lay2/program/S1T294C296/www/brd/m_244/list.do", "1", SUPPLY_TYPES_SALE);
+        List<Long> savedIds = new ArrayList<>();
+        boolean rentOk = crawlType("주택임대", "/main/lay2/program/S1T297C4476/www/brd/m_247/list.do", "2", SUPPLY_TYPES_RENT, savedIds);
+        boolean saleOk = crawlType("주택분양", "/main/lay2/program/S1T294C296/www/brd/m_244/list.do", "1", SUPPLY_TYPES_SALE, savedIds);
 
+        metrics.ingestRun(METRIC_SOURCE, start, rentOk && saleOk);
+        dataVersions.bump(IngestDomain.SH, savedIds);
         log.info("✅ SH 공사 임대/분양 공고 크롤링 완료");
     }
 
     /**
      * 공고 유형별(임대/분양) 페이지 크롤링
+     * @param savedIds 저장(신규·갱신)한 공고 id 누적
+     * @return 모든 공급유형을 예외 없이 수집했는지 여부
      */
-    private void crawlType(String category, String path, String multiSeq, Map<String, String> supplyMap) {
+    private boolean crawlType(String category, String path, String multiSeq, Map<String, String> supplyMap,
+                              List<Long> savedIds) {
+        boolean ok = true;
         for (String splyTy : supplyMap.keySet()) {
             log.info("🏡 [{}] {} ({}) 진행중 공고 수집", category, supplyMap.get(splyTy), splyTy);
             try {
                 for (int page = 1; page <= MAX_PAGES; page++) {
                     // 목록 페이지 요청
-                    Document doc = Jsoup.connect(BASE + path)
+                    Document doc = JsoupMetrics.get(metrics, Jsoup.connect(BASE + path)
                             .timeout(15000)
                             .userAgent("YouthCrawler/1.0")
                             .data("page", String.valueOf(page))
                             .data("multi_itm_seq", multiSeq)
                             .data("splyTy", splyTy)
                             .data("recrnotiState", STATUS)
-                            .method(Connection.Method.POST)
-                            .get();
+                            .method(Connection.Method.POST));
 
                     Elements rows = doc.select("#listTb tbody tr");
                     if (rows.isEmpty()) break;
@@ -129,11 +146,10 @@ public class ShIngestService {
                                 + "&multi_itm_seq=" + multiSeq;
 
                         // 상세 페이지 요청
-                        Document detail = Jsoup.connect(detailUrl)
+                        Document detail = JsoupMetrics.get(metrics, Jsoup.connect(detailUrl)
                                 .timeout(15000)
                                 .userAgent("YouthCrawler/1.0")
-                                .method(Connection.Method.GET)
-                                .get();
+                                .method(Connection.Method.GET));
 
                         // 본문 및 첨부파일 추출
                         Element content = detail.selectFirst(".board_view, .viewCont, #contents");
@@ -181,39 +197,49 @@ public class ShIngestService {
                                 .updatedAt(LocalDateTime.now())
                                 .build();
 
-                        upsert(ann);
+                        savedIds.add(upsert(ann));
                         Thread.sleep(700);
                     }
                 }
             } catch (Exception e) {
                 log.error("❌ [{}] {} 크롤링 실패: {}", category, supplyMap.get(splyTy), e.getMessage());
+                ok = false;
             }
         }
+        return ok;
     }
 
-    /** 기존 데이터는 업데이트, 없으면 신규 저장 */
-    private void upsert(ShAnnouncement a) {
-
-        repo.findBySourceAndExternalId(a.getSource(), a.getExternalId())
-                .ifPresentOrElse(e -> {
-                    Products product = e.getProduct();
-
-                    e.setProduct(product);   // 중요
-                    e.setTitle(a.getTitle());
-                    e.setDepartment(a.getDepartment());
-                    e.setPostDate(a.getPostDate());
-                    e.setViews(a.getViews());
-                    e.setRecruitStatus(a.getRecruitStatus());
-                    e.setSupplyType(a.getSupplyType());
-                    e.setCategory(a.getCategory());
-                    e.setRegion(a.getRegion());
-                    e.setContentHtml(a.getContentHtml());
-                    e.setAttachments(a.getAttachments());
-                    e.setDetailUrl(a.getDetailUrl());
-                    e.setUpdatedAt(LocalDateTime.now());
-
-                    repo.save(e);
-                }, () -> repo.save(a));
+    /**
+     * 기존 데이터는 업데이트, 없으면 신규 저장
+     * @return 저장된 공고 id
+     */
+    private Long upsert(ShAnnouncement a) {
+
+        Optional<ShAnnouncement> existing = repo.findBySourceAndExternalId(a.getSource(), a.getExternalId());
+        existing.ifPresentOrElse(e -> {
+            Products product = e.getProduct();
+
+            e.setProduct(product);   // 중요
+            e.setTitle(a.getTitle());
+            e.setDepartment(a.getDepartment());
+            e.setPostDate(a.getPostDate());
+            e.setViews(a.getViews());
+            e.setRecruitStatus(a.getRecruitStatus());
+            e.setSupplyType(a.getSupplyType());
+            e.setCategory(a.getCategory());
+            e.setRegion(a.getRegion());
+            e.setContentHtml(a.getContentHtml());
+            e.setAttachments(a.getAttachments());
+            e.setDetailUrl(a.getDetailUrl());
+            e.setUpdatedAt(LocalDateTime.now());
+
+            repo.save(e);
+            metrics.ingestRows(METRIC_SOURCE, "updated", 1);
+        }, () -> {
+            repo.save(a);
+            metrics.ingestRows(METRIC_SOURCE, "inserted", 1);
+        });
+        return existing.map(ShAnnouncement::getId).orElse(a.getId());
     }
 
     /** onclick 속성에서 seq 추출 */
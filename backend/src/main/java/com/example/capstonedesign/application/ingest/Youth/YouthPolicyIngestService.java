@@ -1,5 +1,8 @@
 package com.example.capstonedesign.application.ingest.Youth;
 
+import com.example.capstonedesign.application.ingest.IngestDataVersions;
+import com.example.capstonedesign.application.ingest.IngestDomain;
+import com.example.capstonedesign.common.metrics.AppMetrics;
 import com.example.capstonedesign.domain.products.entity.ProductType;
 import com.example.capstonedesign.domain.products.entity.Products;
 import com.example.capstonedesign.domain.products.repository.ProductsRepository;
@@ -12,6 +15,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * YouthPolicyIngestService
  * -------------------------------------------------
@@ -27,18 +33,37 @@ public class YouthPolicyIngestService {
     private final YouthPolicyClient client;
     private final YouthPolicyRepository repository;
     private final ProductsRepository productsRepository;
+    private final IngestDataVersions dataVersions;
+    private final AppMetrics metrics;
+
+    private static final String METRIC_SOURCE = "youth-policy";
 
     /**
      * 온통청년 정책 전체 수집
      * -------------------------------------------------
      * - 페이지 단위로 반복 호출
      * - 중복 정책은 스킵하고 신규 정책만 저장
+     * - 지표: ingest.run / ingest.rows (source=youth-policy)
      */
     @Transactional
     public void ingestAllPolicies() {
         int page = 1;
         int size = 100;
+        long start = AppMetrics.start();
+        boolean success = false;
+        List<Long> insertedIds = new ArrayList<>();
+
+        try {
+            ingestPages(page, size, insertedIds);
+            success = true;
+        } finally {
+            metrics.ingestRun(METRIC_SOURCE, start, success);
+        }
+
+        dataVersions.bump(IngestDomain.YOUTH_POLICY, insertedIds);
+    }
 
+    private void ingestPages(int page, int size, List<Long> insertedIds) {
         while (true) {
             YouthPolicyApiResponse response = client.fetchPolicies(page, size, "", "");
 
@@ -53,7 +78,10 @@ public class YouthPolicyIngestService {
             response.getResult().getYouthPolicyList().forEach(item -> {
 
                 repository.findByPolicyNo(item.getPlcyNo()).ifPresentOrElse(
-                        existing -> log.debug("✅ 이미 존재: {}", item.getPlcyNo()),
+                        existing -> {
+                            log.debug("✅ 이미 존재: {}", item.getPlcyNo());
+                            metrics.ingestRows(METRIC_SOURCE, "skipped", 1);
+                        },
                         () -> {
                             // ============================
                             // 1) Products 생성
@@ -88,6 +116,8 @@ public class YouthPolicyIngestService {
                                     .build();
 
                             repository.save(policy);
+                            insertedIds.add(policy.getId());
+                            metrics.ingestRows(METRIC_SOURCE, "inserted", 1);
 
                             log.info("🆕 신규 정책 저장: {} ({})",
                                     item.getPlcyNm(), item.getPlcyNo());
@@ -0,0 +1,76 @@
+package com.example.capstonedesign.application.retention;
+
+import com.example.capstonedesign.domain.chatbot.repository.ChatMessageRepository;
+import com.example.capstonedesign.domain.notifications.repository.NotificationsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * RetentionScheduler
+ * -------------------------------------------------
+ * 매일 새벽 보존 기간이 지난 notifications / chat_messages 정리
+ * - 가장 오래된 행의 일자부터 (오늘 - 보존일수) 전날까지 하루씩 처리
+ * - 1회 실행당 최대 MAX_DAYS_PER_RUN 일만 처리 (최초 적용 시 부하 분산)
+ * - 보존일수 설정: retention.notifications-days, retention.chat-messages-days
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RetentionScheduler {
+
+    static final int MAX_DAYS_PER_RUN = 31;
+
+    private final RetentionService retentionService;
+    private final NotificationsRepository notificationsRepository;
+    private final ChatMessageRepository chatMessageRepository;
+
+    @Value("${retention.notifications-days:90}")
+    private int notificationsDays;
+
+    @Value("${retention.chat-messages-days:30}")
+    private int chatMessagesDays;
+
+    @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul")
+    public void run() {
+        log.info("🕒 보존 기간 정리 스케줄러 실행");
+        LocalDate today = LocalDate.now(RetentionService.ZONE);
+
+        Optional<LocalDate> oldestNotification = notificationsRepository.findOldestCreatedAt()
+                .map(i -> i.atZone(RetentionService.ZONE).toLocalDate());
+        purgeDays(oldestNotification, today.minusDays(notificationsDays), "notifications",
+                retentionService::purgeNotificationsOf);
+
+        Optional<LocalDate> oldestChat = chatMessageRepository.findOldestCreatedAt()
+                .map(LocalDateTime::toLocalDate);
+        purgeDays(oldestChat, today.minusDays(chatMessagesDays), "chat_messages",
+                retentionService::purgeChatMessagesOf);
+    }
+
+    /**
+     * oldest 부터 cutoff 전날까지 하루씩 정리
+     * - 하루 실패 시 다음 실행에서 같은 날부터 재시도
+     */
+    private void purgeDays(Optional<LocalDate> oldest, LocalDate cutoff, String table, Function<LocalDate, Integer> purgeDay) {
+        if (oldest.isEmpty() || !oldest.get().isBefore(cutoff)) return;
+
+        long total = 0;
+        int days = 0;
+        try {
+            for (LocalDate d = oldest.get(); d.isBefore(cutoff) && days < MAX_DAYS_PER_RUN; d = d.plusDays(1)) {
+                total += purgeDay.apply(d);
+                days++;
+            }
+        } catch (Exception e) {
+            log.error("❌ {} 정리 실패 ({}일 처리 후 중단): {}", table, days, e.getMessage(), e);
+        }
+        log.info("✅ {} 정리 완료: {}일, {}건 삭제 (기준일 {})", table, days, total, cutoff);
+    }
+}
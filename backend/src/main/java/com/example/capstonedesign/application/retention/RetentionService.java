@@ -0,0 +1,79 @@
+package com.example.capstonedesign.application.retention;
+
+import com.example.capstonedesign.domain.chatbot.repository.ChatMessageRepository;
+import com.example.capstonedesign.domain.notifications.repository.NotificationsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * RetentionService
+ * -------------------------------------------------
+ * 보존 기간이 지난 로그성 데이터의 일 단위 정리
+ * - 하루치 행을 먼저 일별 집계 테이블에 누적(rollup)한 뒤 상세 행 삭제(purge)
+ * - 집계와 삭제를 하루 단위 트랜잭션으로 묶어 중복 집계/누락 방지
+ * - 하루 경계와 집계 일자는 모두 Asia/Seoul 기준 (DB 세션 시간대와 무관)
+ * - 삭제는 DELETE ... LIMIT 배치로 나눠 statement 당 undo 크기 제한
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RetentionService {
+
+    static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    static final int DELETE_BATCH_SIZE = 5_000;
+
+    private final NotificationsRepository notificationsRepository;
+    private final ChatMessageRepository chatMessageRepository;
+
+    /**
+     * notifications 하루치 집계 후 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    public int purgeNotificationsOf(LocalDate day) {
+        Instant from = day.atStartOfDay(ZONE).toInstant();
+        Instant to = day.plusDays(1).atStartOfDay(ZONE).toInstant();
+
+        notificationsRepository.rollupDaily(day, from, to);
+        int deleted = 0;
+        int n;
+        do {
+            n = notificationsRepository.deleteBatch(from, to, DELETE_BATCH_SIZE);
+            deleted += n;
+        } while (n == DELETE_BATCH_SIZE);
+
+        log.info("🧹 notifications 정리 ({}): {}건 집계 후 삭제", day, deleted);
+        return deleted;
+    }
+
+    /**
+     * chat_messages 하루치 집계 후 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    public int purgeChatMessagesOf(LocalDate day) {
+        // chat_messages.created_at 은 Asia/Seoul 로컬 시각으로 저장됨
+        LocalDateTime from = day.atStartOfDay();
+        LocalDateTime to = day.plusDays(1).atStartOfDay();
+
+        chatMessageRepository.rollupDaily(day, from, to);
+        int deleted = 0;
+        int n;
+        do {
+            n = chatMessageRepository.deleteBatch(from, to, DELETE_BATCH_SIZE);
+            deleted += n;
+        } while (n == DELETE_BATCH_SIZE);
+
+        log.info("🧹 chat_messages 정리 ({}): {}건 집계 후 삭제", day, deleted);
+        return deleted;
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.capstonedesign.application.seed;
+
+import com.example.capstonedesign.application.ingest.IngestDataVersions;
+import com.example.capstonedesign.application.ingest.IngestDomain;
+import com.example.capstonedesign.domain.users.config.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * SyntheticDataSeeder
+ * -------------------------------------------------
+ * 성능 측정용 대량 합성 데이터 적재기 (seed 프로필에서만 등록)
+ * - 실행: ./gradlew bootRun --args='--spring.profiles.active=seed --seed.scale=0.1'
+ * - 기본 규모: lh_notices 1M / sh_announcements 200k / youth_policies 100k / finance_products 50k
+ *   / users 500k / favorites 5M (seed.scale 로 일괄 축소·확대, 테이블별 seed.* 로 개별 지정)
+ * - JDBC batch INSERT (seed.batch-size 행마다 1 트랜잭션)
+ *   · MySQL 은 JDBC URL 에 rewriteBatchedStatements=true 를 붙여야 다중 VALUES 로 묶여 빠름
+ * - seed.random-seed 고정 → 같은 설정이면 같은 데이터 (행 값은 SyntheticRows 참고)
+ * - 기존 데이터는 건드리지 않고 MAX(id) 이후로 id 를 명시해 추가 (products FK 를 배치 안에서 바로 연결)
+ * - 완료 후 도메인 데이터 버전 갱신, seed.exit-on-complete=true 면 애플리케이션 종료
+ */
+@Slf4j
+@Component
+@Profile("seed")
+public class SyntheticDataSeeder implements ApplicationRunner {
+
+    static final String SEED_PASSWORD = "Seed1234!";
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final String PRODUCT_SQL =
+            "INSERT INTO products (id, type, name, provider, detail_url) VALUES (?, ?, ?, ?, ?)";
+    private static final String LH_SQL = """
+            INSERT INTO lh_notices (product_id, upp_ais_tp_nm, ais_tp_cd_nm, pan_nm, cnp_cd_nm, pan_ss, pan_nt_st_dt, clsg_dt, dtl_url)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String SH_SQL = """
+            INSERT INTO sh_announcements (product_id, source, external_id, title, department, post_date, views, recruit_status,
+                                          supply_type, category, content_html, attachments, region, detail_url, crawled_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String POLICY_SQL = """
+            INSERT INTO youth_policies (product_id, policy_no, policy_name, description, keyword, category_large, category_middle,
+                                        agency, apply_url, region_code, target_age, support_content, start_date, end_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String COMPANY_SQL =
+            "INSERT IGNORE INTO finance_companies (fin_co_no, name, homepage, contact) VALUES (?, ?, ?, ?)";
+    private static final String FINANCE_SQL = """
+            INSERT INTO finance_products (id, product_id, fin_co_no, product_type, join_condition, interest_rate, min_deposit)
+            VALUES (?, ?, ?, ?, ?, ?, ?)""";
+    private static final String LOAN_OPTION_SQL = """
+            INSERT INTO finance_loan_options (finance_product_id, lend_rate_min, lend_rate_max, lend_rate_avg,
+                                              rpay_type_name, lend_type_name, mrtg_type_name, crdt_grad_avg)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String USER_SQL = """
+            INSERT INTO users (id, email, password, name, age, income_band, region, is_homeless, birthdate,
+                               notification_enabled, notification_channel)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    /** 재실행 시 (user_id, product_id) 중복은 건너뜀 */
+    private static final String FAVORITE_SQL =
+            "INSERT IGNORE INTO favorites (user_id, product_id) VALUES (?, ?)";
+
+    /** 한 청크(트랜잭션)에 쌓을 INSERT 묶음 */
+    private record Chunk(List<Object[]> products, List<Object[]> rows, List<Object[]> children) {
+        Chunk(int size) {
+            this(new ArrayList<>(size), new ArrayList<>(size), new ArrayList<>());
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkFiller {
+        void fill(Chunk chunk, long index, SplittableRandom r);
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+    private final PasswordEncoder passwordEncoder;
+    private final IngestDataVersions dataVersions;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${seed.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${seed.scale:1.0}")
+    private double scale;
+
+    @Value("${seed.lh-notices:1000000}")
+    private long lhNotices;
+
+    @Value("${seed.sh-announcements:200000}")
+    private long shAnnouncements;
+
+    @Value("${seed.youth-policies:100000}")
+    private long youthPolicies;
+
+    @Value("${seed.finance-products:50000}")
+    private long financeProducts;
+
+    @Value("${seed.users:500000}")
+    private long users;
+
+    @Value("${seed.favorites:5000000}")
+    private long favorites;
+
+    @Value("${seed.exit-on-complete:true}")
+    private boolean exitOnComplete;
+
+    public SyntheticDataSeeder(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               PasswordEncoder passwordEncoder,
+                               IngestDataVersions dataVersions,
+                               ConfigurableApplicationContext context) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.dataVersions = dataVersions;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        LocalDate today = LocalDate.now(ZONE);
+        long started = System.nanoTime();
+        log.info("🌱 합성 데이터 적재 시작 (seed={}, scale={}, batch={})", randomSeed, scale, batchSize);
+
+        long firstProductId = maxId("products") + 1;
+
+        seedProducts("lh_notices", scaled(lhNotices), LH_SQL,
+                (productId, r) -> SyntheticRows.lhNotice(productId, r, today));
+        dataVersions.bump(IngestDomain.LH);
+
+        seedProducts("sh_announcements", scaled(shAnnouncements), SH_SQL,
+                (productId, r) -> SyntheticRows.shAnnouncement(productId, r, today));
+        dataVersions.bump(IngestDomain.SH);
+
+        seedProducts("youth_policies", scaled(youthPolicies), POLICY_SQL,
+                (productId, r) -> SyntheticRows.youthPolicy(productId, r, today));
+        dataVersions.bump(IngestDomain.YOUTH_POLICY);
+
+        seedFinance(scaled(financeProducts));
+        dataVersions.bump(IngestDomain.FINANCE);
+
+        long lastProductId = maxId("products");
+        long firstUserId = maxId("users") + 1;
+        seedUsers(scaled(users), today);
+        seedFavorites(scaled(favorites), firstUserId, maxId("users"), firstProductId, lastProductId);
+
+        log.info("🎉 합성 데이터 적재 완료 ({}초)", (System.nanoTime() - started) / 1_000_000_000L);
+
+        if (exitOnComplete) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    /* ---------------- 도메인별 적재 ---------------- */
+
+    @FunctionalInterface
+    private interface ProductRowFactory {
+        SyntheticRows.Generated create(long productId, SplittableRandom r);
+    }
+
+    /** products + 도메인 행을 같은 트랜잭션에 적재 */
+    private void seedProducts(String table, long count, String sql, ProductRowFactory factory) {
+        long productBase = maxId("products");
+        seed(table, count, (chunk, i, r) -> {
+            SyntheticRows.Generated g = factory.create(productBase + i + 1, r);
+            chunk.products().add(g.product());
+            chunk.rows().add(g.row());
+        }, sql, null);
+    }
+
+    private void seedFinance(long count) {
+        if (count <= 0) return;
+        List<Object[]> companies = new ArrayList<>(SyntheticRows.FINANCE_COMPANIES);
+        for (int n = 1; n <= SyntheticRows.FINANCE_COMPANIES; n++) companies.add(SyntheticRows.financeCompany(n));
+        jdbcTemplate.batchUpdate(COMPANY_SQL, companies);
+
+        long productBase = maxId("products");
+        long financeBase = maxId("finance_products");
+        seed("finance_products", count, (chunk, i, r) -> {
+            long financeId = financeBase + i + 1;
+            SyntheticRows.Generated g = SyntheticRows.financeProduct(financeId, productBase + i + 1, r);
+            chunk.products().add(g.product());
+            chunk.rows().add(g.row());
+            if (SyntheticRows.isLoan((String) g.row()[3])) {
+                chunk.children().addAll(SyntheticRows.loanOptions(financeId, r));
+            }
+        }, FINANCE_SQL, LOAN_OPTION_SQL);
+    }
+
+    private void seedUsers(long count, LocalDate today) {
+        // BCrypt 는 행마다 돌리면 적재보다 오래 걸림 → 같은 해시를 공유 (로그인 비밀번호: SEED_PASSWORD)
+        String hash = passwordEncoder.encode(SEED_PASSWORD);
+        long userBase = maxId("users");
+        seed("users", count, (chunk, i, r) ->
+                chunk.rows().add(SyntheticRows.user(userBase + i + 1, hash, r, today)), USER_SQL, null);
+    }
+
+    /** 이번에 적재한 사용자 × 상품 범위 안에서 사용자당 고정 개수 즐겨찾기 */
+    private void seedFavorites(long count, long firstUserId, long lastUserId, long firstProductId, long lastProductId) {
+        long userCount = lastUserId - firstUserId + 1;
+        if (count <= 0 || userCount <= 0 || lastProductId < firstProductId) {
+            log.info("⏭️ favorites 건너뜀 (적재된 사용자/상품 없음)");
+            return;
+        }
+        int perUser = (int) Math.max(1, count / userCount);
+        long usersNeeded = Math.min(userCount, (count + perUser - 1) / perUser);
+
+        seed("favorites", usersNeeded, (chunk, i, r) -> {
+            long userId = firstUserId + i;
+            for (long productId : SyntheticRows.favoriteProducts(r, perUser, firstProductId, lastProductId)) {
+                chunk.rows().add(new Object[]{userId, productId});
+            }
+        }, FAVORITE_SQL, null);
+    }
+
+    /* ---------------- 공통 배치 루프 ---------------- */
+
+    /**
+     * count 건을 batchSize 단위 트랜잭션으로 적재
+     * - 청크 순서: products → 본 테이블 → 하위 테이블 (FK 순서)
+     */
+    private void seed(String table, long count, ChunkFiller filler, String rowSql, String childSql) {
+        if (count <= 0) {
+            log.info("⏭️ {} 건너뜀 (0건)", table);
+            return;
+        }
+        long started = System.nanoTime();
+        long nextLog = 100_000;
+
+        for (long from = 0; from < count; from += batchSize) {
+            long to = Math.min(count, from + batchSize);
+            Chunk chunk = new Chunk((int) (to - from));
+            for (long i = from; i < to; i++) {
+                filler.fill(chunk, i, SyntheticRows.random(randomSeed, table, i));
+            }
+
+            tx.executeWithoutResult(status -> {
+                if (!chunk.products().isEmpty()) jdbcTemplate.batchUpdate(PRODUCT_SQL, chunk.products());
+                jdbcTemplate.batchUpdate(rowSql, chunk.rows());
+                if (childSql != null && !chunk.children().isEmpty()) jdbcTemplate.batchUpdate(childSql, chunk.children());
+            });
+
+            if (to >= nextLog) {
+                log.info("📦 {} {}/{}", table, to, count);
+                nextLog += 100_000;
+            }
+        }
+
+        double seconds = Math.max(0.001, (System.nanoTime() - started) / 1e9);
+        log.info("✅ {} {}건 적재 ({}초, {}건/초)", table, count, String.format("%.1f", seconds), (long) (count / seconds));
+    }
+
+    private long scaled(long base) {
+        return Math.max(0, Math.round(base * scale));
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return max != null ? max : 0;
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.capstonedesign.application.seed;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * SyntheticRows
+ * -------------------------------------------------
+ * 대량 합성 데이터 행 생성기 (DB 접근 없음, INSERT 파라미터 배열만 생성)
+ * - 행마다 (seed, 테이블, 행 번호) 로 난수원을 새로 만들어 배치 크기/실행 순서와 무관하게 같은 값 생성
+ * - 날짜는 기준일(today) 기준 상대값 → 최근/마감 임박 조회가 실제로 걸리도록 분포
+ * - 고유 제약 컬럼(공고명, 정책번호, 이메일 등)에는 id 를 포함해 재실행 시에도 충돌 없음
+ */
+public final class SyntheticRows {
+
+    /** products 행 + 도메인 테이블 행 한 쌍 */
+    public record Generated(Object[] product, Object[] row) {
+    }
+
+    static final String[] REGIONS = {
+            "서울특별시", "경기도", "인천광역시", "부산광역시", "대구광역시", "광주광역시",
+            "대전광역시", "울산광역시", "강원특별자치도", "충청북도", "충청남도", "전북특별자치도",
+            "전라남도", "경상북도", "경상남도", "제주특별자치도"
+    };
+    static final String[] REGION_CODES = {
+            "11", "41", "28", "26", "27", "29", "30", "31", "42", "43", "44", "45", "46", "47", "48", "50"
+    };
+    private static final String[] LH_CATEGORIES = {"임대주택", "분양주택", "상가", "토지", "주거복지"};
+    private static final String[] LH_TYPES = {"국민임대", "행복주택", "공공임대", "통합공공임대", "영구임대", "매입임대", "공공분양(신혼희망)", "임대상가(입찰)", "토지"};
+    private static final String[] LH_STATUSES = {"공고중", "접수중", "정정공고중", "접수마감", "모집완료"};
+    private static final String[] SH_SUPPLY = {"청년안심주택", "행복주택", "국민임대", "공공임대", "장기전세", "매입임대", "분양주택"};
+    private static final String[] SH_REGIONS = {"강남", "송파", "마포", "노원", "은평", "강서", "관악", "서울"};
+    private static final String[] POLICY_LARGE = {"일자리", "주거", "교육", "복지문화", "참여권리"};
+    private static final String[] POLICY_MIDDLE = {"취업", "창업", "주택 및 거주지", "기숙사", "전월세 및 주거급여 지원", "미래역량강화", "건강", "문화활동"};
+    private static final String[] POLICY_KEYWORDS = {"보조금", "대출", "장려금", "바우처", "교육지원", "금리혜택", "소득,지원", "인턴"};
+    private static final String[] TARGET_AGES = {"19 ~ 34", "19 ~ 39", "18 ~ 29", "15 ~ 39", "0 ~ 0"};
+    private static final String[] INCOME_BANDS = {"중위소득 100% 이하", "중위소득 150% 이하", "중위소득 200% 이하", "중위소득 300% 이하", "무관"};
+    private static final String[] BANK_NAMES = {"은행", "저축은행", "캐피탈", "신협", "증권"};
+    private static final String[] PRODUCT_TYPES = {"DEPOSIT", "SAVING", "MORTGAGE_LOAN", "RENT_HOUSE_LOAN", "CREDIT_LOAN"};
+    private static final String[] RPAY_TYPES = {"분할상환방식", "만기일시상환방식"};
+    private static final String[] LEND_TYPES = {"고정금리", "변동금리"};
+    private static final String[] MRTG_TYPES = {"아파트", "아파트외", "보증"};
+    private static final String[] CHANNELS = {"EMAIL", "EMAIL", "EMAIL", "KAKAO", "SMS"};
+
+    private static final DateTimeFormatter DOT = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+    private static final DateTimeFormatter COMPACT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    /** 합성 금융회사 수 (fin_co_no: SEED001 ~) */
+    public static final int FINANCE_COMPANIES = 40;
+
+    private SyntheticRows() {}
+
+    /** (seed, 테이블, 행 번호) 별 독립 난수원 */
+    public static SplittableRandom random(long seed, String table, long index) {
+        long h = seed * 0x9E3779B97F4A7C15L + table.hashCode();
+        return new SplittableRandom(h * 31 + index);
+    }
+
+    /* ---------------- products ---------------- */
+
+    private static Object[] product(long productId, String type, String name, String provider, String detailUrl) {
+        return new Object[]{productId, type, name, provider, detailUrl};
+    }
+
+    /* ---------------- lh_notices ---------------- */
+
+    public static Generated lhNotice(long productId, SplittableRandom r, LocalDate today) {
+        String region = pick(r, REGIONS);
+        String type = pick(r, LH_TYPES);
+        String title = region + " " + type + " 입주자 모집공고 (" + productId + ")";
+        String url = "https://apply.lh.or.kr/lhapply/apply/wt/wrtanc/selectWrtancInfo.do?panId=SEED" + productId;
+        LocalDate posted = today.minusDays(r.nextInt(720));
+
+        return new Generated(
+                product(productId, "HOUSING", title, "LH 한국토지주택공사", url),
+                new Object[]{
+                        productId, pick(r, LH_CATEGORIES), type, title, region, pick(r, LH_STATUSES),
+                        posted.format(DOT),
+                        r.nextInt(20) == 0 ? "" : posted.plusDays(7 + r.nextInt(40)).format(DOT),
+                        url
+                });
+    }
+
+    /* ---------------- sh_announcements ---------------- */
+
+    public static Generated shAnnouncement(long productId, SplittableRandom r, LocalDate today) {
+        String supply = pick(r, SH_SUPPLY);
+        String region = pick(r, SH_REGIONS);
+        String title = "[" + region + "] " + supply + " 입주자 모집 공고 (" + productId + ")";
+        String externalId = "SEED" + productId;
+        String url = "https://www.i-sh.co.kr/main/lay2/program/S1T297C4476/www/brd/m_247/view.do?seq=" + externalId;
+        LocalDateTime crawled = today.atStartOfDay().minusHours(r.nextInt(72));
+
+        return new Generated(
+                product(productId, "HOUSING", title, "SH 서울주택도시공사", url),
+                new Object[]{
+                        productId, "seed", externalId, title, "주거복지처",
+                        Date.valueOf(today.minusDays(r.nextInt(365))), r.nextInt(20000),
+                        r.nextInt(4) == 0 ? "suc" : "now", supply,
+                        supply.contains("분양") ? "주택분양" : "주택임대",
+                        contentHtml(r, title, supply), attachmentsJson(r, productId),
+                        region, url, Timestamp.valueOf(crawled), Timestamp.valueOf(crawled)
+                });
+    }
+
+    /** 실제 공고 본문과 비슷한 크기(2~8KB)의 HTML */
+    static String contentHtml(SplittableRandom r, String title, String supply) {
+        int paragraphs = 7 + r.nextInt(12);
+        StringBuilder sb = new StringBuilder(512 * paragraphs);
+        sb.append("<div class=\"board_view\"><h3>").append(title).append("</h3>");
+        for (int i = 0; i < paragraphs; i++) {
+            sb.append("<p>").append(i + 1).append(". ").append(supply)
+                    .append(" 공급 대상은 공고일 현재 서울특별시에 거주하는 무주택세대구성원으로서 ")
+                    .append("소득 및 자산 기준을 충족하는 자입니다. 신청 기간 내 인터넷 청약을 원칙으로 하며, ")
+                    .append("자세한 사항은 첨부된 공고문을 반드시 확인하시기 바랍니다.</p>");
+            if (r.nextInt(4) == 0) {
+                sb.append("<table><tr><th>전용면적</th><th>임대보증금</th><th>월임대료</th></tr><tr><td>")
+                        .append(16 + r.nextInt(45)).append("㎡</td><td>")
+                        .append(1000 + r.nextInt(9000)).append("만원</td><td>")
+                        .append(5 + r.nextInt(60)).append("만원</td></tr></table>");
+            }
+        }
+        return sb.append("</div>").toString();
+    }
+
+    private static String attachmentsJson(SplittableRandom r, long productId) {
+        int n = r.nextInt(3);
+        if (n == 0) return "[]";
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(',');
+            sb.append("{\"name\":\"공고문_").append(i + 1).append(".pdf\",\"url\":\"https://www.i-sh.co.kr/files/seed/")
+                    .append(productId).append('_').append(i + 1).append(".pdf\"}");
+        }
+        return sb.append(']').toString();
+    }
+
+    /* ---------------- youth_policies ---------------- */
+
+    public static Generated youthPolicy(long productId, SplittableRandom r, LocalDate today) {
+        int region = r.nextInt(REGIONS.length);
+        String large = pick(r, POLICY_LARGE);
+        String name = REGIONS[region] + " 청년 " + pick(r, POLICY_MIDDLE) + " 지원사업 (" + productId + ")";
+        String url = "https://www.youthcenter.go.kr/youthPolicy/ythPlcyTotalSearch/ythPlcyDetail/SEED" + productId;
+        LocalDate start = today.minusDays(r.nextInt(180));
+        String end = r.nextInt(10) == 0 ? "" : start.plusDays(14 + r.nextInt(200)).format(COMPACT);
+
+        return new Generated(
+                product(productId, "POLICY", name, REGIONS[region], url),
+                new Object[]{
+                        productId, "SEED" + productId, name,
+                        name + " 은 지역 청년의 자립 기반 마련을 위해 " + large + " 분야를 지원합니다.",
+                        pick(r, POLICY_KEYWORDS), large, pick(r, POLICY_MIDDLE), REGIONS[region], url,
+                        regionCodes(r, region), pick(r, TARGET_AGES),
+                        "월 최대 " + (10 + r.nextInt(90)) + "만원 지원 (최대 " + (3 + r.nextInt(10)) + "개월)",
+                        start.format(COMPACT), end
+                });
+    }
+
+    /** 법정동 코드 목록 (대부분 한 시도 내 여러 시군구, 일부는 전국 다지역) */
+    private static String regionCodes(SplittableRandom r, int region) {
+        int count = 1 + r.nextInt(8);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            String prefix = (r.nextInt(10) == 0) ? pick(r, REGION_CODES) : REGION_CODES[region];
+            if (i > 0) sb.append(',');
+            sb.append(prefix).append(String.format("%03d", 110 + r.nextInt(80) * 10));
+        }
+        return sb.toString();
+    }
+
+    /* ---------------- finance ---------------- */
+
+    public static Object[] financeCompany(int n) {
+        String no = String.format("SEED%03d", n);
+        return new Object[]{no, "합성" + BANK_NAMES[n % BANK_NAMES.length] + " " + n, "https://example.com/fin/" + n, "1588-" + (1000 + n)};
+    }
+
+    /** finance_products 행 (id 를 명시해 대출 옵션에서 참조) */
+    public static Generated financeProduct(long financeProductId, long productId, SplittableRandom r) {
+        int company = 1 + r.nextInt(FINANCE_COMPANIES);
+        String type = PRODUCT_TYPES[r.nextInt(PRODUCT_TYPES.length)];
+        boolean loan = isLoan(type);
+        String provider = "합성" + BANK_NAMES[company % BANK_NAMES.length] + " " + company;
+        String name = provider + " " + (loan ? "청년 " : "") + typeLabel(type) + " " + financeProductId;
+
+        return new Generated(
+                product(productId, "FINANCE", name, provider, "https://finlife.fss.or.kr/seed/" + productId),
+                new Object[]{
+                        financeProductId, productId, String.format("SEED%03d", company), type,
+                        r.nextBoolean() ? "만 19세 이상 ~ 34세 이하" : "실명의 개인",
+                        loan ? null : BigDecimal.valueOf(150 + r.nextInt(400), 2),
+                        loan ? null : (1 + r.nextInt(100)) * 10000
+                });
+    }
+
+    public static boolean isLoan(String productType) {
+        return productType.endsWith("LOAN");
+    }
+
+    /** 대출 상품 1건의 금리 옵션 1~4개 */
+    public static List<Object[]> loanOptions(long financeProductId, SplittableRandom r) {
+        int n = 1 + r.nextInt(4);
+        List<Object[]> rows = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int min = 250 + r.nextInt(400);
+            int max = min + r.nextInt(500);
+            rows.add(new Object[]{
+                    financeProductId,
+                    BigDecimal.valueOf(min, 2), BigDecimal.valueOf(max, 2), BigDecimal.valueOf((min + max) / 2, 2),
+                    pick(r, RPAY_TYPES), pick(r, LEND_TYPES), pick(r, MRTG_TYPES),
+                    BigDecimal.valueOf(min + r.nextInt(200), 2)
+            });
+        }
+        return rows;
+    }
+
+    private static String typeLabel(String type) {
+        return switch (type) {
+            case "DEPOSIT" -> "정기예금";
+            case "SAVING" -> "적금";
+            case "MORTGAGE_LOAN" -> "주택담보대출";
+            case "RENT_HOUSE_LOAN" -> "전세자금대출";
+            default -> "개인신용대출";
+        };
+    }
+
+    /* ---------------- users / favorites ---------------- */
+
+    public static Object[] user(long userId, String passwordHash, SplittableRandom r, LocalDate today) {
+        int age = 19 + r.nextInt(21);
+        return new Object[]{
+                userId, "seed" + userId + "@example.com", passwordHash, "사용자" + userId,
+                age, pick(r, INCOME_BANDS), pick(r, REGIONS), r.nextInt(3) != 0,
+                Date.valueOf(today.minusYears(age).minusDays(r.nextInt(365))),
+                r.nextInt(5) != 0, pick(r, CHANNELS)
+        };
+    }
+
+    /** 사용자 1명의 즐겨찾기 상품 id (중복 없음) */
+    public static long[] favoriteProducts(SplittableRandom r, int count, long minProductId, long maxProductId) {
+        long range = maxProductId - minProductId + 1;
+        int n = (int) Math.min(count, range);
+        Set<Long> picked = new LinkedHashSet<>(n * 2);
+        while (picked.size() < n) {
+            picked.add(minProductId + r.nextLong(range));
+        }
+        return picked.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static String pick(SplittableRandom r, String[] values) {
+        return values[r.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.capstonedesign.common.collection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * BloomFilter
+ * -------------------------------------------------
+ * 문자열 집합의 확률적 소속 판정 (거짓 음성 없음, 거짓 양성 확률 fpp)
+ * - mightContain() == false 면 확실히 없음 → 뒤따르는 DB 확인을 생략하는 용도
+ * - 비트 수 m = -n·ln(p) / (ln2)², 해시 수 k = m/n·ln2 (예: n=1만, p=1% → 약 12KB, k=7)
+ * - 해시: 64비트 해시 두 개로 k 개 위치 생성 (Kirsch–Mitzenmacher, h1 + i·h2)
+ * - put / mightContain 모두 잠금 없이 스레드 안전 (AtomicLongArray 비트 OR)
+ * - 삭제 불가 → 원소가 빠져야 하면 새 인스턴스를 만들어 교체
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * @param expectedInsertions 예상 원소 수 (넘으면 거짓 양성 확률이 올라갈 뿐 동작은 유지)
+     * @param fpp                목표 거짓 양성 확률 (0 < fpp < 1)
+     */
+    public static BloomFilter create(int expectedInsertions, double fpp) {
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("fpp must be in (0, 1): " + fpp);
+        }
+        int n = Math.max(1, expectedInsertions);
+        long m = Math.max(64, (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        return new BloomFilter(m, k);
+    }
+
+    public void put(String value) {
+        long h1 = hash(value, 0x9E3779B97F4A7C15L);
+        long h2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1;   // 홀수 → 위치가 한곳에 몰리지 않음
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long prev;
+            do {
+                prev = words.get(word);
+                if ((prev & mask) != 0) break;
+            } while (!words.compareAndSet(word, prev, prev | mask));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long h1 = hash(value, 0x9E3779B97F4A7C15L);
+        long h2 = hash(value, 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /** UTF-8 바이트 FNV-1a 후 fmix64 로 섞음 (seed 별로 독립적인 64비트 해시) */
+    private static long hash(String value, long seed) {
+        long h = 0xCBF29CE484222325L ^ seed;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xFF);
+            h *= 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB93FE1A85EC3L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.capstonedesign.common.config;
 
+import com.example.capstonedesign.common.metrics.AppMetrics;
+import com.example.capstonedesign.common.metrics.OutboundMetricsInterceptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -18,9 +20,12 @@ public class RestTemplateConfig {
      * <p>
      * - Spring이 애플리케이션 구동 시 싱글톤으로 관리
      * - 외부 API 호출 시 HTTP 요청/응답을 처리하는 데 사용
+     * - 호출마다 outbound.requests 지표 기록 (host, status)
      */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(AppMetrics metrics) {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(new OutboundMetricsInterceptor(metrics));
+        return restTemplate;
     }
 }
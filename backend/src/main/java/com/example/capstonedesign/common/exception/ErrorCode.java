@@ -31,7 +31,10 @@ public enum ErrorCode {
     EXTERNAL_API_ERROR(502, "External API Error"),
 
     /** 서버 내부 에러 (예상치 못한 오류) */
-    INTERNAL_SERVER_ERROR(500, "Internal Server Error");
+    INTERNAL_SERVER_ERROR(500, "Internal Server Error"),
+
+    /** 일시적 과부하 (작업 대기열 초과 등, 잠시 후 재시도) */
+    SERVICE_UNAVAILABLE(503, "Service Unavailable");
 
     /** HTTP 상태 코드 */
     private final int statusCode;
@@ -0,0 +1,130 @@
+package com.example.capstonedesign.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AppMetrics
+ * -------------------------------------------------
+ * 외부 호출 / 수집 작업 / 메일 발송 지표 기록
+ * - 스프링이 만든 MeterRegistry 를 주입받아 기록 (/actuator/prometheus 로 노출)
+ *   · 단위 테스트는 SimpleMeterRegistry 로 생성하거나 목으로 대체
+ * - 지표
+ *   · outbound.requests (timer): host, status, outcome
+ *   · ingest.paging.fallbacks (counter): source, strategy — 첫 페이징 방식이 빈 결과라 다른 방식으로 넘어간 페이지 수
+ *   · ingest.run (timer): source, outcome
+ *   · ingest.rows (counter): source, result(inserted/updated/upserted/skipped/failed)
+ *   · email.send (timer): outcome
+ *   · password.hash (timer): op(encode/verify), outcome(SUCCESS/REJECTED/TIMEOUT)
+ */
+@Component
+public class AppMetrics {
+
+    private static final Duration[] OUTBOUND_SLO = {
+            Duration.ofMillis(300), Duration.ofSeconds(1), Duration.ofSeconds(3), Duration.ofSeconds(10)
+    };
+
+    private final MeterRegistry registry;
+
+    public AppMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /** 측정 시작 시각 (System.nanoTime) */
+    public static long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * 외부 HTTP 호출 1건 기록
+     * @param status HTTP 상태 코드 (응답을 받지 못한 경우 0 이하)
+     */
+    public void outbound(String url, int status, long startNanos) {
+        Timer.builder("outbound.requests")
+                .description("외부 API/크롤링 호출 시간")
+                .tag("host", host(url))
+                .tag("status", status > 0 ? String.valueOf(status) : "IO_ERROR")
+                .tag("outcome", outcome(status))
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(OUTBOUND_SLO)
+                .register(registry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 페이징 대체 방식 사용 1회 (같은 요청의 재시도가 아니라 다른 파라미터 조합으로의 전환)
+     * @param strategy 행을 얻은 방식 (어떤 방식도 실패하면 "none")
+     */
+    public void pagingFallback(String source, String strategy) {
+        Counter.builder("ingest.paging.fallbacks")
+                .description("첫 페이징 방식 실패 후 대체 방식으로 넘어간 페이지 수")
+                .tag("source", source)
+                .tag("strategy", strategy)
+                .register(registry)
+                .increment();
+    }
+
+    /** 수집 작업 1회 실행 시간 */
+    public void ingestRun(String source, long startNanos, boolean success) {
+        Timer.builder("ingest.run")
+                .description("수집 작업 실행 시간")
+                .tag("source", source)
+                .tag("outcome", success ? "SUCCESS" : "FAILURE")
+                .register(registry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** 수집 결과 행 수 (result: inserted / updated / upserted / skipped / failed) */
+    public void ingestRows(String source, String result, long count) {
+        if (count <= 0) return;
+        Counter.builder("ingest.rows")
+                .description("수집 작업 처리 행 수")
+                .tag("source", source)
+                .tag("result", result)
+                .register(registry)
+                .increment(count);
+    }
+
+    /** 메일 발송 1건 */
+    public void emailSend(long startNanos, boolean success) {
+        Timer.builder("email.send")
+                .description("메일 발송 시간")
+                .tag("outcome", success ? "SUCCESS" : "FAILURE")
+                .register(registry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** 비밀번호 해싱/검증 1건 (대기열 대기 시간 포함) */
+    public void passwordHash(String op, long startNanos, String outcome) {
+        Timer.builder("password.hash")
+                .description("BCrypt 해싱/검증 시간")
+                .tag("op", op)
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    static String host(String url) {
+        if (url == null) return "unknown";
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host : "unknown";
+        } catch (IllegalArgumentException e) {
+            return "unknown";
+        }
+    }
+
+    private static String outcome(int status) {
+        if (status <= 0) return "IO_ERROR";
+        if (status < 300) return "SUCCESS";
+        if (status < 400) return "REDIRECTION";
+        if (status < 500) return "CLIENT_ERROR";
+        return "SERVER_ERROR";
+    }
+}
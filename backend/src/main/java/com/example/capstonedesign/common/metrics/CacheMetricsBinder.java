@@ -0,0 +1,90 @@
+package com.example.capstonedesign.common.metrics;
+
+import com.example.capstonedesign.domain.chatbot.service.ChatAnswerCache;
+import com.example.capstonedesign.domain.users.config.JwtTokenProvider;
+import com.example.capstonedesign.domain.users.config.VerifiedTokenCache;
+import com.example.capstonedesign.domain.users.service.UserProfileCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * CacheMetricsBinder
+ * -------------------------------------------------
+ * 애플리케이션 캐시 지표 등록 (Micrometer 캐시 지표 이름 규칙)
+ * - cache.gets{result=hit|miss}, cache.evictions, cache.size
+ * - cache.hit.ratio: 누적 적중률 (대시보드 표시용)
+ * - 대상: chat-answer (챗봇 답변), jwt-verified (검증 완료 JWT), user-profile (추천용 사용자 프로필)
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheMetricsBinder implements MeterBinder {
+
+    private static final String CHAT_ANSWER = "chat-answer";
+    private static final String JWT_VERIFIED = "jwt-verified";
+    private static final String USER_PROFILE = "user-profile";
+
+    private final ChatAnswerCache chatAnswerCache;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserProfileCache userProfileCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", chatAnswerCache, c -> c.stats().hits())
+                .tag("cache", CHAT_ANSWER).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", chatAnswerCache, c -> c.stats().misses())
+                .tag("cache", CHAT_ANSWER).tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", chatAnswerCache, c -> c.stats().evictions())
+                .tag("cache", CHAT_ANSWER)
+                .register(registry);
+        Gauge.builder("cache.size", chatAnswerCache, c -> c.stats().size())
+                .tag("cache", CHAT_ANSWER)
+                .register(registry);
+        Gauge.builder("cache.hit.ratio", chatAnswerCache, c -> c.stats().hitRatio())
+                .tag("cache", CHAT_ANSWER)
+                .register(registry);
+        bindVerifiedTokens(registry, jwtTokenProvider.getVerifiedTokens());
+        bindUserProfiles(registry, userProfileCache);
+    }
+
+    private void bindVerifiedTokens(MeterRegistry registry, VerifiedTokenCache cache) {
+        FunctionCounter.builder("cache.gets", cache, VerifiedTokenCache::hits)
+                .tag("cache", JWT_VERIFIED).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, VerifiedTokenCache::misses)
+                .tag("cache", JWT_VERIFIED).tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, VerifiedTokenCache::evictions)
+                .tag("cache", JWT_VERIFIED)
+                .register(registry);
+        Gauge.builder("cache.size", cache, VerifiedTokenCache::size)
+                .tag("cache", JWT_VERIFIED)
+                .register(registry);
+        Gauge.builder("cache.hit.ratio", cache, VerifiedTokenCache::hitRatio)
+                .tag("cache", JWT_VERIFIED)
+                .register(registry);
+    }
+
+    private void bindUserProfiles(MeterRegistry registry, UserProfileCache cache) {
+        FunctionCounter.builder("cache.gets", cache, UserProfileCache::hits)
+                .tag("cache", USER_PROFILE).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, UserProfileCache::misses)
+                .tag("cache", USER_PROFILE).tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, UserProfileCache::evictions)
+                .tag("cache", USER_PROFILE)
+                .register(registry);
+        Gauge.builder("cache.size", cache, UserProfileCache::size)
+                .tag("cache", USER_PROFILE)
+                .register(registry);
+        Gauge.builder("cache.hit.ratio", cache, UserProfileCache::hitRatio)
+                .tag("cache", USER_PROFILE)
+                .register(registry);
+    }
+}
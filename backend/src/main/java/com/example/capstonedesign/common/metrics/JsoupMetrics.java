@@ -0,0 +1,63 @@
+package com.example.capstonedesign.common.metrics;
+
+import org.jsoup.Connection;
+import org.jsoup.HttpStatusException;
+import org.jsoup.nodes.Document;
+
+import java.io.IOException;
+
+/**
+ * JsoupMetrics
+ * -------------------------------------------------
+ * Jsoup 크롤링 요청을 outbound.requests 지표로 기록
+ * - conn.get() / conn.execute() 와 동일하게 동작 (결과 반환, 예외 그대로 전파)
+ * - 호출하는 쪽이 주입받은 AppMetrics 를 함께 넘김
+ * - 4xx/5xx 는 HttpStatusException 의 상태 코드, 연결 실패/타임아웃은 IO_ERROR
+ * - 응답 객체가 상태 코드를 주지 않으면 성공(200)으로 기록 (get()/execute() 는 실패 시 예외)
+ */
+public final class JsoupMetrics {
+
+    private JsoupMetrics() {}
+
+    public static Document get(AppMetrics metrics, Connection conn) throws IOException {
+        String url = urlOf(conn);
+        long start = AppMetrics.start();
+        try {
+            Document doc = conn.get();
+            metrics.outbound(url, statusOf(conn.response()), start);
+            return doc;
+        } catch (HttpStatusException e) {
+            metrics.outbound(url, e.getStatusCode(), start);
+            throw e;
+        } catch (IOException e) {
+            metrics.outbound(url, 0, start);
+            throw e;
+        }
+    }
+
+    public static Connection.Response execute(AppMetrics metrics, Connection conn) throws IOException {
+        String url = urlOf(conn);
+        long start = AppMetrics.start();
+        try {
+            Connection.Response res = conn.execute();
+            metrics.outbound(url, statusOf(res), start);
+            return res;
+        } catch (HttpStatusException e) {
+            metrics.outbound(url, e.getStatusCode(), start);
+            throw e;
+        } catch (IOException e) {
+            metrics.outbound(url, 0, start);
+            throw e;
+        }
+    }
+
+    private static String urlOf(Connection conn) {
+        Connection.Request req = conn.request();
+        return (req != null && req.url() != null) ? req.url().toExternalForm() : null;
+    }
+
+    private static int statusOf(Connection.Response res) {
+        int status = (res != null) ? res.statusCode() : 0;
+        return status > 0 ? status : 200;
+    }
+}
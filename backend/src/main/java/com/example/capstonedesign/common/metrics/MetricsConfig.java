@@ -0,0 +1,16 @@
+package com.example.capstonedesign.common.metrics;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * MetricsConfig
+ * -------------------------------------------------
+ * Actuator / Prometheus 기본 설정 로드 (classpath:metrics.properties)
+ * - @PropertySource 는 우선순위가 가장 낮음 → application.yml 등에서 그대로 덮어쓸 수 있음
+ * - 노출: /actuator/health, /actuator/prometheus
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+}
@@ -0,0 +1,38 @@
+package com.example.capstonedesign.common.metrics;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * OutboundMetricsInterceptor
+ * -------------------------------------------------
+ * RestTemplate 호출을 outbound.requests 지표로 기록
+ * - 응답을 받지 못한 경우(연결 실패/타임아웃) status=IO_ERROR
+ */
+public class OutboundMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private final AppMetrics metrics;
+
+    public OutboundMetricsInterceptor(AppMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long start = AppMetrics.start();
+        String url = request.getURI().toString();
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            metrics.outbound(url, response.getStatusCode().value(), start);
+            return response;
+        } catch (IOException e) {
+            metrics.outbound(url, 0, start);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.capstonedesign.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * CursorSlice
+ * -------------------------------------------------
+ * 커서 페이지네이션 응답
+ * - nextCursor 를 다음 요청의 cursor 로 그대로 전달 (hasNext=false 면 null)
+ * - approximateTotal: 요청 시에만, 필터 없는 목록에 한해 테이블 통계 기반 추정치 (COUNT(*) 미실행)
+ */
+public record CursorSlice<T>(
+        List<T> items,
+        int size,
+        boolean hasNext,
+        String nextCursor,
+        Long approximateTotal
+) {
+
+    /**
+     * size + 1 건 조회 결과로 슬라이스 구성
+     * - 초과분 1건이 있으면 다음 페이지 존재
+     */
+    public static <T> CursorSlice<T> of(List<T> fetched, int size, Function<T, KeysetCursor> cursorOf, Long approximateTotal) {
+        boolean hasNext = fetched.size() > size;
+        List<T> items = hasNext ? List.copyOf(fetched.subList(0, size)) : List.copyOf(fetched);
+        String next = (hasNext && !items.isEmpty()) ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+        return new CursorSlice<>(items, size, hasNext, next, approximateTotal);
+    }
+
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = items.stream().<R>map(mapper).toList();
+        return new CursorSlice<>(mapped, size, hasNext, nextCursor, approximateTotal);
+    }
+}
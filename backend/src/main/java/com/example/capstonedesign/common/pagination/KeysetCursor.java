@@ -0,0 +1,46 @@
+package com.example.capstonedesign.common.pagination;
+
+import com.example.capstonedesign.common.exception.ApiException;
+import com.example.capstonedesign.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * KeysetCursor
+ * -------------------------------------------------
+ * 커서 페이지네이션 위치 (마지막 항목의 정렬 키 + id)
+ * - 클라이언트에는 Base64(URL-safe) 불투명 문자열로만 노출
+ * - key 가 null 이면 정렬 키가 비어 있는 구간 (DESC 정렬에서 맨 뒤)
+ */
+public record KeysetCursor(String key, long id) {
+
+    private static final String VERSION = "1";
+    private static final char SEP = '\t';
+    private static final String NULL_KEY = "\u0000";
+
+    public String encode() {
+        String raw = VERSION + SEP + (key == null ? NULL_KEY : key) + SEP + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 커서 해석 (비어 있으면 null = 첫 페이지) */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int first = raw.indexOf(SEP);
+            int last = raw.lastIndexOf(SEP);
+            if (first < 0 || first == last || !VERSION.equals(raw.substring(0, first))) {
+                throw new IllegalArgumentException("format");
+            }
+
+            String key = raw.substring(first + 1, last);
+            long id = Long.parseLong(raw.substring(last + 1));
+            return new KeysetCursor(NULL_KEY.equals(key) ? null : key, id);
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+}
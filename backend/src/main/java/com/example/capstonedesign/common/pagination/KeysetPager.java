@@ -0,0 +1,93 @@
+package com.example.capstonedesign.common.pagination;
+
+import com.example.capstonedesign.common.exception.ApiException;
+import com.example.capstonedesign.common.exception.ErrorCode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * KeysetPager
+ * -------------------------------------------------
+ * 커서(keyset) 페이지네이션 실행기
+ * - OFFSET 대신 "마지막 항목보다 뒤" 조건으로 탐색 → 몇 번째 페이지든 비용 동일
+ *   · key < k OR (key = k AND id < i) OR key IS NULL (DESC 정렬에서 NULL 은 맨 뒤)
+ * - size + 1 건만 조회해 다음 페이지 존재 여부 판단 (COUNT(*) 미실행)
+ * - 정렬 키 + id 복합 인덱스(보조 인덱스는 PK 포함)가 있는 컬럼에만 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class KeysetPager {
+
+    public static final int MAX_SIZE = 100;
+
+    private final EntityManager entityManager;
+
+    public <T> CursorSlice<T> fetch(Class<T> type, Specification<T> filter, KeysetSort<T> sort,
+                                    String cursor, int size, Long approximateTotal) {
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        KeysetCursor after = KeysetCursor.decode(cursor);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> cq = cb.createQuery(type);
+        Root<T> root = cq.from(type);
+
+        List<Predicate> where = new ArrayList<>();
+        if (filter != null) {
+            Predicate p = filter.toPredicate(root, cq, cb);
+            if (p != null) where.add(p);
+        }
+        if (after != null) {
+            where.add(seek(root, cb, sort, after));
+        }
+
+        cq.select(root).where(where.toArray(Predicate[]::new));
+        if (sort.attribute() != null) {
+            cq.orderBy(cb.desc(root.get(sort.attribute())), cb.desc(root.get("id")));
+        } else {
+            cq.orderBy(cb.desc(root.get("id")));
+        }
+
+        List<T> fetched = entityManager.createQuery(cq)
+                .setMaxResults(limit + 1)
+                .getResultList();
+        return CursorSlice.of(fetched, limit, sort::cursorOf, approximateTotal);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate seek(Root<?> root, CriteriaBuilder cb, KeysetSort<?> sort, KeysetCursor after) {
+        Path<Comparable> idPath = root.get("id");
+        Comparable id = (idPath.getJavaType() == Integer.class)
+                ? (Comparable) Integer.valueOf(Math.toIntExact(after.id()))
+                : (Comparable) Long.valueOf(after.id());
+        Predicate idBefore = cb.lessThan(idPath, id);
+
+        if (sort.attribute() == null) return idBefore;
+
+        Path<Comparable> keyPath = root.get(sort.attribute());
+        if (after.key() == null) {
+            return cb.and(cb.isNull(keyPath), idBefore);
+        }
+
+        Comparable key;
+        try {
+            key = sort.parser().apply(after.key());
+        } catch (RuntimeException e) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+        return cb.or(
+                cb.lessThan(keyPath, key),
+                cb.and(cb.equal(keyPath, key), idBefore),
+                cb.isNull(keyPath)
+        );
+    }
+}
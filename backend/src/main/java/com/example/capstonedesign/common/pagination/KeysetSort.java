@@ -0,0 +1,36 @@
+package com.example.capstonedesign.common.pagination;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * KeysetSort
+ * -------------------------------------------------
+ * 커서 페이지네이션 정렬 정의 (정렬 키 DESC, id DESC)
+ * - attribute: 엔티티 정렬 필드명 (null 이면 id 만으로 정렬)
+ * - parser: 커서 문자열 → 정렬 키 값
+ * - keyOf / idOf: 마지막 항목에서 다음 커서 값 추출
+ */
+public record KeysetSort<T>(
+        String attribute,
+        Function<String, ? extends Comparable<?>> parser,
+        Function<T, ?> keyOf,
+        Function<T, ? extends Number> idOf
+) {
+
+    /** id 내림차순만 사용하는 정렬 */
+    public static <T> KeysetSort<T> byId(Function<T, ? extends Number> idOf) {
+        return new KeysetSort<>(null, null, null, idOf);
+    }
+
+    /** (정렬 키 DESC, id DESC) */
+    public static <T, K extends Comparable<? super K>> KeysetSort<T> by(
+            String attribute, Function<String, K> parser, Function<T, K> keyOf, Function<T, ? extends Number> idOf) {
+        return new KeysetSort<>(attribute, parser, keyOf, idOf);
+    }
+
+    public KeysetCursor cursorOf(T item) {
+        String key = (attribute == null) ? null : Objects.toString(keyOf.apply(item), null);
+        return new KeysetCursor(key, idOf.apply(item).longValue());
+    }
+}
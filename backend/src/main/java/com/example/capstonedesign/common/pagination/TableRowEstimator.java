@@ -0,0 +1,50 @@
+package com.example.capstonedesign.common.pagination;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TableRowEstimator
+ * -------------------------------------------------
+ * 테이블 행 수 추정 (커서 목록의 approximateTotal 용)
+ * - information_schema.TABLES.TABLE_ROWS (InnoDB 통계값, 정확하지 않음)
+ * - 테이블별로 pagination.estimate-ttl-seconds 동안 캐시
+ * - 조회 실패 시 null (응답에서 생략)
+ */
+@Slf4j
+@Component
+public class TableRowEstimator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlMillis;
+    private final Map<String, long[]> cache = new ConcurrentHashMap<>();
+
+    public TableRowEstimator(JdbcTemplate jdbcTemplate,
+                             @Value("${pagination.estimate-ttl-seconds:60}") long ttlSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public Long estimate(String table) {
+        long now = System.currentTimeMillis();
+        long[] cached = cache.get(table);
+        if (cached != null && cached[1] > now) return cached[0];
+
+        try {
+            Long rows = jdbcTemplate.queryForObject(
+                    "SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?",
+                    Long.class, table);
+            if (rows == null) return null;
+            cache.put(table, new long[]{rows, now + ttlMillis});
+            return rows;
+        } catch (Exception e) {
+            log.warn("⚠️ 테이블 행 수 추정 실패 ({}): {}", table, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.capstonedesign.common.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * QueryCountingDataSource
+ * -------------------------------------------------
+ * 실행되는 SQL 을 QueryStatsHolder 에 기록하는 DataSource 래퍼
+ * - Connection / Statement 를 JDK 동적 프록시로 감싸 execute* 호출 시간 측정
+ * - PreparedStatement 는 prepare 시점의 SQL, Statement 는 execute 인자의 SQL 기록
+ * - 집계 범위가 열려 있지 않은 스레드는 측정 없이 바로 위임
+ * - DelegatingDataSource 상속 → 커넥션 풀 메타데이터 조회(unwrap) 그대로 동작
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    public QueryCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(target));
+    }
+
+    /**
+     * 대상 메서드 호출
+     * - equals/hashCode 는 프록시 자신 기준 (Hibernate 가 Statement 를 HashMap 키로 사용)
+     */
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        if ("equals".equals(method.getName()) && args != null && args.length == 1) {
+            return proxy == args[0];
+        }
+        if ("hashCode".equals(method.getName()) && (args == null || args.length == 0)) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /** prepareStatement / prepareCall / createStatement 결과를 측정용 프록시로 교체 */
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryCountingDataSource.invoke(proxy, target, method, args);
+            if (result instanceof Statement statement && method.getReturnType().isInterface()
+                    && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String sql = (args != null && args.length > 0 && args[0] instanceof String s) ? s : null;
+                return Proxy.newProxyInstance(
+                        QueryCountingDataSource.class.getClassLoader(),
+                        new Class<?>[]{method.getReturnType()},
+                        new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    /** execute* 호출 시간을 측정해 기록 */
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private String lastBatchSql;
+
+        StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("addBatch".equals(name) && args != null && args.length == 1 && args[0] instanceof String s) {
+                lastBatchSql = s;
+            }
+            if (!name.startsWith("execute") || !QueryStatsHolder.active()) {
+                return QueryCountingDataSource.invoke(proxy, target, method, args);
+            }
+
+            String sql = (args != null && args.length > 0 && args[0] instanceof String s) ? s
+                    : (preparedSql != null ? preparedSql : lastBatchSql);
+            long start = System.nanoTime();
+            try {
+                return QueryCountingDataSource.invoke(proxy, target, method, args);
+            } finally {
+                QueryStatsHolder.record(sql, System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.capstonedesign.common.sql;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * QueryStats
+ * -------------------------------------------------
+ * 한 범위(HTTP 요청 1건 / 스케줄 작업 1회 / 테스트 1개)에서 실행된 SQL 통계
+ * - 문장 수, DB 누적 시간, 가장 느린 문장
+ * - 정규화된 문장 모양(SqlShape)별 실행 횟수 → 반복 모양은 N+1 의심
+ * - 스레드 1개에서만 갱신 (QueryStatsHolder 의 ThreadLocal 범위)
+ */
+public final class QueryStats {
+
+    private final String name;
+    private int count;
+    private long totalNanos;
+    private String slowestSql;
+    private long slowestNanos = -1;
+    private final Map<String, Integer> shapes = new HashMap<>();
+
+    public QueryStats(String name) {
+        this.name = name;
+    }
+
+    void record(String sql, long elapsedNanos) {
+        count++;
+        totalNanos += elapsedNanos;
+        if (elapsedNanos > slowestNanos) {
+            slowestNanos = elapsedNanos;
+            slowestSql = sql;
+        }
+        shapes.merge(SqlShape.of(sql), 1, Integer::sum);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public long totalMillis() {
+        return totalNanos / 1_000_000;
+    }
+
+    public long slowestMillis() {
+        return Math.max(slowestNanos, 0) / 1_000_000;
+    }
+
+    public String slowestSql() {
+        return slowestSql;
+    }
+
+    /** threshold 회 이상 반복된 문장 모양 (많은 순) */
+    public Map<String, Integer> repeatedShapes(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        shapes.entrySet().stream()
+                .filter(e -> e.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(e -> repeated.put(e.getKey(), e.getValue()));
+        return repeated;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.capstonedesign.common.sql;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * QueryStatsHolder
+ * -------------------------------------------------
+ * 현재 스레드의 SQL 집계 범위 관리
+ * - begin/end 로 범위를 열고 닫음 (중첩 가능: 테스트 범위 안의 요청 범위 등)
+ * - 실행된 문장은 열려 있는 모든 범위에 기록
+ * - 열린 범위가 없으면 기록하지 않음 (오버헤드 최소)
+ */
+public final class QueryStatsHolder {
+
+    private static final ThreadLocal<Deque<QueryStats>> SCOPES = new ThreadLocal<>();
+
+    private QueryStatsHolder() {}
+
+    public static QueryStats begin(String name) {
+        Deque<QueryStats> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        QueryStats stats = new QueryStats(name);
+        scopes.push(stats);
+        return stats;
+    }
+
+    public static void end(QueryStats stats) {
+        Deque<QueryStats> scopes = SCOPES.get();
+        if (scopes == null) return;
+        scopes.remove(stats);
+        if (scopes.isEmpty()) SCOPES.remove();
+    }
+
+    /** 가장 안쪽 범위 (없으면 null) */
+    public static QueryStats current() {
+        Deque<QueryStats> scopes = SCOPES.get();
+        return (scopes == null) ? null : scopes.peek();
+    }
+
+    static boolean active() {
+        return SCOPES.get() != null;
+    }
+
+    static void record(String sql, long elapsedNanos) {
+        Deque<QueryStats> scopes = SCOPES.get();
+        if (scopes == null) return;
+        for (QueryStats stats : scopes) {
+            stats.record(sql, elapsedNanos);
+        }
+    }
+}
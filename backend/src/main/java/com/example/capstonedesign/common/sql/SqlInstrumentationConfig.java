@@ -0,0 +1,77 @@
+package com.example.capstonedesign.common.sql;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import javax.sql.DataSource;
+
+/**
+ * SqlInstrumentationConfig
+ * -------------------------------------------------
+ * SQL 계측 설정 (sql.instrumentation.enabled=false 로 끌 수 있음)
+ * - DataSource 빈을 QueryCountingDataSource 로 감쌈
+ * - HTTP 요청마다 집계 (SqlRequestStatsFilter, 가장 바깥 필터)
+ * - @Scheduled 작업 1회마다 집계 (스케줄러 TaskDecorator)
+ * - 임계값
+ *   · sql.instrumentation.max-statements (기본 30)
+ *   · sql.instrumentation.max-db-millis (기본 500)
+ *   · sql.instrumentation.n-plus-one-threshold (기본 5)
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlInstrumentationConfig {
+
+    @Bean
+    public SqlStatsReporter sqlStatsReporter(
+            @Value("${sql.instrumentation.max-statements:30}") int maxStatements,
+            @Value("${sql.instrumentation.max-db-millis:500}") long maxDbMillis,
+            @Value("${sql.instrumentation.n-plus-one-threshold:5}") int nPlusOneThreshold
+    ) {
+        return new SqlStatsReporter(maxStatements, maxDbMillis, nPlusOneThreshold);
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlRequestStatsFilter> sqlRequestStatsFilter(SqlStatsReporter reporter) {
+        FilterRegistrationBean<SqlRequestStatsFilter> registration =
+                new FilterRegistrationBean<>(new SqlRequestStatsFilter(reporter));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /** DataSource 래핑 + 스케줄러 작업 단위 집계 */
+    @Bean
+    public static BeanPostProcessor sqlInstrumentationPostProcessor(ObjectProvider<SqlStatsReporter> reporter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof ThreadPoolTaskScheduler scheduler) {
+                    scheduler.setTaskDecorator(task -> () -> {
+                        QueryStats stats = QueryStatsHolder.begin("job " + task);
+                        try {
+                            task.run();
+                        } finally {
+                            QueryStatsHolder.end(stats);
+                            reporter.getObject().report(stats);
+                        }
+                    });
+                }
+                return bean;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
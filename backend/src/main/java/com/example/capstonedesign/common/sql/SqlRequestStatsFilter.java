@@ -0,0 +1,35 @@
+package com.example.capstonedesign.common.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * SqlRequestStatsFilter
+ * -------------------------------------------------
+ * HTTP 요청 1건 단위로 SQL 집계 범위를 열고, 응답 후 통계 보고
+ * - 범위 이름: "GET /api/..." (쿼리스트링 제외)
+ * - 비동기(SSE) 요청은 요청 스레드에서 실행된 문장만 집계
+ */
+@RequiredArgsConstructor
+public class SqlRequestStatsFilter extends OncePerRequestFilter {
+
+    private final SqlStatsReporter reporter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryStats stats = QueryStatsHolder.begin(request.getMethod() + " " + request.getRequestURI());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryStatsHolder.end(stats);
+            reporter.report(stats);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.capstonedesign.common.sql;
+
+import java.util.regex.Pattern;
+
+/**
+ * SqlShape
+ * -------------------------------------------------
+ * SQL 문장의 "모양" 정규화 (N+1 의심 판별용)
+ * - 문자열/숫자 리터럴 → ?
+ * - IN (?, ?, ?) → IN (?)
+ * - 공백 정리, 소문자화
+ * - 파라미터만 다른 같은 문장이 반복되면 같은 모양으로 집계됨
+ */
+public final class SqlShape {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlShape() {}
+
+    public static String of(String sql) {
+        if (sql == null) return "";
+        String s = STRING_LITERAL.matcher(sql).replaceAll("?");
+        s = NUMBER.matcher(s).replaceAll("?");
+        s = IN_LIST.matcher(s).replaceAll("in (?)");
+        return WHITESPACE.matcher(s).replaceAll(" ").trim().toLowerCase();
+    }
+}
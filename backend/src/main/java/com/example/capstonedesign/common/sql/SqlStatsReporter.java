@@ -0,0 +1,52 @@
+package com.example.capstonedesign.common.sql;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+
+/**
+ * SqlStatsReporter
+ * -------------------------------------------------
+ * 범위 종료 시 SQL 통계 로그 출력
+ * - 문장 수 / DB 누적 시간이 임계값 이상이면 WARN
+ * - 같은 모양 문장이 n-plus-one-threshold 회 이상 반복되면 N+1 의심으로 WARN
+ * - 그 외에는 DEBUG
+ */
+@Slf4j
+public class SqlStatsReporter {
+
+    private static final int MAX_SQL_LOG_LENGTH = 300;
+
+    private final int maxStatements;
+    private final long maxDbMillis;
+    private final int nPlusOneThreshold;
+
+    public SqlStatsReporter(int maxStatements, long maxDbMillis, int nPlusOneThreshold) {
+        this.maxStatements = maxStatements;
+        this.maxDbMillis = maxDbMillis;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    public void report(QueryStats stats) {
+        if (stats.count() == 0) return;
+
+        Map<String, Integer> suspects = stats.repeatedShapes(nPlusOneThreshold);
+        boolean overBudget = stats.count() >= maxStatements || stats.totalMillis() >= maxDbMillis;
+
+        if (overBudget) {
+            log.warn("🐢 SQL 과다/지연 [{}] statements={}, db={}ms, slowest={}ms: {}",
+                    stats.name(), stats.count(), stats.totalMillis(), stats.slowestMillis(), abbreviate(stats.slowestSql()));
+        } else if (log.isDebugEnabled()) {
+            log.debug("🧮 SQL [{}] statements={}, db={}ms, slowest={}ms",
+                    stats.name(), stats.count(), stats.totalMillis(), stats.slowestMillis());
+        }
+
+        suspects.forEach((shape, times) ->
+                log.warn("🔁 N+1 의심 [{}] 같은 문장 {}회: {}", stats.name(), times, abbreviate(shape)));
+    }
+
+    private static String abbreviate(String sql) {
+        if (sql == null) return "-";
+        return sql.length() <= MAX_SQL_LOG_LENGTH ? sql : sql.substring(0, MAX_SQL_LOG_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.capstonedesign.common.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * AhoCorasickMatcher
+ * -------------------------------------------------
+ * 다중 패턴 문자열 매칭 오토마톤 (불변, 스레드 안전)
+ * - 생성 시 패턴 목록으로 trie + failure link 를 한 번만 구성
+ * - scan() 은 입력을 한 번만 훑어 포함된 모든 패턴 id 를 반환
+ *   (String.contains 를 패턴 수만큼 반복하는 것과 결과 동일)
+ * - 패턴 id = 생성 시 목록 인덱스 → 목록 순서를 우선순위로 쓰면
+ *   nextSetBit(0) 가 "가장 우선순위 높은 포함 패턴"
+ */
+public final class AhoCorasickMatcher {
+
+    private final String[] patterns;
+
+    /** 상태별 전이: 정렬된 문자 배열 + 대상 상태 (이진 탐색) */
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    /** 상태 도달 시 매칭되는 패턴 id (failure 체인의 출력까지 병합) */
+    private final int[][] outputs;
+
+    private AhoCorasickMatcher(String[] patterns, char[][] edgeChars, int[][] edgeTargets,
+                               int[] fail, int[][] outputs) {
+        this.patterns = patterns;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.outputs = outputs;
+    }
+
+    /**
+     * 패턴 목록으로 오토마톤 생성
+     *
+     * @throws IllegalArgumentException 빈 패턴이 포함된 경우
+     */
+    public static AhoCorasickMatcher of(List<String> patterns) {
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<List<Integer>> out = new ArrayList<>();
+        children.add(new TreeMap<>());
+        out.add(new ArrayList<>());
+
+        // 1) trie 구성
+        for (int id = 0; id < patterns.size(); id++) {
+            String p = patterns.get(id);
+            if (p == null || p.isEmpty()) {
+                throw new IllegalArgumentException("빈 패턴은 허용되지 않습니다. (index=" + id + ")");
+            }
+            int state = 0;
+            for (int i = 0; i < p.length(); i++) {
+                Integer next = children.get(state).get(p.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.get(state).put(p.charAt(i), next);
+                    children.add(new TreeMap<>());
+                    out.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            out.get(state).add(id);
+        }
+
+        // 2) BFS 로 failure link 계산 + 출력 병합
+        int n = children.size();
+        int[] fail = new int[n];
+        Deque<Integer> queue = new ArrayDeque<>();
+        children.get(0).values().forEach(queue::add);
+
+        while (!queue.isEmpty()) {
+            int s = queue.poll();
+            for (var e : children.get(s).entrySet()) {
+                char c = e.getKey();
+                int t = e.getValue();
+
+                int f = fail[s];
+                while (f != 0 && !children.get(f).containsKey(c)) f = fail[f];
+                Integer ft = children.get(f).get(c);
+                fail[t] = (ft != null && ft != t) ? ft : 0;
+
+                out.get(t).addAll(out.get(fail[t]));
+                queue.add(t);
+            }
+        }
+
+        // 3) 조회용 배열로 압축
+        char[][] edgeChars = new char[n][];
+        int[][] edgeTargets = new int[n][];
+        int[][] outputs = new int[n][];
+        for (int s = 0; s < n; s++) {
+            TreeMap<Character, Integer> m = children.get(s);
+            edgeChars[s] = new char[m.size()];
+            edgeTargets[s] = new int[m.size()];
+            int i = 0;
+            for (var e : m.entrySet()) {
+                edgeChars[s][i] = e.getKey();
+                edgeTargets[s][i] = e.getValue();
+                i++;
+            }
+            outputs[s] = out.get(s).stream().mapToInt(Integer::intValue).distinct().sorted().toArray();
+        }
+
+        return new AhoCorasickMatcher(patterns.toArray(String[]::new), edgeChars, edgeTargets, fail, outputs);
+    }
+
+    /** 입력에 포함된 모든 패턴 id (단일 패스) */
+    public BitSet scan(CharSequence text) {
+        BitSet hits = new BitSet(patterns.length);
+        if (text == null) return hits;
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = transition(state, c)) < 0 && state != 0) {
+                state = fail[state];
+            }
+            state = Math.max(next, 0);
+            for (int id : outputs[state]) hits.set(id);
+        }
+        return hits;
+    }
+
+    /** 포함된 패턴 중 id(=우선순위)가 가장 작은 것, 없으면 -1 */
+    public int firstMatch(CharSequence text) {
+        return scan(text).nextSetBit(0);
+    }
+
+    public String pattern(int id) {
+        return patterns[id];
+    }
+
+    public int size() {
+        return patterns.length;
+    }
+
+    private int transition(int state, char c) {
+        int idx = Arrays.binarySearch(edgeChars[state], c);
+        return idx >= 0 ? edgeTargets[state][idx] : -1;
+    }
+}
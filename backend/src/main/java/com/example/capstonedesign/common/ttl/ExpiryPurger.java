@@ -0,0 +1,29 @@
+package com.example.capstonedesign.common.ttl;
+
+import java.time.Instant;
+
+/**
+ * ExpiryPurger
+ * -------------------------------------------------
+ * 만료 시각이 있는 항목을 주기적으로 정리하는 대상
+ * - {@link TtlStoreSweeper} 가 등록된 모든 구현체를 호출
+ * - 메모리 구현(inMemory=true)은 짧은 주기로, DB 구현은 긴 주기로 배치 삭제
+ */
+public interface ExpiryPurger {
+
+    /**
+     * now 이전에 만료된 항목 정리
+     *
+     * @param limit 1회 호출에서 삭제할 최대 건수 (DB 배치 크기, 메모리 구현은 무시 가능)
+     * @return 삭제한 건수
+     */
+    int purgeExpired(Instant now, int limit);
+
+    /** 정리 대상 이름 (로그용) */
+    String name();
+
+    /** 메모리 구현 여부 (true 면 짧은 주기 sweep 대상) */
+    default boolean inMemory() {
+        return false;
+    }
+}
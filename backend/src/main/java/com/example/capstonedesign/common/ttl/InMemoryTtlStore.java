@@ -0,0 +1,140 @@
+package com.example.capstonedesign.common.ttl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * InMemoryTtlStore
+ * -------------------------------------------------
+ * ConcurrentHashMap + hashed timing wheel 기반 TtlStore
+ * - 휠: tick 간격(기본 1초) × 슬롯 수(2의 거듭제곱)
+ *   · put: 만료 tick 의 슬롯에 타이머 추가, 한 바퀴를 넘으면 남은 바퀴 수(rounds) 기록 → O(1)
+ *   · purgeExpired: 마지막 처리 tick 부터 현재 tick 까지 슬롯만 훑음
+ *     → 비용이 전체 항목 수가 아닌 "이번에 만료될 항목 + 슬롯 공유 항목" 에 비례
+ * - 같은 키를 다시 put 하면 이전 타이머는 남지만, 만료 시 현재 값과 달라 무시됨
+ * - 만료 시각이 지난 값은 정리 전이라도 get() 에서 보이지 않음 (정리 주기는 정확성과 무관)
+ */
+public final class InMemoryTtlStore implements TtlStore {
+
+    private record Entry(String value, long expiresAtMillis) {}
+
+    /** 휠 슬롯에 걸린 만료 예약 */
+    private static final class Timer {
+        final String key;
+        final Entry entry;
+        long rounds;
+
+        Timer(String key, Entry entry, long rounds) {
+            this.key = key;
+            this.entry = entry;
+            this.rounds = rounds;
+        }
+    }
+
+    private final String name;
+    private final Clock clock;
+    private final long tickMillis;
+    private final int mask;
+    private final List<Timer>[] wheel;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /** 다음에 처리할 tick (epoch 기준 절대 tick, wheel 잠금 하에서만 접근) */
+    private long nextTick;
+
+    public InMemoryTtlStore(String name) {
+        this(name, Clock.systemUTC(), Duration.ofSeconds(1), 512);
+    }
+
+    @SuppressWarnings("unchecked")
+    public InMemoryTtlStore(String name, Clock clock, Duration tick, int slots) {
+        if (Integer.bitCount(slots) != 1) {
+            throw new IllegalArgumentException("slots must be a power of two: " + slots);
+        }
+        this.name = name;
+        this.clock = clock;
+        this.tickMillis = Math.max(1, tick.toMillis());
+        this.mask = slots - 1;
+        this.wheel = new List[slots];
+        for (int i = 0; i < slots; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        this.nextTick = clock.millis() / tickMillis;
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+        Entry entry = new Entry(value, clock.millis() + ttl.toMillis());
+        entries.put(key, entry);
+        schedule(key, entry);
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        Entry e = entries.get(key);
+        if (e == null) return Optional.empty();
+        if (e.expiresAtMillis() <= clock.millis()) {
+            entries.remove(key, e);
+            return Optional.empty();
+        }
+        return Optional.of(e.value());
+    }
+
+    @Override
+    public boolean remove(String key) {
+        return entries.remove(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    /** 현재 tick 까지 휠을 진행시키며 만료 항목 삭제 (limit 무시) */
+    @Override
+    public int purgeExpired(Instant now, int limit) {
+        long nowTick = now.toEpochMilli() / tickMillis;
+        int removed = 0;
+        synchronized (wheel) {
+            for (; nextTick <= nowTick; nextTick++) {
+                Iterator<Timer> it = wheel[(int) (nextTick & mask)].iterator();
+                while (it.hasNext()) {
+                    Timer t = it.next();
+                    if (t.rounds > 0) {
+                        t.rounds--;
+                        continue;
+                    }
+                    it.remove();
+                    if (entries.remove(t.key, t.entry)) removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public boolean inMemory() {
+        return true;
+    }
+
+    /** 만료 tick = ceil(만료 시각 / tick) → 그 tick 처리 시점에는 반드시 만료돼 있음 */
+    private void schedule(String key, Entry entry) {
+        long deadline = (entry.expiresAtMillis() + tickMillis - 1) / tickMillis;
+        synchronized (wheel) {
+            long tick = Math.max(deadline, nextTick);
+            long rounds = (tick - nextTick) / wheel.length;
+            wheel[(int) (tick & mask)].add(new Timer(key, entry, rounds));
+        }
+    }
+}
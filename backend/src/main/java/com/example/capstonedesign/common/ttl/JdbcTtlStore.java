@@ -0,0 +1,75 @@
+package com.example.capstonedesign.common.ttl;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JdbcTtlStore
+ * -------------------------------------------------
+ * ttl_entries 테이블 기반 TtlStore (여러 인스턴스가 같은 값을 봐야 할 때)
+ * - 키: (namespace, entry_key) 기본 키 → 저장소별 namespace 로 한 테이블 공유
+ * - put: INSERT ... ON DUPLICATE KEY UPDATE (MySQL) 1회
+ * - get: expires_at > now 조건 → 정리 전 만료 행도 보이지 않음
+ * - purgeExpired: (namespace, expires_at) 인덱스 범위로 최대 limit 건씩 DELETE
+ */
+public final class JdbcTtlStore implements TtlStore {
+
+    private final JdbcTemplate jdbc;
+    private final String namespace;
+    private final Clock clock;
+
+    public JdbcTtlStore(JdbcTemplate jdbc, String namespace) {
+        this(jdbc, namespace, Clock.systemUTC());
+    }
+
+    public JdbcTtlStore(JdbcTemplate jdbc, String namespace, Clock clock) {
+        this.jdbc = jdbc;
+        this.namespace = namespace;
+        this.clock = clock;
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+        jdbc.update("""
+                INSERT INTO ttl_entries (namespace, entry_key, entry_value, expires_at)
+                VALUES (?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE entry_value = VALUES(entry_value), expires_at = VALUES(expires_at)
+                """, namespace, key, value, Timestamp.from(clock.instant().plus(ttl)));
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        List<String> rows = jdbc.queryForList(
+                "SELECT entry_value FROM ttl_entries WHERE namespace = ? AND entry_key = ? AND expires_at > ?",
+                String.class, namespace, key, Timestamp.from(clock.instant()));
+        return rows.stream().findFirst();
+    }
+
+    @Override
+    public boolean remove(String key) {
+        return jdbc.update("DELETE FROM ttl_entries WHERE namespace = ? AND entry_key = ?", namespace, key) > 0;
+    }
+
+    @Override
+    public int size() {
+        Integer n = jdbc.queryForObject("SELECT COUNT(*) FROM ttl_entries WHERE namespace = ?", Integer.class, namespace);
+        return n != null ? n : 0;
+    }
+
+    @Override
+    public int purgeExpired(Instant now, int limit) {
+        return jdbc.update("DELETE FROM ttl_entries WHERE namespace = ? AND expires_at <= ? LIMIT ?",
+                namespace, Timestamp.from(now), limit);
+    }
+
+    @Override
+    public String name() {
+        return "ttl_entries:" + namespace;
+    }
+}
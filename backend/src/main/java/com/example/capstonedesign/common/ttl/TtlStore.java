@@ -0,0 +1,29 @@
+package com.example.capstonedesign.common.ttl;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * TtlStore
+ * -------------------------------------------------
+ * 키 → 문자열 값 + 만료 시각 저장소 (인증 번호 등 짧게 살다 사라지는 값)
+ * - get() 은 만료된 값을 돌려주지 않음 (정리 전이라도)
+ * - 만료 항목의 실제 삭제는 {@link #purgeExpired} 로 능동 정리 → 요청이 없어도 저장소가 줄어듦
+ * - 구현
+ *   · {@link InMemoryTtlStore}: 단일 인스턴스용, hashed timing wheel 로 만료 처리
+ *   · {@link JdbcTtlStore}: 다중 인스턴스용, ttl_entries 테이블 (만료 시각 인덱스 + 배치 삭제)
+ */
+public interface TtlStore extends ExpiryPurger {
+
+    /** 값 저장 (같은 키가 있으면 값과 만료 시각 모두 교체) */
+    void put(String key, String value, Duration ttl);
+
+    /** 만료되지 않은 값 조회 */
+    Optional<String> get(String key);
+
+    /** @return 삭제된 항목이 있었는지 */
+    boolean remove(String key);
+
+    /** 저장된 항목 수 (만료됐지만 아직 정리 전인 항목 포함) */
+    int size();
+}
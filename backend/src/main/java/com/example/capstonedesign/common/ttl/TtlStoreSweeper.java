@@ -0,0 +1,71 @@
+package com.example.capstonedesign.common.ttl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * TtlStoreSweeper
+ * -------------------------------------------------
+ * 등록된 모든 {@link ExpiryPurger} 의 만료 항목 능동 정리
+ * - 메모리 구현: ttl-store.sweep-ms(기본 1초) 마다 timing wheel 진행
+ * - DB 구현: ttl-store.purge-ms(기본 1분) 마다 ttl-store.purge-batch-size 건씩 배치 삭제
+ *   · 1회 실행당 최대 MAX_BATCHES_PER_RUN 배치 → 밀린 행이 많아도 한 번에 긴 트랜잭션을 만들지 않음
+ */
+@Slf4j
+@Component
+public class TtlStoreSweeper {
+
+    static final int MAX_BATCHES_PER_RUN = 20;
+
+    private final List<ExpiryPurger> purgers;
+    private final int batchSize;
+    private final Clock clock;
+
+    @Autowired
+    public TtlStoreSweeper(List<ExpiryPurger> purgers,
+                           @Value("${ttl-store.purge-batch-size:1000}") int batchSize) {
+        this(purgers, batchSize, Clock.systemUTC());
+    }
+
+    TtlStoreSweeper(List<ExpiryPurger> purgers, int batchSize, Clock clock) {
+        this.purgers = purgers;
+        this.batchSize = batchSize;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${ttl-store.sweep-ms:1000}")
+    public void sweepMemory() {
+        Instant now = clock.instant();
+        for (ExpiryPurger p : purgers) {
+            if (p.inMemory()) p.purgeExpired(now, Integer.MAX_VALUE);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ttl-store.purge-ms:60000}")
+    public void purgeDatabase() {
+        Instant now = clock.instant();
+        for (ExpiryPurger p : purgers) {
+            if (p.inMemory()) continue;
+            try {
+                long total = 0;
+                for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                    int deleted = p.purgeExpired(now, batchSize);
+                    total += deleted;
+                    if (deleted < batchSize) break;
+                }
+                if (total > 0) {
+                    log.info("🧹 만료 항목 정리 ({}): {}건", p.name(), total);
+                }
+            } catch (Exception e) {
+                log.error("❌ 만료 항목 정리 실패 ({}): {}", p.name(), e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.capstonedesign.domain.chatbot.controller;
+
+import com.example.capstonedesign.domain.chatbot.dto.response.ChatCacheStatsResponse;
+import com.example.capstonedesign.domain.chatbot.service.ChatAnswerCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * ChatCacheController
+ * -------------------------------------------------
+ * 챗봇 답변 캐시 지표 조회 API (운영 확인용)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/chat/cache")
+@Tag(name = "챗봇 캐시 지표", description = "챗봇 답변 캐시 적중률 조회 API")
+public class ChatCacheController {
+
+    private final ChatAnswerCache answerCache;
+
+    /**
+     * [GET] /admin/chat/cache/stats
+     * - 항목 수, 적중/미스, 적중률, 무효화·축출 건수
+     */
+    @GetMapping("/stats")
+    @Operation(summary = "챗봇 답변 캐시 지표 조회", security = @SecurityRequirement(name = "bearerAuth"))
+    public ChatCacheStatsResponse stats() {
+        return answerCache.stats();
+    }
+}
@@ -3,23 +3,34 @@ package com.example.capstonedesign.domain.chatbot.controller;
 import com.example.capstonedesign.domain.chatbot.dto.request.ChatRequestDto;
 import com.example.capstonedesign.domain.chatbot.dto.response.ChatResponseDto;
 import com.example.capstonedesign.domain.chatbot.service.ChatService;
+import com.example.capstonedesign.domain.chatbot.service.ChatStreamExecutor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
 @Tag(name = "Chat", description = "DB 기반 Y-Nest 검색 챗봇 API")
 @RestController
 @RequestMapping("/api/chat")
 @RequiredArgsConstructor
 public class ChatController {
 
+    /** 스트림 최대 유지 시간 (검색 deadline 보다 넉넉하게) */
+    private static final long STREAM_TIMEOUT_MS = 30_000L;
+
     private final ChatService chatService;
+    private final ChatStreamExecutor streamExecutor;
 
     @Operation(
             summary = "챗봇과 대화 (DB 기반)",
@@ -30,4 +41,30 @@ public class ChatController {
         ChatResponseDto responseDto = chatService.chat(requestDto);
         return ResponseEntity.ok(responseDto);
     }
+
+    @Operation(
+            summary = "챗봇과 대화 (SSE 스트리밍)",
+            description = "의도 안내(intent) → 결과 줄(line) → 안내 문구(hint) → 전체 답변(done) 순으로 이벤트를 전송합니다."
+    )
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@Valid @RequestBody ChatRequestDto requestDto) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        SseChatStreamListener listener = new SseChatStreamListener(emitter);
+
+        // 스트림 작업은 전용 풀에서 시작, 요청 스레드는 emitter 만 반환하고 바로 반납
+        try {
+            streamExecutor.execute(() -> {
+                try {
+                    chatService.streamChat(requestDto, listener);
+                } catch (Exception e) {
+                    log.error("❌ 챗봇 스트리밍 처리 실패: {}", e.getMessage(), e);
+                    listener.onComplete(null, "일시적으로 검색에 실패했어요. 😢 잠시 후 다시 물어봐 주세요!");
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ 챗봇 스트리밍 풀 포화 → 요청 거절");
+            listener.onComplete(null, "지금은 질문이 많아 답변이 어려워요. 😢 잠시 후 다시 물어봐 주세요!");
+        }
+        return emitter;
+    }
 }
@@ -0,0 +1,71 @@
+package com.example.capstonedesign.domain.chatbot.controller;
+
+import com.example.capstonedesign.domain.chatbot.dto.response.ChatResponseDto;
+import com.example.capstonedesign.domain.chatbot.dto.response.ChatStreamLine;
+import com.example.capstonedesign.domain.chatbot.entity.IntentType;
+import com.example.capstonedesign.domain.chatbot.service.ChatStreamListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * SseChatStreamListener
+ * -------------------------------------------------
+ * 챗봇 스트리밍 응답 → SSE 이벤트 변환
+ * - intent : 의도 안내 문구 (text)
+ * - line   : 결과 한 줄 ({domain, text})
+ * - hint   : 마무리 안내 문구 (text, 결과가 있을 때만)
+ * - done   : 전체 답변 ({reply}) 후 스트림 종료
+ * - 검색 스레드에서 동시에 호출되므로 synchronized, 클라이언트 연결이 끊기면 이후 이벤트는 무시
+ */
+@Slf4j
+class SseChatStreamListener implements ChatStreamListener {
+
+    private final SseEmitter emitter;
+    private boolean closed;
+
+    SseChatStreamListener(SseEmitter emitter) {
+        this.emitter = emitter;
+        emitter.onCompletion(this::markClosed);
+        emitter.onTimeout(this::markClosed);
+        emitter.onError(e -> markClosed());
+    }
+
+    @Override
+    public void onIntent(IntentType intent, String message) {
+        send(SseEmitter.event().name("intent").data(message));
+    }
+
+    @Override
+    public void onLine(String domain, String line) {
+        send(SseEmitter.event().name("line").data(new ChatStreamLine(domain, line)));
+    }
+
+    @Override
+    public synchronized void onComplete(String hint, String reply) {
+        if (hint != null) {
+            send(SseEmitter.event().name("hint").data(hint));
+        }
+        send(SseEmitter.event().name("done").data(ChatResponseDto.builder().reply(reply).build()));
+        if (!closed) {
+            closed = true;
+            emitter.complete();
+        }
+    }
+
+    private synchronized void send(SseEmitter.SseEventBuilder event) {
+        if (closed) return;
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료
+            log.debug("챗봇 스트림 전송 중단: {}", e.getMessage());
+            closed = true;
+        }
+    }
+
+    private synchronized void markClosed() {
+        closed = true;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.capstonedesign.domain.chatbot.dto.response;
+
+/**
+ * ChatCacheStatsResponse
+ * -------------------------------------------------
+ * 챗봇 답변 캐시 지표 (캐시 크기 조정용)
+ *
+ * @param size          현재 항목 수
+ * @param maxEntries    최대 항목 수
+ * @param hits          적중 횟수
+ * @param misses        미스 횟수 (DB 조회 발생)
+ * @param hitRatio      hits / (hits + misses)
+ * @param invalidations TTL 만료·데이터 버전 변경으로 버려진 항목 수
+ * @param evictions     크기 제한으로 밀려난 항목 수
+ */
+public record ChatCacheStatsResponse(
+        int size,
+        int maxEntries,
+        long hits,
+        long misses,
+        double hitRatio,
+        long invalidations,
+        long evictions
+) {}
@@ -0,0 +1,11 @@
+package com.example.capstonedesign.domain.chatbot.dto.response;
+
+/**
+ * ChatStreamLine
+ * -------------------------------------------------
+ * 챗봇 스트리밍 응답의 결과 한 줄 (SSE "line" 이벤트)
+ *
+ * @param domain LH / SH / FINANCE / POLICY
+ * @param text   렌더링된 한 줄
+ */
+public record ChatStreamLine(String domain, String text) {}
@@ -0,0 +1,43 @@
+package com.example.capstonedesign.domain.chatbot.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * ChatMessageDailyStat 엔티티
+ * -------------------------------------------------
+ * - 보존 기간이 지난 chat_messages 상세 행을 일자/발신자별로 요약한 집계
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "chat_message_daily_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_cmds_date_sender", columnNames = {"stat_date", "sender"}))
+public class ChatMessageDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 집계 일자 */
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    /** 발신자 (USER, BOT) */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ChatSender sender;
+
+    /** 메시지 수 */
+    @Column(name = "message_count", nullable = false)
+    private Long messageCount;
+
+    /** 본문 글자 수 합계 */
+    @Column(name = "total_chars", nullable = false)
+    private Long totalChars;
+}
@@ -0,0 +1,12 @@
+package com.example.capstonedesign.domain.chatbot.repository;
+
+import com.example.capstonedesign.domain.chatbot.entity.ChatMessageDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ChatMessageDailyStatRepository extends JpaRepository<ChatMessageDailyStat, Long> {
+
+    List<ChatMessageDailyStat> findByStatDateBetweenOrderByStatDateAsc(LocalDate from, LocalDate to);
+}
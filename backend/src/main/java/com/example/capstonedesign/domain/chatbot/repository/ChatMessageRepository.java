@@ -4,8 +4,42 @@ import com.example.capstonedesign.domain.chatbot.entity.ChatMessage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Integer> {
 
     Page<ChatMessage> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    /** 가장 오래된 메시지 시각 (보존 기간 정리 시작점) */
+    @Query("SELECT MIN(c.createdAt) FROM ChatMessage c")
+    Optional<LocalDateTime> findOldestCreatedAt();
+
+    /**
+     * [from, to) 구간 메시지를 일자/발신자별 집계 테이블에 누적
+     * - 집계 일자는 DATE(created_at)(DB 세션 시간대) 대신 호출 측이 넘긴 statDate(Asia/Seoul 기준 하루) 사용
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO chat_message_daily_stats (stat_date, sender, message_count, total_chars)
+            SELECT :statDate, sender, COUNT(*), COALESCE(SUM(CHAR_LENGTH(content)), 0)
+            FROM chat_messages
+            WHERE created_at >= :from AND created_at < :to
+            GROUP BY sender
+            ON DUPLICATE KEY UPDATE
+                message_count = message_count + VALUES(message_count),
+                total_chars = total_chars + VALUES(total_chars)
+            """, nativeQuery = true)
+    int rollupDaily(@Param("statDate") LocalDate statDate, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /** [from, to) 구간 메시지 최대 limit 건 삭제 */
+    @Modifying
+    @Query(value = "DELETE FROM chat_messages WHERE created_at >= :from AND created_at < :to LIMIT :limit",
+            nativeQuery = true)
+    int deleteBatch(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to, @Param("limit") int limit);
 }
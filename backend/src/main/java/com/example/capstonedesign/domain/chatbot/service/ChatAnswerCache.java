@@ -0,0 +1,181 @@
+package com.example.capstonedesign.domain.chatbot.service;
+
+import com.example.capstonedesign.application.ingest.IngestDataVersions;
+import com.example.capstonedesign.application.ingest.IngestDomain;
+import com.example.capstonedesign.domain.chatbot.dto.response.ChatCacheStatsResponse;
+import com.example.capstonedesign.domain.chatbot.entity.IntentType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * ChatAnswerCache
+ * -------------------------------------------------
+ * 정규화된 질의 튜플 → 렌더링된 챗봇 답변 캐시
+ * - 키: (intent, 지역, 키워드, LH/SH 선호) — 문장 표현이 달라도 같은 튜플이면 같은 답변
+ * - 크기 제한: LRU (chat.cache.max-entries)
+ * - 시간 제한: TTL (chat.cache.ttl-seconds)
+ * - 무효화: 저장 시점의 수집 도메인 버전과 현재 버전이 다르면 미스 처리
+ *   · HOUSING → LH + SH, FINANCE → FINANCE, POLICY → YOUTH_POLICY
+ * - 적중률은 stats() 로 노출
+ */
+@Component
+public class ChatAnswerCache {
+
+    /** 정규화된 질의 키 */
+    public record Key(IntentType intent, String region, String keyword, boolean preferLh, boolean preferSh) {
+        public Key {
+            region = region == null ? "" : region;
+            keyword = keyword == null ? "" : keyword;
+        }
+    }
+
+    private record Entry(String reply, long version, long expiresAt) {}
+
+    private final IngestDataVersions dataVersions;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    private final LinkedHashMap<Key, Entry> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    @Autowired
+    public ChatAnswerCache(IngestDataVersions dataVersions,
+                           @Value("${chat.cache.max-entries:1000}") int maxEntries,
+                           @Value("${chat.cache.ttl-seconds:600}") long ttlSeconds) {
+        this(dataVersions, maxEntries, ttlSeconds, Clock.systemUTC());
+    }
+
+    ChatAnswerCache(IngestDataVersions dataVersions, int maxEntries, long ttlSeconds, Clock clock) {
+        this.dataVersions = dataVersions;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() > ChatAnswerCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회, 없거나 만료·무효화된 경우 loader 로 생성 후 저장
+     * - loader 는 락 밖에서 실행 (DB 조회 동안 다른 키 조회를 막지 않음)
+     * - 버전은 loader 실행 전에 읽음 → 조회 도중 수집이 끝나면 다음 조회에서 다시 미스
+     */
+    public String get(Key key, Supplier<String> loader) {
+        return get(key, loader, () -> true);
+    }
+
+    /**
+     * cacheable 이 false 면 (예: 일부 도메인 검색이 시간 초과된 부분 응답) 저장하지 않음
+     * - cacheable 은 loader 실행 후 평가
+     */
+    public String get(Key key, Supplier<String> loader, BooleanSupplier cacheable) {
+        long version = versionOf(key.intent());
+        long now = clock.millis();
+
+        synchronized (entries) {
+            Entry e = entries.get(key);
+            if (e != null) {
+                if (e.version() == version && e.expiresAt() > now) {
+                    hits.incrementAndGet();
+                    return e.reply();
+                }
+                entries.remove(key);
+                stale.incrementAndGet();
+            }
+        }
+
+        misses.incrementAndGet();
+        String reply = loader.get();
+        if (!cacheable.getAsBoolean()) {
+            return reply;
+        }
+
+        synchronized (entries) {
+            entries.put(key, new Entry(reply, version, now + ttlMillis));
+        }
+        return reply;
+    }
+
+    /**
+     * 저장 없이 조회만 (스트리밍 응답용)
+     * - 미스면 null, 호출 측은 currentVersion() 을 먼저 읽어 두었다가 put() 으로 저장
+     */
+    public String peek(Key key) {
+        long version = currentVersion(key);
+        long now = clock.millis();
+
+        synchronized (entries) {
+            Entry e = entries.get(key);
+            if (e != null && e.version() == version && e.expiresAt() > now) {
+                hits.incrementAndGet();
+                return e.reply();
+            }
+            if (e != null) {
+                entries.remove(key);
+                stale.incrementAndGet();
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /** 조회 시작 시점 버전으로 저장 (그 사이 수집이 끝났다면 다음 조회에서 무효화) */
+    public void put(Key key, String reply, long version) {
+        synchronized (entries) {
+            entries.put(key, new Entry(reply, version, clock.millis() + ttlMillis));
+        }
+    }
+
+    /** 키가 의존하는 수집 도메인의 현재 버전 */
+    public long currentVersion(Key key) {
+        return versionOf(key.intent());
+    }
+
+    /** 전체 비우기 */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /** 적중률 등 캐시 지표 */
+    public ChatCacheStatsResponse stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        long h = hits.get();
+        long m = misses.get();
+        double ratio = (h + m) == 0 ? 0.0 : (double) h / (h + m);
+        return new ChatCacheStatsResponse(size, maxEntries, h, m, ratio, stale.get(), evictions.get());
+    }
+
+    private long versionOf(IntentType intent) {
+        return switch (intent) {
+            case HOUSING -> dataVersions.combined(IngestDomain.LH, IngestDomain.SH);
+            case FINANCE -> dataVersions.current(IngestDomain.FINANCE);
+            case POLICY -> dataVersions.current(IngestDomain.YOUTH_POLICY);
+            default -> 0L;
+        };
+    }
+}
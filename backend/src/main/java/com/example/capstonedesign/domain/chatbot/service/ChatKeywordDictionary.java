@@ -0,0 +1,131 @@
+package com.example.capstonedesign.domain.chatbot.service;
+
+import com.example.capstonedesign.common.text.AhoCorasickMatcher;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ChatKeywordDictionary
+ * -------------------------------------------------
+ * 챗봇 의도 판별 / 엔티티 추출용 키워드 사전
+ * - 모든 사전(기관, 지역, 주거, 금융, 정책, 도움말)의 패턴을 하나의 Aho-Corasick 오토마톤으로 구성
+ * - 메시지를 한 번만 훑은 결과(Scan)로 각 사전의 포함 여부 / 최우선 값을 판단
+ * - 사전 내 규칙 순서 = 우선순위 (기존 contains 체인 순서 그대로)
+ * - 불변 객체, 애플리케이션 전체에서 INSTANCE 하나를 공유
+ */
+public final class ChatKeywordDictionary {
+
+    /** 사전 구분 */
+    public enum Category {
+        /** 기관명 (LH/SH, 대소문자 구분) → 주거 의도 */
+        AGENCY,
+        /** 광역 지역명 → 주거 의도 */
+        REGION_INTENT,
+        HOUSING_INTENT,
+        FINANCE_INTENT,
+        POLICY_INTENT,
+        HELP_INTENT,
+        /** 검색용 지역 추출 */
+        REGION,
+        HOUSING_KEYWORD,
+        FINANCE_KEYWORD,
+        POLICY_KEYWORD
+    }
+
+    public static final ChatKeywordDictionary INSTANCE = new ChatKeywordDictionary();
+
+    private final AhoCorasickMatcher matcher;
+    /** 사전별 규칙: 패턴 id (우선순위 순) / 매칭 시 반환 값 */
+    private final Map<Category, int[]> ruleIds = new EnumMap<>(Category.class);
+    private final Map<Category, String[]> ruleValues = new EnumMap<>(Category.class);
+
+    private ChatKeywordDictionary() {
+        Map<Category, Map<String, String>> rules = new EnumMap<>(Category.class);
+
+        rules.put(Category.AGENCY, identity("LH", "엘에이치", "SH", "에스에이치"));
+        rules.put(Category.REGION_INTENT, identity(
+                "서울", "경기", "인천", "부산", "대구",
+                "대전", "광주", "울산", "세종",
+                "강원", "충북", "충남", "전북", "전남",
+                "경북", "경남", "제주"));
+        rules.put(Category.HOUSING_INTENT, identity("전세", "월세", "임대", "공고", "주택", "청년주택"));
+        rules.put(Category.FINANCE_INTENT, identity("대출", "예금", "적금", "금리", "통장"));
+        rules.put(Category.POLICY_INTENT, identity("정책", "청년정책", "지원금", "사업", "보조금"));
+        rules.put(Category.HELP_INTENT, identity("사용법", "어떻게", "도움말", "설명", "뭐 하는 서비스"));
+
+        rules.put(Category.REGION, identity("서울", "경기", "인천", "부산", "대구", "대전", "광주", "울산"));
+        rules.put(Category.HOUSING_KEYWORD, identity("전세", "월세", "청년", "임대"));
+        rules.put(Category.FINANCE_KEYWORD, identity("대출", "적금", "예금", "청년"));
+
+        Map<String, String> policy = new LinkedHashMap<>();
+        policy.put("취업", "취업");
+        policy.put("창업", "창업");
+        policy.put("교통", "교통");
+        policy.put("전세", "전세");
+        policy.put("월세", "전세");
+        policy.put("주거", "전세");
+        policy.put("청년 정책", "청년");
+        policy.put("청년정책", "청년");
+        policy.put("청년", "청년");
+        policy.put("정책", "정책");
+        rules.put(Category.POLICY_KEYWORD, policy);
+
+        // 사전 간 중복 패턴은 하나의 id 공유
+        Map<String, Integer> ids = new LinkedHashMap<>();
+        for (var e : rules.entrySet()) {
+            int[] idArr = new int[e.getValue().size()];
+            String[] valArr = new String[e.getValue().size()];
+            int i = 0;
+            for (var r : e.getValue().entrySet()) {
+                idArr[i] = ids.computeIfAbsent(r.getKey(), k -> ids.size());
+                valArr[i] = r.getValue();
+                i++;
+            }
+            ruleIds.put(e.getKey(), idArr);
+            ruleValues.put(e.getKey(), valArr);
+        }
+        this.matcher = AhoCorasickMatcher.of(new ArrayList<>(ids.keySet()));
+    }
+
+    private static Map<String, String> identity(String... words) {
+        Map<String, String> m = new LinkedHashMap<>();
+        for (String w : words) m.put(w, w);
+        return m;
+    }
+
+    /** 메시지 단일 패스 스캔 */
+    public Scan scan(String message) {
+        return new Scan(matcher.scan(message));
+    }
+
+    /** 한 메시지에 대한 사전 매칭 결과 */
+    public final class Scan {
+
+        private final BitSet hits;
+
+        private Scan(BitSet hits) {
+            this.hits = hits;
+        }
+
+        /** 해당 사전의 패턴이 하나라도 포함됐는지 */
+        public boolean any(Category category) {
+            for (int id : ruleIds.get(category)) {
+                if (hits.get(id)) return true;
+            }
+            return false;
+        }
+
+        /** 해당 사전에서 우선순위가 가장 높은 매칭 값, 없으면 null */
+        public String first(Category category) {
+            int[] idArr = ruleIds.get(category);
+            for (int i = 0; i < idArr.length; i++) {
+                if (hits.get(idArr[i])) return ruleValues.get(category)[i];
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.capstonedesign.domain.chatbot.service;
+
+import com.example.capstonedesign.domain.chatbot.entity.ChatMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ChatLogWriter
+ * -------------------------------------------------
+ * 챗봇 대화 로그 write-behind 기록기
+ * - 요청 스레드는 bounded queue 에 적재만 하고 즉시 반환
+ * - 전용 스레드가 batchSize 건 또는 flushIntervalMs 경과 시 JDBC batch INSERT
+ * - 큐 포화 정책 (chat.log.overflow-policy)
+ *   · DROP   : 로그를 버리고 드롭 건수만 집계 (기본, 응답 지연 없음)
+ *   · CALLER : 요청 스레드에서 즉시 단건 INSERT (유실 없음, 지연 발생)
+ * - 종료 시 남은 로그를 모두 flush 후 종료
+ */
+@Slf4j
+@Component
+public class ChatLogWriter {
+
+    public enum OverflowPolicy { DROP, CALLER }
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final String INSERT_SQL =
+            "INSERT INTO chat_messages (sender, content, created_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<ChatMessage> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final OverflowPolicy overflowPolicy;
+    private final Thread flusher;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean running = true;
+
+    public ChatLogWriter(JdbcTemplate jdbcTemplate,
+                         @Value("${chat.log.queue-capacity:10000}") int queueCapacity,
+                         @Value("${chat.log.batch-size:200}") int batchSize,
+                         @Value("${chat.log.flush-interval-ms:500}") long flushIntervalMs,
+                         @Value("${chat.log.overflow-policy:DROP}") OverflowPolicy overflowPolicy) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.overflowPolicy = overflowPolicy;
+
+        this.flusher = new Thread(this::flushLoop, "chat-log-writer");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * 대화 로그 1건 적재
+     * - createdAt 은 적재 시점으로 확정 (flush 지연과 무관하게 순서 보존, Asia/Seoul 로컬 시각)
+     */
+    public void append(ChatMessage message) {
+        if (message.getCreatedAt() == null) {
+            message.setCreatedAt(LocalDateTime.now(ZONE));
+        }
+        if (running && queue.offer(message)) return;
+
+        if (overflowPolicy == OverflowPolicy.CALLER) {
+            insert(List.of(message));
+            return;
+        }
+        long n = dropped.incrementAndGet();
+        if (n == 1 || n % 1000 == 0) {
+            log.warn("⚠️ 챗봇 로그 큐 포화 → 드롭 누적 {}건", n);
+        }
+    }
+
+    /** 누적 기록 건수 */
+    public long writtenCount() {
+        return written.get();
+    }
+
+    /** 큐 포화로 버려진 건수 */
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    /** 큐 대기 건수 */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    private void flushLoop() {
+        List<ChatMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+                    ChatMessage m = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (m == null) break;
+                    batch.add(m);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                // 종료 신호: 남은 로그는 아래 drain 에서 처리
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                insert(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void insert(List<ChatMessage> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, m) -> {
+                ps.setString(1, m.getSender().name());
+                ps.setString(2, m.getContent());
+                ps.setTimestamp(3, Timestamp.valueOf(m.getCreatedAt()));
+            });
+            written.addAndGet(batch.size());
+        } catch (Exception e) {
+            dropped.addAndGet(batch.size());
+            log.error("❌ 챗봇 로그 {}건 저장 실패: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /** 신규 적재 중단 후 큐에 남은 로그 flush */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+
+        List<ChatMessage> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) insert(rest);
+        log.info("📝 챗봇 로그 기록기 종료 (기록 {}건, 드롭 {}건)", written.get(), dropped.get());
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.capstonedesign.domain.chatbot.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * ChatSearchFanout
+ * -------------------------------------------------
+ * 챗봇 도메인 검색(LH/SH/정책 등) 동시 실행기
+ * - 전용 bounded 스레드 풀에서 도메인별 검색을 병렬 실행 → 응답 지연 = max(도메인) 수준
+ * - 요청 단위 deadline (chat.search.deadline-ms) 안에 끝난 결과만 병합
+ *   · 시간 초과/실패한 도메인은 빈 결과로 대체하고 partial 표시 (캐시 저장 제외용)
+ * - 풀 포화 시 남은 deadline 동안만 큐 자리를 기다리고, 그래도 없으면 해당 도메인은 빈 결과(partial)
+ *   · 호출 스레드에서 직접 실행하지 않음 (CallerRuns 는 deadline 을 넘겨 요청을 붙잡음)
+ * - chat.search.fanout-enabled=false 이면 기존처럼 순차 실행
+ */
+@Slf4j
+@Component
+public class ChatSearchFanout {
+
+    private final boolean enabled;
+    private final long deadlineNanos;
+    private final ThreadPoolExecutor executor;
+
+    public ChatSearchFanout(@Value("${chat.search.fanout-enabled:true}") boolean enabled,
+                            @Value("${chat.search.pool-size:8}") int poolSize,
+                            @Value("${chat.search.queue-capacity:64}") int queueCapacity,
+                            @Value("${chat.search.deadline-ms:800}") long deadlineMs) {
+        this.enabled = enabled;
+        this.deadlineNanos = TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "chat-search-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 요청 1건의 검색 묶음 시작 (deadline 기준 시각 = 지금) */
+    public Request begin() {
+        return new Request(System.nanoTime() + deadlineNanos);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 요청 단위 검색 묶음
+     * - submit() 으로 도메인 검색 등록, join() 으로 deadline 까지만 대기
+     */
+    public final class Request {
+
+        private final long deadlineAt;
+        private volatile boolean partial;
+
+        private Request(long deadlineAt) {
+            this.deadlineAt = deadlineAt;
+        }
+
+        /** 도메인 검색 등록 (비활성 모드면 즉시 실행, 풀 포화로 deadline 까지 못 넣으면 빈 결과) */
+        public <T> Future<List<T>> submit(Supplier<List<T>> search) {
+            if (!enabled) {
+                return CompletableFuture.completedFuture(search.get());
+            }
+            FutureTask<List<T>> task = new FutureTask<>(search::get);
+            try {
+                execute(task);
+            } catch (RejectedExecutionException e) {
+                return rejected("검색");
+            }
+            return task;
+        }
+
+        /**
+         * 도메인 검색 비동기 등록 (스트리밍 응답용)
+         * - deadline 초과/실패 시 빈 결과로 완료되고 partial 표시
+         */
+        public <T> CompletableFuture<List<T>> async(Supplier<List<T>> search, String domain) {
+            if (!enabled) {
+                return CompletableFuture.completedFuture(search.get());
+            }
+            CompletableFuture<List<T>> started;
+            try {
+                started = CompletableFuture.supplyAsync(search, this::execute);
+            } catch (RejectedExecutionException e) {
+                return rejected(domain);
+            }
+            long remaining = Math.max(deadlineAt - System.nanoTime(), 0);
+            return started
+                    .orTimeout(remaining, TimeUnit.NANOSECONDS)
+                    .exceptionally(e -> {
+                        partial = true;
+                        log.warn("⏱️ 챗봇 {} 검색 시간 초과/실패 → 부분 응답: {}", domain, e.getMessage());
+                        return List.of();
+                    });
+        }
+
+        /**
+         * 남은 deadline 안에서 결과 대기
+         * - 시간 초과: 검색 취소(interrupt) 후 빈 결과
+         * - 검색 실패: 빈 결과
+         */
+        public <T> List<T> join(Future<List<T>> future, String domain) {
+            try {
+                long remaining = deadlineAt - System.nanoTime();
+                return future.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                partial = true;
+                log.warn("⏱️ 챗봇 {} 검색 시간 초과 → 부분 응답", domain);
+            } catch (ExecutionException e) {
+                partial = true;
+                log.warn("⚠️ 챗봇 {} 검색 실패 → 부분 응답: {}", domain, e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                partial = true;
+            }
+            return List.of();
+        }
+
+        /**
+         * 풀에 작업 투입
+         * - 큐가 가득 차면 남은 deadline 동안만 자리를 기다림, 못 넣으면 RejectedExecutionException
+         */
+        private void execute(Runnable task) {
+            try {
+                executor.execute(task);
+                return;
+            } catch (RejectedExecutionException full) {
+                if (executor.isShutdown()) throw full;
+            }
+
+            long remaining = deadlineAt - System.nanoTime();
+            boolean queued = false;
+            try {
+                queued = remaining > 0 && executor.getQueue().offer(task, remaining, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (!queued) {
+                throw new RejectedExecutionException("챗봇 검색 풀 포화 (deadline 초과)");
+            }
+            // 큐에 직접 넣었으므로 idle timeout 으로 워커가 모두 내려간 경우 대비
+            executor.prestartCoreThread();
+        }
+
+        private <T> CompletableFuture<List<T>> rejected(String domain) {
+            partial = true;
+            log.warn("⏱️ 챗봇 {} 검색 풀 포화 → deadline 안에 시작하지 못해 부분 응답", domain);
+            return CompletableFuture.completedFuture(List.of());
+        }
+
+        /** 시간 초과/실패로 빠진 도메인이 있었는지 */
+        public boolean isPartial() {
+            return partial;
+        }
+    }
+}
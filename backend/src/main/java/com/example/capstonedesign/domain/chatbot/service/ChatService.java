@@ -6,5 +6,12 @@ import com.example.capstonedesign.domain.chatbot.dto.response.ChatResponseDto;
 public interface ChatService {
 
     ChatResponseDto chat(ChatRequestDto requestDto);
+
+    /**
+     * 스트리밍 응답
+     * - 의도 안내 → 도메인별 결과 줄 → 안내 문구 순으로 listener 에 전달
+     * - 검색은 비동기로 진행되며 이 메서드는 의도 판별 직후 반환
+     */
+    void streamChat(ChatRequestDto requestDto, ChatStreamListener listener);
 }
 
@@ -5,7 +5,6 @@ import com.example.capstonedesign.domain.chatbot.dto.response.ChatResponseDto;
 import com.example.capstonedesign.domain.chatbot.entity.ChatMessage;
 import com.example.capstonedesign.domain.chatbot.entity.ChatSender;
 import com.example.capstonedesign.domain.chatbot.entity.IntentType;
-import com.example.capstonedesign.domain.chatbot.repository.ChatMessageRepository;
 import com.example.capstonedesign.domain.chatbot.service.DB.DbChatSearchService;
 import com.example.capstonedesign.domain.chatbot.service.DB.DbIntentDetector;
 import com.example.capstonedesign.domain.housingannouncements.entity.LhNotice;
@@ -15,51 +14,62 @@ import com.example.capstonedesign.domain.youthpolicies.entity.YouthPolicy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChatServiceImpl implements ChatService {
 
-    private final ChatMessageRepository chatMessageRepository;
+    private final ChatLogWriter chatLogWriter;
     private final DbIntentDetector dbIntentDetector;
     private final SimpleTextExtractor textExtractor;
     private final DbChatSearchService dbChatSearchService;
+    private final ChatAnswerCache answerCache;
+    private final ChatSearchFanout searchFanout;
 
+    private final ChatKeywordDictionary dictionary = ChatKeywordDictionary.INSTANCE;
+
+    /**
+     * 동기 챗봇 응답
+     * - 트랜잭션 없음: 도메인 검색은 검색 풀 스레드에서 각자 커넥션을 빌려 씀
+     *   (요청 스레드가 커넥션을 잡은 채 병렬 조회를 기다리면 풀 고갈 시 교착)
+     */
     @Override
-    @Transactional
     public ChatResponseDto chat(ChatRequestDto requestDto) {
         String userMessage = requestDto.getMessage().trim();
 
-        // 1) 사용자 메시지 로그 저장
+        // 1) 사용자 메시지 로그 적재 (write-behind, 요청 스레드에서 INSERT 하지 않음)
         ChatMessage userChat = ChatMessage.builder()
                 .sender(ChatSender.USER)
                 .content(userMessage)
                 .build();
-        chatMessageRepository.save(userChat);
+        chatLogWriter.append(userChat);
 
-        // 2) Intent 판별
-        IntentType intent = dbIntentDetector.detectIntent(userMessage);
+        // 2) Intent 판별 (메시지 스캔 1회, 결과를 엔티티 추출에도 재사용)
+        ChatKeywordDictionary.Scan scan = dictionary.scan(userMessage);
+        IntentType intent = dbIntentDetector.detectIntent(scan);
         log.info("Detected intent: {}", intent);
 
         // 3) Intent별 처리
         String replyText = switch (intent) {
-            case HOUSING -> handleHousingQuery(userMessage);
-            case FINANCE -> handleFinanceQuery(userMessage);
-            case POLICY  -> handlePolicyQuery(userMessage);
+            case HOUSING -> handleHousingQuery(userMessage, scan);
+            case FINANCE -> handleFinanceQuery(scan);
+            case POLICY  -> handlePolicyQuery(scan);
             case HELP    -> buildHelpMessage();
             case UNKNOWN -> buildUnknownMessage();
         };
 
-        // 4) 봇 메시지 로그 저장
+        // 4) 봇 메시지 로그 적재
         ChatMessage botChat = ChatMessage.builder()
                 .sender(ChatSender.BOT)
                 .content(replyText)
                 .build();
-        chatMessageRepository.save(botChat);
+        chatLogWriter.append(botChat);
 
         // 5) 응답 반환
         return ChatResponseDto.builder()
@@ -69,21 +79,54 @@ public class ChatServiceImpl implements ChatService {
 
     // ====== Intent별 로직 ======
 
-    private String handleHousingQuery(String userMessage) {
-        String region = textExtractor.extractRegion(userMessage);          // 서울/경기/...
-        String keyword = textExtractor.extractHousingKeyword(userMessage); // 전세/월세/... 또는 ""
+    private static final String HOUSING_HINT = "자세한 내용은 주거 페이지에서 해당 공고 카드를 눌러 확인해 주세요!";
+    private static final String FINANCE_HINT = "금융 > 상품 페이지에서 각 상품을 눌러 금리/조건을 자세히 확인해 주세요!";
+    private static final String POLICY_HINT = "정책 페이지에서 관심 있는 정책을 눌러 상세 내용을 확인해 주세요!";
+    private static final String DEFAULT_POLICY_KEYWORD = "청년";
+
+    /** 주거 질의 정규화 결과 */
+    private record HousingQuery(String region, String keyword, boolean preferLh, boolean preferSh) {
+        ChatAnswerCache.Key key() {
+            return new ChatAnswerCache.Key(IntentType.HOUSING, region, keyword, preferLh, preferSh);
+        }
+    }
+
+    private HousingQuery parseHousingQuery(String userMessage, ChatKeywordDictionary.Scan scan) {
+        String region = textExtractor.extractRegion(scan);          // 서울/경기/...
+        String keyword = textExtractor.extractHousingKeyword(scan); // 전세/월세/... 또는 ""
 
         String lower = userMessage.toLowerCase();
         boolean preferLh = lower.contains("lh") || userMessage.contains("엘에이치") ;
         boolean preferSh = lower.contains("sh") || userMessage.contains("에스에이치");
+        return new HousingQuery(region, keyword, preferLh, preferSh);
+    }
+
+    private String handleHousingQuery(String userMessage, ChatKeywordDictionary.Scan scan) {
+        HousingQuery q = parseHousingQuery(userMessage, scan);
+
+        ChatSearchFanout.Request search = searchFanout.begin();
+        return answerCache.get(q.key(), () -> searchHousing(search, q), () -> !search.isPartial());
+    }
+
+    private String searchHousing(ChatSearchFanout.Request search, HousingQuery q) {
+        // LH / SH 동시 조회, deadline 안에 끝난 결과만 사용
+        Future<List<LhNotice>> lhFuture = search.submit(
+                () -> dbChatSearchService.findTopLhByRegionAndKeyword(q.region(), q.keyword(), 5));
+        Future<List<ShAnnouncement>> shFuture = search.submit(
+                () -> dbChatSearchService.findTopShByRegionAndKeyword(q.region(), q.keyword(), 5));
 
-        List<LhNotice> lhList = dbChatSearchService
-                .findTopLhByRegionAndKeyword(region, keyword, 5);
-        List<ShAnnouncement> shList = dbChatSearchService
-                .findTopShByRegionAndKeyword(region, keyword, 5);
+        List<LhNotice> lhList = search.join(lhFuture, "LH");
+        List<ShAnnouncement> shList = search.join(shFuture, "SH");
+
+        return composeHousingReply(q, lhList, shList);
+    }
+
+    private String composeHousingReply(HousingQuery q, List<LhNotice> lhList, List<ShAnnouncement> shList) {
+        String region = q.region();
+        String keyword = q.keyword();
 
         // 1) LH 우선 요청인 경우
-        if (preferLh) {
+        if (q.preferLh()) {
             if (!lhList.isEmpty()) {
                 return buildHousingReply(region, keyword, lhList, List.of());
             } else if (!shList.isEmpty()) {
@@ -96,7 +139,7 @@ public class ChatServiceImpl implements ChatService {
         }
 
         // 2) SH 우선 요청인 경우
-        if (preferSh) {
+        if (q.preferSh()) {
             if (!shList.isEmpty()) {
                 return buildHousingReply(region, keyword, List.of(), shList);
             } else if (!lhList.isEmpty()) {
@@ -122,34 +165,40 @@ public class ChatServiceImpl implements ChatService {
             List<LhNotice> lhList,
             List<ShAnnouncement> shList
     ) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(buildHousingHeader(region, keyword));
+
+        lhList.forEach(n -> sb.append(lhLine(n)).append("\n"));
+        shList.forEach(n -> sb.append(shLine(n)).append("\n"));
+
+        sb.append("\n").append(HOUSING_HINT);
+
+        return sb.toString();
+    }
+
+    private String buildHousingHeader(String region, String keyword) {
         String displayRegion = (region == null || region.isBlank()) ? "전체" : region;
         boolean hasKeyword = !(keyword == null || keyword.isBlank());
 
-        StringBuilder sb = new StringBuilder();
         if (hasKeyword) {
-            sb.append(String.format(
+            return String.format(
                     "%s 지역에서 '%s' 관련 주거 공고를 몇 가지 찾아봤어요. 😆\n\n",
                     displayRegion, keyword
-            ));
-        } else {
-            // 키워드 없으면: 지역 전체 공고 안내
-            sb.append(String.format(
-                    "%s 지역 주거 공고를 몇 가지 가져와 봤어요. 😆\n\n",
-                    displayRegion
-            ));
+            );
         }
+        // 키워드 없으면: 지역 전체 공고 안내
+        return String.format(
+                "%s 지역 주거 공고를 몇 가지 가져와 봤어요. 😆\n\n",
+                displayRegion
+        );
+    }
 
-        lhList.forEach(n -> sb.append("- [LH] ")
-                .append(n.getPanNm())
-                .append(" (게시: ").append(n.getPanNtStDt()).append(")\n"));
-
-        shList.forEach(n -> sb.append("- [SH] ")
-                .append(n.getTitle())
-                .append(" (게시: ").append(n.getPostDate()).append(")\n"));
-
-        sb.append("\n자세한 내용은 주거 페이지에서 해당 공고 카드를 눌러 확인해 주세요!");
+    private static String lhLine(LhNotice n) {
+        return "- [LH] " + n.getPanNm() + " (게시: " + n.getPanNtStDt() + ")";
+    }
 
-        return sb.toString();
+    private static String shLine(ShAnnouncement n) {
+        return "- [SH] " + n.getTitle() + " (게시: " + n.getPostDate() + ")";
     }
 
     private String buildHousingEmptyReply(String region, String keyword) {
@@ -164,11 +213,15 @@ public class ChatServiceImpl implements ChatService {
     }
 
 
-    private String handleFinanceQuery(String userMessage) {
-        String keyword = textExtractor.extractFinanceKeyword(userMessage);
-        List<Products> list = dbChatSearchService
-                .findTopFinanceByKeyword(keyword, 5);
+    private String handleFinanceQuery(ChatKeywordDictionary.Scan scan) {
+        String keyword = textExtractor.extractFinanceKeyword(scan);
+
+        ChatAnswerCache.Key key = new ChatAnswerCache.Key(IntentType.FINANCE, null, keyword, false, false);
+        return answerCache.get(key, () -> composeFinanceReply(keyword,
+                dbChatSearchService.findTopFinanceByKeyword(keyword, 5)));
+    }
 
+    private String composeFinanceReply(String keyword, List<Products> list) {
         if (list.isEmpty()) {
             return String.format(
                     "'%s' 관련 금융 상품을 찾지 못했어요. 😢\n" +
@@ -183,29 +236,52 @@ public class ChatServiceImpl implements ChatService {
                 keyword.isBlank() ? "전체" : keyword
         ));
 
-        list.forEach(p -> sb.append("- ")
-                .append(p.getName())
-                .append(" / ").append(p.getProvider())
-                .append("\n"));
+        list.forEach(p -> sb.append(financeLine(p)).append("\n"));
 
-        sb.append("\n금융 > 상품 페이지에서 각 상품을 눌러 금리/조건을 자세히 확인해 주세요!");
+        sb.append("\n").append(FINANCE_HINT);
 
         return sb.toString();
     }
 
-    private String handlePolicyQuery(String userMessage) {
+    private static String financeLine(Products p) {
+        return "- " + p.getName() + " / " + p.getProvider();
+    }
+
+    private String handlePolicyQuery(ChatKeywordDictionary.Scan scan) {
         // 1) 정책용 키워드 추출
-        String keyword = textExtractor.extractPolicyKeyword(userMessage);
+        String keyword = textExtractor.extractPolicyKeyword(scan);
+
+        ChatAnswerCache.Key key = new ChatAnswerCache.Key(IntentType.POLICY, null, keyword, false, false);
+        ChatSearchFanout.Request search = searchFanout.begin();
+        return answerCache.get(key, () -> searchPolicy(search, keyword), () -> !search.isPartial());
+    }
+
+    private String searchPolicy(ChatSearchFanout.Request search, String keyword) {
+        boolean needsFallback = !DEFAULT_POLICY_KEYWORD.equals(keyword);
+
+        // 2) 1차 검색 (병렬 모드면 fallback 검색도 미리 함께 시작)
+        Future<List<YouthPolicy>> primary = search.submit(
+                () -> dbChatSearchService.findTopPolicyByKeyword(keyword, 5));
+        Future<List<YouthPolicy>> fallback = (needsFallback && searchFanout.isEnabled())
+                ? search.submit(() -> dbChatSearchService.findTopPolicyByKeyword(DEFAULT_POLICY_KEYWORD, 5))
+                : null;
 
-        // 2) 1차 검색
-        List<YouthPolicy> list = dbChatSearchService
-                .findTopPolicyByKeyword(keyword, 5);
+        List<YouthPolicy> list = search.join(primary, "정책");
 
         // 3) 1차 검색 실패 시, 기본 키워드로 한 번 더 (fallback)
-        if (list.isEmpty() && !"청년".equals(keyword)) {
-            list = dbChatSearchService.findTopPolicyByKeyword("청년", 5);
+        if (list.isEmpty() && needsFallback) {
+            if (fallback == null) {
+                fallback = search.submit(() -> dbChatSearchService.findTopPolicyByKeyword(DEFAULT_POLICY_KEYWORD, 5));
+            }
+            list = search.join(fallback, "정책(기본 키워드)");
+        } else if (fallback != null) {
+            fallback.cancel(true);
         }
 
+        return composePolicyReply(list);
+    }
+
+    private String composePolicyReply(List<YouthPolicy> list) {
         if (list.isEmpty()) {
             return "청년 정책 검색 결과가 없어요. 😢\n" +
                     "조금 더 짧은 키워드(예: 전세, 월세, 취업, 창업, 교통 등)로 다시 물어봐 주세요!";
@@ -214,16 +290,168 @@ public class ChatServiceImpl implements ChatService {
         StringBuilder sb = new StringBuilder();
         sb.append("청년 정책 관련해서 이런 것들을 찾아봤어요. 😆\n\n");
 
-        list.forEach(p -> sb.append("- ")
-                .append(p.getPolicyName())
-                .append(" / ").append(p.getDescription())
-                .append("\n"));
+        list.forEach(p -> sb.append(policyLine(p)).append("\n"));
 
-        sb.append("\n정책 페이지에서 관심 있는 정책을 눌러 상세 내용을 확인해 주세요!");
+        sb.append("\n").append(POLICY_HINT);
 
         return sb.toString();
     }
 
+    private static String policyLine(YouthPolicy p) {
+        return "- " + p.getPolicyName() + " / " + p.getDescription();
+    }
+
+    // ====== 스트리밍 응답 ======
+
+    @Override
+    public void streamChat(ChatRequestDto requestDto, ChatStreamListener listener) {
+        String userMessage = requestDto.getMessage().trim();
+
+        chatLogWriter.append(ChatMessage.builder()
+                .sender(ChatSender.USER)
+                .content(userMessage)
+                .build());
+
+        ChatKeywordDictionary.Scan scan = dictionary.scan(userMessage);
+        IntentType intent = dbIntentDetector.detectIntent(scan);
+        log.info("Detected intent (stream): {}", intent);
+
+        switch (intent) {
+            case HOUSING -> streamHousing(userMessage, scan, listener);
+            case FINANCE -> streamFinance(scan, listener);
+            case POLICY  -> streamPolicy(scan, listener);
+            case HELP    -> {
+                listener.onIntent(intent, "사용 방법을 안내해 드릴게요. 🪽");
+                finishStream(listener, null, buildHelpMessage());
+            }
+            case UNKNOWN -> {
+                listener.onIntent(intent, "질문을 살펴보고 있어요. 🤔");
+                finishStream(listener, null, buildUnknownMessage());
+            }
+        }
+    }
+
+    private void streamHousing(String userMessage, ChatKeywordDictionary.Scan scan, ChatStreamListener listener) {
+        HousingQuery q = parseHousingQuery(userMessage, scan);
+        String displayRegion = (q.region() == null || q.region().isBlank()) ? "전체" : q.region();
+        listener.onIntent(IntentType.HOUSING, displayRegion + " 지역 주거 공고를 찾고 있어요. 🔎");
+
+        ChatAnswerCache.Key key = q.key();
+        long version = answerCache.currentVersion(key);
+        String cached = answerCache.peek(key);
+        if (cached != null) {
+            finishStream(listener, null, cached);
+            return;
+        }
+
+        // 선호 기관이 없으면 도착 순서대로 즉시 전송, 선호 기관이 있으면 그 기관만 즉시 전송
+        boolean streamLh = !q.preferSh();
+        boolean streamSh = !q.preferLh();
+
+        ChatSearchFanout.Request search = searchFanout.begin();
+        CompletableFuture<List<LhNotice>> lh = search.async(
+                () -> dbChatSearchService.findTopLhByRegionAndKeyword(q.region(), q.keyword(), 5), "LH");
+        CompletableFuture<List<ShAnnouncement>> sh = search.async(
+                () -> dbChatSearchService.findTopShByRegionAndKeyword(q.region(), q.keyword(), 5), "SH");
+        if (streamLh) lh = lh.thenApply(list -> emitLines(listener, "LH", list, ChatServiceImpl::lhLine));
+        if (streamSh) sh = sh.thenApply(list -> emitLines(listener, "SH", list, ChatServiceImpl::shLine));
+
+        lh.thenAcceptBoth(sh, (lhList, shList) -> {
+                    // 답변에 실제로 포함되는 목록 중 아직 보내지 않은 줄 전송 (선호 기관 결과가 없을 때의 대체 목록)
+                    boolean showLh = q.preferLh() ? !lhList.isEmpty() : !q.preferSh() || shList.isEmpty();
+                    boolean showSh = q.preferLh() ? lhList.isEmpty() : !q.preferSh() || !shList.isEmpty();
+                    if (showLh && !streamLh) emitLines(listener, "LH", lhList, ChatServiceImpl::lhLine);
+                    if (showSh && !streamSh) emitLines(listener, "SH", shList, ChatServiceImpl::shLine);
+
+                    String reply = composeHousingReply(q, lhList, shList);
+                    if (!search.isPartial()) answerCache.put(key, reply, version);
+
+                    boolean found = (showLh && !lhList.isEmpty()) || (showSh && !shList.isEmpty());
+                    finishStream(listener, found ? HOUSING_HINT : null, reply);
+                })
+                .exceptionally(e -> failStream(listener, e));
+    }
+
+    private void streamFinance(ChatKeywordDictionary.Scan scan, ChatStreamListener listener) {
+        String keyword = textExtractor.extractFinanceKeyword(scan);
+        listener.onIntent(IntentType.FINANCE,
+                "'" + (keyword.isBlank() ? "전체" : keyword) + "' 관련 금융 상품을 찾고 있어요. 🔎");
+
+        ChatAnswerCache.Key key = new ChatAnswerCache.Key(IntentType.FINANCE, null, keyword, false, false);
+        long version = answerCache.currentVersion(key);
+        String cached = answerCache.peek(key);
+        if (cached != null) {
+            finishStream(listener, null, cached);
+            return;
+        }
+
+        ChatSearchFanout.Request search = searchFanout.begin();
+        search.async(() -> dbChatSearchService.findTopFinanceByKeyword(keyword, 5), "금융")
+                .thenAccept(list -> {
+                    emitLines(listener, "FINANCE", list, ChatServiceImpl::financeLine);
+
+                    String reply = composeFinanceReply(keyword, list);
+                    if (!search.isPartial()) answerCache.put(key, reply, version);
+                    finishStream(listener, list.isEmpty() ? null : FINANCE_HINT, reply);
+                })
+                .exceptionally(e -> failStream(listener, e));
+    }
+
+    private void streamPolicy(ChatKeywordDictionary.Scan scan, ChatStreamListener listener) {
+        String keyword = textExtractor.extractPolicyKeyword(scan);
+        listener.onIntent(IntentType.POLICY, "청년 정책을 찾고 있어요. 🔎");
+
+        ChatAnswerCache.Key key = new ChatAnswerCache.Key(IntentType.POLICY, null, keyword, false, false);
+        long version = answerCache.currentVersion(key);
+        String cached = answerCache.peek(key);
+        if (cached != null) {
+            finishStream(listener, null, cached);
+            return;
+        }
+
+        boolean needsFallback = !DEFAULT_POLICY_KEYWORD.equals(keyword);
+        ChatSearchFanout.Request search = searchFanout.begin();
+        CompletableFuture<List<YouthPolicy>> primary = search.async(
+                () -> dbChatSearchService.findTopPolicyByKeyword(keyword, 5), "정책");
+        CompletableFuture<List<YouthPolicy>> fallback = (needsFallback && searchFanout.isEnabled())
+                ? search.async(() -> dbChatSearchService.findTopPolicyByKeyword(DEFAULT_POLICY_KEYWORD, 5), "정책(기본 키워드)")
+                : null;
+
+        primary.thenCompose(list -> {
+                    if (!list.isEmpty() || !needsFallback) return CompletableFuture.completedFuture(list);
+                    return fallback != null ? fallback : search.async(
+                            () -> dbChatSearchService.findTopPolicyByKeyword(DEFAULT_POLICY_KEYWORD, 5), "정책(기본 키워드)");
+                })
+                .thenAccept(list -> {
+                    emitLines(listener, "POLICY", list, ChatServiceImpl::policyLine);
+
+                    String reply = composePolicyReply(list);
+                    if (!search.isPartial()) answerCache.put(key, reply, version);
+                    finishStream(listener, list.isEmpty() ? null : POLICY_HINT, reply);
+                })
+                .exceptionally(e -> failStream(listener, e));
+    }
+
+    private static <T> List<T> emitLines(ChatStreamListener listener, String domain,
+                                         List<T> list, Function<T, String> line) {
+        list.forEach(item -> listener.onLine(domain, line.apply(item)));
+        return list;
+    }
+
+    private void finishStream(ChatStreamListener listener, String hint, String reply) {
+        chatLogWriter.append(ChatMessage.builder()
+                .sender(ChatSender.BOT)
+                .content(reply)
+                .build());
+        listener.onComplete(hint, reply);
+    }
+
+    private Void failStream(ChatStreamListener listener, Throwable e) {
+        log.error("❌ 챗봇 스트리밍 응답 실패: {}", e.getMessage(), e);
+        listener.onComplete(null, "일시적으로 검색에 실패했어요. 😢 잠시 후 다시 물어봐 주세요!");
+        return null;
+    }
+
     private String buildHelpMessage() {
         return """
                 저는 Y-Nest 챗봇, 네스티예요. 🪽
@@ -0,0 +1,54 @@
+package com.example.capstonedesign.domain.chatbot.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ChatStreamExecutor
+ * -------------------------------------------------
+ * SSE 챗봇 응답 작업 실행기
+ * - 컨트롤러는 SseEmitter 를 바로 반환하고, 의도 판별·캐시 조회·검색 시작은 이 풀에서 진행
+ *   → 요청(서블릿) 스레드는 스트림 처리 동안 붙잡히지 않음
+ * - bounded 풀/큐 (chat.stream.pool-size, chat.stream.queue-capacity), 포화 시 RejectedExecutionException
+ */
+@Component
+public class ChatStreamExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public ChatStreamExecutor(@Value("${chat.stream.pool-size:8}") int poolSize,
+                              @Value("${chat.stream.queue-capacity:100}") int queueCapacity) {
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "chat-stream-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 스트리밍 작업 등록
+     *
+     * @throws RejectedExecutionException 풀과 큐가 모두 가득 찬 경우
+     */
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.capstonedesign.domain.chatbot.service;
+
+import com.example.capstonedesign.domain.chatbot.entity.IntentType;
+
+/**
+ * ChatStreamListener
+ * -------------------------------------------------
+ * 챗봇 스트리밍 응답 수신자
+ * - onIntent : 의도 판별 직후 1회 (검색 전)
+ * - onLine   : 도메인 검색이 끝날 때마다 결과 한 줄씩
+ * - onComplete : 마지막 1회, 안내 문구(hint, 없으면 null) + 전체 답변
+ * - 검색 스레드에서 동시에 호출될 수 있으므로 구현체가 직렬화해야 함
+ */
+public interface ChatStreamListener {
+
+    void onIntent(IntentType intent, String message);
+
+    void onLine(String domain, String line);
+
+    void onComplete(String hint, String reply);
+}
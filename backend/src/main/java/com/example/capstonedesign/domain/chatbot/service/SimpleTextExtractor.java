@@ -1,10 +1,18 @@
 package com.example.capstonedesign.domain.chatbot.service;
 
+import com.example.capstonedesign.domain.chatbot.service.ChatKeywordDictionary.Category;
 import org.springframework.stereotype.Component;
 
+/**
+ * 질문에서 검색 조건(지역/키워드)을 추출
+ * - 키워드 우선순위는 ChatKeywordDictionary 의 사전 순서를 따름
+ * - Scan 오버로드: 이미 스캔한 결과를 재사용 (메시지 재스캔 없음)
+ */
 @Component
 public class SimpleTextExtractor {
 
+    private final ChatKeywordDictionary dictionary = ChatKeywordDictionary.INSTANCE;
+
     /**
      * 질문 안에서 지역 이름(서울/경기/인천/부산...)을 간단히 찾아냄
      * 못 찾으면 "전체" 반환
@@ -12,66 +20,57 @@ public class SimpleTextExtractor {
     public String extractRegion(String message) {
         if (message == null) return "전체";
 
-        if (message.contains("서울")) return "서울";
-        if (message.contains("경기")) return "경기";
-        if (message.contains("인천")) return "인천";
-        if (message.contains("부산")) return "부산";
-        if (message.contains("대구")) return "대구";
-        if (message.contains("대전")) return "대전";
-        if (message.contains("광주")) return "광주";
-        if (message.contains("울산")) return "울산";
+        return extractRegion(dictionary.scan(message));
+    }
 
-        return "전체";
+    public String extractRegion(ChatKeywordDictionary.Scan scan) {
+        String region = scan.first(Category.REGION);
+        return region != null ? region : "전체";
     }
 
     /**
-     * 주거 관련 키워드를 간단히 뽑는 예시
+     * 주거 관련 키워드 (전세 > 월세 > 청년 > 임대)
      */
     public String extractHousingKeyword(String message) {
         if (message == null) return "";
 
-        if (message.contains("전세")) return "전세";
-        if (message.contains("월세")) return "월세";
-        if (message.contains("청년")) return "청년";
-        if (message.contains("임대")) return "임대";
+        return extractHousingKeyword(dictionary.scan(message));
+    }
 
-        return "";
+    public String extractHousingKeyword(ChatKeywordDictionary.Scan scan) {
+        return orEmpty(scan.first(Category.HOUSING_KEYWORD));
     }
 
     /**
-     * 금융 관련 키워드 예시
+     * 금융 관련 키워드 (대출 > 적금 > 예금 > 청년)
      */
     public String extractFinanceKeyword(String message) {
         if (message == null) return "";
 
-        if (message.contains("대출")) return "대출";
-        if (message.contains("적금")) return "적금";
-        if (message.contains("예금")) return "예금";
-        if (message.contains("청년")) return "청년";
+        return extractFinanceKeyword(dictionary.scan(message));
+    }
 
-        return "";
+    public String extractFinanceKeyword(ChatKeywordDictionary.Scan scan) {
+        return orEmpty(scan.first(Category.FINANCE_KEYWORD));
     }
 
+    /**
+     * 정책 관련 키워드
+     * - 1순위: 구체 키워드 (취업/창업/교통, 주거류는 "전세")
+     * - 2순위: "청년 정책" / "청년정책" / "청년" → "청년"
+     * - 3순위: "정책"
+     */
     public String extractPolicyKeyword(String message) {
         if (message == null || message.isBlank()) return "";
 
-        String text = message.toLowerCase();
-
-        // 1순위: 구체 키워드
-        if (text.contains("취업")) return "취업";
-        if (text.contains("창업")) return "창업";
-        if (text.contains("교통")) return "교통";
-        if (text.contains("전세") || text.contains("월세") || text.contains("주거")) return "전세";
-
-        // 2순위: "청년 정책" / "청년정책"
-        if (text.contains("청년 정책") || text.contains("청년정책")) return "청년";
-
-        // 3순위: 그냥 "청년"이라도
-        if (text.contains("청년")) return "청년";
+        return extractPolicyKeyword(dictionary.scan(message));
+    }
 
-        // 4순위: 최소한 "정책"이라도
-        if (text.contains("정책")) return "정책";
+    public String extractPolicyKeyword(ChatKeywordDictionary.Scan scan) {
+        return orEmpty(scan.first(Category.POLICY_KEYWORD));
+    }
 
-        return "";
+    private static String orEmpty(String s) {
+        return s == null ? "" : s;
     }
 }
@@ -1,5 +1,6 @@
 package com.example.capstonedesign.domain.favorites.controller;
 
+import com.example.capstonedesign.common.pagination.CursorSlice;
 import com.example.capstonedesign.domain.favorites.config.CurrentUser;
 import com.example.capstonedesign.domain.favorites.dto.FavoritesDto;
 import com.example.capstonedesign.domain.favorites.service.FavoritesService;
@@ -209,6 +210,40 @@ public class FavoritesController {
         return ResponseEntity.ok(favoritesService.list(userId, pageable));
     }
 
+    /**
+     * listCursor
+     * -------------------------------------------------
+     * - 즐겨찾기 목록을 커서 방식으로 조회 (생성일 최신순)
+     * - 응답의 nextCursor 를 다음 요청의 cursor 로 전달
+     */
+    @Operation(
+            summary = "즐겨찾기 목록 조회 (커서)",
+            description = """
+        내 즐겨찾기 목록을 **생성일 최신순**으로 커서 방식 조회합니다.
+
+        **Query 파라미터**
+        - `cursor`: 이전 응답의 `nextCursor` (첫 페이지는 생략)
+        - `size`(기본 20, 최대 100): 조회 건수
+
+        **상태 코드**
+        - 200 OK
+        - 400 잘못된 커서
+        """,
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "CursorSlice 객체로 반환"),
+                    @ApiResponse(responseCode = "401", description = "인증 실패")
+            }
+    )
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public ResponseEntity<CursorSlice<FavoritesDto.ItemResponse>> listCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest request) {
+        Long userId = CurrentUser.id(request);
+        return ResponseEntity.ok(favoritesService.listCursor(userId, cursor, size));
+    }
+
     /**
      * exists
      * -------------------------------------------------
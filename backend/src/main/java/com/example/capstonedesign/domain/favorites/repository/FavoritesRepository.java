@@ -71,6 +71,16 @@ public interface FavoritesRepository extends JpaRepository<Favorites, Integer> {
     /** 단건 조회: (user, product) 조합으로 즐겨찾기 엔티티 조회 */
     Optional<Favorites> findByUser_IdAndProduct_Id(Integer userId, Integer productId);
 
-    /** 전체 리스트 조회: 사용자별 최신순 정렬 */
-    List<Favorites> findByUser_IdOrderByCreatedAtDesc(Integer userId);
+    /**
+     * 전체 리스트 조회: 사용자별 최신순 정렬
+     * - Product 를 join fetch 하여 즐겨찾기마다 상품을 지연 로딩하지 않음
+     */
+    @Query("""
+           SELECT f
+           FROM Favorites f
+           JOIN FETCH f.product p
+           WHERE f.user.id = :userId
+           ORDER BY f.createdAt DESC
+           """)
+    List<Favorites> findByUser_IdOrderByCreatedAtDesc(@Param("userId") Integer userId);
 }
@@ -1,5 +1,8 @@
 package com.example.capstonedesign.domain.favorites.service;
 
+import com.example.capstonedesign.common.pagination.CursorSlice;
+import com.example.capstonedesign.common.pagination.KeysetPager;
+import com.example.capstonedesign.common.pagination.KeysetSort;
 import com.example.capstonedesign.domain.favorites.common.FavoritesApiException;
 import com.example.capstonedesign.domain.favorites.common.FavoritesErrorCode;
 import com.example.capstonedesign.domain.favorites.dto.FavoritesDto;
@@ -14,9 +17,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -31,6 +36,11 @@ public class FavoritesService {
     private final FavoritesRepository favoritesRepository;
     private final UsersRepository usersRepository;
     private final ProductsRepository productsRepository;
+    private final KeysetPager keysetPager;
+
+    /** 커서 목록 정렬: 생성일 DESC, id DESC */
+    private static final KeysetSort<Favorites> CURSOR_SORT =
+            KeysetSort.by("createdAt", LocalDateTime::parse, Favorites::getCreatedAt, Favorites::getId);
 
     /**
      * 즐겨찾기 추가
@@ -119,14 +129,30 @@ public class FavoritesService {
         Page<Favorites> page = favoritesRepository.findPageByUserId(uid, pageable);
 
         // Entity → DTO 변환
-        return page.map(f -> FavoritesDto.ItemResponse.builder()
-                .productId(Long.valueOf(f.getProduct().getId()))
-                .productName(f.getProduct().getName())
-                .provider(f.getProduct().getProvider())
-                .detailUrl(f.getProduct().getDetailUrl())
-                .createdAt(f.getCreatedAt())
-                .productType(f.getProduct().getType())
-                .build());
+        return page.map(this::toItemResponse);
+    }
+
+    /**
+     * 즐겨찾기 목록 조회 (커서)
+     * -------------------------------------------------
+     * - 생성일 DESC, id DESC 고정 (ix_favorites_user_created_at)
+     * - OFFSET/COUNT 없이 마지막 항목 위치부터 이어서 조회
+     * - Product 는 fetch join 으로 함께 로드
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<FavoritesDto.ItemResponse> listCursor(Long userId, String cursor, int size) {
+        if (userId == null) throw new IllegalArgumentException("userId는 필수입니다.");
+
+        Integer uid = userId.intValue();
+        Specification<Favorites> byUser = (root, cq, cb) -> {
+            if (Favorites.class.equals(cq.getResultType())) {
+                root.fetch("product");
+            }
+            return cb.equal(root.get("user").get("id"), uid);
+        };
+
+        return keysetPager.fetch(Favorites.class, byUser, CURSOR_SORT, cursor, size, null)
+                .map(this::toItemResponse);
     }
 
     /**
@@ -198,6 +224,20 @@ public class FavoritesService {
                 .toList();
     }
 
+    /**
+     * Favorites → FavoritesDto.ItemResponse 변환
+     */
+    private FavoritesDto.ItemResponse toItemResponse(Favorites f) {
+        return FavoritesDto.ItemResponse.builder()
+                .productId(Long.valueOf(f.getProduct().getId()))
+                .productName(f.getProduct().getName())
+                .provider(f.getProduct().getProvider())
+                .detailUrl(f.getProduct().getDetailUrl())
+                .createdAt(f.getCreatedAt())
+                .productType(f.getProduct().getType())
+                .build();
+    }
+
     /**
      * 유저 로드 (없으면 USER_NOT_FOUND 예외)
      */
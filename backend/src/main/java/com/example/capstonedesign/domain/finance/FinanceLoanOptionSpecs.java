@@ -0,0 +1,96 @@
+package com.example.capstonedesign.domain.finance;
+
+import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceLoanOption;
+import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProductType;
+import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProducts;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+
+/**
+ * FinanceLoanOptionSpecs
+ * - FinanceLoanOption 검색 조건(Specification) 모음 클래스
+ * - 값이 있는 조건만 WHERE 절에 포함 (":x IS NULL OR ..." 제거)
+ * - 상품/제공사 조인은 해당 조건이 있을 때만 추가
+ */
+public final class FinanceLoanOptionSpecs {
+
+    /** private 생성자로 인스턴스화 방지 (유틸 클래스) */
+    private FinanceLoanOptionSpecs() {}
+
+    /** 대출 상품 유형 (MORTGAGE_LOAN / RENT_HOUSE_LOAN / CREDIT_LOAN) */
+    public static Specification<FinanceLoanOption> productType(FinanceProductType type) {
+        return (root, q, cb) -> {
+            if (type == null) return null;
+            return cb.equal(financeProduct(root).get("productType"), type);
+        };
+    }
+
+    /** 금리 유형명 (고정/변동) */
+    public static Specification<FinanceLoanOption> lendType(String lendType) {
+        return equalsIfPresent("lendTypeName", lendType);
+    }
+
+    /** 상환 방식명 */
+    public static Specification<FinanceLoanOption> rpayType(String rpayType) {
+        return equalsIfPresent("rpayTypeName", rpayType);
+    }
+
+    /** 담보 유형명 */
+    public static Specification<FinanceLoanOption> mrtgType(String mrtgType) {
+        return equalsIfPresent("mrtgTypeName", mrtgType);
+    }
+
+    /** 평균 금리 하한 */
+    public static Specification<FinanceLoanOption> minAvgRate(BigDecimal min) {
+        return (root, q, cb) -> {
+            if (min == null) return null;
+            return cb.greaterThanOrEqualTo(root.get("lendRateAvg"), min);
+        };
+    }
+
+    /** 평균 금리 상한 */
+    public static Specification<FinanceLoanOption> maxAvgRate(BigDecimal max) {
+        return (root, q, cb) -> {
+            if (max == null) return null;
+            return cb.lessThanOrEqualTo(root.get("lendRateAvg"), max);
+        };
+    }
+
+    /**
+     * 상품명/제공사 키워드 검색
+     * - products 의 소문자 생성 컬럼(name_lc, provider_lc)과 비교
+     */
+    public static Specification<FinanceLoanOption> keyword(String keyword) {
+        return (root, q, cb) -> {
+            if (keyword == null || keyword.isBlank()) return null;
+
+            Join<FinanceProducts, Object> product = financeProduct(root).join("product");
+            String like = "%" + keyword.trim().toLowerCase() + "%";
+            return cb.or(
+                    cb.like(product.get("nameLc"), like),
+                    cb.like(product.get("providerLc"), like)
+            );
+        };
+    }
+
+    /** 이미 추가된 financeProduct 조인 재사용 (조건마다 조인이 늘어나지 않도록) */
+    @SuppressWarnings("unchecked")
+    private static Join<FinanceLoanOption, FinanceProducts> financeProduct(Root<FinanceLoanOption> root) {
+        for (Join<FinanceLoanOption, ?> join : root.getJoins()) {
+            if ("financeProduct".equals(join.getAttribute().getName())) {
+                return (Join<FinanceLoanOption, FinanceProducts>) join;
+            }
+        }
+        return root.join("financeProduct");
+    }
+
+    private static Specification<FinanceLoanOption> equalsIfPresent(String attribute, String value) {
+        return (root, q, cb) -> {
+            if (value == null || value.isBlank()) return null;
+            return cb.equal(root.get(attribute), value.trim());
+        };
+    }
+}
@@ -6,10 +6,13 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -29,17 +32,33 @@ public class FinanceLoansController {
      * 대출 종류별 옵션/금리 조회
      *
      * @param loanType 대출 유형 (MORTGAGE_LOAN / RENT_HOUSE_LOAN / CREDIT_LOAN)
-     * @return 대출 상품 및 금리 옵션 DTO 리스트
+     * @param page     페이지 번호 (생략 시 전체 목록 리스트 반환)
+     * @param size     페이지 크기
+     * @return 대출 상품 및 금리 옵션 DTO 리스트 (page 지정 시 Page 형태)
      * <p>
      * 예시:
      * GET /api/finance/loans/options/type/MORTGAGE_LOAN
+     * GET /api/finance/loans/options/type/MORTGAGE_LOAN?page=0&size=20
      */
     @Operation(summary = "대출 종류별 옵션 조회", description = """
         대출 종류(주택담보대출, 전세자금대출, 개인신용대출)에 해당하는\s
         모든 상품의 금리 및 옵션 정보를 반환합니다.
+        page 를 지정하면 해당 페이지만 Page 형태로 반환합니다.
        \s""")
     @GetMapping("/type/{loanType}")
-    public ResponseEntity<?> getLoanOptionsByType(@PathVariable LoanProductType loanType) {
+    public ResponseEntity<?> getLoanOptionsByType(
+            @PathVariable LoanProductType loanType,
+            @Parameter(description = "페이지 번호 (생략 시 전체 조회)") @RequestParam(required = false) Integer page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size
+    ) {
+        if (page != null) {
+            Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), 100));
+            return switch (loanType) {
+                case MORTGAGE_LOAN -> ResponseEntity.ok(loanQueryService.getMortgageLoans(pageable));
+                case RENT_HOUSE_LOAN -> ResponseEntity.ok(loanQueryService.getRentLoans(pageable));
+                case CREDIT_LOAN -> ResponseEntity.ok(loanQueryService.getCreditLoans(pageable));
+            };
+        }
         return switch (loanType) {
             case MORTGAGE_LOAN -> ResponseEntity.ok(loanQueryService.getMortgageLoans());
             case RENT_HOUSE_LOAN -> ResponseEntity.ok(loanQueryService.getRentLoans());
@@ -1,5 +1,9 @@
 package com.example.capstonedesign.domain.finance.financeproducts.controller;
 
+import com.example.capstonedesign.common.pagination.CursorSlice;
+import com.example.capstonedesign.common.pagination.KeysetPager;
+import com.example.capstonedesign.common.pagination.KeysetSort;
+import com.example.capstonedesign.common.pagination.TableRowEstimator;
 import com.example.capstonedesign.domain.finance.FinanceProductSpecs;
 import com.example.capstonedesign.domain.finance.financeproducts.dto.response.FinanceProductsResponse;
 import com.example.capstonedesign.domain.finance.financeproducts.entity.DSProductType;
@@ -43,6 +47,13 @@ public class FinanceProductQueryController {
     /** 사용자 맞춤 추천 서비스 */
     private final FinanceProductRecommendationService recommendService;
 
+    /** 커서 페이지네이션 */
+    private final KeysetPager keysetPager;
+    private final TableRowEstimator rowEstimator;
+
+    /** 커서 목록 정렬: id DESC */
+    private static final KeysetSort<FinanceProducts> CURSOR_SORT = KeysetSort.byId(FinanceProducts::getId);
+
     /**
      * 안전한 정렬 필드 화이트리스트
      */
@@ -124,7 +135,56 @@ public class FinanceProductQueryController {
             @ParameterObject
             @PageableDefault(sort = "id", direction = Sort.Direction.DESC) Pageable pageable
     ) {
-        Specification<FinanceProducts> spec = Specification.allOf(
+        Specification<FinanceProducts> spec =
+                filterSpec(productType, finCoNo, keyword, providers, excludeProviders, minRate, maxRate);
+
+        Pageable safePageable = sanitizePageable(pageable);
+        Page<FinanceProducts> page = repo.findAll(spec, safePageable);
+        return page.map(this::toDto);
+    }
+
+    /**
+     * 금융 상품 목록 조회 - 커서 방식
+     * -------------------------------------------------
+     * - 목록 조회와 같은 필터, id 내림차순 고정 (PK 탐색)
+     * - 응답의 nextCursor 를 다음 요청의 cursor 로 전달
+     * - withTotal=true 이고 필터가 없을 때만 추정 전체 건수 포함
+     */
+    @Operation(summary = "금융 상품 목록 조회 (커서)", description = "OFFSET/COUNT 없이 nextCursor 로 이어서 조회합니다.")
+    @GetMapping("/cursor")
+    public CursorSlice<FinanceProductsResponse> listCursor(
+            @RequestParam(required = false) FinanceProductType productType,
+            @RequestParam(required = false) String finCoNo,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) List<String> providers,
+            @RequestParam(required = false) List<String> excludeProviders,
+            @RequestParam(required = false) BigDecimal minRate,
+            @RequestParam(required = false) BigDecimal maxRate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        Specification<FinanceProducts> spec =
+                filterSpec(productType, finCoNo, keyword, providers, excludeProviders, minRate, maxRate);
+
+        boolean unfiltered = productType == null && (finCoNo == null || finCoNo.isBlank())
+                && (keyword == null || keyword.isBlank())
+                && (providers == null || providers.isEmpty())
+                && (excludeProviders == null || excludeProviders.isEmpty())
+                && minRate == null && maxRate == null;
+        Long total = (withTotal && unfiltered) ? rowEstimator.estimate("finance_products") : null;
+
+        return keysetPager.fetch(FinanceProducts.class, spec, CURSOR_SORT, cursor, size, total)
+                .map(this::toDto);
+    }
+
+    /** 목록 필터 조합 (값이 있는 조건만 포함) */
+    private static Specification<FinanceProducts> filterSpec(
+            FinanceProductType productType, String finCoNo, String keyword,
+            List<String> providers, List<String> excludeProviders,
+            BigDecimal minRate, BigDecimal maxRate
+    ) {
+        return Specification.allOf(
                 FinanceProductSpecs.productType(productType),
                 FinanceProductSpecs.finCoNo(finCoNo),
                 FinanceProductSpecs.keyword(keyword),
@@ -132,10 +192,6 @@ public class FinanceProductQueryController {
                 FinanceProductSpecs.minRate(minRate),
                 FinanceProductSpecs.maxRate(maxRate)
         );
-
-        Pageable safePageable = sanitizePageable(pageable);
-        Page<FinanceProducts> page = repo.findAll(spec, safePageable);
-        return page.map(this::toDto);
     }
 
     /**
@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
         indexes = {
                 @Index(name = "idx_flo_product", columnList = "finance_product_id"),
                 @Index(name = "idx_flo_avg_rate", columnList = "lend_rate_avg"),
-                @Index(name = "idx_flo_types_name", columnList = "lend_type_name, rpay_type_name, mrtg_type_name")
+                @Index(name = "idx_flo_types_name", columnList = "lend_type_name, rpay_type_name, mrtg_type_name"),
+                @Index(name = "idx_flo_lend_type_avg_rate", columnList = "lend_type_name, lend_rate_avg")
         })
 @Getter
 @Setter
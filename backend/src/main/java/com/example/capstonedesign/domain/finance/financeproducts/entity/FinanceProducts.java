@@ -15,7 +15,8 @@ import java.math.BigDecimal;
 @NoArgsConstructor @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "finance_products")
+@Table(name = "finance_products",
+        indexes = @Index(name = "idx_fp_type_product", columnList = "product_type, product_id"))
 public class FinanceProducts {
 
     /** 기본 키 (자동 증가) */
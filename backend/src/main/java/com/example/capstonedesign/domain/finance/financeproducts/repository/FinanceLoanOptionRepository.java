@@ -1,11 +1,14 @@
 package com.example.capstonedesign.domain.finance.financeproducts.repository;
 
+import com.example.capstonedesign.domain.finance.FinanceLoanOptionSpecs;
 import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceLoanOption;
 import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProductType;
 import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProducts;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,8 +20,11 @@ import java.util.Optional;
  * FinanceLoanOptionRepository
  * - 대출 옵션(FinanceLoanOption) 엔티티 전용 JPA 리포지토리
  * - 금리, 옵션, 상품 타입별 필터링 및 분석용 JPQL 쿼리 포함
+ * - 다중 조건 검색은 Specification 으로 전달된 조건만 조합
  */
-public interface FinanceLoanOptionRepository extends JpaRepository<FinanceLoanOption, Integer> {
+public interface FinanceLoanOptionRepository extends
+        JpaRepository<FinanceLoanOption, Integer>,
+        JpaSpecificationExecutor<FinanceLoanOption> {
 
     /** 특정 금융상품에 속한 모든 대출 옵션 조회 */
     List<FinanceLoanOption> findByFinanceProduct(FinanceProducts financeProduct);
@@ -26,6 +32,60 @@ public interface FinanceLoanOptionRepository extends JpaRepository<FinanceLoanOp
     /** 특정 금융상품의 대표 옵션 1건 조회 */
     FinanceLoanOption findTopByFinanceProduct(FinanceProducts product);
 
+    /**
+     * 상품 유형별 대출 옵션 + 금융상품 + 상품 정보 (페이징)
+     * - 옵션 ⋈ FinanceProducts ⋈ Products 를 한 번에 로드 (상품별 옵션 재조회 없음)
+     * - 상품 id, 옵션 id 순 정렬 → 상품별 옵션이 연속으로 나옴
+     * - Pageable.unpaged() 로 호출하면 COUNT 없이 전체 조회
+     */
+    @Query(
+            value = """
+                SELECT o FROM FinanceLoanOption o
+                JOIN FETCH o.financeProduct fp
+                JOIN FETCH fp.product p
+                WHERE fp.productType = :type
+                ORDER BY fp.id ASC, o.id ASC
+                """,
+            countQuery = """
+                SELECT COUNT(o) FROM FinanceLoanOption o
+                WHERE o.financeProduct.productType = :type
+                """
+    )
+    Page<FinanceLoanOption> findPageWithProductByType(@Param("type") FinanceProductType type, Pageable pageable);
+
+    /**
+     * 상품 유형별 대표 옵션(상품당 가장 먼저 저장된 옵션 1건) + 상품 정보 (페이징)
+     * - 신용대출 목록용: 상품마다 findTopByFinanceProduct 를 호출하던 것을 단일 쿼리로 대체
+     * - 옵션이 없는 상품은 제외
+     */
+    @Query(
+            value = """
+                SELECT o FROM FinanceLoanOption o
+                JOIN FETCH o.financeProduct fp
+                JOIN FETCH fp.product p
+                WHERE fp.productType = :type
+                  AND o.id = (SELECT MIN(o2.id) FROM FinanceLoanOption o2 WHERE o2.financeProduct = fp)
+                ORDER BY fp.id ASC
+                """,
+            countQuery = """
+                SELECT COUNT(DISTINCT o.financeProduct.id) FROM FinanceLoanOption o
+                WHERE o.financeProduct.productType = :type
+                """
+    )
+    Page<FinanceLoanOption> findRepresentativePageWithProductByType(@Param("type") FinanceProductType type, Pageable pageable);
+
+    /**
+     * 여러 상품 유형의 대출 옵션 + 상품 정보 전체 조회 (추천용)
+     */
+    @Query("""
+            SELECT o FROM FinanceLoanOption o
+            JOIN FETCH o.financeProduct fp
+            JOIN FETCH fp.product p
+            WHERE fp.productType IN (:types)
+            ORDER BY fp.id ASC, o.id ASC
+            """)
+    List<FinanceLoanOption> findAllWithProductByTypeIn(@Param("types") List<FinanceProductType> types);
+
     /**
      * 대출 타입별 옵션 전체 조회
      * - loanTypes: 검색 대상 타입 목록 (예: [MORTGAGE_LOAN, RENT_HOUSE_LOAN])
@@ -48,31 +108,28 @@ public interface FinanceLoanOptionRepository extends JpaRepository<FinanceLoanOp
     /**
      * 대출 옵션 상세 검색 (다중 조건 + 페이징)
      * - 필터: 상품유형, 금리유형, 상환방식, 담보유형, 평균금리 범위, 키워드(상품명/제공사)
-     * - NULL 파라미터는 무시되어 전체 검색 가능
+     * - NULL 파라미터는 WHERE 절에서 아예 빠짐 (FinanceLoanOptionSpecs)
      */
-    @Query("""
-            SELECT o FROM FinanceLoanOption o
-            JOIN o.financeProduct fp
-            JOIN fp.product p
-            WHERE (:type IS NULL OR fp.productType = :type)
-              AND (:lendType IS NULL OR o.lendTypeName = :lendType)
-              AND (:rpayType IS NULL OR o.rpayTypeName = :rpayType)
-              AND (:mrtgType IS NULL OR o.mrtgTypeName = :mrtgType)
-              AND (:minRate IS NULL OR o.lendRateAvg >= :minRate)
-              AND (:maxRate IS NULL OR o.lendRateAvg <= :maxRate)
-              AND (:keyword IS NULL OR p.name LIKE CONCAT('%', :keyword, '%')
-                                OR p.provider LIKE CONCAT('%', :keyword, '%'))
-            """)
-    Page<FinanceLoanOption> searchLoanOptions(
-            @Param("type") FinanceProductType type,
-            @Param("lendType") String lendType,
-            @Param("rpayType") String rpayType,
-            @Param("mrtgType") String mrtgType,
-            @Param("minRate") BigDecimal minRate,
-            @Param("maxRate") BigDecimal maxRate,
-            @Param("keyword") String keyword,
+    default Page<FinanceLoanOption> searchLoanOptions(
+            FinanceProductType type,
+            String lendType,
+            String rpayType,
+            String mrtgType,
+            BigDecimal minRate,
+            BigDecimal maxRate,
+            String keyword,
             Pageable pageable
-    );
+    ) {
+        return findAll(Specification.allOf(
+                FinanceLoanOptionSpecs.productType(type),
+                FinanceLoanOptionSpecs.lendType(lendType),
+                FinanceLoanOptionSpecs.rpayType(rpayType),
+                FinanceLoanOptionSpecs.mrtgType(mrtgType),
+                FinanceLoanOptionSpecs.minAvgRate(minRate),
+                FinanceLoanOptionSpecs.maxAvgRate(maxRate),
+                FinanceLoanOptionSpecs.keyword(keyword)
+        ), pageable);
+    }
 
     /**
      * 평균 금리가 가장 낮은 대출상품 TOP N 조회
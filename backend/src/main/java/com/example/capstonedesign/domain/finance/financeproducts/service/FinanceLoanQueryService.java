@@ -7,10 +7,12 @@ import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceL
 import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProductType;
 import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProducts;
 import com.example.capstonedesign.domain.finance.financeproducts.repository.FinanceLoanOptionRepository;
-import com.example.capstonedesign.domain.finance.financeproducts.repository.FinanceProductsRepository;
-import com.example.capstonedesign.domain.users.entity.Users;
 import com.example.capstonedesign.domain.users.repository.UsersRepository;
+import com.example.capstonedesign.domain.users.service.UserProfile;
+import com.example.capstonedesign.domain.users.service.UserProfileCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -30,7 +32,7 @@ import java.util.stream.Collectors;
 public class FinanceLoanQueryService {
 
     private final UsersRepository usersRepository;
-    private final FinanceProductsRepository financeProductsRepository;
+    private final UserProfileCache userProfileCache;
     private final FinanceLoanOptionRepository loanOptionRepository;
 
     /**
@@ -38,24 +40,30 @@ public class FinanceLoanQueryService {
      * - MORTGAGE_LOAN 타입 상품 + 금리/상환/담보 옵션
      */
     public List<MortgageLoanResponse> getMortgageLoans() {
-        List<FinanceProducts> products = financeProductsRepository.findByProductType(FinanceProductType.MORTGAGE_LOAN);
+        return getMortgageLoans(Pageable.unpaged()).getContent();
+    }
 
-        return products.stream().flatMap(fp ->
-                loanOptionRepository.findByFinanceProduct(fp).stream().map(opt ->
-                        MortgageLoanResponse.builder()
-                                .productId(fp.getProduct().getId())
-                                .productName(fp.getProduct().getName())
-                                .companyName(fp.getProduct().getProvider())
-                                .productType(fp.getProductType())
-                                .lendRateMin(opt.getLendRateMin())
-                                .lendRateMax(opt.getLendRateMax())
-                                .lendRateAvg(opt.getLendRateAvg())
-                                .lendTypeName(opt.getLendTypeName())
-                                .rpayTypeName(opt.getRpayTypeName())
-                                .mrtgTypeName(opt.getMrtgTypeName())
-                                .build()
-                )
-        ).collect(Collectors.toList());
+    /**
+     * 주택담보대출 목록 조회 (페이징)
+     * - 옵션·금융상품·상품을 한 쿼리로 로드 (상품 수와 무관하게 목록 1회 + COUNT 1회)
+     */
+    public Page<MortgageLoanResponse> getMortgageLoans(Pageable pageable) {
+        return loanOptionRepository.findPageWithProductByType(FinanceProductType.MORTGAGE_LOAN, pageable)
+                .map(opt -> {
+                    FinanceProducts fp = opt.getFinanceProduct();
+                    return MortgageLoanResponse.builder()
+                            .productId(fp.getProduct().getId())
+                            .productName(fp.getProduct().getName())
+                            .companyName(fp.getProduct().getProvider())
+                            .productType(fp.getProductType())
+                            .lendRateMin(opt.getLendRateMin())
+                            .lendRateMax(opt.getLendRateMax())
+                            .lendRateAvg(opt.getLendRateAvg())
+                            .lendTypeName(opt.getLendTypeName())
+                            .rpayTypeName(opt.getRpayTypeName())
+                            .mrtgTypeName(opt.getMrtgTypeName())
+                            .build();
+                });
     }
 
     /**
@@ -63,23 +71,28 @@ public class FinanceLoanQueryService {
      * - RENT_HOUSE_LOAN 타입 상품 + 금리/상환 옵션
      */
     public List<RentLoanResponse> getRentLoans() {
-        List<FinanceProducts> products = financeProductsRepository.findByProductType(FinanceProductType.RENT_HOUSE_LOAN);
+        return getRentLoans(Pageable.unpaged()).getContent();
+    }
 
-        return products.stream().flatMap(fp ->
-                loanOptionRepository.findByFinanceProduct(fp).stream().map(opt ->
-                        RentLoanResponse.builder()
-                                .productId(fp.getProduct().getId())
-                                .productName(fp.getProduct().getName())
-                                .companyName(fp.getProduct().getProvider())
-                                .productType(fp.getProductType())
-                                .lendRateMin(opt.getLendRateMin())
-                                .lendRateMax(opt.getLendRateMax())
-                                .lendRateAvg(opt.getLendRateAvg())
-                                .lendTypeName(opt.getLendTypeName())
-                                .rpayTypeName(opt.getRpayTypeName())
-                                .build()
-                )
-        ).collect(Collectors.toList());
+    /**
+     * 전세자금대출 목록 조회 (페이징)
+     */
+    public Page<RentLoanResponse> getRentLoans(Pageable pageable) {
+        return loanOptionRepository.findPageWithProductByType(FinanceProductType.RENT_HOUSE_LOAN, pageable)
+                .map(opt -> {
+                    FinanceProducts fp = opt.getFinanceProduct();
+                    return RentLoanResponse.builder()
+                            .productId(fp.getProduct().getId())
+                            .productName(fp.getProduct().getName())
+                            .companyName(fp.getProduct().getProvider())
+                            .productType(fp.getProductType())
+                            .lendRateMin(opt.getLendRateMin())
+                            .lendRateMax(opt.getLendRateMax())
+                            .lendRateAvg(opt.getLendRateAvg())
+                            .lendTypeName(opt.getLendTypeName())
+                            .rpayTypeName(opt.getRpayTypeName())
+                            .build();
+                });
     }
 
     /**
@@ -88,12 +101,17 @@ public class FinanceLoanQueryService {
      * - 등급별 금리(crdtGrad1~13) 포함
      */
     public List<FinanceLoanResponse> getCreditLoans() {
-        List<FinanceProducts> loans = financeProductsRepository.findByProductType(FinanceProductType.CREDIT_LOAN);
-
-        return loans.stream().map(product -> {
-                    FinanceLoanOption option = loanOptionRepository.findTopByFinanceProduct(product);
-                    if (option == null) return null;
+        return getCreditLoans(Pageable.unpaged()).getContent();
+    }
 
+    /**
+     * 개인신용대출 목록 조회 (페이징)
+     * - 상품당 대표 옵션 1건 (옵션 없는 상품 제외)
+     */
+    public Page<FinanceLoanResponse> getCreditLoans(Pageable pageable) {
+        return loanOptionRepository.findRepresentativePageWithProductByType(FinanceProductType.CREDIT_LOAN, pageable)
+                .map(option -> {
+                    FinanceProducts product = option.getFinanceProduct();
                     return FinanceLoanResponse.builder()
                             .productId(product.getProduct().getId())
                             .productName(product.getProduct().getName())
@@ -111,9 +129,7 @@ public class FinanceLoanQueryService {
                             .crdtGrad13(option.getCrdtGrad13())
                             .crdtGradAvg(option.getCrdtGradAvg())
                             .build();
-                })
-                .filter(l -> l != null)
-                .collect(Collectors.toList());
+                });
     }
 
     /**
@@ -124,11 +140,12 @@ public class FinanceLoanQueryService {
      * - 점수(score)가 낮을수록 추천 순위가 높음
      */
     public List<FinanceLoanResponse> recommendLoansForUser(Integer userId) {
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 캐시 적중 시 users 조회 생략
+        UserProfile user = userProfileCache.get(userId, () -> usersRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다.")));
 
-        int age = user.getAge();
-        String incomeBand = user.getIncome_band().replace(" ", "");
+        int age = user.age();
+        String incomeBand = user.incomeBand();
 
         // 소득 구간별 대출유형 필터링
         List<FinanceProductType> targetTypes = switch (incomeBand) {
@@ -150,32 +167,32 @@ public class FinanceLoanQueryService {
             );
         };
 
-        List<FinanceProducts> allLoans = financeProductsRepository.findByProductTypeIn(targetTypes);
+        // 대상 유형의 옵션 + 상품 정보를 한 번에 로드
+        List<FinanceLoanOption> options = loanOptionRepository.findAllWithProductByTypeIn(targetTypes);
 
         // 상품별 평균 금리와 조건을 종합하여 추천 계산
-        return allLoans.stream()
-                .flatMap(product -> loanOptionRepository.findByFinanceProduct(product).stream()
-                        .filter(opt -> opt.getLendRateAvg() != null || opt.getCrdtGradAvg() != null)
-                        .map(opt -> {
-                            BigDecimal avgRate = opt.getLendRateAvg() != null
-                                    ? opt.getLendRateAvg()
-                                    : opt.getCrdtGradAvg();
+        return options.stream()
+                .filter(opt -> opt.getLendRateAvg() != null || opt.getCrdtGradAvg() != null)
+                .map(opt -> {
+                    FinanceProducts product = opt.getFinanceProduct();
+                    BigDecimal avgRate = opt.getLendRateAvg() != null
+                            ? opt.getLendRateAvg()
+                            : opt.getCrdtGradAvg();
 
-                            double score = calculateRecommendationScore(age, incomeBand, product.getProductType(), avgRate);
-                            String reason = getRecommendationReason(age, incomeBand, product.getProductType(), avgRate);
+                    double score = calculateRecommendationScore(age, incomeBand, product.getProductType(), avgRate);
+                    String reason = getRecommendationReason(age, incomeBand, product.getProductType(), avgRate);
 
-                            return FinanceLoanResponse.builder()
-                                    .productId(product.getProduct().getId())
-                                    .productName(product.getProduct().getName())
-                                    .companyName(product.getProduct().getProvider())
-                                    .productType(product.getProductType())
-                                    .lendRateAvg(opt.getLendRateAvg())
-                                    .crdtGradAvg(opt.getCrdtGradAvg())
-                                    .score(score)
-                                    .reason(reason)
-                                    .build();
-                        })
-                )
+                    return FinanceLoanResponse.builder()
+                            .productId(product.getProduct().getId())
+                            .productName(product.getProduct().getName())
+                            .companyName(product.getProduct().getProvider())
+                            .productType(product.getProductType())
+                            .lendRateAvg(opt.getLendRateAvg())
+                            .crdtGradAvg(opt.getCrdtGradAvg())
+                            .score(score)
+                            .reason(reason)
+                            .build();
+                })
                 .distinct()
                 .sorted(Comparator.comparingDouble(FinanceLoanResponse::getScore))
                 .limit(10)
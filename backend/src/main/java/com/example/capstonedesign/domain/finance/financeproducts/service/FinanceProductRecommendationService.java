@@ -4,8 +4,9 @@ import com.example.capstonedesign.domain.finance.financeproducts.dto.response.Fi
 import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProductType;
 import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProducts;
 import com.example.capstonedesign.domain.finance.financeproducts.repository.FinanceProductsRepository;
-import com.example.capstonedesign.domain.users.entity.Users;
 import com.example.capstonedesign.domain.users.repository.UsersRepository;
+import com.example.capstonedesign.domain.users.service.UserProfile;
+import com.example.capstonedesign.domain.users.service.UserProfileCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -25,6 +26,7 @@ import java.util.stream.Collectors;
 public class FinanceProductRecommendationService {
 
     private final UsersRepository usersRepository;
+    private final UserProfileCache userProfileCache;
     private final FinanceProductsRepository financeProductsRepository;
 
     /**
@@ -34,11 +36,12 @@ public class FinanceProductRecommendationService {
      * @param type   예금(DEPOSIT) 또는 적금(SAVING)
      */
     public List<FinanceProductsResponse> recommendDepositOrSaving(Integer userId, FinanceProductType type) {
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 캐시 적중 시 users 조회 생략
+        UserProfile user = userProfileCache.get(userId, () -> usersRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다.")));
 
-        int age = user.getAge();
-        String incomeBand = user.getIncome_band().replace(" ", "");
+        int age = user.age();
+        String incomeBand = user.incomeBand();
 
         // DSProductType → FinanceProductType 변환
         FinanceProductType productType = switch (type) {
@@ -0,0 +1,54 @@
+package com.example.capstonedesign.domain.housingannouncements;
+
+import com.example.capstonedesign.domain.housingannouncements.entity.LhNotice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * LhNoticeSpecs
+ * - LhNotice 검색 조건(Specification) 모음 클래스
+ * - 값이 있는 조건만 WHERE 절에 포함 → 실제 필터 조합에 맞는 인덱스 선택 가능
+ */
+public final class LhNoticeSpecs {
+
+    /** private 생성자로 인스턴스화 방지 (유틸 클래스) */
+    private LhNoticeSpecs() {}
+
+    /**
+     * 상위 공고유형(uppAisTpNm) 일치
+     * - idx_lh_category_posted (upp_ais_tp_nm, pan_nt_st_dt) 사용
+     */
+    public static Specification<LhNotice> category(String category) {
+        return (root, q, cb) -> {
+            if (category == null || category.isBlank()) return null;
+            return cb.equal(root.get("uppAisTpNm"), category.trim());
+        };
+    }
+
+    /**
+     * 공고 상태(panSs) 포함 검색
+     * - "공고중" 선택 시 "정정공고중" 도 포함되던 기존 동작 유지
+     */
+    public static Specification<LhNotice> status(String status) {
+        return (root, q, cb) -> {
+            if (status == null || status.isBlank()) return null;
+            return cb.like(root.get("panSs"), "%" + status.trim() + "%");
+        };
+    }
+
+    /**
+     * 공고명/지역명/공고유형 키워드 검색
+     * - 저장된 소문자 생성 컬럼(*_lc)과 비교 → 행마다 LOWER() 계산하지 않음
+     */
+    public static Specification<LhNotice> keyword(String keyword) {
+        return (root, q, cb) -> {
+            if (keyword == null || keyword.isBlank()) return null;
+
+            String like = "%" + keyword.trim().toLowerCase() + "%";
+            return cb.or(
+                    cb.like(root.get("panNmLc"), like),
+                    cb.like(root.get("cnpCdNmLc"), like),
+                    cb.like(root.get("uppAisTpNmLc"), like)
+            );
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.capstonedesign.domain.housingannouncements.controller;
 
+import com.example.capstonedesign.common.pagination.CursorSlice;
 import com.example.capstonedesign.domain.housingannouncements.dto.response.HousingAnnouncementsResponse;
 import com.example.capstonedesign.domain.housingannouncements.entity.HousingCategory;
 import com.example.capstonedesign.domain.housingannouncements.entity.HousingStatus;
@@ -87,6 +88,34 @@ public class HousingAnnouncementsController {
         return service.search(category, status, keyword, pageable);
     }
 
+    /**
+     * [공고 조건 검색 - 커서 방식]
+     * -------------------------------------------------
+     * /search 와 같은 필터, 게시일 최신순 고정 정렬
+     * - 응답의 nextCursor 를 다음 요청의 cursor 로 전달 (첫 페이지는 생략)
+     * - 페이지 번호/전체 건수 대신 hasNext 로 다음 페이지 여부 판단
+     * <p>
+     * 요청 예시:
+     * GET /api/housings/cursor?category=임대주택&size=20&cursor={nextCursor}
+     *
+     * @param cursor    이전 응답의 nextCursor
+     * @param size      조회 건수 (최대 100)
+     * @param withTotal 필터가 없을 때 추정 전체 건수 포함 여부
+     * @return 공고 목록 (CursorSlice 형태)
+     */
+    @Operation(summary = "공고 조건 검색 (커서)", description = "OFFSET 없이 nextCursor 로 이어서 조회합니다. 깊은 페이지도 첫 페이지와 같은 비용입니다.")
+    @GetMapping("/cursor")
+    public CursorSlice<HousingAnnouncementsResponse> searchCursor(
+            @RequestParam(required = false) HousingCategory category,
+            @RequestParam(required = false) HousingStatus status,
+            @RequestParam(required = false, name = "region") String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        return service.searchCursor(category, status, keyword, cursor, size, withTotal);
+    }
+
     /**
      * [마감 임박 공고 조회]
      * -------------------------------------------------
@@ -24,5 +24,19 @@ public enum HousingCategory {
     주거복지,
 
     /** 기타 (정의되지 않은 유형) */
-    기타
+    기타;
+
+    /** LH API uppAisTpNm 원문 → 상위 분류 */
+    public static HousingCategory fromUppAisTpNm(String uppAisTpNm) {
+        if (uppAisTpNm == null) return 기타;
+
+        return switch (uppAisTpNm) {
+            case "임대주택" -> 임대주택;
+            case "분양주택", "공공분양(신혼희망)" -> 분양주택;
+            case "상가" -> 상가;
+            case "토지" -> 토지;
+            case "주거복지" -> 주거복지;
+            default -> 기타;
+        };
+    }
 }
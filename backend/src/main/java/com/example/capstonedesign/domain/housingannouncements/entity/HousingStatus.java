@@ -25,5 +25,22 @@ public enum HousingStatus {
     모집완료,
 
     /** 공고가 취소되거나 삭제된 상태 */
-    종료
+    종료;
+
+    /**
+     * LH API panSs 원문 → 표준 상태
+     * - 값이 없으면 공고중, 알 수 없는 값은 종료로 분류
+     */
+    public static HousingStatus fromPanSs(String panSs) {
+        if (panSs == null) return 공고중;
+
+        return switch (panSs.trim()) {
+            case "공고중" -> 공고중;
+            case "접수중" -> 접수중;
+            case "정정공고중" -> 정정공고중;
+            case "접수마감" -> 접수마감;
+            case "모집완료", "종료", "완료" -> 모집완료;
+            default -> 종료;
+        };
+    }
 }
@@ -15,6 +15,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "lh_notices", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"panNm", "panNtStDt"})
+}, indexes = {
+        @Index(name = "idx_lh_category_posted", columnList = "upp_ais_tp_nm, pan_nt_st_dt"),
+        @Index(name = "idx_lh_posted", columnList = "pan_nt_st_dt")
 })
 @Getter
 @Setter
@@ -56,6 +59,24 @@ public class LhNotice {
     /** 상세 조회 URL */
     private String dtlUrl;
 
+    /** 검색용 소문자 공고명 (DB 생성 컬럼, 읽기 전용) */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "pan_nm_lc", insertable = false, updatable = false,
+            columnDefinition = "VARCHAR(255) GENERATED ALWAYS AS (LOWER(pan_nm)) STORED")
+    private String panNmLc;
+
+    /** 검색용 소문자 지역명 (DB 생성 컬럼, 읽기 전용) */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "cnp_cd_nm_lc", insertable = false, updatable = false,
+            columnDefinition = "VARCHAR(100) GENERATED ALWAYS AS (LOWER(cnp_cd_nm)) STORED")
+    private String cnpCdNmLc;
+
+    /** 검색용 소문자 공고유형명 (DB 생성 컬럼, 읽기 전용) */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "upp_ais_tp_nm_lc", insertable = false, updatable = false,
+            columnDefinition = "VARCHAR(100) GENERATED ALWAYS AS (LOWER(upp_ais_tp_nm)) STORED")
+    private String uppAisTpNmLc;
+
     /** 데이터 생성 시각 */
     private LocalDateTime createdAt;
 
@@ -1,12 +1,14 @@
 package com.example.capstonedesign.domain.housingannouncements.repository;
 
+import com.example.capstonedesign.domain.housingannouncements.LhNoticeSpecs;
 import com.example.capstonedesign.domain.housingannouncements.entity.LhNotice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +19,9 @@ import java.util.Optional;
  * - 기본 CRUD(JpaRepository) 기능 상속
  * - 공고명/게시일 기반 단건 조회 및 다중 조건 검색 제공
  */
-public interface LhNoticeRepository extends JpaRepository<LhNotice, Long> {
+public interface LhNoticeRepository extends
+        JpaRepository<LhNotice, Long>,
+        JpaSpecificationExecutor<LhNotice> {
 
     /**
      * [단건 조회]
@@ -30,29 +34,18 @@ public interface LhNoticeRepository extends JpaRepository<LhNotice, Long> {
      * [다중 조건 검색]
      * 카테고리, 상태, 키워드를 기준으로 공고 목록 검색 (페이징 지원)
      * ---------------------------------------------------------
-     * - category : uppAisTpNm(임대/분양 구분)
-     * - status   : panSs(공고 상태, ex. 공고중, 접수중 등)
+     * - category : uppAisTpNm(임대/분양 구분) 일치
+     * - status   : panSs(공고 상태, ex. 공고중, 접수중 등) 포함
      * - keyword  : 공고명, 지역명, 카테고리명 중 하나라도 포함 시 검색
+     * - NULL 조건은 WHERE 절에서 아예 빠짐 (LhNoticeSpecs)
      */
-    @Query("""
-    SELECT n
-    FROM LhNotice n
-    WHERE
-        (:category IS NULL OR n.uppAisTpNm LIKE CONCAT('%', :category, '%'))
-        AND (:status IS NULL OR n.panSs LIKE CONCAT('%', :status, '%'))
-        AND (
-            :keyword IS NULL OR
-            LOWER(n.panNm) LIKE LOWER(CONCAT('%', :keyword, '%'))
-            OR LOWER(n.cnpCdNm) LIKE LOWER(CONCAT('%', :keyword, '%'))
-            OR LOWER(n.uppAisTpNm) LIKE LOWER(CONCAT('%', :keyword, '%'))
-        )
-    """)
-    Page<LhNotice> searchNotices(
-            @Param("category") String category,
-            @Param("status") String status,
-            @Param("keyword") String keyword,
-            Pageable pageable
-    );
+    default Page<LhNotice> searchNotices(String category, String status, String keyword, Pageable pageable) {
+        return findAll(Specification.allOf(
+                LhNoticeSpecs.category(category),
+                LhNoticeSpecs.status(status),
+                LhNoticeSpecs.keyword(keyword)
+        ), pageable);
+    }
 
     /** 게시일(panNtStDt) 기준 최신순 상위 20건 조회 */
     List<LhNotice> findTop20ByOrderByPanNtStDtDesc();
@@ -60,4 +53,7 @@ public interface LhNoticeRepository extends JpaRepository<LhNotice, Long> {
     List<LhNotice> findTop5ByCnpCdNmContainingAndPanNmContainingOrderByClsgDtAsc(String regionKeyword, String titleKeyword);
 
     List<LhNotice> findTop5ByCnpCdNmContainingOrderByClsgDtAsc(String regionLike);
+
+    /** 지정 시각 이후 신규 저장된 공고 (구독 매칭용) */
+    List<LhNotice> findByCreatedAtAfter(LocalDateTime since);
 }
\ No newline at end of file
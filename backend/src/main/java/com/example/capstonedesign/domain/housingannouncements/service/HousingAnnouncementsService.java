@@ -1,16 +1,23 @@
 package com.example.capstonedesign.domain.housingannouncements.service;
 
+import com.example.capstonedesign.common.pagination.CursorSlice;
+import com.example.capstonedesign.common.pagination.KeysetPager;
+import com.example.capstonedesign.common.pagination.KeysetSort;
+import com.example.capstonedesign.common.pagination.TableRowEstimator;
+import com.example.capstonedesign.domain.housingannouncements.LhNoticeSpecs;
 import com.example.capstonedesign.domain.housingannouncements.dto.response.HousingAnnouncementsResponse;
 import com.example.capstonedesign.domain.housingannouncements.entity.HousingCategory;
 import com.example.capstonedesign.domain.housingannouncements.entity.HousingStatus;
 import com.example.capstonedesign.domain.housingannouncements.entity.HousingSubCategory;
 import com.example.capstonedesign.domain.housingannouncements.entity.LhNotice;
 import com.example.capstonedesign.domain.housingannouncements.repository.LhNoticeRepository;
-import com.example.capstonedesign.domain.users.entity.Users;
 import com.example.capstonedesign.domain.users.repository.UsersRepository;
+import com.example.capstonedesign.domain.users.service.UserProfile;
+import com.example.capstonedesign.domain.users.service.UserProfileCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -19,6 +26,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * HousingAnnouncementsService (LH Notice 기반)
@@ -38,6 +46,13 @@ public class HousingAnnouncementsService {
 
     private final LhNoticeRepository lhNoticeRepository;
     private final UsersRepository usersRepository;
+    private final UserProfileCache userProfileCache;
+    private final KeysetPager keysetPager;
+    private final TableRowEstimator rowEstimator;
+
+    /** 커서 목록 정렬: 게시일 DESC, id DESC (idx_lh_posted) */
+    private static final KeysetSort<LhNotice> CURSOR_SORT =
+            KeysetSort.by("panNtStDt", Function.identity(), LhNotice::getPanNtStDt, LhNotice::getId);
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy.MM.dd");
 
@@ -80,8 +95,48 @@ public class HousingAnnouncementsService {
         Pageable safePageable = sanitizePageable(pageable, "panNtStDt", Sort.Direction.DESC);
         String safeKeyword = (keyword != null && !keyword.trim().isEmpty()) ? keyword.trim() : null;
 
-        // Enum → 실제 LH 데이터 문자열 매핑
-        String safeCategory = (category != null) ? switch (category) {
+        Page<LhNotice> result = lhNoticeRepository.searchNotices(
+                toCategoryValue(category), toStatusValue(status), safeKeyword, safePageable
+        );
+
+        return result.map(this::toResponseFromLh);
+    }
+
+    // --------------------------------------------------------
+    // [2-1] 조건 검색 (커서 페이지네이션)
+    // --------------------------------------------------------
+    /**
+     * LH 공고 조건 검색 - 커서 방식
+     * ---------------------------------------------------------
+     * - 정렬 고정: 게시일(panNtStDt) DESC, id DESC
+     * - OFFSET/COUNT 없이 (panNtStDt, id) 위치에서 이어서 조회 → 깊은 페이지도 첫 페이지와 동일 비용
+     * - withTotal=true 이고 필터가 없을 때만 테이블 통계 기반 추정 건수 포함
+     */
+    public CursorSlice<HousingAnnouncementsResponse> searchCursor(
+            HousingCategory category,
+            HousingStatus status,
+            String keyword,
+            String cursor,
+            int size,
+            boolean withTotal
+    ) {
+        String safeKeyword = (keyword != null && !keyword.trim().isEmpty()) ? keyword.trim() : null;
+        boolean unfiltered = category == null && status == null && safeKeyword == null;
+
+        Specification<LhNotice> filter = Specification.allOf(
+                LhNoticeSpecs.category(toCategoryValue(category)),
+                LhNoticeSpecs.status(toStatusValue(status)),
+                LhNoticeSpecs.keyword(safeKeyword)
+        );
+        Long total = (withTotal && unfiltered) ? rowEstimator.estimate("lh_notices") : null;
+
+        return keysetPager.fetch(LhNotice.class, filter, CURSOR_SORT, cursor, size, total)
+                .map(this::toResponseFromLh);
+    }
+
+    /** Enum → 실제 LH 데이터 문자열 매핑 */
+    private String toCategoryValue(HousingCategory category) {
+        return (category != null) ? switch (category) {
             case 임대주택 -> "임대주택";
             case 분양주택 -> "분양주택";
             case 상가 -> "상가";
@@ -89,8 +144,10 @@ public class HousingAnnouncementsService {
             case 주거복지 -> "주거복지";
             default -> null;
         } : null;
+    }
 
-        String safeStatus = (status != null) ? switch (status) {
+    private String toStatusValue(HousingStatus status) {
+        return (status != null) ? switch (status) {
             case 공고중 -> "공고중";
             case 정정공고중 -> "정정공고중";
             case 접수중 -> "접수중";
@@ -98,14 +155,7 @@ public class HousingAnnouncementsService {
             case 모집완료 -> "모집완료";
             case 종료 -> "종료";
         } : null;
-
-        Page<LhNotice> result = lhNoticeRepository.searchNotices(
-                safeCategory, safeStatus, safeKeyword, safePageable
-        );
-
-        return result.map(this::toResponseFromLh);
     }
-
     // --------------------------------------------------------
     // [3] 마감 임박 공고 조회
     // --------------------------------------------------------
@@ -172,18 +222,19 @@ public class HousingAnnouncementsService {
      * - 종합 점수(score) 기준 상위 10개 공고 반환
      */
     public List<HousingAnnouncementsResponse> recommendForUser(Integer userId, boolean strictRegionMatch) {
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 캐시 적중 시 users 조회 생략
+        UserProfile user = userProfileCache.get(userId, () -> usersRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다.")));
 
-        int age = user.getAge();
-        String region = user.getRegion();
-        String incomeBand = user.getIncome_band().replace(" ", "");
+        int age = user.age();
+        String region = user.region();
+        String incomeBand = user.incomeBand();
 
         List<LhNotice> all = lhNoticeRepository.findAll();
 
         return all.stream()
                 .map(n -> {
-                    HousingCategory category = mapCategory(n.getUppAisTpNm());
+                    HousingCategory category = HousingCategory.fromUppAisTpNm(n.getUppAisTpNm());
                     HousingSubCategory subCategory = mapSubCategory(n.getAisTpCdNm());
 
                     double score = calculateRecommendationScore(age, incomeBand, region, n, category, subCategory, strictRegionMatch);
@@ -199,34 +250,6 @@ public class HousingAnnouncementsService {
                 .toList();
     }
 
-    private HousingStatus mapStatus(String panSs) {
-        if (panSs == null) return HousingStatus.공고중;
-
-        String value = panSs.trim();
-
-        return switch (value) {
-            case "공고중" -> HousingStatus.공고중;
-            case "접수중" -> HousingStatus.접수중;
-            case "정정공고중" -> HousingStatus.정정공고중;
-            case "접수마감" -> HousingStatus.접수마감;
-            case "모집완료", "종료", "완료" -> HousingStatus.모집완료;
-            default -> HousingStatus.종료;
-        };
-    }
-
-    private HousingCategory mapCategory(String uppAisTpNm) {
-        if (uppAisTpNm == null) return HousingCategory.기타;
-
-        return switch (uppAisTpNm) {
-            case "임대주택" -> HousingCategory.임대주택;
-            case "분양주택", "공공분양(신혼희망)" -> HousingCategory.분양주택;
-            case "상가" -> HousingCategory.상가;
-            case "토지" -> HousingCategory.토지;
-            case "주거복지" -> HousingCategory.주거복지;
-            default -> HousingCategory.기타;
-        };
-    }
-
     private HousingSubCategory mapSubCategory(String aisTpCdNm) {
         if (aisTpCdNm == null) return HousingSubCategory.기타;
         return switch (aisTpCdNm) {
@@ -377,8 +400,8 @@ public class HousingAnnouncementsService {
                 .regionName(notice.getCnpCdNm())
                 .noticeDate(parseDate(notice.getPanNtStDt()))
                 .closeDate(parseDate(notice.getClsgDt()))
-                .status(mapStatus(notice.getPanSs()))
-                .category(mapCategory(notice.getUppAisTpNm()))
+                .status(HousingStatus.fromPanSs(notice.getPanSs()))
+                .category(HousingCategory.fromUppAisTpNm(notice.getUppAisTpNm()))
                 .detailUrl(notice.getDtlUrl())
                 .build();
     }
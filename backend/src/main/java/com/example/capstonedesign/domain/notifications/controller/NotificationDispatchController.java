@@ -0,0 +1,37 @@
+package com.example.capstonedesign.domain.notifications.controller;
+
+import com.example.capstonedesign.domain.notifications.dispatch.ChannelStats;
+import com.example.capstonedesign.domain.notifications.dispatch.NotificationDispatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * NotificationDispatchController
+ * -------------------------------------------------
+ * 채널별 알림 발송 지표 조회 API (운영 확인용)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/notifications/dispatch")
+@Tag(name = "알림 발송 지표", description = "채널별 큐 적재량, 처리량, 지연 시간 조회 API")
+public class NotificationDispatchController {
+
+    private final NotificationDispatchService dispatchService;
+
+    /**
+     * [GET] /admin/notifications/dispatch/stats
+     * - 채널별 대기/처리 중 건수, 누적 성공·실패·거절, 초당 처리량, 지연 시간(p50/p95/max)
+     */
+    @GetMapping("/stats")
+    @Operation(summary = "채널별 발송 지표 조회", security = @SecurityRequirement(name = "bearerAuth"))
+    public List<ChannelStats> stats() {
+        return dispatchService.stats();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.capstonedesign.domain.notifications.dispatch;
+
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
+
+/**
+ * ChannelAdapter
+ * -------------------------------------------------
+ * - 알림 채널(이메일, 카카오톡, 문자)별 실제 발송을 담당하는 포트
+ * - 채널당 구현체 1개를 Bean 으로 등록하면 디스패처가 자동으로 연결
+ * - 발송 실패는 예외로 알림 (디스패처가 FAILED 처리)
+ */
+public interface ChannelAdapter {
+
+    /** 담당 채널 */
+    NotificationChannel channel();
+
+    /** 메시지 1건 발송 */
+    void send(DispatchMessage message) throws Exception;
+}
@@ -0,0 +1,145 @@
+package com.example.capstonedesign.domain.notifications.dispatch;
+
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ChannelDispatcher
+ * -------------------------------------------------
+ * 채널 1개 전용 발송 파이프라인
+ * - 전용 bounded queue + 고정 개수 워커 스레드(동시성 한도)
+ * - 워커는 발송 전 TokenBucket 토큰을 획득 (초당 한도)
+ * - 채널마다 큐/스레드/버킷이 분리되어 느린 채널이 다른 채널을 막지 않음
+ * - 종료 후 큐에 남은 작업은 REJECTED 로 완료 (종료와 경합한 접수도 포함 → 완료되지 않는 future 없음)
+ */
+@Slf4j
+final class ChannelDispatcher {
+
+    private record Task(DispatchMessage message, CompletableFuture<DispatchResult> future) {}
+
+    private final NotificationChannel channel;
+    private final ChannelAdapter adapter;
+    private final BlockingQueue<Task> queue;
+    private final TokenBucket bucket;
+    private final ChannelMetrics metrics;
+    private final List<Thread> workers = new ArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile boolean running = true;
+    /** 워커 종료 후 true → 이후 큐에 들어온 작업은 접수한 쪽에서 직접 REJECTED 처리 */
+    private volatile boolean terminated = false;
+
+    ChannelDispatcher(ChannelAdapter adapter, DispatchProperties.Channel props) {
+        this.channel = adapter.channel();
+        this.adapter = adapter;
+        this.queue = new ArrayBlockingQueue<>(props.getQueueCapacity());
+        this.bucket = new TokenBucket(props.getRatePerSecond(), props.getBurst());
+        this.metrics = new ChannelMetrics(channel);
+
+        for (int i = 0; i < props.getConcurrency(); i++) {
+            Thread t = new Thread(this::workLoop, "dispatch-" + channel.name().toLowerCase() + "-" + i);
+            t.setDaemon(true);
+            t.start();
+            workers.add(t);
+        }
+    }
+
+    /**
+     * 발송 요청 접수
+     * - 큐가 가득 차면 offerTimeoutMillis 동안 대기(생산자 역압), 그래도 자리가 없으면 REJECTED
+     */
+    CompletableFuture<DispatchResult> submit(DispatchMessage message, long offerTimeoutMillis) {
+        CompletableFuture<DispatchResult> future = new CompletableFuture<>();
+        if (!running) {
+            metrics.onRejected();
+            future.complete(new DispatchResult(channel, DispatchResult.REJECTED, 0, "디스패처 종료 중"));
+            return future;
+        }
+
+        metrics.onSubmitted();
+        try {
+            if (!queue.offer(new Task(message, future), offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                metrics.onRejected();
+                future.complete(new DispatchResult(channel, DispatchResult.REJECTED, 0, "발송 큐 포화"));
+            } else if (terminated) {
+                // running 확인 후 shutdown 이 큐를 비운 다음에 넣은 경우 → 처리할 워커가 없음
+                rejectRemaining();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            metrics.onRejected();
+            future.complete(new DispatchResult(channel, DispatchResult.REJECTED, 0, "접수 중단"));
+        }
+        return future;
+    }
+
+    private void workLoop() {
+        while (running || !queue.isEmpty()) {
+            Task task;
+            try {
+                task = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (task == null) continue;
+                bucket.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            execute(task);
+        }
+    }
+
+    private void execute(Task task) {
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            adapter.send(task.message());
+            long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            metrics.onCompleted(true, latency);
+            task.future().complete(new DispatchResult(channel, DispatchResult.SENT, latency, null));
+        } catch (Exception e) {
+            long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            metrics.onCompleted(false, latency);
+            log.error("❌ [{}] 발송 실패 → userId={}: {}", channel, task.message().userId(), e.getMessage());
+            task.future().complete(new DispatchResult(channel, DispatchResult.FAILED, latency, e.getMessage()));
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /** 신규 접수 중단 후 남은 작업 처리, 시간 초과 시 잔여 작업은 REJECTED */
+    void shutdown(long timeoutMillis) {
+        running = false;
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        for (Thread t : workers) {
+            try {
+                t.join(Math.max(1, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers.forEach(Thread::interrupt);
+
+        terminated = true;
+        rejectRemaining();
+    }
+
+    private void rejectRemaining() {
+        Task left;
+        while ((left = queue.poll()) != null) {
+            metrics.onRejected();
+            left.future().complete(new DispatchResult(channel, DispatchResult.REJECTED, 0, "종료로 미발송"));
+        }
+    }
+
+    ChannelStats stats() {
+        return metrics.snapshot(queue.size(), inFlight.get());
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.capstonedesign.domain.notifications.dispatch;
+
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ChannelMetrics
+ * -------------------------------------------------
+ * 채널별 발송 처리량/지연 시간 집계
+ * - 누적 카운터: 접수, 성공, 실패, 거절
+ * - 지연 시간: 합계/최대 + 2의 거듭제곱(ms) 구간 히스토그램으로 p50/p95 근사
+ */
+public final class ChannelMetrics {
+
+    private static final int BUCKETS = 32;
+
+    private final NotificationChannel channel;
+    private final long startedAt = System.currentTimeMillis();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder latencyTotalMs = new LongAdder();
+    private final AtomicLong latencyMaxMs = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+    public ChannelMetrics(NotificationChannel channel) {
+        this.channel = channel;
+    }
+
+    void onSubmitted() {
+        submitted.increment();
+    }
+
+    void onRejected() {
+        rejected.increment();
+    }
+
+    void onCompleted(boolean success, long latencyMs) {
+        (success ? sent : failed).increment();
+        latencyTotalMs.add(latencyMs);
+        latencyMaxMs.accumulateAndGet(latencyMs, Math::max);
+        histogram.incrementAndGet(bucketOf(latencyMs));
+    }
+
+    /** 현재 값 스냅샷 */
+    public ChannelStats snapshot(int queued, int inFlight) {
+        long s = sent.sum();
+        long f = failed.sum();
+        long completed = s + f;
+        double elapsedSec = Math.max(1, System.currentTimeMillis() - startedAt) / 1000.0;
+
+        return new ChannelStats(
+                channel,
+                queued,
+                inFlight,
+                submitted.sum(),
+                s,
+                f,
+                rejected.sum(),
+                completed / elapsedSec,
+                completed == 0 ? 0 : (double) latencyTotalMs.sum() / completed,
+                percentile(completed, 0.50),
+                percentile(completed, 0.95),
+                latencyMaxMs.get()
+        );
+    }
+
+    /** 구간 상한(ms)으로 백분위 근사 */
+    private long percentile(long total, double q) {
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(total * q);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += histogram.get(i);
+            if (seen >= rank) return i == 0 ? 0 : (1L << i) - 1;
+        }
+        return latencyMaxMs.get();
+    }
+
+    /** 0ms → 0, 1ms → 1, 2~3ms → 2, 4~7ms → 3 ... */
+    private static int bucketOf(long ms) {
+        if (ms <= 0) return 0;
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(ms));
+    }
+}
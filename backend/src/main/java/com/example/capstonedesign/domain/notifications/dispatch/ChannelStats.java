@@ -0,0 +1,23 @@
+package com.example.capstonedesign.domain.notifications.dispatch;
+
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
+
+/**
+ * ChannelStats
+ * -------------------------------------------------
+ * 채널별 발송 지표 스냅샷 (관리자 조회용)
+ */
+public record ChannelStats(
+        NotificationChannel channel,
+        int queued,
+        int inFlight,
+        long submitted,
+        long sent,
+        long failed,
+        long rejected,
+        double throughputPerSec,
+        double avgLatencyMs,
+        long p50LatencyMs,
+        long p95LatencyMs,
+        long maxLatencyMs
+) {}
@@ -0,0 +1,18 @@
+package com.example.capstonedesign.domain.notifications.dispatch;
+
+/**
+ * DispatchMessage
+ * -------------------------------------------------
+ * 채널 어댑터로 전달되는 발송 단위
+ *
+ * @param userId    수신 사용자 ID
+ * @param recipient 수신 주소 (이메일 등 채널별 식별자)
+ * @param subject   제목
+ * @param body      본문 (HTML)
+ */
+public record DispatchMessage(
+        Integer userId,
+        String recipient,
+        String subject,
+        String body
+) {}
@@ -0,0 +1,52 @@
+package com.example.capstonedesign.domain.notifications.dispatch;
+
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * DispatchProperties
+ * -------------------------------------------------
+ * 채널별 디스패치 설정 (notification.dispatch.*)
+ * 예)
+ *   notification.dispatch.channels.EMAIL.concurrency=4
+ *   notification.dispatch.channels.EMAIL.rate-per-second=10
+ *   notification.dispatch.channels.SMS.queue-capacity=200
+ * - 설정이 없는 채널은 기본값 사용
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "notification.dispatch")
+public class DispatchProperties {
+
+    /** 큐가 가득 찼을 때 생산자가 대기하는 최대 시간(ms), 초과 시 REJECTED */
+    private long offerTimeoutMillis = 5_000;
+
+    /** 종료 시 남은 작업 처리 대기 시간(ms) */
+    private long shutdownTimeoutMillis = 10_000;
+
+    private Map<NotificationChannel, Channel> channels = new EnumMap<>(NotificationChannel.class);
+
+    public Channel of(NotificationChannel channel) {
+        return channels.getOrDefault(channel, new Channel());
+    }
+
+    @Getter
+    @Setter
+    public static class Channel {
+        /** 대기 큐 크기 */
+        private int queueCapacity = 500;
+        /** 동시 발송 스레드 수 */
+        private int concurrency = 2;
+        /** 초당 발송 한도 */
+        private double ratePerSecond = 5;
+        /** 순간 허용량 */
+        private int burst = 5;
+    }
+}
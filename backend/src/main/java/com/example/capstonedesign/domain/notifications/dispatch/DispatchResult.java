@@ -0,0 +1,25 @@
+package com.example.capstonedesign.domain.notifications.dispatch;
+
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
+
+/**
+ * DispatchResult
+ * -------------------------------------------------
+ * 발송 1건의 처리 결과
+ * - status : SENT / FAILED / REJECTED(큐 포화 또는 종료 중)
+ */
+public record DispatchResult(
+        NotificationChannel channel,
+        String status,
+        long latencyMillis,
+        String error
+) {
+
+    public static final String SENT = "SENT";
+    public static final String FAILED = "FAILED";
+    public static final String REJECTED = "REJECTED";
+
+    public boolean isSent() {
+        return SENT.equals(status);
+    }
+}
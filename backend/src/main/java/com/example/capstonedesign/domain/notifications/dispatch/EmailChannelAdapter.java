@@ -0,0 +1,28 @@
+package com.example.capstonedesign.domain.notifications.dispatch;
+
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
+import com.example.capstonedesign.domain.users.port.EmailSender;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * EmailChannelAdapter
+ * -------------------------------------------------
+ * - EMAIL 채널 어댑터 (EmailSender 포트로 HTML 메일 발송)
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailChannelAdapter implements ChannelAdapter {
+
+    private final EmailSender emailSender;
+
+    @Override
+    public NotificationChannel channel() {
+        return NotificationChannel.EMAIL;
+    }
+
+    @Override
+    public void send(DispatchMessage message) {
+        emailSender.sendHtml(message.recipient(), message.subject(), message.body());
+    }
+}
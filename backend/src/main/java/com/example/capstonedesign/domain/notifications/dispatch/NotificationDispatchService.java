@@ -0,0 +1,63 @@
+package com.example.capstonedesign.domain.notifications.dispatch;
+
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * NotificationDispatchService
+ * ----------------------------------------------------------
+ * 채널별 알림 발송 진입점
+ * - 등록된 ChannelAdapter 마다 독립 ChannelDispatcher 구성
+ * - 어댑터가 없는 채널은 EMAIL 로 대체 발송 (KAKAO/SMS 스텁은 기본 미등록 → 실제 연동 전까지 EMAIL)
+ * - 결과는 CompletableFuture 로 비동기 반환
+ */
+@Slf4j
+@Service
+public class NotificationDispatchService {
+
+    private final Map<NotificationChannel, ChannelDispatcher> dispatchers = new EnumMap<>(NotificationChannel.class);
+    private final DispatchProperties properties;
+
+    public NotificationDispatchService(List<ChannelAdapter> adapters, DispatchProperties properties) {
+        this.properties = properties;
+        for (ChannelAdapter adapter : adapters) {
+            dispatchers.put(adapter.channel(), new ChannelDispatcher(adapter, properties.of(adapter.channel())));
+        }
+        log.info("📮 알림 디스패처 구성 완료: {}", dispatchers.keySet());
+    }
+
+    /**
+     * 발송 요청
+     *
+     * @param channel 사용자 알림 채널 (null 이면 EMAIL)
+     */
+    public CompletableFuture<DispatchResult> dispatch(NotificationChannel channel, DispatchMessage message) {
+        NotificationChannel target = channel != null && dispatchers.containsKey(channel)
+                ? channel
+                : NotificationChannel.EMAIL;
+
+        ChannelDispatcher dispatcher = dispatchers.get(target);
+        if (dispatcher == null) {
+            return CompletableFuture.completedFuture(
+                    new DispatchResult(target, DispatchResult.REJECTED, 0, "등록된 채널 어댑터 없음"));
+        }
+        return dispatcher.submit(message, properties.getOfferTimeoutMillis());
+    }
+
+    /** 채널별 지표 */
+    public List<ChannelStats> stats() {
+        return dispatchers.values().stream().map(ChannelDispatcher::stats).toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchers.values().forEach(d -> d.shutdown(properties.getShutdownTimeoutMillis()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.capstonedesign.domain.notifications.dispatch;
+
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * SmsChannelAdapter
+ * -------------------------------------------------
+ * - SMS 채널 어댑터 (로컬 스텁)
+ * - 문자 발송 대행사 연동 전까지 발송 내용을 로그로만 남김
+ * - notification.dispatch.stub-channels-enabled=true 일 때만 등록 (로컬 확인용)
+ *   · 미등록 시 NotificationDispatchService 가 SMS 사용자에게 EMAIL 로 대체 발송
+ *   · 운영에서 켜면 실제로 보내지 않고 SENT 로 기록되므로 켜지 말 것
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.dispatch.stub-channels-enabled", havingValue = "true")
+public class SmsChannelAdapter implements ChannelAdapter {
+
+    @Override
+    public NotificationChannel channel() {
+        return NotificationChannel.SMS;
+    }
+
+    @Override
+    public void send(DispatchMessage message) {
+        log.info("📱 [SMS 스텁] userId={}, subject={}", message.userId(), message.subject());
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.capstonedesign.domain.notifications.dispatch;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TokenBucket
+ * -------------------------------------------------
+ * 채널별 초당 발송량 제한
+ * - 초당 ratePerSecond 개씩 충전, 최대 burst 개까지 누적
+ * - acquire() 는 토큰이 생길 때까지 호출 스레드를 대기시킴
+ */
+public final class TokenBucket {
+
+    private final double ratePerNano;
+    private final double capacity;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(double ratePerSecond, int burst) {
+        if (ratePerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("ratePerSecond, burst 는 0보다 커야 합니다.");
+        }
+        this.ratePerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = burst;
+        this.tokens = burst;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /** 토큰 1개 즉시 획득 시도 */
+    public synchronized boolean tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    /** 토큰 1개 획득 (부족하면 충전될 때까지 대기) */
+    public void acquire() throws InterruptedException {
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill();
+                if (tokens >= 1) {
+                    tokens -= 1;
+                    return;
+                }
+                waitNanos = (long) Math.ceil((1 - tokens) / ratePerNano);
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.max(waitNanos, 1_000));
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * ratePerNano);
+        lastRefill = now;
+    }
+}
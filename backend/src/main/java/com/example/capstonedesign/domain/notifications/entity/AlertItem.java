@@ -0,0 +1,70 @@
+package com.example.capstonedesign.domain.notifications.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+/**
+ * AlertItem 엔티티
+ * -------------------------------------------------
+ * - 구독 매칭 엔진이 사용자별로 적재하는 개별 알림 항목
+ * - (user_id, product_id) 유니크로 같은 공고가 한 사용자에게 두 번 쌓이지 않도록 보장
+ * - 데일리 요약(NotificationsService)이 status = PENDING 항목을 '구독 맞춤 새 소식' 섹션으로 보내고 SENT 로 변경
+ *   · 발송 실패 시 PENDING 유지 → 다음 요약에서 재시도
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "alert_items",
+        uniqueConstraints = @UniqueConstraint(name = "uk_alert_user_product", columnNames = {"user_id", "product_id"}),
+        indexes = {
+                @Index(name = "idx_alert_user_status", columnList = "user_id, status"),
+                @Index(name = "idx_alert_status_channel", columnList = "status, channel")
+        })
+public class AlertItem {
+
+    public static final String PENDING = "PENDING";
+    public static final String SENT = "SENT";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 알림 대상 사용자 ID */
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    /** 대상 상품(공고/정책) ID */
+    @Column(name = "product_id", nullable = false)
+    private Integer productId;
+
+    /** 출처 (LH, SH, POLICY) */
+    @Column(nullable = false, length = 20)
+    private String source;
+
+    /** 공고/정책명 */
+    @Column(nullable = false)
+    private String title;
+
+    /** 상세 URL */
+    @Column(length = 500)
+    private String url;
+
+    /** 발송 채널 (사용자 설정 기준) */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private NotificationChannel channel;
+
+    /** 처리 상태 (PENDING, SENT) */
+    @Column(nullable = false, length = 10)
+    private String status;
+
+    /** 적재 시각 */
+    @CreationTimestamp
+    private Instant createdAt;
+}
@@ -0,0 +1,31 @@
+package com.example.capstonedesign.domain.notifications.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * JobWatermark 엔티티
+ * -------------------------------------------------
+ * - 주기 작업이 마지막으로 처리한 시각 (작업 이름당 1행)
+ * - 재기동·장시간 중단 후에도 이어서 처리하도록 DB 에 보관
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "job_watermarks")
+public class JobWatermark {
+
+    /** 작업 이름 (예: subscription-matching) */
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    /** 처리 완료 기준 시각 */
+    @Column(nullable = false)
+    private LocalDateTime watermark;
+}
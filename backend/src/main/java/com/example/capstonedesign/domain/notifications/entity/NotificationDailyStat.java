@@ -0,0 +1,43 @@
+package com.example.capstonedesign.domain.notifications.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * NotificationDailyStat 엔티티
+ * -------------------------------------------------
+ * - 보존 기간이 지난 notifications 상세 행을 일자/채널/상태별 건수로 요약한 집계
+ * - 상세 행 삭제 후에도 발송 추이 확인 가능
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "notification_daily_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_nds_date_type_status", columnNames = {"stat_date", "type", "status"}))
+public class NotificationDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 집계 일자 */
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    /** 알림 유형 (EMAIL, KAKAO, SMS) */
+    @Column(nullable = false, length = 10)
+    private String type;
+
+    /** 알림 상태 (SENT, FAILED) */
+    @Column(nullable = false, length = 10)
+    private String status;
+
+    /** 건수 */
+    @Column(name = "cnt", nullable = false)
+    private Long count;
+}
@@ -13,7 +13,10 @@ import java.time.Instant;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_notifications_created", columnList = "created_at")
+})
 public class Notifications {
 
     @Id
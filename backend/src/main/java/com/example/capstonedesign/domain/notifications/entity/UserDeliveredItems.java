@@ -0,0 +1,37 @@
+package com.example.capstonedesign.domain.notifications.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * UserDeliveredItems 엔티티
+ * -------------------------------------------------
+ * - 사용자별로 이미 발송한 상품(공고/정책) ID 비트맵을 BLOB 한 건으로 보관
+ * - 데일리 요약 메일 구성 시 중복 항목 제외에 사용
+ * - 비트맵 형식은 RoaringBitmap 표준 직렬화 포맷 (portable serialization)
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "user_delivered_items")
+public class UserDeliveredItems {
+
+    /** 사용자 ID (users.id) */
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    /** 발송 완료 상품 ID 비트맵 */
+    @Lob
+    @Column(nullable = false)
+    private byte[] bitmap;
+
+    /** 마지막 갱신 시각 */
+    @Column(nullable = false)
+    private Instant updatedAt;
+}
@@ -0,0 +1,51 @@
+package com.example.capstonedesign.domain.notifications.matching;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * AgeBand
+ * -------------------------------------------------
+ * 구독 매칭 인덱스에서 사용하는 연령대 구간
+ * - 사용자 나이를 구간으로 묶어 posting list 키로 사용
+ * - 나이 정보가 없는 사용자는 UNKNOWN 으로 분류
+ */
+public enum AgeBand {
+
+    TEEN(0, 18),
+    EARLY_20S(19, 24),
+    LATE_20S(25, 29),
+    EARLY_30S(30, 34),
+    LATE_30S(35, 39),
+    OVER_40(40, Integer.MAX_VALUE),
+    UNKNOWN(-1, -1);
+
+    private final int min;
+    private final int max;
+
+    AgeBand(int min, int max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    /** 사용자 나이 → 연령대 */
+    public static AgeBand of(Integer age) {
+        if (age == null || age < 0) return UNKNOWN;
+        for (AgeBand band : values()) {
+            if (band != UNKNOWN && age >= band.min && age <= band.max) return band;
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * [min, max] 범위와 겹치는 연령대 집합
+     * - 나이 정보가 없는 사용자도 놓치지 않도록 UNKNOWN 을 항상 포함
+     */
+    public static Set<AgeBand> overlapping(int min, int max) {
+        Set<AgeBand> bands = EnumSet.of(UNKNOWN);
+        for (AgeBand band : values()) {
+            if (band != UNKNOWN && band.min <= max && band.max >= min) bands.add(band);
+        }
+        return bands;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.capstonedesign.domain.notifications.matching;
+
+/**
+ * AlertCandidate
+ * -------------------------------------------------
+ * 매칭 대상이 되는 신규 항목 (LH/SH 공고, 청년정책)
+ * - productId : products 테이블 ID (사용자별 중복 적재 방지 키)
+ * - source    : LH / SH / POLICY
+ */
+public record AlertCandidate(
+        Integer productId,
+        String source,
+        String title,
+        String url,
+        AlertTarget target
+) {}
@@ -0,0 +1,27 @@
+package com.example.capstonedesign.domain.notifications.matching;
+
+import java.util.Set;
+
+/**
+ * AlertTarget
+ * -------------------------------------------------
+ * 신규 공고/정책 1건이 대상으로 하는 사용자 조건
+ * - regionCodes : 대상 광역 지역 코드 (비어 있으면 전국)
+ * - minAge/maxAge : 대상 연령 범위 (null 이면 제한 없음)
+ * - incomeBands : 대상 소득 구간 (비어 있으면 제한 없음)
+ */
+public record AlertTarget(
+        Set<String> regionCodes,
+        Integer minAge,
+        Integer maxAge,
+        Set<String> incomeBands
+) {
+
+    public static AlertTarget nationwide() {
+        return new AlertTarget(Set.of(), null, null, Set.of());
+    }
+
+    public boolean hasAgeLimit() {
+        return minAge != null || maxAge != null;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.capstonedesign.domain.notifications.matching;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * PostingLists
+ * -------------------------------------------------
+ * 오름차순 정렬된 사용자 ID 배열(posting list) 연산 유틸
+ * - union     : 같은 차원의 여러 키 병합 (예: 대상 지역이 여러 곳인 정책)
+ * - intersect : 차원 간 교집합, 짧은 목록부터 순서대로 적용
+ */
+public final class PostingLists {
+
+    static final int[] EMPTY = new int[0];
+
+    /** 크기 차이가 이 비율 이상이면 병합 대신 이진 탐색 */
+    private static final int GALLOP_RATIO = 32;
+
+    private PostingLists() {}
+
+    /** 정렬된 배열 두 개의 합집합 */
+    public static int[] union(int[] a, int[] b) {
+        int[] out = new int[a.length + b.length];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) out[n++] = a[i++];
+            else if (a[i] > b[j]) out[n++] = b[j++];
+            else { out[n++] = a[i++]; j++; }
+        }
+        while (i < a.length) out[n++] = a[i++];
+        while (j < b.length) out[n++] = b[j++];
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    public static int[] unionAll(Collection<int[]> lists) {
+        int[] acc = EMPTY;
+        for (int[] list : lists) acc = union(acc, list);
+        return acc;
+    }
+
+    /** 정렬된 배열 두 개의 교집합 */
+    public static int[] intersect(int[] a, int[] b) {
+        int[] small = a.length <= b.length ? a : b;
+        int[] large = small == a ? b : a;
+        if (small.length == 0) return EMPTY;
+
+        int[] out = new int[small.length];
+        int n = 0;
+        if ((long) small.length * GALLOP_RATIO < large.length) {
+            int from = 0;
+            for (int v : small) {
+                int idx = Arrays.binarySearch(large, from, large.length, v);
+                if (idx >= 0) {
+                    out[n++] = v;
+                    from = idx + 1;
+                } else {
+                    from = -idx - 1;
+                }
+                if (from >= large.length) break;
+            }
+        } else {
+            int i = 0, j = 0;
+            while (i < small.length && j < large.length) {
+                if (small[i] < large[j]) i++;
+                else if (small[i] > large[j]) j++;
+                else { out[n++] = small[i++]; j++; }
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    /** 정렬 유지하며 값 1개 추가한 새 배열 (이미 있으면 원본 반환) */
+    public static int[] insert(int[] a, int v) {
+        int idx = Arrays.binarySearch(a, v);
+        if (idx >= 0) return a;
+        int pos = -idx - 1;
+        int[] out = new int[a.length + 1];
+        System.arraycopy(a, 0, out, 0, pos);
+        out[pos] = v;
+        System.arraycopy(a, pos, out, pos + 1, a.length - pos);
+        return out;
+    }
+
+    /** 값 1개 제거한 새 배열 (없으면 원본 반환) */
+    public static int[] remove(int[] a, int v) {
+        int idx = Arrays.binarySearch(a, v);
+        if (idx < 0) return a;
+        int[] out = new int[a.length - 1];
+        System.arraycopy(a, 0, out, 0, idx);
+        System.arraycopy(a, idx + 1, out, idx, a.length - idx - 1);
+        return out;
+    }
+
+    /** 여러 목록의 교집합 (짧은 목록부터 교차하여 중간 결과를 최소화) */
+    public static int[] intersectAll(List<int[]> lists) {
+        if (lists.isEmpty()) return EMPTY;
+        List<int[]> sorted = lists.stream()
+                .sorted(Comparator.comparingInt(l -> l.length))
+                .toList();
+        int[] acc = sorted.get(0);
+        for (int k = 1; k < sorted.size() && acc.length > 0; k++) {
+            acc = intersect(acc, sorted.get(k));
+        }
+        return acc;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.capstonedesign.domain.notifications.matching;
+
+/**
+ * RegionCodes
+ * -------------------------------------------------
+ * 지역명 → 광역 법정동 코드(앞 2자리) 변환 유틸
+ * - 사용자 거주지("서울", "서울특별시 강남구")와
+ *   LH 공고 지역명("충청북도", "전북특별자치도")을 같은 키로 정규화
+ * - 변환할 수 없는 지역(전국 등)은 빈 문자열 반환
+ */
+public final class RegionCodes {
+
+    private RegionCodes() {}
+
+    public static String toCode(String region) {
+        if (region == null) return "";
+        String r = region.trim();
+        if (r.length() < 2) return "";
+
+        if (r.startsWith("충청북") || r.startsWith("충북")) return "43";
+        if (r.startsWith("충청남") || r.startsWith("충남")) return "44";
+        if (r.startsWith("전라북") || r.startsWith("전북")) return "45";
+        if (r.startsWith("전라남") || r.startsWith("전남")) return "46";
+        if (r.startsWith("경상북") || r.startsWith("경북")) return "47";
+        if (r.startsWith("경상남") || r.startsWith("경남")) return "48";
+
+        return switch (r.substring(0, 2)) {
+            case "서울" -> "11"; case "부산" -> "26"; case "대구" -> "27";
+            case "인천" -> "28"; case "광주" -> "29"; case "대전" -> "30";
+            case "울산" -> "31"; case "세종" -> "36"; case "경기" -> "41";
+            case "강원" -> "42"; case "제주" -> "50";
+            default -> "";
+        };
+    }
+}
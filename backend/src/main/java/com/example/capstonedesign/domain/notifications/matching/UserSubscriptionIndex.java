@@ -0,0 +1,200 @@
+package com.example.capstonedesign.domain.notifications.matching;
+
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
+import com.example.capstonedesign.domain.users.entity.Users;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * UserSubscriptionIndex
+ * -------------------------------------------------
+ * 알림 수신 사용자 프로필의 역색인(inverted index)
+ * - 차원: 지역 코드 / 연령대 / 소득 구간 / 알림 채널
+ * - 각 키마다 사용자 ID 오름차순 배열(posting list) 보관
+ * - 신규 항목 1건의 매칭 비용은 전체 사용자 수가 아니라
+ *   관련 posting list 길이와 교집합 크기에 비례
+ * - 불변 스냅샷: 사용자 1명 변경은 with() 로 바뀐 posting list 만 새로 만든 인스턴스로 교체
+ */
+public final class UserSubscriptionIndex {
+
+    /** 프로필 값이 없는 사용자 키 (조건이 있는 항목에도 항상 포함) */
+    static final String UNKNOWN = "";
+
+    private final Map<String, int[]> byRegion;
+    private final Map<AgeBand, int[]> byAgeBand;
+    private final Map<String, int[]> byIncomeBand;
+    private final Map<NotificationChannel, int[]> byChannel;
+    private final int size;
+
+    private UserSubscriptionIndex(Map<String, int[]> byRegion,
+                                  Map<AgeBand, int[]> byAgeBand,
+                                  Map<String, int[]> byIncomeBand,
+                                  Map<NotificationChannel, int[]> byChannel,
+                                  int size) {
+        this.byRegion = byRegion;
+        this.byAgeBand = byAgeBand;
+        this.byIncomeBand = byIncomeBand;
+        this.byChannel = byChannel;
+        this.size = size;
+    }
+
+    /**
+     * 사용자 목록으로 인덱스 구축
+     * - 탈퇴/알림 해제 사용자는 제외
+     */
+    public static UserSubscriptionIndex build(Collection<Users> users) {
+        List<Users> active = users.stream()
+                .filter(UserSubscriptionIndex::isSubscribed)
+                .sorted(Comparator.comparing(Users::getId))
+                .toList();
+
+        return new UserSubscriptionIndex(
+                postings(active, u -> RegionCodes.toCode(u.getRegion()), new HashMap<>()),
+                postings(active, u -> AgeBand.of(u.getAge()), new EnumMap<>(AgeBand.class)),
+                postings(active, u -> normalizeIncomeBand(u.getIncome_band()), new HashMap<>()),
+                postings(active, UserSubscriptionIndex::channelOf, new EnumMap<>(NotificationChannel.class)),
+                active.size()
+        );
+    }
+
+    /**
+     * 인덱스 키 묶음 (사용자 1명이 각 차원에서 속한 키)
+     */
+    public record Subscription(String regionCode, AgeBand ageBand, String incomeBand, NotificationChannel channel) {
+
+        /** 구독 대상이 아니면 null */
+        public static Subscription of(Users u) {
+            if (!isSubscribed(u)) return null;
+            return new Subscription(
+                    RegionCodes.toCode(u.getRegion()),
+                    AgeBand.of(u.getAge()),
+                    normalizeIncomeBand(u.getIncome_band()),
+                    channelOf(u));
+        }
+    }
+
+    /**
+     * 사용자 1명의 구독 조건 변경을 반영한 새 인덱스
+     * - 바뀐 키의 posting list 만 다시 만들고 나머지 배열은 그대로 공유 → 비용이 전체 사용자 수와 무관
+     *
+     * @param previous 기존 조건 (새 구독자면 null)
+     * @param next     변경 후 조건 (탈퇴/알림 해제면 null)
+     */
+    public UserSubscriptionIndex with(int userId, Subscription previous, Subscription next) {
+        if (Objects.equals(previous, next)) return this;
+
+        Map<String, int[]> region = new HashMap<>(byRegion);
+        Map<AgeBand, int[]> age = new EnumMap<>(AgeBand.class);
+        age.putAll(byAgeBand);
+        Map<String, int[]> income = new HashMap<>(byIncomeBand);
+        Map<NotificationChannel, int[]> channel = new EnumMap<>(NotificationChannel.class);
+        channel.putAll(byChannel);
+
+        if (previous != null) {
+            removeFrom(region, previous.regionCode(), userId);
+            removeFrom(age, previous.ageBand(), userId);
+            removeFrom(income, previous.incomeBand(), userId);
+            removeFrom(channel, previous.channel(), userId);
+        }
+        if (next != null) {
+            addTo(region, next.regionCode(), userId);
+            addTo(age, next.ageBand(), userId);
+            addTo(income, next.incomeBand(), userId);
+            addTo(channel, next.channel(), userId);
+        }
+
+        int delta = (next != null ? 1 : 0) - (previous != null ? 1 : 0);
+        return new UserSubscriptionIndex(region, age, income, channel, size + delta);
+    }
+
+    public static boolean isSubscribed(Users u) {
+        return u.getId() != null
+                && !Boolean.TRUE.equals(u.getDeleted())
+                && !Boolean.FALSE.equals(u.getNotificationEnabled())
+                && u.getEmail() != null && !u.getEmail().isBlank();
+    }
+
+    public static String normalizeIncomeBand(String incomeBand) {
+        return incomeBand == null ? UNKNOWN : incomeBand.replace(" ", "");
+    }
+
+    private static NotificationChannel channelOf(Users u) {
+        return u.getNotificationChannel() != null ? u.getNotificationChannel() : NotificationChannel.EMAIL;
+    }
+
+    /**
+     * 대상 조건에 맞는 사용자 ID를 채널별로 반환
+     * - 조건이 있는 차원만 교집합에 참여 (전국/전연령 항목은 채널 목록 그대로)
+     * - 매칭 사용자가 없는 채널은 결과에서 제외
+     */
+    public Map<NotificationChannel, int[]> match(AlertTarget target) {
+        List<int[]> dimensions = new ArrayList<>();
+
+        if (!target.regionCodes().isEmpty()) {
+            dimensions.add(unionOf(byRegion, withUnknown(target.regionCodes(), UNKNOWN)));
+        }
+        if (target.hasAgeLimit()) {
+            int min = target.minAge() != null ? target.minAge() : 0;
+            int max = target.maxAge() != null ? target.maxAge() : Integer.MAX_VALUE;
+            dimensions.add(unionOf(byAgeBand, AgeBand.overlapping(min, max)));
+        }
+        if (!target.incomeBands().isEmpty()) {
+            Set<String> bands = new HashSet<>();
+            target.incomeBands().forEach(b -> bands.add(normalizeIncomeBand(b)));
+            dimensions.add(unionOf(byIncomeBand, withUnknown(bands, UNKNOWN)));
+        }
+
+        int[] candidates = dimensions.isEmpty() ? null : PostingLists.intersectAll(dimensions);
+
+        Map<NotificationChannel, int[]> result = new EnumMap<>(NotificationChannel.class);
+        if (candidates != null && candidates.length == 0) return result;
+
+        byChannel.forEach((channel, posting) -> {
+            int[] matched = candidates == null ? posting : PostingLists.intersect(candidates, posting);
+            if (matched.length > 0) result.put(channel, matched);
+        });
+        return result;
+    }
+
+    /** 인덱스에 포함된 사용자 수 */
+    public int size() {
+        return size;
+    }
+
+    private static <K> Map<K, int[]> postings(List<Users> sortedUsers, Function<Users, K> keyFn, Map<K, int[]> target) {
+        Map<K, List<Integer>> lists = new HashMap<>();
+        for (Users u : sortedUsers) {
+            lists.computeIfAbsent(keyFn.apply(u), k -> new ArrayList<>()).add(u.getId());
+        }
+        lists.forEach((k, ids) -> target.put(k, ids.stream().mapToInt(Integer::intValue).toArray()));
+        return target;
+    }
+
+    private static <K> int[] unionOf(Map<K, int[]> index, Collection<K> keys) {
+        List<int[]> lists = new ArrayList<>();
+        for (K key : keys) {
+            int[] posting = index.get(key);
+            if (posting != null) lists.add(posting);
+        }
+        return PostingLists.unionAll(lists);
+    }
+
+    private static <K> void addTo(Map<K, int[]> index, K key, int userId) {
+        index.put(key, PostingLists.insert(index.getOrDefault(key, PostingLists.EMPTY), userId));
+    }
+
+    private static <K> void removeFrom(Map<K, int[]> index, K key, int userId) {
+        int[] posting = index.get(key);
+        if (posting == null) return;
+        int[] removed = PostingLists.remove(posting, userId);
+        if (removed.length == 0) index.remove(key);
+        else index.put(key, removed);
+    }
+
+    private static <K> Set<K> withUnknown(Set<K> keys, K unknown) {
+        Set<K> copy = new HashSet<>(keys);
+        copy.add(unknown);
+        return copy;
+    }
+}
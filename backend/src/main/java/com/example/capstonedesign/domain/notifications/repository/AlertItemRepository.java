@@ -0,0 +1,42 @@
+package com.example.capstonedesign.domain.notifications.repository;
+
+import com.example.capstonedesign.domain.notifications.entity.AlertItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * AlertItemRepository
+ * ---------------------------------------------------------
+ * - 사용자별 알림 항목(AlertItem) 적재/조회, 데일리 요약 발송 후 SENT 처리
+ */
+@Repository
+public interface AlertItemRepository extends JpaRepository<AlertItem, Long> {
+
+    /**
+     * 특정 상품에 대해 이미 알림이 적재된 사용자 ID 목록
+     * - 매칭 결과 중복 적재 방지용
+     */
+    @Query("SELECT a.userId FROM AlertItem a WHERE a.productId = :productId")
+    List<Integer> findUserIdsByProductId(@Param("productId") Integer productId);
+
+    /**
+     * 사용자 묶음(데일리 요약 1청크)의 미발송 알림 조회 (적재순)
+     * - 청크당 1회 조회 → 사용자별 조회 반복 없음
+     */
+    List<AlertItem> findByUserIdInAndStatusOrderByIdAsc(Collection<Integer> userIds, String status);
+
+    /**
+     * 알림 항목 상태 일괄 변경 (발송 성공 후 SENT)
+     *
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE AlertItem a SET a.status = :status WHERE a.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") String status);
+}
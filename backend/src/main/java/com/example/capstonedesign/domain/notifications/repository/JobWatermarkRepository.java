@@ -0,0 +1,14 @@
+package com.example.capstonedesign.domain.notifications.repository;
+
+import com.example.capstonedesign.domain.notifications.entity.JobWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JobWatermarkRepository
+ * ---------------------------------------------------------
+ * - 주기 작업 워터마크 조회/갱신
+ */
+@Repository
+public interface JobWatermarkRepository extends JpaRepository<JobWatermark, String> {
+}
@@ -0,0 +1,20 @@
+package com.example.capstonedesign.domain.notifications.repository;
+
+import com.example.capstonedesign.domain.notifications.entity.NotificationDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * NotificationDailyStatRepository
+ * ---------------------------------------------------------
+ * - 알림 일별 집계 조회
+ */
+@Repository
+public interface NotificationDailyStatRepository extends JpaRepository<NotificationDailyStat, Long> {
+
+    /** 기간별 집계 조회 (일자순) */
+    List<NotificationDailyStat> findByStatDateBetweenOrderByStatDateAsc(LocalDate from, LocalDate to);
+}
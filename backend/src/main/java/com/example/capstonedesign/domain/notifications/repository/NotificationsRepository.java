@@ -2,16 +2,25 @@ package com.example.capstonedesign.domain.notifications.repository;
 
 import com.example.capstonedesign.domain.notifications.entity.Notifications;
 import com.example.capstonedesign.domain.users.entity.Users;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * NotificationRepository
  * ---------------------------------------------------------
  * - 사용자별 알림 내역 조회 및 상태 기반 검색 기능 제공
  * - Notification 엔티티의 CRUD 및 커스텀 쿼리 관리
+ * - 보존 기간이 지난 행의 일별 집계(rollup) 및 삭제(purge)
  */
 @Repository
 public interface NotificationsRepository extends JpaRepository<Notifications, Long> {
@@ -21,6 +30,12 @@ public interface NotificationsRepository extends JpaRepository<Notifications, Lo
      */
     List<Notifications> findByUserOrderByCreatedAtDesc(Users user);
 
+    /**
+     * 특정 사용자의 알림 페이지 조회 (최신순)
+     * - (user_id, created_at) 인덱스 사용
+     */
+    Page<Notifications> findByUserOrderByCreatedAtDesc(Users user, Pageable pageable);
+
     /**
      * 알림 상태로 조회 (예: SENT / FAILED)
      */
@@ -30,4 +45,34 @@ public interface NotificationsRepository extends JpaRepository<Notifications, Lo
      * 알림 타입별 조회 (예: EMAIL / KAKAO / SMS)
      */
     List<Notifications> findByType(String type);
+
+    /**
+     * 가장 오래된 알림 시각 (보존 기간 정리 시작점)
+     */
+    @Query("SELECT MIN(n.createdAt) FROM Notifications n")
+    Optional<Instant> findOldestCreatedAt();
+
+    /**
+     * [from, to) 구간 알림을 일자/유형/상태별 집계 테이블에 누적
+     * - [from, to) 는 Asia/Seoul 기준 하루, 집계 일자는 호출 측이 넘긴 statDate 사용
+     *   (DATE(created_at) 은 DB 세션 시간대로 잘려 한국 자정 전후 건이 다른 날로 집계됨)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO notification_daily_stats (stat_date, type, status, cnt)
+            SELECT :statDate, type, status, COUNT(*)
+            FROM notifications
+            WHERE created_at >= :from AND created_at < :to
+            GROUP BY type, status
+            ON DUPLICATE KEY UPDATE cnt = cnt + VALUES(cnt)
+            """, nativeQuery = true)
+    int rollupDaily(@Param("statDate") LocalDate statDate, @Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * [from, to) 구간 알림 최대 limit 건 삭제
+     */
+    @Modifying
+    @Query(value = "DELETE FROM notifications WHERE created_at >= :from AND created_at < :to LIMIT :limit",
+            nativeQuery = true)
+    int deleteBatch(@Param("from") Instant from, @Param("to") Instant to, @Param("limit") int limit);
 }
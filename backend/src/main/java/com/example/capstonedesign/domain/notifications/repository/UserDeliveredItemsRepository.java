@@ -0,0 +1,14 @@
+package com.example.capstonedesign.domain.notifications.repository;
+
+import com.example.capstonedesign.domain.notifications.entity.UserDeliveredItems;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * UserDeliveredItemsRepository
+ * ---------------------------------------------------------
+ * - 사용자별 발송 완료 비트맵 조회/저장
+ */
+@Repository
+public interface UserDeliveredItemsRepository extends JpaRepository<UserDeliveredItems, Integer> {
+}
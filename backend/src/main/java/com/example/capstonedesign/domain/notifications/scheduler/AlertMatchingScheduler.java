@@ -0,0 +1,26 @@
+package com.example.capstonedesign.domain.notifications.scheduler;
+
+import com.example.capstonedesign.domain.notifications.service.SubscriptionMatchingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * AlertMatchingScheduler
+ * -------------------------------------------------------
+ * 수집 스케줄러(06:00, 18:00) 30분 뒤 신규 공고/정책을 구독 사용자와 매칭
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlertMatchingScheduler {
+
+    private final SubscriptionMatchingService service;
+
+    @Scheduled(cron = "0 30 6,18 * * *", zone = "Asia/Seoul")
+    public void run() {
+        log.info("🕕 신규 공고 구독 매칭 스케줄러 실행");
+        service.matchNewItems();
+    }
+}
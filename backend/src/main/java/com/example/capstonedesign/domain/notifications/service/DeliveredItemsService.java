@@ -0,0 +1,127 @@
+package com.example.capstonedesign.domain.notifications.service;
+
+import com.example.capstonedesign.domain.notifications.entity.UserDeliveredItems;
+import com.example.capstonedesign.domain.notifications.repository.UserDeliveredItemsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DeliveredItemsService
+ * ----------------------------------------------------------
+ * 사용자별 발송 완료 상품 ID 관리
+ * - DB(user_delivered_items)에 사용자당 RoaringBitmap BLOB 1건 보관 (표준 직렬화 포맷)
+ * - 한 번 읽은 비트맵은 메모리에 캐시, 크기 제한 LRU (notifications.delivered-cache.max-entries)
+ * - 갱신: 잠금 안에서는 메모리 병합만, DB 저장은 잠금 밖에서 (조회 스레드가 DB I/O 를 기다리지 않음)
+ * - 캐시의 비트맵은 교체만 하고 수정하지 않음 → 반환된 스냅샷은 읽기 전용으로 사용
+ */
+@Slf4j
+@Service
+public class DeliveredItemsService {
+
+    private final UserDeliveredItemsRepository repository;
+    private final int maxEntries;
+
+    private final LinkedHashMap<Integer, RoaringBitmap> cache;
+
+    @Autowired
+    public DeliveredItemsService(UserDeliveredItemsRepository repository,
+                                 @Value("${notifications.delivered-cache.max-entries:10000}") int maxEntries) {
+        this.repository = repository;
+        this.maxEntries = maxEntries;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, RoaringBitmap> eldest) {
+                return size() > DeliveredItemsService.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 사용자 발송 이력 스냅샷
+     * - 캐시에 없으면 DB 에서 읽어 저장 (DB 조회는 잠금 밖)
+     */
+    public RoaringBitmap snapshot(Integer userId) {
+        synchronized (cache) {
+            RoaringBitmap cached = cache.get(userId);
+            if (cached != null) return cached;
+        }
+
+        RoaringBitmap loaded = load(userId);
+        synchronized (cache) {
+            RoaringBitmap raced = cache.putIfAbsent(userId, loaded);
+            return raced != null ? raced : loaded;
+        }
+    }
+
+    /**
+     * 발송 완료 상품 기록
+     * - 새로 추가된 ID가 없으면 DB 쓰기 생략
+     * - 같은 사용자는 데일리 요약 1회 실행에서 한 번만 기록되므로 사용자별 저장 순서 경합은 고려하지 않음
+     */
+    public void markDelivered(Integer userId, Collection<Integer> productIds) {
+        if (productIds == null || productIds.isEmpty()) return;
+
+        RoaringBitmap base = snapshot(userId);
+        RoaringBitmap added = new RoaringBitmap();
+        for (Integer productId : productIds) {
+            if (productId != null && productId >= 0 && !base.contains(productId)) added.add(productId);
+        }
+        if (added.isEmpty()) return;
+
+        RoaringBitmap next;
+        synchronized (cache) {
+            RoaringBitmap current = cache.get(userId);
+            next = RoaringBitmap.or(current != null ? current : base, added);
+            next.runOptimize();
+            cache.put(userId, next);
+        }
+
+        repository.save(UserDeliveredItems.builder()
+                .userId(userId)
+                .bitmap(serialize(next))
+                .updatedAt(Instant.now())
+                .build());
+    }
+
+    /** 현재 캐시된 사용자 수 */
+    public int cachedUsers() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private RoaringBitmap load(Integer userId) {
+        return repository.findById(userId)
+                .map(row -> {
+                    try {
+                        return deserialize(row.getBitmap());
+                    } catch (IOException | RuntimeException e) {
+                        log.warn("⚠️ 발송 이력 비트맵 손상 → 초기화 (userId={}): {}", userId, e.getMessage());
+                        return new RoaringBitmap();
+                    }
+                })
+                .orElseGet(RoaringBitmap::new);
+    }
+
+    static byte[] serialize(RoaringBitmap bitmap) {
+        ByteBuffer buf = ByteBuffer.allocate(bitmap.serializedSizeInBytes());
+        bitmap.serialize(buf);
+        return buf.array();
+    }
+
+    static RoaringBitmap deserialize(byte[] data) throws IOException {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        bitmap.deserialize(ByteBuffer.wrap(data));
+        return bitmap;
+    }
+}
@@ -4,37 +4,61 @@ import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceL
 import com.example.capstonedesign.domain.finance.financeproducts.repository.FinanceLoanOptionRepository;
 import com.example.capstonedesign.domain.housingannouncements.entity.LhNotice;
 import com.example.capstonedesign.domain.housingannouncements.repository.LhNoticeRepository;
+import com.example.capstonedesign.domain.notifications.dispatch.DispatchMessage;
+import com.example.capstonedesign.domain.notifications.dispatch.DispatchResult;
+import com.example.capstonedesign.domain.notifications.dispatch.NotificationDispatchService;
+import com.example.capstonedesign.domain.notifications.entity.AlertItem;
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
 import com.example.capstonedesign.domain.notifications.entity.Notifications;
+import com.example.capstonedesign.domain.notifications.repository.AlertItemRepository;
 import com.example.capstonedesign.domain.notifications.repository.NotificationsRepository;
+import com.example.capstonedesign.domain.products.entity.Products;
 import com.example.capstonedesign.domain.shannouncements.entity.RecruitStatus;
 import com.example.capstonedesign.domain.shannouncements.entity.ShAnnouncement;
 import com.example.capstonedesign.domain.shannouncements.repository.ShAnnouncementRepository;
 import com.example.capstonedesign.domain.users.entity.Users;
-import com.example.capstonedesign.domain.users.port.EmailSender;
 import com.example.capstonedesign.domain.users.repository.UsersRepository;
 import com.example.capstonedesign.domain.youthpolicies.entity.YouthPolicy;
 import com.example.capstonedesign.domain.youthpolicies.repository.YouthPolicyRepository;
-import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * NotificationsService
  * ----------------------------------------------------------
  * Y-Nest 통합 알림 서비스
- * - 하루 1회 이메일로 주거공고, 대출금리, 청년정책 요약 발송
- * - 각 섹션별로 HTML 구성 후 사용자별 이메일 발송 및 로그 저장
+ * - 하루 1회 주거공고, 대출금리, 청년정책 요약 발송
+ * - 각 섹션별로 HTML 구성 후 사용자 알림 채널(EMAIL/KAKAO/SMS)로 발송 및 로그 저장
+ * - 발송은 채널별 디스패처에서 병렬 처리, 결과를 모아 일괄 기록
+ * - 사용자별 발송 이력 비트맵으로 이미 받은 공고/정책은 제외
+ * - 구독 매칭(SubscriptionMatchingService)이 적재한 PENDING AlertItem 을 맨 위 섹션으로 포함
+ *   · 청크당 1회 조회, 발송 성공 시 SENT 로 변경 (실패 시 PENDING 유지 → 다음 요약에서 재시도)
+ * - 사용자는 id 순 청크(notifications.digest.chunk-size) 단위로 처리
+ *   · 청크마다 구성 → 발송 → 결과 대기 → 짧은 트랜잭션으로 기록
+ *   · 전체 실행을 감싸는 트랜잭션 없음 (발송 대기 중 DB 커넥션을 잡지 않음), 메모리에는 1청크 분량만 유지
+ *   · 결과 대기는 청크당 notifications.digest.result-timeout-ms 까지, 초과분은 FAILED 로 기록 (다음 실행에서 재발송 대상)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NotificationsService {
 
     private final UsersRepository usersRepository;
@@ -43,49 +67,157 @@ public class NotificationsService {
     private final FinanceLoanOptionRepository loanOptionRepo;
     private final NotificationsRepository notificationRepo;
     private final YouthPolicyRepository youthPolicyRepository;
-    private final EmailSender emailSender;
+    private final DeliveredItemsService deliveredItemsService;
+    private final NotificationDispatchService dispatchService;
+    private final AlertItemRepository alertItemRepository;
+    private final TransactionTemplate tx;
+    private final TransactionTemplate readTx;
+    private final int chunkSize;
+    private final long resultTimeoutMillis;
+
+    /** 섹션별 표시 개수 */
+    private static final int SECTION_SIZE = 5;
+
+    /** 발송 이력 제외 후에도 섹션을 채울 수 있도록 미리 뽑아 두는 후보 수 */
+    private static final int CANDIDATE_SIZE = 30;
+
+    /** 구독 맞춤 섹션 최대 표시 개수 (나머지는 PENDING 으로 남겨 다음 요약에서 발송) */
+    private static final int ALERT_SECTION_SIZE = 10;
+
+    public NotificationsService(UsersRepository usersRepository,
+                                LhNoticeRepository lhNoticeRepository,
+                                ShAnnouncementRepository shAnnouncementRepository,
+                                FinanceLoanOptionRepository loanOptionRepo,
+                                NotificationsRepository notificationRepo,
+                                YouthPolicyRepository youthPolicyRepository,
+                                DeliveredItemsService deliveredItemsService,
+                                NotificationDispatchService dispatchService,
+                                AlertItemRepository alertItemRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${notifications.digest.chunk-size:200}") int chunkSize,
+                                @Value("${notifications.digest.result-timeout-ms:600000}") long resultTimeoutMillis) {
+        this.usersRepository = usersRepository;
+        this.lhNoticeRepository = lhNoticeRepository;
+        this.shAnnouncementRepository = shAnnouncementRepository;
+        this.loanOptionRepo = loanOptionRepo;
+        this.notificationRepo = notificationRepo;
+        this.youthPolicyRepository = youthPolicyRepository;
+        this.deliveredItemsService = deliveredItemsService;
+        this.dispatchService = dispatchService;
+        this.alertItemRepository = alertItemRepository;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.readTx = new TransactionTemplate(transactionManager);
+        this.readTx.setReadOnly(true);
+        this.chunkSize = chunkSize;
+        this.resultTimeoutMillis = resultTimeoutMillis;
+    }
 
     // =====================================================
     // 📅 하루 1회 통합 알림 (주거공고 + 대출금리 + 청년정책)
     // =====================================================
-    @Transactional
     public void sendDailyDigest() {
-        // 1. 오늘 날짜 기준으로 각 섹션 HTML 생성
-        // 2. 모든 사용자에게 맞춤 알림 이메일 발송
-        // 3. 발송 결과를 Notifications 테이블에 저장
+        // 1. 오늘 날짜 기준 후보 목록/공통 섹션 준비 (짧은 읽기 트랜잭션)
+        // 2. 사용자 청크별 맞춤 알림 발송 (사용자별 채널)
+        // 3. 청크의 발송 결과를 Notifications 테이블에 저장
+        // 4. 발송 성공한 공고/정책은 사용자 발송 이력에 기록
         LocalDate today = LocalDate.now();
         log.info("📢 Y-Nest 하루 요약 알림 시작 ({})", today);
 
-        String housingSection = buildHousingSection(today);
-        String loanSection = buildLoanRateSection(today);
-        String youthSection = buildYouthPolicySection(today);
-
-        List<Users> users = usersRepository.findAll();
-        for (Users user : users) {
-            if (Boolean.TRUE.equals(user.getDeleted()) ||
-                    user.getEmail() == null ||
-                    user.getEmail().isBlank() ||
-                    Boolean.FALSE.equals(user.getNotificationEnabled())) {
-                continue;
+        // 후보 목록은 1회만 조회, 사용자별로는 발송 이력만 걸러냄
+        // (대출 섹션은 연관 엔티티를 읽으므로 트랜잭션 안에서 완성)
+        DigestCandidates candidates = readTx.execute(status -> new DigestCandidates(
+                selectClosingSoonLh(today),
+                selectRecentSh(today),
+                selectActivePolicies(today),
+                buildLoanRateSection(today)));
+
+        int sent = 0;
+        int failed = 0;
+        Integer afterId = 0;
+        while (true) {
+            List<Users> chunk = usersRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) break;
+            afterId = chunk.get(chunk.size() - 1).getId();
+
+            List<Users> targets = chunk.stream().filter(NotificationsService::isDigestTarget).toList();
+            Map<Integer, List<AlertItem>> alerts = pendingAlerts(targets);
+
+            List<PendingDigest> pending = new ArrayList<>(targets.size());
+            for (Users user : targets) {
+                pending.add(dispatchDigest(user, candidates, alerts.getOrDefault(user.getId(), List.of()), today));
             }
 
-            String displayName;
+            int chunkSent = recordResults(pending);
+            sent += chunkSent;
+            failed += pending.size() - chunkSent;
 
-            // 1순위: 실제 이름 필드 (예: Users.name)
-            if (user.getName() != null && !user.getName().isBlank()) {
-                displayName = user.getName();
-            }
-            // 2순위: 이메일 앞부분
-            else if (user.getEmail() != null && user.getEmail().contains("@")) {
-                displayName = user.getEmail().split("@")[0];
-            }
-            // 3순위: 완전 폴백
-            else {
-                displayName = "회원님";
+            if (chunk.size() < chunkSize) break;
+        }
+        log.info("✅ 하루 요약 알림 완료 ({}): 성공 {}건, 실패 {}건", today, sent, failed);
+    }
+
+    private static boolean isDigestTarget(Users user) {
+        return !Boolean.TRUE.equals(user.getDeleted())
+                && user.getEmail() != null
+                && !user.getEmail().isBlank()
+                && !Boolean.FALSE.equals(user.getNotificationEnabled());
+    }
+
+    /** 청크 사용자들의 PENDING 구독 알림 (userId → 적재순 목록) */
+    private Map<Integer, List<AlertItem>> pendingAlerts(List<Users> users) {
+        if (users.isEmpty()) return Map.of();
+        List<Integer> ids = users.stream().map(Users::getId).toList();
+        return alertItemRepository.findByUserIdInAndStatusOrderByIdAsc(ids, AlertItem.PENDING).stream()
+                .collect(Collectors.groupingBy(AlertItem::getUserId));
+    }
+
+    /** 사용자 1명 요약 구성 후 채널 디스패처에 접수 */
+    private PendingDigest dispatchDigest(Users user, DigestCandidates candidates, List<AlertItem> pendingAlerts, LocalDate today) {
+        String displayName;
+
+        // 1순위: 실제 이름 필드 (예: Users.name)
+        if (user.getName() != null && !user.getName().isBlank()) {
+            displayName = user.getName();
+        }
+        // 2순위: 이메일 앞부분
+        else if (user.getEmail() != null && user.getEmail().contains("@")) {
+            displayName = user.getEmail().split("@")[0];
+        }
+        // 3순위: 완전 폴백
+        else {
+            displayName = "회원님";
+        }
+
+        RoaringBitmap delivered = deliveredItemsService.snapshot(user.getId());
+
+        // 구독 알림: 이미 받은 상품은 보여주지 않고 SENT 처리만, 나머지는 섹션 크기만큼 표시
+        List<AlertItem> alertList = new ArrayList<>();
+        List<Long> alertIds = new ArrayList<>();
+        for (AlertItem a : pendingAlerts) {
+            if (delivered.contains(a.getProductId())) {
+                alertIds.add(a.getId());
+            } else if (alertList.size() < ALERT_SECTION_SIZE) {
+                alertList.add(a);
+                alertIds.add(a.getId());
             }
+        }
 
-            String subject = "[Y-Nest] 오늘의 맞춤 알림 • " + today;
-            String html = """
+        // 구독 알림에 들어간 상품은 아래 공통 섹션에서 제외 (중복 표시 방지)
+        RoaringBitmap shown = delivered;
+        if (!alertList.isEmpty()) {
+            shown = delivered.clone();
+            for (AlertItem a : alertList) shown.add(a.getProductId());
+        }
+        List<LhNotice> lhList = excludeDelivered(candidates.lh(), LhNotice::getProduct, shown);
+        List<ShAnnouncement> shList = excludeDelivered(candidates.sh(), ShAnnouncement::getProduct, shown);
+        List<YouthPolicy> policyList = excludeDelivered(candidates.policies(), YouthPolicy::getProduct, shown);
+
+        String alertSection = buildAlertSection(alertList);
+        String housingSection = buildHousingSection(lhList, shList);
+        String youthSection = buildYouthPolicySection(policyList, today);
+
+        String subject = "[Y-Nest] 오늘의 맞춤 알림 • " + today;
+        String html = """
         <div style="font-family:-apple-system,Segoe UI,Roboto,Apple SD Gothic Neo,Noto Sans KR,sans-serif;
                     background-color:#f5f7fa;padding:24px;color:#222;line-height:1.7;">
           <div style="background:#fff;border-radius:16px;padding:28px;box-shadow:0 2px 10px rgba(0,0,0,0.05);">
@@ -97,6 +229,7 @@ public class NotificationsService {
             %s
             %s
             %s
+            %s
             <div style="margin-top:30px;text-align:center;">
               <a href="https://ynest.kro.kr" style="display:inline-block;background:#0055cc;color:#fff;
                 padding:10px 20px;border-radius:8px;text-decoration:none;font-weight:600;">
@@ -109,36 +242,166 @@ public class NotificationsService {
             </p>
           </div>
         </div>
-        """.formatted(displayName, housingSection, loanSection, youthSection);
-
-            String status = "SENT";
-            try {
-                emailSender.sendHtml(user.getEmail(), subject, html);
-                log.info("✅ 데일리 알림 발송 완료 → {}", user.getEmail());
-            } catch (Exception e) {
-                status = "FAILED";
-                log.error("❌ 이메일 발송 실패 → {} / {}", user.getEmail(), e.getMessage());
+        """.formatted(displayName, alertSection, housingSection, candidates.loanSection(), youthSection);
+
+        List<Integer> productIds = new ArrayList<>();
+        alertList.forEach(a -> productIds.add(a.getProductId()));
+        collectProductIds(lhList, LhNotice::getProduct, productIds);
+        collectProductIds(shList, ShAnnouncement::getProduct, productIds);
+        collectProductIds(policyList, YouthPolicy::getProduct, productIds);
+
+        CompletableFuture<DispatchResult> result = dispatchService.dispatch(
+                user.getNotificationChannel(),
+                new DispatchMessage(user.getId(), user.getEmail(), subject, html));
+        return new PendingDigest(user, html, productIds, alertIds, result);
+    }
+
+    /**
+     * 청크 발송 결과 기록
+     * - 결과 대기는 트랜잭션 밖, Notifications 저장은 청크당 짧은 트랜잭션 1회
+     * - FAILED/REJECTED/결과 대기 시간 초과는 모두 FAILED 로 저장
+     *
+     * @return 발송 성공 건수
+     */
+    private int recordResults(List<PendingDigest> pending) {
+        if (pending.isEmpty()) return 0;
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(resultTimeoutMillis);
+        List<DispatchResult> results = new ArrayList<>(pending.size());
+        for (PendingDigest p : pending) {
+            results.add(awaitResult(p, deadline));
+        }
+
+        List<Long> sentAlertIds = new ArrayList<>();
+        tx.executeWithoutResult(status -> {
+            for (int i = 0; i < pending.size(); i++) {
+                PendingDigest p = pending.get(i);
+                DispatchResult result = results.get(i);
+                if (result.isSent()) {
+                    log.info("✅ 데일리 알림 발송 완료 [{}] → {}", result.channel(), p.user().getEmail());
+                } else {
+                    log.error("❌ 알림 발송 실패 [{}] → {} / {}", result.channel(), p.user().getEmail(), result.error());
+                }
+
+                notificationRepo.save(Notifications.builder()
+                        .user(p.user())
+                        .message(p.html())
+                        .type(result.channel().name())
+                        .status(result.isSent() ? "SENT" : "FAILED")
+                        .build());
+                if (result.isSent()) sentAlertIds.addAll(p.alertItemIds());
+            }
+            if (!sentAlertIds.isEmpty()) {
+                alertItemRepository.updateStatus(sentAlertIds, AlertItem.SENT);
             }
+        });
+
+        // 발송 이력은 기록 커밋 이후 반영 (사용자별 BLOB 1건 저장)
+        int sent = 0;
+        for (int i = 0; i < pending.size(); i++) {
+            if (!results.get(i).isSent()) continue;
+            sent++;
+            deliveredItemsService.markDelivered(pending.get(i).user().getId(), pending.get(i).productIds());
+        }
+        return sent;
+    }
+
+    /** 청크 기한까지만 결과 대기, 기한 초과·예외는 FAILED 결과로 변환 */
+    private DispatchResult awaitResult(PendingDigest p, long deadlineNanos) {
+        NotificationChannel channel = p.user().getNotificationChannel() != null
+                ? p.user().getNotificationChannel()
+                : NotificationChannel.EMAIL;
+        try {
+            return p.result().get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return new DispatchResult(channel, DispatchResult.FAILED, 0, "발송 결과 대기 시간 초과");
+        } catch (ExecutionException e) {
+            return new DispatchResult(channel, DispatchResult.FAILED, 0, String.valueOf(e.getCause()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new DispatchResult(channel, DispatchResult.FAILED, 0, "발송 결과 대기 중단");
+        }
+    }
+
+    /** 전체 사용자 공통 후보 목록 + 대출 섹션 */
+    private record DigestCandidates(List<LhNotice> lh, List<ShAnnouncement> sh,
+                                    List<YouthPolicy> policies, String loanSection) {}
+
+    /** 발송 결과 대기 중인 사용자별 요약 */
+    private record PendingDigest(Users user, String html, List<Integer> productIds, List<Long> alertItemIds,
+                                 CompletableFuture<DispatchResult> result) {}
 
-            notificationRepo.save(Notifications.builder()
-                    .user(user)
-                    .message(html)
-                    .type("EMAIL")
-                    .status(status)
-                    .build());
+    // =====================================================
+    // 🔔 구독 맞춤 새 소식 섹션
+    // =====================================================
+    // - 구독 매칭으로 적재된 PENDING 알림 (적재순)
+    // - 없으면 섹션 자체를 생략
+    private static String buildAlertSection(List<AlertItem> alerts) {
+        if (alerts.isEmpty()) return "";
+
+        StringBuilder html = new StringBuilder();
+        html.append("""
+      <div style="margin-bottom:24px;">
+        <h3 style="margin-bottom:8px;">🔔 내 조건에 맞는 새 소식</h3>
+        <p style="font-size:14px;color:#555;margin-bottom:12px;">
+          최근 등록된 공고·정책 중 <strong>회원님의 지역·나이·소득 조건</strong>에 맞는 항목이에요.
+        </p>
+        <ul style="list-style:none;padding-left:0;">
+    """);
+        for (AlertItem a : alerts) {
+            html.append("""
+          <li style="border:1px solid #eee;border-radius:10px;padding:10px 14px;margin-bottom:10px;">
+            <a href='%s' style='color:#0055cc;text-decoration:none;font-weight:600;'>%s</a>
+            <div style='font-size:13px;color:#666;margin-top:4px;'>📌 %s</div>
+          </li>
+        """.formatted(
+                    a.getUrl() != null && !a.getUrl().isBlank() ? a.getUrl() : "#",
+                    a.getTitle(),
+                    sourceLabel(a.getSource())
+            ));
         }
-        log.info("✅ 하루 요약 알림 완료 ({})", today);
+        html.append("</ul></div>");
+        return html.toString();
+    }
+
+    private static String sourceLabel(String source) {
+        if (source == null) return "-";
+        return switch (source) {
+            case "LH" -> "LH공사";
+            case "SH" -> "SH공사";
+            case "POLICY" -> "청년정책";
+            default -> source;
+        };
     }
 
     // =====================================================
     // 🏠 주거 공고 섹션
     // =====================================================
-    private String buildHousingSection(LocalDate today) {
-        LocalDate lhThreshold = today.plusDays(3); // LH: 마감 3일 이내
-        LocalDate shThreshold = today.minusDays(10); // SH: 최근 10일 내 게시된 공고
+    // - 후보 목록: 전체 사용자 공통으로 1회 조회
+    // - 섹션 HTML: 사용자별 발송 이력 제외 후 구성
+
+    /** 후보 중 이미 발송한 상품을 제외하고 섹션 크기만큼 선택 */
+    private static <T> List<T> excludeDelivered(List<T> candidates, Function<T, Products> productOf, RoaringBitmap delivered) {
+        return candidates.stream()
+                .filter(item -> {
+                    Products product = productOf.apply(item);
+                    return product == null || product.getId() == null || !delivered.contains(product.getId());
+                })
+                .limit(SECTION_SIZE)
+                .toList();
+    }
+
+    private static <T> void collectProductIds(List<T> items, Function<T, Products> productOf, List<Integer> out) {
+        for (T item : items) {
+            Products product = productOf.apply(item);
+            if (product != null && product.getId() != null) out.add(product.getId());
+        }
+    }
 
-        // 🏠 LH - 마감 임박 공고
-        var lhList = lhNoticeRepository.findAll().stream()
+    /** 🏠 LH - 마감 3일 이내 공고 (마감 임박순) */
+    private List<LhNotice> selectClosingSoonLh(LocalDate today) {
+        LocalDate lhThreshold = today.plusDays(3);
+        return lhNoticeRepository.findAll().stream()
                 .filter(n -> n.getClsgDt() != null && !n.getClsgDt().isBlank())
                 .filter(n -> {
                     try {
@@ -155,19 +418,23 @@ public class NotificationsService {
                         return LocalDate.MAX;
                     }
                 }))
-                .limit(5)
+                .limit(CANDIDATE_SIZE)
                 .toList();
+    }
 
-        StringBuilder lhHtml = getStringBuilder(lhList);
-
-        // 🏢 SH - 최근 등록 공고
-        var shList = shAnnouncementRepository.findAll().stream()
+    /** 🏢 SH - 최근 10일 내 게시된 모집중 공고 (최신순) */
+    private List<ShAnnouncement> selectRecentSh(LocalDate today) {
+        LocalDate shThreshold = today.minusDays(10);
+        return shAnnouncementRepository.findAll().stream()
                 .filter(s -> s.getRecruitStatus() == RecruitStatus.now)
                 .filter(s -> s.getPostDate() != null && !s.getPostDate().isBefore(shThreshold))
                 .sorted(Comparator.comparing(ShAnnouncement::getPostDate).reversed())
-                .limit(5)
+                .limit(CANDIDATE_SIZE)
                 .toList();
+    }
 
+    private String buildHousingSection(List<LhNotice> lhList, List<ShAnnouncement> shList) {
+        StringBuilder lhHtml = getStringBuilder(lhList);
         StringBuilder shHtml = getBuilder(shList);
 
         // 🧩 최종 HTML 통합
@@ -316,9 +583,10 @@ public class NotificationsService {
     // - 정책명, 기관, 카테고리, 지원 내용 등 출력
     private static final DateTimeFormatter FLEXIBLE_FORMATTER = DateTimeFormatter.ofPattern("[yyyy.MM.dd][yyyy-MM-dd][yyyyMMdd]");
 
-    private String buildYouthPolicySection(LocalDate today) {
+    /** 아직 마감되지 않은 정책 (마감 임박순) */
+    private List<YouthPolicy> selectActivePolicies(LocalDate today) {
         try {
-            List<YouthPolicy> policies = youthPolicyRepository.findAll().stream()
+            return youthPolicyRepository.findAll().stream()
                     .filter(p -> {
                         try {
                             if (p.getEndDate() == null || p.getEndDate().isBlank()) return false;
@@ -335,9 +603,16 @@ public class NotificationsService {
                             return LocalDate.MAX;
                         }
                     }))
-                    .limit(5)
+                    .limit(CANDIDATE_SIZE)
                     .toList();
+        } catch (Exception e) {
+            log.error("❌ 청년정책 후보 조회 실패: {}", e.getMessage(), e);
+            return List.of();
+        }
+    }
 
+    private String buildYouthPolicySection(List<YouthPolicy> policies, LocalDate today) {
+        try {
             if (policies.isEmpty()) {
                 return """
             <div style="margin-bottom:24px;">
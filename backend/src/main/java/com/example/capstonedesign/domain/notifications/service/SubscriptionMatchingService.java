@@ -0,0 +1,199 @@
+package com.example.capstonedesign.domain.notifications.service;
+
+import com.example.capstonedesign.domain.housingannouncements.entity.LhNotice;
+import com.example.capstonedesign.domain.housingannouncements.repository.LhNoticeRepository;
+import com.example.capstonedesign.domain.notifications.entity.AlertItem;
+import com.example.capstonedesign.domain.notifications.entity.JobWatermark;
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
+import com.example.capstonedesign.domain.notifications.matching.AlertCandidate;
+import com.example.capstonedesign.domain.notifications.matching.AlertTarget;
+import com.example.capstonedesign.domain.notifications.matching.RegionCodes;
+import com.example.capstonedesign.domain.notifications.matching.UserSubscriptionIndex;
+import com.example.capstonedesign.domain.notifications.repository.AlertItemRepository;
+import com.example.capstonedesign.domain.notifications.repository.JobWatermarkRepository;
+import com.example.capstonedesign.domain.shannouncements.entity.ShAnnouncement;
+import com.example.capstonedesign.domain.shannouncements.repository.ShAnnouncementRepository;
+import com.example.capstonedesign.domain.youthpolicies.entity.YouthPolicy;
+import com.example.capstonedesign.domain.youthpolicies.repository.YouthPolicyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * SubscriptionMatchingService
+ * ----------------------------------------------------------
+ * 신규 공고/정책 ↔ 사용자 구독 조건 매칭 서비스
+ * - 직전 실행 이후 수집된 LH/SH 공고, 청년정책을 한 배치로 모음
+ *   · 기준 시각(워터마크)은 job_watermarks 에 저장 → 재기동·장시간 중단 후에도 누락 없이 이어서 처리
+ * - 사용자 프로필 역색인은 UserSubscriptionRegistry 가 메모리에 유지 (실행마다 전체 사용자 조회 없음)
+ * - 항목별로 posting list 교집합을 구해 사용자별 AlertItem(PENDING) 적재 → 다음 데일리 요약에 포함되어 발송
+ * - 항목 처리 비용은 (신규 항목 수 × 매칭 사용자 수)에 비례
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubscriptionMatchingService {
+
+    static final String SOURCE_LH = "LH";
+    static final String SOURCE_SH = "SH";
+    static final String SOURCE_POLICY = "POLICY";
+
+    /** SH공사 공고는 모두 서울 지역 */
+    private static final String SEOUL_CODE = "11";
+
+    private static final String INCOME_100 = "중위소득100%이하";
+    private static final String INCOME_150 = "중위소득150%이하";
+
+    static final String WATERMARK = "subscription-matching";
+
+    /** 워터마크가 없을 때(최초 실행) 거슬러 확인할 기간 = 수집 주기 */
+    private static final Duration INITIAL_LOOKBACK = Duration.ofHours(12);
+
+    private final UserSubscriptionRegistry subscriptionRegistry;
+    private final LhNoticeRepository lhNoticeRepository;
+    private final ShAnnouncementRepository shAnnouncementRepository;
+    private final YouthPolicyRepository youthPolicyRepository;
+    private final AlertItemRepository alertItemRepository;
+    private final JobWatermarkRepository watermarkRepository;
+
+    /**
+     * 직전 실행 이후 수집된 항목 매칭
+     * - 워터마크는 AlertItem 적재와 같은 트랜잭션에서 갱신 (실패 시 다음 실행에서 다시 처리)
+     * - 구간이 겹쳐도 중복 적재는 (user_id, product_id) 기준으로 걸러짐
+     *
+     * @return 새로 적재된 AlertItem 수
+     */
+    @Transactional
+    public int matchNewItems() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = watermarkRepository.findById(WATERMARK)
+                .map(JobWatermark::getWatermark)
+                .orElse(now.minus(INITIAL_LOOKBACK));
+
+        List<AlertCandidate> candidates = collectCandidates(since);
+        if (candidates.isEmpty()) {
+            advanceWatermark(now);
+            log.info("📭 신규 매칭 대상 없음 (since={})", since);
+            return 0;
+        }
+
+        UserSubscriptionIndex index = subscriptionRegistry.current();
+        int enqueued = enqueue(index, candidates);
+        advanceWatermark(now);
+
+        log.info("✅ 구독 매칭 완료: 신규 항목 {}건, 구독자 {}명, 적재 {}건",
+                candidates.size(), index.size(), enqueued);
+        return enqueued;
+    }
+
+    private void advanceWatermark(LocalDateTime now) {
+        watermarkRepository.save(new JobWatermark(WATERMARK, now));
+    }
+
+    /**
+     * 후보 항목별 매칭 결과를 AlertItem 으로 적재
+     * - 이미 같은 상품 알림을 받은 사용자는 제외
+     */
+    int enqueue(UserSubscriptionIndex index, List<AlertCandidate> candidates) {
+        int enqueued = 0;
+        for (AlertCandidate c : candidates) {
+            Map<NotificationChannel, int[]> matches = index.match(c.target());
+            if (matches.isEmpty()) continue;
+
+            Set<Integer> already = new HashSet<>(alertItemRepository.findUserIdsByProductId(c.productId()));
+            List<AlertItem> batch = new ArrayList<>();
+            matches.forEach((channel, userIds) -> {
+                for (int userId : userIds) {
+                    if (already.contains(userId)) continue;
+                    batch.add(AlertItem.builder()
+                            .userId(userId)
+                            .productId(c.productId())
+                            .source(c.source())
+                            .title(c.title())
+                            .url(c.url())
+                            .channel(channel)
+                            .status(AlertItem.PENDING)
+                            .build());
+                }
+            });
+
+            if (!batch.isEmpty()) {
+                alertItemRepository.saveAll(batch);
+                enqueued += batch.size();
+            }
+        }
+        return enqueued;
+    }
+
+    private List<AlertCandidate> collectCandidates(LocalDateTime since) {
+        List<AlertCandidate> candidates = new ArrayList<>();
+        for (LhNotice n : lhNoticeRepository.findByCreatedAtAfter(since)) {
+            if (n.getProduct() == null) continue;
+            candidates.add(new AlertCandidate(n.getProduct().getId(), SOURCE_LH, n.getPanNm(), n.getDtlUrl(), targetOf(n)));
+        }
+        for (ShAnnouncement s : shAnnouncementRepository.findByCrawledAtAfter(since)) {
+            if (s.getProduct() == null) continue;
+            candidates.add(new AlertCandidate(s.getProduct().getId(), SOURCE_SH, s.getTitle(), s.getDetailUrl(),
+                    new AlertTarget(Set.of(SEOUL_CODE), null, null, Set.of())));
+        }
+        for (YouthPolicy p : youthPolicyRepository.findByCreatedAtAfter(since)) {
+            if (p.getProduct() == null) continue;
+            candidates.add(new AlertCandidate(p.getProduct().getId(), SOURCE_POLICY, p.getPolicyName(), p.getApplyUrl(), targetOf(p)));
+        }
+        return candidates;
+    }
+
+    /**
+     * LH 공고 대상 조건
+     * - 지역: 공고 지역명(cnpCdNm) 기준, 변환 불가 시 전국
+     * - 소득: 영구임대/국민임대는 저소득 구간 대상
+     */
+    static AlertTarget targetOf(LhNotice n) {
+        String code = RegionCodes.toCode(n.getCnpCdNm());
+        Set<String> regions = code.isEmpty() ? Set.of() : Set.of(code);
+
+        String type = n.getAisTpCdNm() != null ? n.getAisTpCdNm() : "";
+        Set<String> incomeBands = Set.of();
+        if (type.contains("영구임대")) incomeBands = Set.of(INCOME_100);
+        else if (type.contains("국민임대")) incomeBands = Set.of(INCOME_100, INCOME_150);
+
+        return new AlertTarget(regions, null, null, incomeBands);
+    }
+
+    /**
+     * 청년정책 대상 조건
+     * - 지역: regionCode(쉼표 구분 법정동 코드)의 앞 2자리
+     * - 연령: targetAge("19 ~ 34"), 0 또는 값 없음은 제한 없음
+     */
+    static AlertTarget targetOf(YouthPolicy p) {
+        Set<String> regions = new HashSet<>();
+        if (p.getRegionCode() != null && !p.getRegionCode().isBlank()) {
+            for (String code : p.getRegionCode().split(",")) {
+                String c = code.trim();
+                if (c.length() >= 2) regions.add(c.substring(0, 2));
+            }
+        }
+
+        Integer min = null, max = null;
+        if (p.getTargetAge() != null && p.getTargetAge().contains("~")) {
+            String[] parts = p.getTargetAge().split("~");
+            min = parseAge(parts[0]);
+            max = parts.length > 1 ? parseAge(parts[1]) : null;
+        }
+        return new AlertTarget(regions, min, max, Set.of());
+    }
+
+    private static Integer parseAge(String s) {
+        try {
+            int v = Integer.parseInt(s.trim());
+            return v > 0 ? v : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
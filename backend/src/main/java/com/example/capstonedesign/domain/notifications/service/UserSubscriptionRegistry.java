@@ -0,0 +1,85 @@
+package com.example.capstonedesign.domain.notifications.service;
+
+import com.example.capstonedesign.domain.notifications.matching.UserSubscriptionIndex;
+import com.example.capstonedesign.domain.notifications.matching.UserSubscriptionIndex.Subscription;
+import com.example.capstonedesign.domain.users.entity.Users;
+import com.example.capstonedesign.domain.users.repository.UsersRepository;
+import com.example.capstonedesign.domain.users.service.UserProfileChanges;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UserSubscriptionRegistry
+ * ----------------------------------------------------------
+ * 구독 매칭용 사용자 역색인의 메모리 보관소
+ * - 최초 사용 시 1회 전체 사용자로 구축, 이후에는 변경된 사용자만 반영
+ *   · UserProfileChanges(커밋 이후) → 해당 사용자의 posting list 만 교체
+ *   · 매칭 실행 비용이 전체 사용자 수에 비례하지 않음
+ * - 하루 1회 전체 재구축 (다른 인스턴스·DB 직접 수정분 반영)
+ * - 조회는 불변 스냅샷을 그대로 반환 (잠금 없음), 갱신만 직렬화
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSubscriptionRegistry {
+
+    private final UsersRepository usersRepository;
+    private final UserProfileChanges profileChanges;
+
+    /** userId → 현재 인덱스에 들어 있는 키 (갱신 시 이전 키 제거용) */
+    private final Map<Integer, Subscription> subscriptions = new HashMap<>();
+
+    /** null 이면 아직 구축 전 */
+    private volatile UserSubscriptionIndex index;
+
+    @PostConstruct
+    void registerListener() {
+        profileChanges.addListener(this::onUserChanged);
+    }
+
+    /** 현재 인덱스 (구축 전이면 전체 사용자로 구축) */
+    public UserSubscriptionIndex current() {
+        UserSubscriptionIndex snapshot = index;
+        if (snapshot != null) return snapshot;
+        synchronized (this) {
+            if (index == null) reload();
+            return index;
+        }
+    }
+
+    /** 전체 재구축 */
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public synchronized void reload() {
+        long started = System.currentTimeMillis();
+        List<Users> users = usersRepository.findAll();
+
+        subscriptions.clear();
+        for (Users u : users) {
+            Subscription s = Subscription.of(u);
+            if (s != null) subscriptions.put(u.getId(), s);
+        }
+        index = UserSubscriptionIndex.build(users);
+        log.info("🗂️ 구독 인덱스 구축: 구독자 {}명, {}ms", index.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 사용자 1명 변경 반영
+     * - 구축 전이면 무시 (이후 구축 시 커밋된 값으로 읽힘)
+     */
+    public synchronized void onUserChanged(Users user) {
+        if (index == null || user == null || user.getId() == null) return;
+
+        Subscription next = Subscription.of(user);
+        Subscription previous = next != null
+                ? subscriptions.put(user.getId(), next)
+                : subscriptions.remove(user.getId());
+        index = index.with(user.getId(), previous, next);
+    }
+}
@@ -12,7 +12,8 @@ import lombok.*;
 @NoArgsConstructor @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "products")
+@Table(name = "products",
+        indexes = @Index(name = "idx_products_type_name_lc", columnList = "type, name_lc"))
 public class Products {
 
     /** 기본 키 (자동 증가) */
@@ -40,4 +41,16 @@ public class Products {
     /** 상세 페이지 URL (최대 500자) */
     @Column(name = "detail_url", length = 500)
     private String detailUrl;
+
+    /** 검색용 소문자 상품명 (DB 생성 컬럼, 읽기 전용) */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "name_lc", insertable = false, updatable = false,
+            columnDefinition = "VARCHAR(255) GENERATED ALWAYS AS (LOWER(name)) STORED")
+    private String nameLc;
+
+    /** 검색용 소문자 제공자명 (DB 생성 컬럼, 읽기 전용) */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "provider_lc", insertable = false, updatable = false,
+            columnDefinition = "VARCHAR(100) GENERATED ALWAYS AS (LOWER(provider)) STORED")
+    private String providerLc;
 }
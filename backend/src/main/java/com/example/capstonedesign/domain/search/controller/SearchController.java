@@ -0,0 +1,138 @@
+package com.example.capstonedesign.domain.search.controller;
+
+import com.example.capstonedesign.domain.notifications.matching.RegionCodes;
+import com.example.capstonedesign.domain.search.dto.response.FacetSearchResponse;
+import com.example.capstonedesign.domain.search.dto.response.SearchResponse;
+import com.example.capstonedesign.domain.search.dto.response.TypeaheadResponse;
+import com.example.capstonedesign.domain.search.facet.Facet;
+import com.example.capstonedesign.domain.search.facet.FacetSource;
+import com.example.capstonedesign.domain.search.index.SearchDomain;
+import com.example.capstonedesign.domain.search.service.FacetSearchService;
+import com.example.capstonedesign.domain.search.service.SearchIndexService;
+import com.example.capstonedesign.domain.search.service.TypeaheadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SearchController
+ * -------------------------------------------------
+ * LH/SH/청년정책/금융상품 통합 검색 API
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/search")
+@Tag(name = "통합 검색", description = "공고·정책·금융상품 통합 키워드 검색 API")
+public class SearchController {
+
+    private static final int MAX_SIZE = 100;
+
+    private final SearchIndexService searchIndexService;
+    private final TypeaheadService typeaheadService;
+    private final FacetSearchService facetSearchService;
+
+    /**
+     * [통합 검색]
+     * -------------------------------------------------
+     * 요청 예시:
+     * GET /api/search?q=행복주택&domains=LH,SH&size=20
+     *
+     * @param q       검색어 (공백/기호 무시, 부분 일치)
+     * @param domains 대상 도메인 (LH, SH, POLICY, FINANCE / 생략 시 전체)
+     * @param size    반환 건수 (최대 100)
+     * @return 점수 순 검색 결과
+     */
+    @Operation(summary = "통합 검색", description = "LH·SH 공고, 청년정책, 금융상품을 한 번에 검색합니다.")
+    @GetMapping
+    public SearchResponse search(
+            @RequestParam String q,
+            @RequestParam(required = false) List<SearchDomain> domains,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        return searchIndexService.search(q, domains, limit);
+    }
+
+    /**
+     * [검색어 자동완성]
+     * -------------------------------------------------
+     * 요청 예시:
+     * GET /api/search/suggest?q=ㅎㅂㅈㅌ&size=10
+     *
+     * @param q    입력 중인 접두사 (초성만 입력해도 조회)
+     * @param size 반환 건수 (최대 search.typeahead.top-k)
+     * @return 인기도·최신순 자동완성 후보
+     */
+    @Operation(summary = "검색어 자동완성", description = "공고명·정책명·상품명, 기관명, 지역명을 접두사/초성으로 추천합니다.")
+    @GetMapping("/suggest")
+    public TypeaheadResponse suggest(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return typeaheadService.suggest(q, Math.max(1, size));
+    }
+
+    /**
+     * [공고 패싯 필터]
+     * -------------------------------------------------
+     * 요청 예시:
+     * GET /api/search/facets/SH?status=now&supplyType=행복주택&supplyType=청년안심주택&page=0&size=20
+     *
+     * @param source     LH / SH
+     * @param category   유형 (LH: HousingCategory, SH: SHHousingCategory)
+     * @param status     상태 (LH: HousingStatus, SH: RecruitStatus)
+     * @param supplyType 공급유형 (SH)
+     * @param region     광역 지역 코드(11, 41 ...) 또는 지역명 (지역명은 코드로 변환)
+     * @return 필터 결과 페이지 + 축별 값 건수
+     */
+    @Operation(summary = "공고 패싯 필터", description = "유형·상태·공급유형·지역 필터 결과와 값별 건수를 함께 반환합니다.")
+    @GetMapping("/facets/{source}")
+    public FacetSearchResponse facets(
+            @PathVariable FacetSource source,
+            @RequestParam(required = false) List<String> category,
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(required = false) List<String> supplyType,
+            @RequestParam(required = false) List<String> region,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Map<Facet, Set<String>> selection = new EnumMap<>(Facet.class);
+        putSelection(selection, Facet.CATEGORY, category);
+        putSelection(selection, Facet.STATUS, status);
+        putSelection(selection, Facet.SUPPLY_TYPE, supplyType);
+        putSelection(selection, Facet.REGION, region == null ? null
+                : region.stream().map(SearchController::toRegionCode).toList());
+
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        return facetSearchService.search(source, selection, Math.max(0, page), limit);
+    }
+
+    /** 지역 필터 값 → 광역 지역 코드 (숫자면 그대로, 변환할 수 없는 지역명은 그대로 두어 결과 없음) */
+    private static String toRegionCode(String region) {
+        if (region == null || region.isBlank()) return null;
+        String r = region.trim();
+        if (r.chars().allMatch(Character::isDigit)) return r;
+        String code = RegionCodes.toCode(r);
+        return code.isEmpty() ? r : code;
+    }
+
+    private static void putSelection(Map<Facet, Set<String>> selection, Facet facet, List<String> values) {
+        if (values == null) return;
+        Set<String> set = new HashSet<>();
+        for (String v : values) {
+            if (v != null && !v.isBlank()) set.add(v.trim());
+        }
+        if (!set.isEmpty()) selection.put(facet, set);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.capstonedesign.domain.search.dto.response;
+
+import com.example.capstonedesign.domain.search.facet.FacetDocument;
+
+/**
+ * FacetItemResponse
+ * -------------------------------------------------
+ * 패싯 필터 결과 공고 1건
+ */
+public record FacetItemResponse(
+        Long id,
+        String title,
+        String category,
+        String status,
+        String supplyType,
+        String region,
+        String regionCode,
+        String postDate,
+        String closeDate,
+        String url
+) {
+    public static FacetItemResponse from(FacetDocument d) {
+        return new FacetItemResponse(d.id(), d.title(), d.category(), d.status(), d.supplyType(),
+                d.region(), d.regionCode(), d.postDate(), d.closeDate(), d.url());
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.capstonedesign.domain.search.dto.response;
+
+import com.example.capstonedesign.domain.search.facet.Facet;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FacetSearchResponse
+ * -------------------------------------------------
+ * 패싯 필터 응답
+ * - items: 필터 결과 중 요청 페이지
+ * - facets: 축별 값 → 건수 (자기 축 선택은 제외하고 계산, 건수 내림차순)
+ */
+public record FacetSearchResponse(
+        int total,
+        int page,
+        int size,
+        List<FacetItemResponse> items,
+        Map<Facet, Map<String, Integer>> facets
+) {}
@@ -0,0 +1,22 @@
+package com.example.capstonedesign.domain.search.dto.response;
+
+import com.example.capstonedesign.domain.search.index.SearchDomain;
+import com.example.capstonedesign.domain.search.index.SearchHit;
+
+/**
+ * SearchHitResponse
+ * -------------------------------------------------
+ * 통합 검색 결과 1건
+ */
+public record SearchHitResponse(
+        SearchDomain domain,
+        Long id,
+        String title,
+        String subtitle,
+        String url,
+        double score
+) {
+    public static SearchHitResponse from(SearchHit hit) {
+        return new SearchHitResponse(hit.domain(), hit.id(), hit.title(), hit.subtitle(), hit.url(), hit.score());
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.capstonedesign.domain.search.dto.response;
+
+import java.util.List;
+
+/**
+ * SearchResponse
+ * -------------------------------------------------
+ * 통합 검색 응답
+ * - total: 전체 일치 건수 (items 는 점수 상위 size 건)
+ */
+public record SearchResponse(
+        String query,
+        int total,
+        List<SearchHitResponse> items
+) {}
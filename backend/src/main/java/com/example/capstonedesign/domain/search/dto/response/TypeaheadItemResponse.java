@@ -0,0 +1,19 @@
+package com.example.capstonedesign.domain.search.dto.response;
+
+import com.example.capstonedesign.domain.search.index.Suggestion;
+import com.example.capstonedesign.domain.search.index.SuggestionKind;
+
+/**
+ * TypeaheadItemResponse
+ * -------------------------------------------------
+ * 자동완성 후보 1건
+ */
+public record TypeaheadItemResponse(
+        String text,
+        SuggestionKind kind,
+        int popularity
+) {
+    public static TypeaheadItemResponse from(Suggestion s) {
+        return new TypeaheadItemResponse(s.text(), s.kind(), s.popularity());
+    }
+}
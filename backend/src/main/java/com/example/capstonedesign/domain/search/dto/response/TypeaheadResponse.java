@@ -0,0 +1,13 @@
+package com.example.capstonedesign.domain.search.dto.response;
+
+import java.util.List;
+
+/**
+ * TypeaheadResponse
+ * -------------------------------------------------
+ * 자동완성 응답
+ */
+public record TypeaheadResponse(
+        String query,
+        List<TypeaheadItemResponse> items
+) {}
@@ -0,0 +1,28 @@
+package com.example.capstonedesign.domain.search.facet;
+
+import java.util.function.Function;
+
+/**
+ * Facet
+ * -------------------------------------------------
+ * 공고 목록 필터 축
+ * - 같은 축 안의 값은 OR, 축끼리는 AND
+ */
+public enum Facet {
+    CATEGORY(FacetDocument::category),
+    STATUS(FacetDocument::status),
+    SUPPLY_TYPE(FacetDocument::supplyType),
+    /** 광역 지역 코드 (11, 41 ...) */
+    REGION(FacetDocument::regionCode);
+
+    private final Function<FacetDocument, String> extractor;
+
+    Facet(Function<FacetDocument, String> extractor) {
+        this.extractor = extractor;
+    }
+
+    public String valueOf(FacetDocument doc) {
+        String v = extractor.apply(doc);
+        return (v == null || v.isBlank()) ? null : v.trim();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.capstonedesign.domain.search.facet;
+
+/**
+ * FacetDocument
+ * -------------------------------------------------
+ * 패싯 색인에 올리는 공고 1건 (LH/SH 공통 형태)
+ * - category: LH HousingCategory / SH SHHousingCategory
+ * - status: LH HousingStatus(panSs 정규화) / SH RecruitStatus
+ * - supplyType: SH 공급유형 (LH 는 null)
+ * - region: 원본 지역명 (표시용), regionCode: 광역 지역 코드 (RegionCodes, 지역 필터/건수 기준)
+ *   · 같은 지역의 표기 차이(전라북도 / 전북특별자치도)를 하나의 값으로 묶음
+ */
+public record FacetDocument(
+        long id,
+        String title,
+        String category,
+        String status,
+        String supplyType,
+        String region,
+        String regionCode,
+        String postDate,
+        String closeDate,
+        String url
+) {}
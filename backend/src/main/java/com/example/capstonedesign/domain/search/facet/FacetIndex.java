@@ -0,0 +1,139 @@
+package com.example.capstonedesign.domain.search.facet;
+
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * FacetIndex
+ * -------------------------------------------------
+ * 공고 목록 패싯 필터용 불변 비트맵 색인
+ * - 문서 ordinal = 적재 순서 (게시일 최신순으로 적재 → ordinal 오름차순이 곧 기본 정렬)
+ * - 패싯 값마다 압축 비트맵(Roaring) 1개
+ * - 질의: 축 안에서는 OR, 축끼리는 AND → 결과 비트맵에서 페이지 구간만 꺼냄
+ * - 건수: 다른 축 선택만 반영한 교집합과 각 값 비트맵의 교집합 크기
+ *   (자기 축 선택은 제외 → 선택 중인 축의 다른 값 건수도 그대로 표시)
+ */
+public final class FacetIndex {
+
+    private final FacetDocument[] docs;
+    private final Map<Facet, Map<String, RoaringBitmap>> bitmaps;
+    private final RoaringBitmap all;
+
+    private FacetIndex(FacetDocument[] docs, Map<Facet, Map<String, RoaringBitmap>> bitmaps, RoaringBitmap all) {
+        this.docs = docs;
+        this.bitmaps = bitmaps;
+        this.all = all;
+    }
+
+    public static FacetIndex empty() {
+        return build(List.of());
+    }
+
+    public static FacetIndex build(List<FacetDocument> docs) {
+        Map<Facet, Map<String, RoaringBitmap>> bitmaps = new EnumMap<>(Facet.class);
+        for (Facet f : Facet.values()) {
+            bitmaps.put(f, new HashMap<>());
+        }
+
+        for (int ord = 0; ord < docs.size(); ord++) {
+            FacetDocument d = docs.get(ord);
+            for (Facet f : Facet.values()) {
+                String v = f.valueOf(d);
+                if (v != null) {
+                    bitmaps.get(f).computeIfAbsent(v, k -> new RoaringBitmap()).add(ord);
+                }
+            }
+        }
+        bitmaps.values().forEach(m -> m.values().forEach(RoaringBitmap::runOptimize));
+
+        RoaringBitmap all = new RoaringBitmap();
+        all.add(0L, docs.size());
+        return new FacetIndex(docs.toArray(FacetDocument[]::new), bitmaps, all);
+    }
+
+    public int size() {
+        return docs.length;
+    }
+
+    /** 필터 결과 + 축별 값 건수 */
+    public record Result(int total, List<FacetDocument> items, Map<Facet, Map<String, Integer>> counts) {
+    }
+
+    /**
+     * @param selection 축별 선택 값 (비어 있거나 없는 축은 전체)
+     * @param page      0부터 시작
+     * @param size      페이지 크기
+     */
+    public Result query(Map<Facet, Set<String>> selection, int page, int size) {
+        Map<Facet, RoaringBitmap> selected = new EnumMap<>(Facet.class);
+        selection.forEach((facet, values) -> {
+            if (values == null || values.isEmpty()) return;
+            RoaringBitmap union = new RoaringBitmap();
+            for (String v : values) {
+                RoaringBitmap bm = bitmaps.get(facet).get(v);
+                if (bm != null) union.or(bm);
+            }
+            selected.put(facet, union);
+        });
+
+        RoaringBitmap matched = intersect(selected, null);
+        if (matched == null) matched = all;
+
+        return new Result(matched.getCardinality(), page(matched, page, size), counts(selected));
+    }
+
+    private List<FacetDocument> page(RoaringBitmap matched, int page, int size) {
+        long from = (long) page * size;
+        if (size <= 0 || from >= matched.getLongCardinality()) return List.of();
+
+        List<FacetDocument> items = new ArrayList<>(size);
+        PeekableIntIterator it = matched.getIntIterator();
+        it.advanceIfNeeded(matched.select((int) from));
+        while (it.hasNext() && items.size() < size) {
+            items.add(docs[it.next()]);
+        }
+        return items;
+    }
+
+    private Map<Facet, Map<String, Integer>> counts(Map<Facet, RoaringBitmap> selected) {
+        Map<Facet, Map<String, Integer>> out = new EnumMap<>(Facet.class);
+        for (Facet f : Facet.values()) {
+            Map<String, RoaringBitmap> values = bitmaps.get(f);
+            if (values.isEmpty()) continue;
+
+            RoaringBitmap base = intersect(selected, f);
+            List<Map.Entry<String, Integer>> entries = new ArrayList<>(values.size());
+            for (var e : values.entrySet()) {
+                int count = (base == null)
+                        ? e.getValue().getCardinality()
+                        : RoaringBitmap.andCardinality(base, e.getValue());
+                entries.add(Map.entry(e.getKey(), count));
+            }
+            entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.comparingByKey()));
+
+            Map<String, Integer> sorted = new LinkedHashMap<>();
+            entries.forEach(e -> sorted.put(e.getKey(), e.getValue()));
+            out.put(f, sorted);
+        }
+        return out;
+    }
+
+    /** 선택된 축 비트맵 교집합 (exclude 축 제외, 선택이 없으면 null = 전체) */
+    private static RoaringBitmap intersect(Map<Facet, RoaringBitmap> selected, Facet exclude) {
+        RoaringBitmap acc = null;
+        for (var e : selected.entrySet()) {
+            if (e.getKey() == exclude) continue;
+            acc = (acc == null) ? e.getValue() : RoaringBitmap.and(acc, e.getValue());
+        }
+        return acc;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.capstonedesign.domain.search.facet;
+
+import com.example.capstonedesign.application.ingest.IngestDomain;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * FacetSource
+ * -------------------------------------------------
+ * 패싯 필터 대상 공고 목록 (LH / SH)
+ */
+public enum FacetSource {
+    LH(IngestDomain.LH),
+    SH(IngestDomain.SH);
+
+    private final IngestDomain ingestDomain;
+
+    FacetSource(IngestDomain ingestDomain) {
+        this.ingestDomain = ingestDomain;
+    }
+
+    public static Optional<FacetSource> of(IngestDomain ingestDomain) {
+        return Arrays.stream(values())
+                .filter(s -> s.ingestDomain == ingestDomain)
+                .findFirst();
+    }
+}
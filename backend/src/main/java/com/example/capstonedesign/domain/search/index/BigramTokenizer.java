@@ -0,0 +1,51 @@
+package com.example.capstonedesign.domain.search.index;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * BigramTokenizer
+ * -------------------------------------------------
+ * 한국어 친화 문자 bigram 토크나이저
+ * - 정규화: 소문자 변환, 문자·숫자 외(공백/기호) 제거
+ *   → "행복 주택" 과 "행복주택" 이 같은 토큰열을 가짐
+ * - 형태소 분석 없이 부분 문자열 검색(LIKE '%q%')과 같은 재현율 확보
+ * - 정규화 결과가 1글자면 그 글자 자체가 토큰
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) return "";
+
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 중복 포함 bigram 목록 (빈도 계산용) */
+    public static List<String> tokens(String text) {
+        String n = normalize(text);
+        if (n.isEmpty()) return List.of();
+        if (n.length() == 1) return List.of(n);
+
+        List<String> out = new ArrayList<>(n.length() - 1);
+        for (int i = 0; i + 2 <= n.length(); i++) {
+            out.add(n.substring(i, i + 2));
+        }
+        return out;
+    }
+
+    /** 중복 제거 bigram 목록 (질의용, 등장 순서 유지) */
+    public static List<String> distinctTokens(String text) {
+        return new ArrayList<>(new LinkedHashSet<>(tokens(text)));
+    }
+}
@@ -0,0 +1,353 @@
+package com.example.capstonedesign.domain.search.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * DomainIndex
+ * -------------------------------------------------
+ * 도메인 1개(LH/SH/정책/금융)의 불변 역색인
+ * - 문서는 적재 순서대로 ordinal(0..n-1) 부여
+ * - bigram → posting (ordinal 오름차순 int[] + 필드 가중 빈도 int[])
+ * - 질의: 모든 bigram 을 포함하는 문서(AND) 만 후보 → LIKE '%q%' 와 같은 재현율
+ *   · 가장 짧은 posting 기준으로 나머지를 갤로핑 탐색 → 비용은 테이블 크기가 아닌 posting 길이에 비례
+ * - 점수: Σ(필드 가중 빈도 × idf), 제목에 질의 전체가 그대로 포함되면 2배
+ * - 재구성은 새 인스턴스를 만들어 교체 (조회 중 잠금 없음)
+ * - 부분 갱신(withChanges): 바뀐 문서만 토큰화해 새 인스턴스 생성
+ *   · 새/수정 문서는 끝 ordinal 로 추가 → posting 정렬 유지, 건드린 bigram posting 만 복사 (나머지는 공유)
+ *   · 수정·삭제된 문서의 이전 ordinal 은 posting 에서 빼고 빈 칸으로 남김 → 빈 칸이 살아 있는 문서보다 많아지면 메모리 문서로 재구성
+ */
+public final class DomainIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SUBTITLE_WEIGHT = 2;
+    private static final int BODY_WEIGHT = 1;
+    private static final double PHRASE_BOOST = 2.0;
+
+    private record Postings(int[] docs, int[] weights) {
+        int size() {
+            return docs.length;
+        }
+    }
+
+    private final SearchDomain domain;
+    /** ordinal → 원본 문서 (부분 갱신으로 빠진 칸은 null) */
+    private final SearchDocument[] docs;
+    private final Map<Long, Integer> ordinalById;
+    private final long[] ids;
+    private final String[] titles;
+    private final String[] subtitles;
+    private final String[] urls;
+    private final String[] normalizedTitles;
+    private final Map<String, Postings> postings;
+    /** 1글자 질의용: 글자 → 그 글자를 포함하는 bigram 목록 */
+    private final Map<Character, List<String>> termsByChar;
+
+    private DomainIndex(SearchDomain domain, SearchDocument[] docs, Map<Long, Integer> ordinalById,
+                        long[] ids, String[] titles, String[] subtitles, String[] urls,
+                        String[] normalizedTitles, Map<String, Postings> postings,
+                        Map<Character, List<String>> termsByChar) {
+        this.domain = domain;
+        this.docs = docs;
+        this.ordinalById = ordinalById;
+        this.ids = ids;
+        this.titles = titles;
+        this.subtitles = subtitles;
+        this.urls = urls;
+        this.normalizedTitles = normalizedTitles;
+        this.postings = postings;
+        this.termsByChar = termsByChar;
+    }
+
+    public static DomainIndex empty(SearchDomain domain) {
+        return build(domain, List.of());
+    }
+
+    public static DomainIndex build(SearchDomain domain, List<SearchDocument> docs) {
+        int n = docs.size();
+        SearchDocument[] stored = docs.toArray(new SearchDocument[0]);
+        Map<Long, Integer> ordinalById = new HashMap<>(n * 2);
+        long[] ids = new long[n];
+        String[] titles = new String[n];
+        String[] subtitles = new String[n];
+        String[] urls = new String[n];
+        String[] normalizedTitles = new String[n];
+        Map<String, TermBuilder> builders = new HashMap<>();
+
+        for (int ord = 0; ord < n; ord++) {
+            SearchDocument d = stored[ord];
+            ordinalById.put(d.id(), ord);
+            ids[ord] = d.id();
+            titles[ord] = d.title();
+            subtitles[ord] = d.subtitle();
+            urls[ord] = d.url();
+            normalizedTitles[ord] = BigramTokenizer.normalize(d.title());
+
+            for (var e : termFrequencies(d).entrySet()) {
+                builders.computeIfAbsent(e.getKey(), k -> new TermBuilder()).add(ord, e.getValue());
+            }
+        }
+
+        Map<String, Postings> postings = new HashMap<>(builders.size() * 2);
+        for (var e : builders.entrySet()) {
+            postings.put(e.getKey(), e.getValue().build());
+        }
+
+        return new DomainIndex(domain, stored, ordinalById, ids, titles, subtitles, urls, normalizedTitles,
+                postings, termsByChar(postings.keySet()));
+    }
+
+    /**
+     * 부분 갱신한 새 인스턴스 (this 는 그대로 → 조회 중인 스레드에 영향 없음)
+     *
+     * @param changedIds 추가·수정·삭제된 문서 id
+     * @param current    changedIds 중 지금 원본 테이블에 남아 있는 문서 (없는 id 는 삭제로 간주)
+     */
+    public DomainIndex withChanges(Collection<Long> changedIds, List<SearchDocument> current) {
+        Set<Long> touched = new HashSet<>(changedIds);
+        for (SearchDocument d : current) touched.add(d.id());
+
+        int n = ids.length;
+        int m = current.size();
+        SearchDocument[] nextDocs = Arrays.copyOf(docs, n + m);
+        Map<Long, Integer> nextOrdinals = new HashMap<>(ordinalById);
+        long[] nextIds = Arrays.copyOf(ids, n + m);
+        String[] nextTitles = Arrays.copyOf(titles, n + m);
+        String[] nextSubtitles = Arrays.copyOf(subtitles, n + m);
+        String[] nextUrls = Arrays.copyOf(urls, n + m);
+        String[] nextNormalizedTitles = Arrays.copyOf(normalizedTitles, n + m);
+
+        Map<String, Set<Integer>> removed = new HashMap<>();
+        for (Long id : touched) {
+            Integer old = nextOrdinals.remove(id);
+            if (old == null) continue;
+            for (String term : termFrequencies(docs[old]).keySet()) {
+                removed.computeIfAbsent(term, k -> new HashSet<>()).add(old);
+            }
+            nextDocs[old] = null;
+            nextTitles[old] = null;
+            nextSubtitles[old] = null;
+            nextUrls[old] = null;
+            nextNormalizedTitles[old] = null;
+        }
+
+        Map<String, TermBuilder> added = new HashMap<>();
+        for (int i = 0; i < m; i++) {
+            int ord = n + i;
+            SearchDocument d = current.get(i);
+            nextDocs[ord] = d;
+            nextOrdinals.put(d.id(), ord);
+            nextIds[ord] = d.id();
+            nextTitles[ord] = d.title();
+            nextSubtitles[ord] = d.subtitle();
+            nextUrls[ord] = d.url();
+            nextNormalizedTitles[ord] = BigramTokenizer.normalize(d.title());
+            for (var e : termFrequencies(d).entrySet()) {
+                added.computeIfAbsent(e.getKey(), k -> new TermBuilder()).add(ord, e.getValue());
+            }
+        }
+
+        // 빈 칸이 살아 있는 문서보다 많으면 메모리 문서만으로 다시 구성 (DB 재조회 없음)
+        if (n + m - nextOrdinals.size() > nextOrdinals.size()) {
+            return build(domain, Arrays.stream(nextDocs).filter(Objects::nonNull).toList());
+        }
+
+        Map<String, Postings> nextPostings = new HashMap<>(postings);
+        Set<String> changedTerms = new HashSet<>(removed.keySet());
+        changedTerms.addAll(added.keySet());
+        for (String term : changedTerms) {
+            Postings merged = merge(postings.get(term), removed.getOrDefault(term, Set.of()), added.get(term));
+            if (merged.size() == 0) {
+                nextPostings.remove(term);
+            } else {
+                nextPostings.put(term, merged);
+            }
+        }
+
+        return new DomainIndex(domain, nextDocs, nextOrdinals, nextIds, nextTitles, nextSubtitles, nextUrls,
+                nextNormalizedTitles, nextPostings, termsByChar(nextPostings.keySet()));
+    }
+
+    /** 기존 posting 에서 removed ordinal 제거 후 added (모두 기존 ordinal 보다 큼) 를 뒤에 붙임 */
+    private static Postings merge(Postings base, Set<Integer> removed, TermBuilder added) {
+        TermBuilder out = new TermBuilder();
+        if (base != null) {
+            for (int i = 0; i < base.size(); i++) {
+                if (!removed.contains(base.docs()[i])) out.add(base.docs()[i], base.weights()[i]);
+            }
+        }
+        if (added != null) {
+            for (int i = 0; i < added.size; i++) out.add(added.docs[i], added.weights[i]);
+        }
+        return out.build();
+    }
+
+    private static Map<Character, List<String>> termsByChar(Collection<String> terms) {
+        Map<Character, List<String>> out = new HashMap<>();
+        for (String term : terms) {
+            out.computeIfAbsent(term.charAt(0), k -> new ArrayList<>()).add(term);
+            if (term.length() > 1 && term.charAt(1) != term.charAt(0)) {
+                out.computeIfAbsent(term.charAt(1), k -> new ArrayList<>()).add(term);
+            }
+        }
+        return out;
+    }
+
+    /** bigram → 필드 가중 빈도 */
+    private static Map<String, Integer> termFrequencies(SearchDocument d) {
+        Map<String, Integer> tf = new HashMap<>();
+        addField(tf, d.title(), TITLE_WEIGHT);
+        addField(tf, d.subtitle(), SUBTITLE_WEIGHT);
+        addField(tf, d.body(), BODY_WEIGHT);
+        return tf;
+    }
+
+    private static void addField(Map<String, Integer> tf, String text, int weight) {
+        for (String t : BigramTokenizer.tokens(text)) {
+            tf.merge(t, weight, Integer::sum);
+        }
+    }
+
+    public SearchDomain domain() {
+        return domain;
+    }
+
+    /** 색인된 문서 수 (부분 갱신으로 빠진 칸 제외) */
+    public int size() {
+        return ordinalById.size();
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    /** 색인된 원본 문서 (ordinal 순, 자동완성 등 파생 색인 갱신용) */
+    public List<SearchDocument> documents() {
+        return Arrays.stream(docs).filter(Objects::nonNull).toList();
+    }
+
+    /** 검색 결과: 전체 일치 건수 + 상위 limit 건 */
+    public record Result(int total, List<SearchHit> hits) {
+    }
+
+    public Result search(String query, int limit) {
+        String normalizedQuery = BigramTokenizer.normalize(query);
+        List<String> tokens = BigramTokenizer.distinctTokens(query);
+        int live = size();
+        if (tokens.isEmpty() || live == 0) return new Result(0, List.of());
+
+        List<Postings> lists = new ArrayList<>(tokens.size());
+        List<Double> idfs = new ArrayList<>(tokens.size());
+        for (String t : tokens) {
+            Postings p = (t.length() == 1) ? unionForChar(t.charAt(0)) : postings.get(t);
+            if (p == null || p.size() == 0) return new Result(0, List.of());
+            lists.add(p);
+            idfs.add(Math.log(1.0 + (double) live / p.size()));
+        }
+
+        // 짧은 posting 부터 교집합
+        Integer[] order = new Integer[lists.size()];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparingInt(i -> lists.get(i).size()));
+
+        Postings driver = lists.get(order[0]);
+        int[] cursors = new int[lists.size()];
+        PriorityQueue<SearchHit> top = new PriorityQueue<>(Comparator.comparingDouble(SearchHit::score));
+        int total = 0;
+
+        outer:
+        for (int k = 0; k < driver.size(); k++) {
+            int doc = driver.docs()[k];
+            double score = driver.weights()[k] * idfs.get(order[0]);
+
+            for (int j = 1; j < order.length; j++) {
+                Postings p = lists.get(order[j]);
+                int pos = gallop(p.docs(), cursors[j], doc);
+                cursors[j] = pos;
+                if (pos >= p.size() || p.docs()[pos] != doc) continue outer;
+                score += p.weights()[pos] * idfs.get(order[j]);
+            }
+
+            if (normalizedTitles[doc].contains(normalizedQuery)) {
+                score *= PHRASE_BOOST;
+            }
+            total++;
+
+            if (top.size() < limit) {
+                top.add(hit(doc, score));
+            } else if (limit > 0 && score > top.peek().score()) {
+                top.poll();
+                top.add(hit(doc, score));
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>(top);
+        hits.sort(Comparator.comparingDouble(SearchHit::score).reversed());
+        return new Result(total, hits);
+    }
+
+    private SearchHit hit(int doc, double score) {
+        return new SearchHit(domain, ids[doc], titles[doc], subtitles[doc], urls[doc], score);
+    }
+
+    /** from 이후에서 target 이상인 첫 위치 (지수 탐색 + 이진 탐색) */
+    private static int gallop(int[] docs, int from, int target) {
+        int step = 1;
+        int hi = from;
+        while (hi < docs.length && docs[hi] < target) {
+            from = hi + 1;
+            hi += step;
+            step <<= 1;
+        }
+        int idx = Arrays.binarySearch(docs, from, Math.min(hi + 1, docs.length), target);
+        return idx >= 0 ? idx : -idx - 1;
+    }
+
+    /** 1글자 질의: 그 글자를 포함하는 모든 bigram posting 합집합 */
+    private Postings unionForChar(char c) {
+        List<String> terms = termsByChar.get(c);
+        if (terms == null) return null;
+
+        Map<Integer, Integer> merged = new HashMap<>();
+        for (String t : terms) {
+            Postings p = postings.get(t);
+            for (int i = 0; i < p.size(); i++) {
+                merged.merge(p.docs()[i], p.weights()[i], Integer::sum);
+            }
+        }
+        int[] docs = merged.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        int[] weights = new int[docs.length];
+        for (int i = 0; i < docs.length; i++) weights[i] = merged.get(docs[i]);
+        return new Postings(docs, weights);
+    }
+
+    /** posting 누적용 (ordinal 오름차순으로만 add) */
+    private static final class TermBuilder {
+        private int[] docs = new int[4];
+        private int[] weights = new int[4];
+        private int size;
+
+        void add(int doc, int weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = weight;
+            size++;
+        }
+
+        Postings build() {
+            return new Postings(Arrays.copyOf(docs, size), Arrays.copyOf(weights, size));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.capstonedesign.domain.search.index;
+
+/**
+ * HangulChosung
+ * -------------------------------------------------
+ * 한글 초성 변환 유틸
+ * - 완성형 음절(가~힣) → 초성 호환 자모(ㄱ~ㅎ)
+ * - 그 외 문자는 그대로 유지 ("LH행복" → "LHㅎㅂ")
+ */
+public final class HangulChosung {
+
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulChosung() {
+    }
+
+    public static String toChosung(String text) {
+        if (text == null || text.isEmpty()) return "";
+
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                sb.append(CHOSUNG[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHOSUNG]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 자음 자모(ㄱ~ㅎ)가 하나라도 있으면 초성 검색 대상 */
+    public static boolean containsChosung(String text) {
+        if (text == null) return false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') return true;
+        }
+        return false;
+    }
+}
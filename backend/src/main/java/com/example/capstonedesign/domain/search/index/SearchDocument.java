@@ -0,0 +1,15 @@
+package com.example.capstonedesign.domain.search.index;
+
+/**
+ * SearchDocument
+ * -------------------------------------------------
+ * 색인 대상 문서 1건
+ * - 필드별 가중치: title 3 / subtitle(지역·기관) 2 / body(유형·설명) 1
+ *
+ * @param id       원본 테이블 PK
+ * @param title    공고명·정책명·상품명
+ * @param subtitle 지역 / 제공 기관
+ * @param url      상세 URL
+ * @param body     유형·키워드·설명 등 보조 텍스트
+ */
+public record SearchDocument(long id, String title, String subtitle, String url, String body) {}
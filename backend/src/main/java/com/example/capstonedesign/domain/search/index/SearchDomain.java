@@ -0,0 +1,34 @@
+package com.example.capstonedesign.domain.search.index;
+
+import com.example.capstonedesign.application.ingest.IngestDomain;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * SearchDomain
+ * -------------------------------------------------
+ * 통합 검색 대상 구분 (수집 도메인과 1:1)
+ */
+public enum SearchDomain {
+    LH(IngestDomain.LH),
+    SH(IngestDomain.SH),
+    POLICY(IngestDomain.YOUTH_POLICY),
+    FINANCE(IngestDomain.FINANCE);
+
+    private final IngestDomain ingestDomain;
+
+    SearchDomain(IngestDomain ingestDomain) {
+        this.ingestDomain = ingestDomain;
+    }
+
+    public IngestDomain ingestDomain() {
+        return ingestDomain;
+    }
+
+    public static Optional<SearchDomain> of(IngestDomain ingestDomain) {
+        return Arrays.stream(values())
+                .filter(d -> d.ingestDomain == ingestDomain)
+                .findFirst();
+    }
+}
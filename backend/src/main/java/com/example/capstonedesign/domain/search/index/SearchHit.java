@@ -0,0 +1,8 @@
+package com.example.capstonedesign.domain.search.index;
+
+/**
+ * SearchHit
+ * -------------------------------------------------
+ * 색인 검색 결과 1건 (점수 높은 순 정렬 대상)
+ */
+public record SearchHit(SearchDomain domain, long id, String title, String subtitle, String url, double score) {}
@@ -0,0 +1,10 @@
+package com.example.capstonedesign.domain.search.index;
+
+/**
+ * Suggestion
+ * -------------------------------------------------
+ * 자동완성 후보 1건
+ * - popularity: 같은 문구를 가진 문서 수
+ * - recency: 해당 문구를 가진 문서 중 가장 큰 id (최근 적재일수록 큼)
+ */
+public record Suggestion(String text, SuggestionKind kind, int popularity, long recency) {}
@@ -0,0 +1,15 @@
+package com.example.capstonedesign.domain.search.index;
+
+/**
+ * SuggestionKind
+ * -------------------------------------------------
+ * 자동완성 후보 종류
+ * - NAME: 공고명/정책명/상품명
+ * - PROVIDER: 주관기관/금융회사
+ * - REGION: 지역명
+ */
+public enum SuggestionKind {
+    NAME,
+    PROVIDER,
+    REGION
+}
@@ -0,0 +1,209 @@
+package com.example.capstonedesign.domain.search.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * TypeaheadTrie
+ * -------------------------------------------------
+ * 자동완성용 불변 압축 접두사 트리(radix trie)
+ * - 키: 후보 문구의 각 단어 시작 위치부터의 정규화 문자열 ("강남 행복주택" → "강남행복주택", "행복주택")
+ * - 초성 키 공간을 별도 트리로 보관 → "ㅎㅂㅈㅌ" 로 "행복주택" 조회
+ * - 노드마다 하위 전체 후보 중 상위 k 개(인기도 → 최신순)를 미리 계산
+ *   → 조회 비용 = 접두사 길이만큼 내려가기 + 배열 복사 (후보 수와 무관)
+ * - 재구성은 새 인스턴스를 만들어 교체
+ */
+public final class TypeaheadTrie {
+
+    /** 한 문구에서 키로 쓰는 단어 시작 위치 최대 개수 */
+    private static final int MAX_WORD_STARTS = 5;
+
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingInt(Suggestion::popularity).reversed()
+            .thenComparing(Comparator.comparingLong(Suggestion::recency).reversed())
+            .thenComparingInt(s -> s.text().length())
+            .thenComparing(Suggestion::text);
+
+    private final Suggestion[] ranked;
+    private final Node plainRoot;
+    private final Node chosungRoot;
+    private final int topK;
+
+    private TypeaheadTrie(Suggestion[] ranked, Node plainRoot, Node chosungRoot, int topK) {
+        this.ranked = ranked;
+        this.plainRoot = plainRoot;
+        this.chosungRoot = chosungRoot;
+        this.topK = topK;
+    }
+
+    public static TypeaheadTrie build(List<Suggestion> suggestions, int topK) {
+        Suggestion[] ranked = suggestions.stream().sorted(RANKING).toArray(Suggestion[]::new);
+        Node plainRoot = new Node("");
+        Node chosungRoot = new Node("");
+
+        for (int rank = 0; rank < ranked.length; rank++) {
+            for (String suffix : wordStarts(ranked[rank].text())) {
+                insert(plainRoot, BigramTokenizer.normalize(suffix), rank);
+                insert(chosungRoot, BigramTokenizer.normalize(HangulChosung.toChosung(suffix)), rank);
+            }
+        }
+
+        plainRoot.freeze(topK);
+        chosungRoot.freeze(topK);
+        return new TypeaheadTrie(ranked, plainRoot, chosungRoot, topK);
+    }
+
+    public int size() {
+        return ranked.length;
+    }
+
+    public int topK() {
+        return topK;
+    }
+
+    /**
+     * 접두사 자동완성
+     * - 자음 자모가 섞인 입력은 초성 트리에서 조회 (완성된 음절도 초성으로 바꿔 비교)
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        boolean chosung = HangulChosung.containsChosung(prefix);
+        String key = BigramTokenizer.normalize(chosung ? HangulChosung.toChosung(prefix) : prefix);
+        if (key.isEmpty() || limit <= 0) return List.of();
+
+        int[] top = lookup(chosung ? chosungRoot : plainRoot, key);
+        int n = Math.min(limit, top.length);
+        List<Suggestion> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            out.add(ranked[top[i]]);
+        }
+        return out;
+    }
+
+    private static List<String> wordStarts(String text) {
+        List<String> out = new ArrayList<>(2);
+        boolean atStart = true;
+        for (int i = 0; i < text.length() && out.size() < MAX_WORD_STARTS; i++) {
+            boolean space = Character.isWhitespace(text.charAt(i));
+            if (atStart && !space) {
+                out.add(text.substring(i));
+            }
+            atStart = space;
+        }
+        return out;
+    }
+
+    private static void insert(Node root, String key, int rank) {
+        if (key.isEmpty()) return;
+
+        Node cur = root;
+        int i = 0;
+        while (i < key.length()) {
+            char c = key.charAt(i);
+            Node child = cur.children.get(c);
+            if (child == null) {
+                Node leaf = new Node(key.substring(i));
+                leaf.addTerminal(rank);
+                cur.children.put(c, leaf);
+                return;
+            }
+
+            int common = commonPrefix(child.label, key, i);
+            if (common < child.label.length()) {
+                // 간선 분할
+                Node mid = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                mid.children.put(child.label.charAt(0), child);
+                cur.children.put(c, mid);
+                child = mid;
+            }
+            cur = child;
+            i += common;
+        }
+        cur.addTerminal(rank);
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int n = 0;
+        while (n < max && label.charAt(n) == key.charAt(offset + n)) n++;
+        return n;
+    }
+
+    private static int[] lookup(Node root, String key) {
+        Node cur = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = cur.child(key.charAt(i));
+            if (child == null) return new int[0];
+
+            int n = Math.min(child.label.length(), key.length() - i);
+            if (!child.label.regionMatches(0, key, i, n)) return new int[0];
+            i += n;
+            cur = child;
+        }
+        return cur.top;
+    }
+
+    /** 트리 노드 (build 중에는 TreeMap, freeze 이후에는 정렬 배열) */
+    private static final class Node {
+
+        private String label;
+        private Map<Character, Node> children = new TreeMap<>();
+        private int[] terminals = new int[0];
+
+        private char[] keys;
+        private Node[] kids;
+        private int[] top;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        void addTerminal(int rank) {
+            terminals = Arrays.copyOf(terminals, terminals.length + 1);
+            terminals[terminals.length - 1] = rank;
+        }
+
+        Node child(char c) {
+            int idx = Arrays.binarySearch(keys, c);
+            return idx >= 0 ? kids[idx] : null;
+        }
+
+        /** 자식부터 고정하고 상위 k 개(rank 오름차순, 중복 제거) 계산 */
+        void freeze(int k) {
+            keys = new char[children.size()];
+            kids = new Node[children.size()];
+            int size = terminals.length;
+            int i = 0;
+            for (var e : children.entrySet()) {
+                keys[i] = e.getKey();
+                kids[i] = e.getValue();
+                kids[i].freeze(k);
+                size += kids[i].top.length;
+                i++;
+            }
+
+            int[] candidates = Arrays.copyOf(terminals, size);
+            int pos = terminals.length;
+            for (Node kid : kids) {
+                System.arraycopy(kid.top, 0, candidates, pos, kid.top.length);
+                pos += kid.top.length;
+            }
+            Arrays.sort(candidates);
+
+            int[] best = new int[Math.min(k, candidates.length)];
+            int n = 0;
+            for (int j = 0; j < candidates.length && n < best.length; j++) {
+                if (n == 0 || best[n - 1] != candidates[j]) best[n++] = candidates[j];
+            }
+            top = Arrays.copyOf(best, n);
+
+            children = null;
+            terminals = null;
+        }
+    }
+}
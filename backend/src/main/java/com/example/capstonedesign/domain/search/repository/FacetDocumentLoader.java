@@ -0,0 +1,66 @@
+package com.example.capstonedesign.domain.search.repository;
+
+import com.example.capstonedesign.domain.housingannouncements.entity.HousingCategory;
+import com.example.capstonedesign.domain.housingannouncements.entity.HousingStatus;
+import com.example.capstonedesign.domain.notifications.matching.RegionCodes;
+import com.example.capstonedesign.domain.search.facet.FacetDocument;
+import com.example.capstonedesign.domain.search.facet.FacetSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * FacetDocumentLoader
+ * -------------------------------------------------
+ * 패싯 색인 구성용 공고 적재 (게시일 최신순)
+ * - LH: 상위 분류/상태는 HousingCategory·HousingStatus 로 정규화해 저장
+ * - SH: 저장된 enum 이름(category, recruit_status) 그대로 사용
+ * - 지역 코드: LH 는 지역명(cnp_cd_nm)을 RegionCodes 로 변환, SH 는 서울 공고만 있으므로 서울 코드
+ */
+@Repository
+@RequiredArgsConstructor
+public class FacetDocumentLoader {
+
+    private static final String SEOUL_CODE = RegionCodes.toCode("서울");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<FacetDocument> load(FacetSource source) {
+        return switch (source) {
+            case LH -> jdbcTemplate.query("""
+                            SELECT id, pan_nm, upp_ais_tp_nm, pan_ss, cnp_cd_nm, pan_nt_st_dt, clsg_dt, dtl_url
+                            FROM lh_notices
+                            ORDER BY pan_nt_st_dt DESC, id DESC
+                            """,
+                    (rs, i) -> new FacetDocument(
+                            rs.getLong("id"),
+                            rs.getString("pan_nm"),
+                            HousingCategory.fromUppAisTpNm(rs.getString("upp_ais_tp_nm")).name(),
+                            HousingStatus.fromPanSs(rs.getString("pan_ss")).name(),
+                            null,
+                            rs.getString("cnp_cd_nm"),
+                            RegionCodes.toCode(rs.getString("cnp_cd_nm")),
+                            rs.getString("pan_nt_st_dt"),
+                            rs.getString("clsg_dt"),
+                            rs.getString("dtl_url")));
+            case SH -> jdbcTemplate.query("""
+                            SELECT id, title, category, recruit_status, supply_type, region, post_date, detail_url
+                            FROM sh_announcements
+                            ORDER BY post_date DESC, id DESC
+                            """,
+                    (rs, i) -> new FacetDocument(
+                            rs.getLong("id"),
+                            rs.getString("title"),
+                            rs.getString("category"),
+                            rs.getString("recruit_status"),
+                            rs.getString("supply_type"),
+                            rs.getString("region"),
+                            SEOUL_CODE,
+                            rs.getString("post_date"),
+                            null,
+                            rs.getString("detail_url")));
+        };
+    }
+}
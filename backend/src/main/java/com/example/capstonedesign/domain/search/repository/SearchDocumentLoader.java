@@ -0,0 +1,97 @@
+package com.example.capstonedesign.domain.search.repository;
+
+import com.example.capstonedesign.domain.search.index.SearchDocument;
+import com.example.capstonedesign.domain.search.index.SearchDomain;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SearchDocumentLoader
+ * -------------------------------------------------
+ * 검색 색인 구성용 원본 문서 적재
+ * - 엔티티/연관관계 로딩 없이 필요한 컬럼만 JDBC 로 한 번에 조회
+ * - 부분 갱신용 id 지정 조회 (PK IN 절, 1000건 단위)
+ * - 도메인별 title / subtitle / body 매핑
+ *   · LH: 공고명 / 지역 / 공고유형·세부유형
+ *   · SH: 제목 / 지역 / 공급유형·담당부서
+ *   · 정책: 정책명 / 주관기관 / 키워드·설명
+ *   · 금융: 상품명 / 금융회사
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchDocumentLoader {
+
+    private static final int ID_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 도메인 전체 문서 */
+    public List<SearchDocument> load(SearchDomain domain) {
+        return jdbcTemplate.query(select(domain), mapper(domain));
+    }
+
+    /** 지정한 id 중 지금 테이블에 있는 문서만 (삭제된 id 는 결과에서 빠짐) */
+    public List<SearchDocument> load(SearchDomain domain, Collection<Long> ids) {
+        List<Long> all = new ArrayList<>(ids);
+        List<SearchDocument> out = new ArrayList<>(all.size());
+        for (int from = 0; from < all.size(); from += ID_CHUNK_SIZE) {
+            List<Long> chunk = all.subList(from, Math.min(from + ID_CHUNK_SIZE, all.size()));
+            String sql = select(domain)
+                    + (domain == SearchDomain.FINANCE ? " AND" : " WHERE")
+                    + " id IN (" + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")";
+            out.addAll(jdbcTemplate.query(sql, mapper(domain), chunk.toArray()));
+        }
+        return out;
+    }
+
+    private static String select(SearchDomain domain) {
+        return switch (domain) {
+            case LH -> "SELECT id, pan_nm, cnp_cd_nm, upp_ais_tp_nm, ais_tp_cd_nm, dtl_url FROM lh_notices";
+            case SH -> "SELECT id, title, region, supply_type, department, detail_url FROM sh_announcements";
+            case POLICY -> "SELECT id, policy_name, agency, keyword, description, apply_url FROM youth_policies";
+            case FINANCE -> "SELECT id, name, provider, detail_url FROM products WHERE type = 'FINANCE'";
+        };
+    }
+
+    private static RowMapper<SearchDocument> mapper(SearchDomain domain) {
+        return switch (domain) {
+            case LH -> (rs, i) -> new SearchDocument(
+                    rs.getLong("id"),
+                    rs.getString("pan_nm"),
+                    rs.getString("cnp_cd_nm"),
+                    rs.getString("dtl_url"),
+                    join(rs.getString("upp_ais_tp_nm"), rs.getString("ais_tp_cd_nm")));
+            case SH -> (rs, i) -> new SearchDocument(
+                    rs.getLong("id"),
+                    rs.getString("title"),
+                    rs.getString("region"),
+                    rs.getString("detail_url"),
+                    join(rs.getString("supply_type"), rs.getString("department")));
+            case POLICY -> (rs, i) -> new SearchDocument(
+                    rs.getLong("id"),
+                    rs.getString("policy_name"),
+                    rs.getString("agency"),
+                    rs.getString("apply_url"),
+                    join(rs.getString("keyword"), rs.getString("description")));
+            case FINANCE -> (rs, i) -> new SearchDocument(
+                    rs.getLong("id"),
+                    rs.getString("name"),
+                    rs.getString("provider"),
+                    rs.getString("detail_url"),
+                    null);
+        };
+    }
+
+    private static String join(String a, String b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a + " " + b;
+    }
+}
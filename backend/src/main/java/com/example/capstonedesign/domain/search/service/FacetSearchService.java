@@ -0,0 +1,93 @@
+package com.example.capstonedesign.domain.search.service;
+
+import com.example.capstonedesign.application.ingest.IngestDataVersions;
+import com.example.capstonedesign.application.ingest.IngestRebuildScheduler;
+import com.example.capstonedesign.domain.search.dto.response.FacetItemResponse;
+import com.example.capstonedesign.domain.search.dto.response.FacetSearchResponse;
+import com.example.capstonedesign.domain.search.facet.Facet;
+import com.example.capstonedesign.domain.search.facet.FacetIndex;
+import com.example.capstonedesign.domain.search.facet.FacetSource;
+import com.example.capstonedesign.domain.search.repository.FacetDocumentLoader;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FacetSearchService
+ * -------------------------------------------------
+ * LH/SH 공고 목록 패싯 필터 + 값별 건수
+ * - 필터 결과와 건수를 한 번의 호출로 메모리 비트맵에서 계산 (MySQL 미조회)
+ * - 기동 완료 시 구성, 해당 공고 수집 데이터 버전이 바뀌면 백그라운드 재구성 후 교체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FacetSearchService {
+
+    private final FacetDocumentLoader documentLoader;
+    private final IngestDataVersions dataVersions;
+
+    private final Map<FacetSource, FacetIndex> indexes = new ConcurrentHashMap<>();
+    private final IngestRebuildScheduler<FacetSource> rebuilds =
+            new IngestRebuildScheduler<>("facet-indexer", FacetSource.class, FacetSource::of, this::rebuild);
+
+    @PostConstruct
+    void registerListener() {
+        rebuilds.listenTo(dataVersions);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuilds.scheduleAll();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilds.shutdown();
+    }
+
+    /** 비동기 재구성 예약 (이미 대기 중이면 합침) */
+    public void scheduleRebuild(FacetSource source) {
+        rebuilds.schedule(source);
+    }
+
+    /** 동기 재구성 (실패 시 기존 색인 유지) */
+    public void rebuild(FacetSource source) {
+        long started = System.currentTimeMillis();
+        try {
+            FacetIndex index = FacetIndex.build(documentLoader.load(source));
+            indexes.put(source, index);
+            log.info("🧮 패싯 색인 재구성 완료 ({}): 공고 {}건, {}ms",
+                    source, index.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.warn("⚠️ 패싯 색인 재구성 실패 ({}): {}", source, e.getMessage());
+        }
+    }
+
+    /**
+     * 패싯 필터 조회
+     *
+     * @param source    LH / SH
+     * @param selection 축별 선택 값 (같은 축은 OR, 축끼리 AND)
+     */
+    public FacetSearchResponse search(FacetSource source, Map<Facet, Set<String>> selection, int page, int size) {
+        FacetIndex index = indexes.getOrDefault(source, FacetIndex.empty());
+        FacetIndex.Result r = index.query(selection, page, size);
+
+        return new FacetSearchResponse(
+                r.total(),
+                page,
+                size,
+                r.items().stream().map(FacetItemResponse::from).toList(),
+                r.counts()
+        );
+    }
+}
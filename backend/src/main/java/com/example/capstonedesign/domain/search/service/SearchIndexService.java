@@ -0,0 +1,183 @@
+package com.example.capstonedesign.domain.search.service;
+
+import com.example.capstonedesign.application.ingest.IngestDataVersions;
+import com.example.capstonedesign.application.ingest.IngestRebuildScheduler;
+import com.example.capstonedesign.common.exception.ApiException;
+import com.example.capstonedesign.common.exception.ErrorCode;
+import com.example.capstonedesign.domain.search.dto.response.SearchHitResponse;
+import com.example.capstonedesign.domain.search.dto.response.SearchResponse;
+import com.example.capstonedesign.domain.search.index.DomainIndex;
+import com.example.capstonedesign.domain.search.index.SearchDocument;
+import com.example.capstonedesign.domain.search.index.SearchDomain;
+import com.example.capstonedesign.domain.search.index.SearchHit;
+import com.example.capstonedesign.domain.search.repository.SearchDocumentLoader;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * SearchIndexService
+ * -------------------------------------------------
+ * LH/SH/정책/금융 통합 검색 (메모리 bigram 역색인)
+ * - 기동 완료 시 전 도메인 색인 구성
+ * - 수집 데이터 버전이 바뀌면 해당 도메인만 백그라운드 갱신 후 교체
+ *   · 수집기가 저장한 행 id 를 넘기면 그 행만 PK 로 다시 읽어 색인에 반영 (테이블 전체 재조회 없음)
+ *   · 행 id 를 모르는 변경(시드 적재 등)·색인 전 상태면 도메인 전체 재구성
+ *   · 갱신 중에는 이전 색인으로 계속 응답 (조회 잠금 없음)
+ *   · 같은 도메인 요청이 몰리면 1회로 합침
+ * - 결과는 도메인 구분 없이 점수 순으로 병합
+ * - 갱신 후 색인 문서를 리스너에 전달 (자동완성 등 파생 색인이 DB 를 다시 읽지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexService {
+
+    private final SearchDocumentLoader documentLoader;
+    private final IngestDataVersions dataVersions;
+
+    private final Map<SearchDomain, DomainIndex> indexes = new ConcurrentHashMap<>();
+    private final List<BiConsumer<SearchDomain, List<SearchDocument>>> rebuildListeners = new CopyOnWriteArrayList<>();
+    private final IngestRebuildScheduler<SearchDomain> rebuilds =
+            new IngestRebuildScheduler<>("search-indexer", SearchDomain.class, SearchDomain::of, this::update);
+
+    @PostConstruct
+    void registerListener() {
+        rebuilds.listenTo(dataVersions);
+    }
+
+    /** 도메인 갱신 완료 리스너 등록 (색인 스레드에서 호출, 갱신 후 도메인 전체 문서 전달) */
+    public void addRebuildListener(BiConsumer<SearchDomain, List<SearchDocument>> listener) {
+        rebuildListeners.add(listener);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuilds.scheduleAll();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilds.shutdown();
+    }
+
+    /** 비동기 재구성 예약 (이미 대기 중이면 합침) */
+    public void scheduleRebuild(SearchDomain domain) {
+        rebuilds.schedule(domain);
+    }
+
+    /** 동기 재구성 (실패 시 기존 색인 유지) */
+    public void rebuild(SearchDomain domain) {
+        long started = System.currentTimeMillis();
+        try {
+            List<SearchDocument> docs = documentLoader.load(domain);
+            DomainIndex index = DomainIndex.build(domain, docs);
+            indexes.put(domain, index);
+            log.info("🔎 검색 색인 재구성 완료 ({}): 문서 {}건, 토큰 {}개, {}ms",
+                    domain, index.size(), index.termCount(), System.currentTimeMillis() - started);
+            notifyRebuilt(domain, docs);
+        } catch (Exception e) {
+            log.warn("⚠️ 검색 색인 재구성 실패 ({}): {}", domain, e.getMessage());
+        }
+    }
+
+    /** 재구성 스레드 진입점 (changedIds 가 null 이면 전체 재구성) */
+    private void update(SearchDomain domain, Set<Long> changedIds) {
+        if (changedIds == null) {
+            rebuild(domain);
+        } else {
+            applyChanges(domain, changedIds);
+        }
+    }
+
+    /** 동기 부분 갱신 (색인 전이면 전체 재구성, 실패 시 기존 색인 유지 후 전체 재구성 예약) */
+    public void applyChanges(SearchDomain domain, Set<Long> changedIds) {
+        DomainIndex previous = indexes.get(domain);
+        if (previous == null) {
+            rebuild(domain);
+            return;
+        }
+        long started = System.currentTimeMillis();
+        try {
+            List<SearchDocument> changed = documentLoader.load(domain, changedIds);
+            DomainIndex index = previous.withChanges(changedIds, changed);
+            indexes.put(domain, index);
+            log.info("🔎 검색 색인 부분 갱신 ({}): 변경 {}건 → 문서 {}건, {}ms",
+                    domain, changedIds.size(), index.size(), System.currentTimeMillis() - started);
+            notifyRebuilt(domain, index.documents());
+        } catch (Exception e) {
+            log.warn("⚠️ 검색 색인 부분 갱신 실패 ({}): {}", domain, e.getMessage());
+            // 빠뜨린 변경 행이 다음 수집까지 검색에서 누락되지 않도록
+            rebuilds.schedule(domain);
+        }
+    }
+
+    private void notifyRebuilt(SearchDomain domain, List<SearchDocument> docs) {
+        for (var l : rebuildListeners) {
+            try {
+                l.accept(domain, docs);
+            } catch (Exception e) {
+                log.warn("⚠️ 검색 색인 리스너 실패 ({}): {}", domain, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 통합 검색
+     *
+     * @param query   검색어 (공백/기호 무시)
+     * @param domains 대상 도메인 (비어 있으면 전체)
+     * @param size    반환 건수
+     */
+    public SearchResponse search(String query, Collection<SearchDomain> domains, int size) {
+        if (query == null || query.isBlank()) {
+            throw new ApiException(ErrorCode.BAD_REQUEST, "검색어를 입력해주세요.");
+        }
+
+        Collection<SearchDomain> targets = (domains == null || domains.isEmpty())
+                ? List.of(SearchDomain.values())
+                : domains;
+
+        int total = 0;
+        List<SearchHit> merged = new ArrayList<>();
+        for (SearchDomain d : targets) {
+            DomainIndex index = indexes.getOrDefault(d, DomainIndex.empty(d));
+            DomainIndex.Result r = index.search(query, size);
+            total += r.total();
+            merged.addAll(r.hits());
+        }
+
+        List<SearchHitResponse> items = merged.stream()
+                .sorted(Comparator.comparingDouble(SearchHit::score).reversed())
+                .limit(size)
+                .map(SearchHitResponse::from)
+                .toList();
+
+        return new SearchResponse(query, total, items);
+    }
+
+    /** 도메인별 색인 문서 수 (색인 전이면 0) */
+    public Map<SearchDomain, Integer> indexedCounts() {
+        Map<SearchDomain, Integer> out = new EnumMap<>(SearchDomain.class);
+        for (SearchDomain d : SearchDomain.values()) {
+            DomainIndex index = indexes.get(d);
+            out.put(d, index == null ? 0 : index.size());
+        }
+        return out;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.capstonedesign.domain.search.service;
+
+import com.example.capstonedesign.domain.search.dto.response.TypeaheadItemResponse;
+import com.example.capstonedesign.domain.search.dto.response.TypeaheadResponse;
+import com.example.capstonedesign.domain.search.index.SearchDocument;
+import com.example.capstonedesign.domain.search.index.SearchDomain;
+import com.example.capstonedesign.domain.search.index.Suggestion;
+import com.example.capstonedesign.domain.search.index.SuggestionKind;
+import com.example.capstonedesign.domain.search.index.TypeaheadTrie;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TypeaheadService
+ * -------------------------------------------------
+ * 검색어 자동완성 (공고명/정책명/상품명, 기관·금융회사, 지역명)
+ * - 검색 색인 재구성 시 전달받은 문서로 후보 갱신 → 수집(ingest) 직후 자동 반영
+ * - 후보 = (문구, 종류) 단위로 묶어 인기도(문서 수)·최신도(최대 id) 집계
+ * - 조회는 현재 트리 참조만 읽음 (재구성 중에도 이전 트리로 응답)
+ */
+@Slf4j
+@Service
+public class TypeaheadService {
+
+    private static final int MAX_TEXT_LENGTH = 100;
+
+    private final SearchIndexService searchIndexService;
+    private final int topK;
+
+    private final Map<SearchDomain, List<Candidate>> candidates = new EnumMap<>(SearchDomain.class);
+    private volatile TypeaheadTrie trie;
+
+    /** 문서 1건에서 뽑은 후보 원천 */
+    private record Candidate(String text, SuggestionKind kind, long id) {
+    }
+
+    private record Key(String text, SuggestionKind kind) {
+    }
+
+    public TypeaheadService(SearchIndexService searchIndexService,
+                            @Value("${search.typeahead.top-k:10}") int topK) {
+        this.searchIndexService = searchIndexService;
+        this.topK = topK;
+        this.trie = TypeaheadTrie.build(List.of(), topK);
+    }
+
+    @PostConstruct
+    void registerListener() {
+        searchIndexService.addRebuildListener(this::onDomainRebuilt);
+    }
+
+    /** 도메인 문서 갱신 → 해당 도메인 후보 교체 후 트리 재구성 */
+    synchronized void onDomainRebuilt(SearchDomain domain, List<SearchDocument> docs) {
+        long started = System.currentTimeMillis();
+
+        SuggestionKind subtitleKind = switch (domain) {
+            case LH, SH -> SuggestionKind.REGION;
+            case POLICY, FINANCE -> SuggestionKind.PROVIDER;
+        };
+        List<Candidate> list = new ArrayList<>(docs.size() * 2);
+        for (SearchDocument d : docs) {
+            addCandidate(list, d.title(), SuggestionKind.NAME, d.id());
+            addCandidate(list, d.subtitle(), subtitleKind, d.id());
+        }
+        candidates.put(domain, list);
+
+        Map<Key, long[]> agg = new HashMap<>();
+        for (List<Candidate> cs : candidates.values()) {
+            for (Candidate c : cs) {
+                long[] v = agg.computeIfAbsent(new Key(c.text(), c.kind()), k -> new long[2]);
+                v[0]++;
+                v[1] = Math.max(v[1], c.id());
+            }
+        }
+        List<Suggestion> suggestions = new ArrayList<>(agg.size());
+        agg.forEach((k, v) -> suggestions.add(new Suggestion(k.text(), k.kind(), (int) v[0], v[1])));
+
+        trie = TypeaheadTrie.build(suggestions, topK);
+        log.info("🔤 자동완성 트리 재구성 ({}): 후보 {}개, {}ms",
+                domain, suggestions.size(), System.currentTimeMillis() - started);
+    }
+
+    private static void addCandidate(List<Candidate> list, String text, SuggestionKind kind, long id) {
+        if (text == null) return;
+        String t = text.trim();
+        if (t.isEmpty() || t.length() > MAX_TEXT_LENGTH) return;
+        list.add(new Candidate(t, kind, id));
+    }
+
+    /** 접두사(또는 초성) 자동완성, 빈 입력이면 빈 목록 */
+    public TypeaheadResponse suggest(String prefix, int size) {
+        if (prefix == null || prefix.isBlank()) {
+            return new TypeaheadResponse(prefix, List.of());
+        }
+        List<TypeaheadItemResponse> items = trie.suggest(prefix, Math.min(size, topK)).stream()
+                .map(TypeaheadItemResponse::from)
+                .toList();
+        return new TypeaheadResponse(prefix, items);
+    }
+}
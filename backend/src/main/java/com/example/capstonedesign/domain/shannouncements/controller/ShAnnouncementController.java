@@ -1,5 +1,6 @@
 package com.example.capstonedesign.domain.shannouncements.controller;
 
+import com.example.capstonedesign.common.pagination.CursorSlice;
 import com.example.capstonedesign.domain.shannouncements.dto.response.ShAnnouncementResponse;
 import com.example.capstonedesign.domain.shannouncements.entity.RecruitStatus;
 import com.example.capstonedesign.domain.shannouncements.entity.SHHousingCategory;
@@ -56,6 +57,25 @@ public class ShAnnouncementController {
         return service.search(category, status, keyword, pageable);
     }
 
+    /**
+     * 조건 검색 - 커서 방식 (게시일 최신순 고정)
+     * - 응답의 nextCursor 를 다음 요청의 cursor 로 전달
+     * - recentDays 지정 시 최근 N일 내 등록 공고만
+     */
+    @Operation(summary = "조건 검색 (커서)", description = "OFFSET 없이 nextCursor 로 이어서 조회합니다.")
+    @GetMapping("/cursor")
+    public CursorSlice<ShAnnouncementResponse> searchCursor(
+            @RequestParam(required = false) SHHousingCategory category,
+            @RequestParam(required = false) RecruitStatus status,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Integer recentDays,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        return service.searchCursor(category, status, keyword, recentDays, cursor, size, withTotal);
+    }
+
     /** 최근 7일 내 등록된 공고 */
     @Operation(summary = "최근 공고 조회 (7일 내 등록)")
     @GetMapping("/recent")
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "sh_announcements",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"source", "external_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"source", "external_id"}),
+        indexes = @Index(name = "idx_sh_post_date", columnList = "post_date"))
 @Getter
 @Setter
 @Builder
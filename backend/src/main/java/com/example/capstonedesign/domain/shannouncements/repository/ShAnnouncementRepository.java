@@ -4,6 +4,7 @@ import com.example.capstonedesign.domain.shannouncements.entity.ShAnnouncement;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +26,7 @@ public interface ShAnnouncementRepository extends
     List<ShAnnouncement> findTop5ByRegionContainingAndTitleContainingOrderByPostDateAsc(String regionKeyword, String keyword);
 
     List<ShAnnouncement> findTop5ByRegionContainingOrderByPostDateAsc(String regionLike);
+
+    /** 지정 시각 이후 최초 수집된 공고 (구독 매칭용) */
+    List<ShAnnouncement> findByCrawledAtAfter(LocalDateTime since);
 }
@@ -1,16 +1,22 @@
 package com.example.capstonedesign.domain.shannouncements.service;
 
+import com.example.capstonedesign.common.pagination.CursorSlice;
+import com.example.capstonedesign.common.pagination.KeysetPager;
+import com.example.capstonedesign.common.pagination.KeysetSort;
+import com.example.capstonedesign.common.pagination.TableRowEstimator;
 import com.example.capstonedesign.domain.shannouncements.dto.response.ShAnnouncementResponse;
 import com.example.capstonedesign.domain.shannouncements.entity.RecruitStatus;
 import com.example.capstonedesign.domain.shannouncements.entity.SHHousingCategory;
 import com.example.capstonedesign.domain.shannouncements.entity.ShAnnouncement;
 import com.example.capstonedesign.domain.shannouncements.repository.ShAnnouncementRepository;
-import com.example.capstonedesign.domain.users.entity.Users;
 import com.example.capstonedesign.domain.users.repository.UsersRepository;
+import com.example.capstonedesign.domain.users.service.UserProfile;
+import com.example.capstonedesign.domain.users.service.UserProfileCache;
 import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -33,6 +39,13 @@ public class ShAnnouncementService {
 
     private final ShAnnouncementRepository repo;
     private final UsersRepository usersRepository;
+    private final UserProfileCache userProfileCache;
+    private final KeysetPager keysetPager;
+    private final TableRowEstimator rowEstimator;
+
+    /** 커서 목록 정렬: 게시일 DESC, id DESC */
+    private static final KeysetSort<ShAnnouncement> CURSOR_SORT =
+            KeysetSort.by("postDate", LocalDate::parse, ShAnnouncement::getPostDate, ShAnnouncement::getId);
 
     /** 전체 공고 조회 (페이징) */
     public Page<ShAnnouncementResponse> getAll(Pageable pageable) {
@@ -42,16 +55,31 @@ public class ShAnnouncementService {
 
     /** 조건 검색 (공급유형 / 진행상태 / 키워드) */
     public Page<ShAnnouncementResponse> search(SHHousingCategory category, RecruitStatus status, String keyword, Pageable pageable) {
-        return repo.findAll((root, cq, cb) -> {
-            List<Predicate> preds = new ArrayList<>();
-            if (category != null)
-                preds.add(cb.equal(root.get("category"), category.name()));      // Enum → 문자열 비교
-            if (status != null)
-                preds.add(cb.equal(root.get("recruitStatus"), status.name()));   // Enum → 문자열 비교
-            if (keyword != null && !keyword.isBlank())
-                preds.add(cb.like(root.get("title"), "%" + keyword + "%"));
-            return cb.and(preds.toArray(new Predicate[0]));
-        }, pageable).map(ShAnnouncementResponse::fromEntity);
+        return repo.findAll(searchSpec(category, status, keyword), pageable)
+                .map(ShAnnouncementResponse::fromEntity);
+    }
+
+    /**
+     * 조건 검색 - 커서 방식
+     * -------------------------------------------------
+     * - 정렬 고정: 게시일(postDate) DESC, id DESC (idx_sh_post_date)
+     * - recentDays 지정 시 최근 N일 내 게시 공고만 (getRecent 의 커서 버전)
+     * - withTotal=true 이고 필터가 없을 때만 추정 전체 건수 포함
+     */
+    public CursorSlice<ShAnnouncementResponse> searchCursor(SHHousingCategory category, RecruitStatus status, String keyword,
+                                                            Integer recentDays, String cursor, int size, boolean withTotal) {
+        Specification<ShAnnouncement> filter = searchSpec(category, status, keyword);
+        if (recentDays != null) {
+            LocalDate since = LocalDate.now().minusDays(recentDays);
+            filter = filter.and((root, cq, cb) -> cb.greaterThanOrEqualTo(root.get("postDate"), since));
+        }
+
+        boolean unfiltered = category == null && status == null
+                && (keyword == null || keyword.isBlank()) && recentDays == null;
+        Long total = (withTotal && unfiltered) ? rowEstimator.estimate("sh_announcements") : null;
+
+        return keysetPager.fetch(ShAnnouncement.class, filter, CURSOR_SORT, cursor, size, total)
+                .map(ShAnnouncementResponse::fromEntity);
     }
 
     /** 최근 7일 내 등록된 공고 조회 */
@@ -63,6 +91,20 @@ public class ShAnnouncementService {
         ).map(ShAnnouncementResponse::fromEntity);
     }
 
+    /** 공급유형 / 진행상태 / 키워드 조건 */
+    private static Specification<ShAnnouncement> searchSpec(SHHousingCategory category, RecruitStatus status, String keyword) {
+        return (root, cq, cb) -> {
+            List<Predicate> preds = new ArrayList<>();
+            if (category != null)
+                preds.add(cb.equal(root.get("category"), category.name()));      // Enum → 문자열 비교
+            if (status != null)
+                preds.add(cb.equal(root.get("recruitStatus"), status.name()));   // Enum → 문자열 비교
+            if (keyword != null && !keyword.isBlank())
+                preds.add(cb.like(root.get("title"), "%" + keyword + "%"));
+            return cb.and(preds.toArray(new Predicate[0]));
+        };
+    }
+
     /** 청년 친화형 공고 추천 (전체) */
     public Page<ShAnnouncementResponse> getYouthRecommendations(Pageable pageable) {
         List<String> youthTypes = List.of(
@@ -106,12 +148,13 @@ public class ShAnnouncementService {
      * - 종합 점수(score)가 낮을수록 상위 노출
      */
     public List<ShAnnouncementResponse> recommendForUser(Integer userId, boolean strictRegionMatch) {
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 캐시 적중 시 users 조회 생략
+        UserProfile user = userProfileCache.get(userId, () -> usersRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다.")));
 
-        int age = user.getAge();
-        String region = user.getRegion();
-        String incomeBand = user.getIncome_band().replace(" ", "");
+        int age = user.age();
+        String region = user.region();
+        String incomeBand = user.incomeBand();
 
         // 모든 공고 데이터 로드
         List<ShAnnouncement> all = repo.findAll();
@@ -1,12 +1,12 @@
 package com.example.capstonedesign.domain.users.config;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import com.example.capstonedesign.domain.users.service.TokenRevocationService;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -21,7 +21,8 @@ import java.util.List;
  * JwtAuthenticationFilter
  * -------------------------------------------------
  * - 모든 HTTP 요청에서 Authorization 헤더를 확인
- * - Bearer 토큰이 존재하면 JWT 검증 수행
+ * - Bearer 토큰이 존재하면 JWT 검증 수행 (검증된 토큰은 만료 전까지 캐시 조회로 처리)
+ * - 로그아웃으로 폐기된 토큰(jti)은 Bloom filter 로 먼저 거른 뒤 확인 → 정상 요청은 DB 조회 없음
  * - 검증 성공 시 Spring Security의 SecurityContext에 인증 객체(Authentication) 등록
  * - 검증 실패 시 401 Unauthorized 응답 반환
  */
@@ -31,10 +32,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     /** JWT 토큰 생성 및 검증을 담당하는 유틸리티 클래스 */
     private final JwtTokenProvider jwtTokenProvider;
 
+    /** 폐기 토큰 확인 (슬라이스 테스트 등 빈이 없는 환경에서는 생략) */
+    private TokenRevocationService tokenRevocationService;
+
     public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
         this.jwtTokenProvider = jwtTokenProvider;
     }
 
+    @Autowired(required = false)
+    public void setTokenRevocationService(TokenRevocationService tokenRevocationService) {
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
     /**
      * doFilterInternal
      * -------------------------------------------------
@@ -57,12 +66,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = header.substring(7);
 
             try {
-                // 3. JWT 검증 및 Claims 파싱
-                Jws<Claims> claims = jwtTokenProvider.parse(token);
+                // 3. JWT 검증 (처음 보는 토큰만 서명 검증·파싱, 이후는 캐시)
+                VerifiedToken verified = jwtTokenProvider.verify(token);
+
+                // 3-1. 로그아웃 등으로 폐기된 토큰 차단
+                if (tokenRevocationService != null && tokenRevocationService.isRevoked(verified.tokenId())) {
+                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "폐기된 JWT입니다.");
+                    return;
+                }
 
                 // 4. 토큰에서 사용자 정보 추출
-                Long userId = claims.getBody().get("userId", Number.class).longValue();
-                String role  = claims.getBody().get("role", String.class); // 예: "USER", "ADMIN"
+                Long userId = verified.userId();
+                String role  = verified.role(); // 예: "USER", "ADMIN"
 
                 // 5. 권한 정보 생성 (Spring Security의 ROLE 규칙에 맞게 접두어 추가)
                 List<GrantedAuthority> authorities =
@@ -71,6 +86,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 // 6. 인증 객체 생성 및 SecurityContext 등록
                 UsernamePasswordAuthenticationToken auth =
                         new UsernamePasswordAuthenticationToken(userId, null, authorities);
+                auth.setDetails(verified); // 로그아웃 시 jti / exp 참조
                 SecurityContextHolder.getContext().setAuthentication(auth);
 
             } catch (JwtException e) {
@@ -3,24 +3,31 @@ package com.example.capstonedesign.domain.users.config;
 import com.example.capstonedesign.domain.users.entity.UserRole;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import lombok.Getter;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Clock;
 import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * JwtTokenProvider
  * -------------------------------------------------
  * - JWT 토큰의 생성 및 검증을 담당하는 유틸리티 클래스
  * - HS256(HMAC SHA-256) 알고리즘을 이용해 서명
- * - email(subject), userId, role 정보를 포함한 토큰 발급
+ * - email(subject), userId, role, 토큰 ID(jti) 정보를 포함한 토큰 발급
  * - 유효 기간(expiration) 검증 및 서명키 검증 수행
+ * - 파서는 생성 시 한 번만 만들어 재사용 (불변·스레드 안전)
+ * - verify(): 검증 결과를 토큰 만료 시각까지 캐시 → 같은 토큰 재요청은 해시 조회만 수행
  */
 @Component
 public class JwtTokenProvider {
@@ -28,6 +35,13 @@ public class JwtTokenProvider {
     /** JWT 서명을 위한 비밀 키 */
     private final Key key;
 
+    /** 서명 키가 설정된 파서 (요청마다 새로 만들지 않음) */
+    private final JwtParser parser;
+
+    /** 검증 완료 토큰 캐시 (키: 토큰 SHA-256) */
+    @Getter
+    private final VerifiedTokenCache verifiedTokens;
+
     /** 토큰 만료 시간 (초 단위, 기본 3600초 = 1시간) */
     @Getter
     private final long expirySeconds;
@@ -38,15 +52,29 @@ public class JwtTokenProvider {
      * - 환경 변수 또는 설정 파일(application.yml / .properties)에서
      *   JWT 서명용 비밀키와 만료 시간을 주입받음
      *
-     * @param secret        JWT 서명용 비밀키 (Base64 또는 일반 문자열)
-     * @param expirySeconds 토큰 유효 시간 (초 단위)
+     * @param secret            JWT 서명용 비밀키 (Base64 또는 일반 문자열)
+     * @param expirySeconds     토큰 유효 시간 (초 단위)
+     * @param verifiedCacheSize 검증 캐시 최대 항목 수 (0 이면 캐시 사용 안 함)
      */
+    @Autowired
     public JwtTokenProvider(@Value("${jwt.secret}") String secret,
-                            @Value("${jwt.expires-seconds:3600}") long expirySeconds) {
+                            @Value("${jwt.expires-seconds:3600}") long expirySeconds,
+                            @Value("${jwt.verified-cache.max-entries:10000}") int verifiedCacheSize) {
+        this(secret, expirySeconds, verifiedCacheSize, Clock.systemUTC());
+    }
+
+    public JwtTokenProvider(String secret, long expirySeconds) {
+        this(secret, expirySeconds, 10_000, Clock.systemUTC());
+    }
+
+    JwtTokenProvider(String secret, long expirySeconds, int verifiedCacheSize, Clock clock) {
         // 1. 비밀키 문자열을 바이트 배열로 변환하여 HMAC-SHA256 키 생성
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
         // 2. 토큰 유효 시간 설정
         this.expirySeconds = expirySeconds;
+        // 3. 파서·검증 캐시 준비
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokens = new VerifiedTokenCache(verifiedCacheSize, clock);
     }
 
     /**
@@ -67,6 +95,7 @@ public class JwtTokenProvider {
 
         // 2. JWT 빌더로 토큰 생성
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())   // 토큰 ID (jti, 폐기 목록 키)
                 .setSubject(email)                     // JWT subject 설정 (이메일)
                 .claim("userId", userId)            // 사용자 ID claim
                 .claim("role", role.name())         // 권한 claim
@@ -87,11 +116,34 @@ public class JwtTokenProvider {
      * @throws io.jsonwebtoken.JwtException 유효하지 않거나 만료된 토큰일 경우 예외 발생
      */
     public Jws<Claims> parse(String token) {
-        // 1. 서명 키를 설정하여 파서 생성
-        // 2. 토큰 파싱 및 서명 검증 수행
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
+        // 미리 만들어 둔 파서로 토큰 파싱 및 서명 검증 수행
+        return parser.parseClaimsJws(token);
+    }
+
+    /**
+     * verify
+     * -------------------------------------------------
+     * - 인증 필터용: 토큰을 검증하고 userId / role / exp 만 반환
+     * - 처음 보는 토큰만 parse() 로 서명·만료 검증, 이후에는 exp 까지 캐시에서 반환
+     *
+     * @param token 클라이언트로부터 전달받은 JWT 문자열
+     * @return 검증된 토큰 정보
+     * @throws io.jsonwebtoken.JwtException 유효하지 않거나 만료된 토큰일 경우 예외 발생
+     */
+    public VerifiedToken verify(String token) {
+        return verifiedTokens.get(token, t -> {
+            Claims claims = parse(t).getBody();
+            Number userId = claims.get("userId", Number.class);
+            if (userId == null) {
+                throw new MalformedJwtException("userId claim 이 없는 토큰입니다.");
+            }
+            Date exp = claims.getExpiration();
+            return new VerifiedToken(
+                    userId.longValue(),
+                    claims.get("role", String.class),
+                    exp != null ? exp.toInstant() : null,
+                    claims.getId()
+            );
+        });
     }
 }
@@ -1,28 +1,97 @@
 package com.example.capstonedesign.domain.users.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import com.example.capstonedesign.common.exception.ApiException;
+import com.example.capstonedesign.common.exception.ErrorCode;
+import com.example.capstonedesign.common.metrics.AppMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
 /**
  * PasswordEncoder
  * -------------------------------------------------
  * - 사용자 비밀번호를 안전하게 해싱하고 검증하는 유틸 클래스
  * - BCrypt 알고리즘을 사용하여 단방향 암호화 처리
  * - 동일한 입력 비밀번호라도 해시 결과가 매번 달라져 보안성 강화
+ * - 비용 인자: password.bcrypt.cost (기본 10, 4~31) → 1 올릴 때마다 해싱 시간 2배
+ * - 해싱/검증은 전용 스레드 풀에서 실행 (요청 스레드는 결과만 기다림)
+ *   · 동시 해싱 수 = password.hashing.threads (기본 CPU 코어 수) → 로그인 폭주 시에도 다른 API 의 CPU 를 잠식하지 않음
+ *   · 대기열(password.hashing.queue-capacity) 초과 또는 대기 시간(password.hashing.timeout-ms) 초과 → 503
+ *     지연이 계속 쌓이는 대신 즉시 실패시켜 클라이언트가 재시도하도록 함
+ *   · 시간 초과된 작업은 대기열에서 바로 제거하고, 이미 꺼내진 작업도 기한이 지났으면 해싱하지 않음
+ *     (실행 중인 BCrypt 는 interrupt 를 확인하지 않으므로 취소할 수 없음 → 시작 전에 걸러 냄)
+ * - needsRehash(): 저장된 해시 비용이 현재 설정보다 낮으면 true → encodeInBackground() 로 로그인 응답과 분리해 재해싱
  */
+@Slf4j
 @Component
 public class PasswordEncoder {
 
+    /** 현재 해싱 비용 인자 */
+    @Getter
+    private final int cost;
+
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor executor;
+    private final AppMetrics metrics;
+
+    /**
+     * @param cost          BCrypt 비용 인자
+     * @param threads       해싱 스레드 수 (0 이하면 CPU 코어 수)
+     * @param queueCapacity 스레드가 모두 바쁠 때 대기 가능한 요청 수
+     * @param timeoutMillis 대기열 대기 + 해싱까지 기다리는 최대 시간
+     * @param metrics       password.hash 지표 기록
+     */
+    @Autowired
+    public PasswordEncoder(@Value("${password.bcrypt.cost:10}") int cost,
+                           @Value("${password.hashing.threads:0}") int threads,
+                           @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+                           @Value("${password.hashing.timeout-ms:5000}") long timeoutMillis,
+                           AppMetrics metrics) {
+        if (cost < BCrypt.MIN_COST || cost > BCrypt.MAX_COST) {
+            throw new IllegalArgumentException("password.bcrypt.cost must be in [4, 31]: " + cost);
+        }
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+
+        this.cost = cost;
+        this.timeoutMillis = timeoutMillis;
+        this.metrics = metrics;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "bcrypt-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("🔐 PasswordEncoder 초기화 (cost={}, threads={}, queue={})", cost, poolSize, queueCapacity);
+    }
+
     /**
      * 비밀번호 해싱
      *
      * @param rawPassword 원본 비밀번호 (평문)
      * @return 해싱된 비밀번호 문자열
+     * @throws ApiException SERVICE_UNAVAILABLE - 해싱 대기열 초과 / 대기 시간 초과
      */
     public String encode(String rawPassword) {
-        // BCrypt.MIN_COST → 가장 낮은 비용 인자(빠르지만 보안성 낮음)
-        // 실서비스에서는 10~12 정도로 설정 권장
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return submit("encode", () -> BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray()));
     }
 
     /**
@@ -31,9 +100,115 @@ public class PasswordEncoder {
      * @param rawPassword     입력된 원본 비밀번호
      * @param encodedPassword 저장된 해싱된 비밀번호
      * @return 일치 여부 (true = 비밀번호 일치)
+     * @throws ApiException SERVICE_UNAVAILABLE - 해싱 대기열 초과 / 대기 시간 초과
      */
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return submit("verify", () -> BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword).verified);
+    }
+
+    /**
+     * 응답을 기다리지 않는 해싱 (로그인 시 해시 비용 상향용)
+     * - 대기 중인 요청이 없을 때만 제출 → 로그인·가입 요청의 해싱 자리를 빼앗지 않음
+     * - 건너뛰거나 실패해도 다음 로그인에서 다시 시도되므로 오류를 전파하지 않음
+     * - onEncoded 는 해싱 스레드에서 호출되므로 짧은 작업(단건 UPDATE 등)만 할 것
+     *
+     * @return 제출 여부 (false = 해싱 스레드가 바빠 건너뜀)
+     */
+    public boolean encodeInBackground(String rawPassword, Consumer<String> onEncoded) {
+        if (!executor.getQueue().isEmpty()) return false;
+
+        long start = AppMetrics.start();
+        try {
+            executor.execute(() -> {
+                try {
+                    onEncoded.accept(BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray()));
+                    metrics.passwordHash("rehash", start, "SUCCESS");
+                } catch (RuntimeException e) {
+                    metrics.passwordHash("rehash", start, "FAILURE");
+                    log.warn("⚠️ 백그라운드 비밀번호 재해싱 실패: {}", e.getMessage());
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            metrics.passwordHash("rehash", start, "REJECTED");
+            return false;
+        }
+    }
+
+    /**
+     * 저장된 해시의 비용 인자가 현재 설정보다 낮은지
+     * - 형식을 알 수 없는 값은 false (재해싱 대상 아님, matches 에서 이미 실패)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        int stored = costOf(encodedPassword);
+        return stored > 0 && stored < cost;
+    }
+
+    /** 해시 문자열($2a$10$...)의 비용 인자, 형식이 맞지 않으면 -1 */
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = encodedPassword.charAt(4);
+        char ones = encodedPassword.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones)) return -1;
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    /** 현재 대기열에 쌓인 작업 수 */
+    public int queuedTasks() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // --------------------------------------------------------------------------
+    // 유틸 메서드
+    // --------------------------------------------------------------------------
+    <T> T submit(String op, Callable<T> task) {
+        long start = AppMetrics.start();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Future<T> future;
+        try {
+            // 대기열에서 기한을 넘긴 작업은 호출자가 이미 503 을 받았으므로 해싱하지 않음
+            future = executor.submit(() -> {
+                if (System.nanoTime() - deadline >= 0) throw new CancellationException("deadline passed in queue");
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            metrics.passwordHash(op, start, "REJECTED");
+            log.warn("⚠️ 비밀번호 해싱 대기열 초과 → 503 (op={}, queued={})", op, queuedTasks());
+            throw new ApiException(ErrorCode.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        try {
+            T result = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            metrics.passwordHash(op, start, "SUCCESS");
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            executor.remove((Runnable) future);
+            metrics.passwordHash(op, start, "TIMEOUT");
+            log.warn("⚠️ 비밀번호 해싱 대기 시간 초과 → 503 (op={}, {}ms)", op, timeoutMillis);
+            throw new ApiException(ErrorCode.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            executor.remove((Runnable) future);
+            Thread.currentThread().interrupt();
+            throw new ApiException(ErrorCode.SERVICE_UNAVAILABLE, "비밀번호 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CancellationException) {
+                // 기한 검사와 get() 시간 초과가 겹친 경우 → 시간 초과와 동일하게 처리
+                metrics.passwordHash(op, start, "TIMEOUT");
+                throw new ApiException(ErrorCode.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+            }
+            if (cause instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(cause);
+        }
     }
 }
@@ -2,18 +2,26 @@ package com.example.capstonedesign.domain.users.config;
 
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationManagers;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.List;
 
 @Configuration
 @RequiredArgsConstructor
@@ -21,6 +29,10 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    /** Prometheus 스크레이프 허용 주소 (쉼표 구분, CIDR 가능) — 그 외 주소는 ADMIN 토큰 필요 */
+    @Value("${security.prometheus.allowed-addresses:127.0.0.1,::1}")
+    private String prometheusAllowedAddresses;
+
     // ============================
     // CORS 설정 (Spring Security가 직접 적용)
     // ============================
@@ -64,6 +76,7 @@ public class SecurityConfig {
                         .requestMatchers(
                                 "/api/users/signup",
                                 "/api/users/login",
+                                "/api/users/token/refresh",
 
                                 // 아이디 찾기 관련 (본인 확인 인증 포함)
                                 "/api/users/find-id",
@@ -81,15 +94,21 @@ public class SecurityConfig {
 
                                 // Swagger & 문서 접근 허용
                                 "/api/chat",
+                                "/api/chat/stream",
+                                "/api/search",
+                                "/api/search/suggest",
+                                "/api/search/facets/**",
                                 "/api/notices/recent",
                                 "/api/housings",
                                 "/api/housings/search",
                                 "/api/housings/recent",
                                 "/api/housings/closing-soon",
+                                "/api/housings/cursor",
                                 "/api/sh/housings",
                                 "/api/sh/housings/search",
                                 "/api/sh/housings/recommend",
                                 "/api/sh/housings/recent",
+                                "/api/sh/housings/cursor",
                                 "/api/finance/products",
                                 "/api/finance/loans/options/type/*",
                                 "/api/youth-policies",
@@ -100,9 +119,14 @@ public class SecurityConfig {
                                 "/swagger-ui.html",
                                 "/swagger-ui/**",
 
+                                // 헬스체크
+                                "/actuator/health",
+
                                 // 에러 페이지 접근 허용
                                 "/error"
                         ).permitAll()
+                        // Prometheus 스크레이프: 허용 주소 또는 ADMIN 만
+                        .requestMatchers("/actuator/prometheus").access(prometheusAccess(prometheusAllowedAddresses))
                         .anyRequest().authenticated()
                 )
 
@@ -119,4 +143,20 @@ public class SecurityConfig {
 
         return http.build();
     }
-}
\ No newline at end of file
+
+    /**
+     * /actuator/prometheus 접근 규칙
+     * - 요청 주소가 허용 목록(IP 또는 CIDR)에 있으면 인증 없이 허용 (스크레이퍼는 토큰을 들고 다니지 않음)
+     * - 그 외에는 ROLE_ADMIN 인증 필요
+     */
+    static AuthorizationManager<RequestAuthorizationContext> prometheusAccess(String allowedAddresses) {
+        List<IpAddressMatcher> allowed = Arrays.stream(allowedAddresses.split(","))
+                .map(String::trim)
+                .filter(a -> !a.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+        AuthorizationManager<RequestAuthorizationContext> fromAllowedAddress = (auth, ctx) ->
+                new AuthorizationDecision(allowed.stream().anyMatch(m -> m.matches(ctx.getRequest())));
+        return AuthorizationManagers.anyOf(fromAllowedAddress, AuthorityAuthorizationManager.hasRole("ADMIN"));
+    }
+}
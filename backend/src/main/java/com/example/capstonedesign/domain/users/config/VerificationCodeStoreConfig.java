@@ -0,0 +1,36 @@
+package com.example.capstonedesign.domain.users.config;
+
+import com.example.capstonedesign.common.ttl.InMemoryTtlStore;
+import com.example.capstonedesign.common.ttl.JdbcTtlStore;
+import com.example.capstonedesign.common.ttl.TtlStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * VerificationCodeStoreConfig
+ * -------------------------------------------------
+ * 아이디 찾기 인증 번호 저장소 선택
+ * - users.verification.store=memory (기본): 인스턴스 메모리, 단일 서버용
+ * - users.verification.store=jdbc: ttl_entries 테이블, 여러 인스턴스가 인증 번호를 공유해야 할 때
+ *   (발송과 확인 요청이 다른 인스턴스로 갈 수 있는 경우)
+ */
+@Slf4j
+@Configuration
+public class VerificationCodeStoreConfig {
+
+    static final String NAMESPACE = "verification-code";
+
+    @Bean
+    public TtlStore verificationCodeStore(@Value("${users.verification.store:memory}") String type,
+                                          ObjectProvider<JdbcTemplate> jdbcTemplate) {
+        if ("jdbc".equalsIgnoreCase(type)) {
+            log.info("🔐 인증 번호 저장소: ttl_entries (namespace={})", NAMESPACE);
+            return new JdbcTtlStore(jdbcTemplate.getObject(), NAMESPACE);
+        }
+        return new InMemoryTtlStore(NAMESPACE);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.capstonedesign.domain.users.config;
+
+import java.time.Instant;
+
+/**
+ * VerifiedToken
+ * -------------------------------------------------
+ * 서명·만료 검증을 통과한 JWT 에서 인증에 필요한 값만 추린 결과
+ * - userId: principal 로 사용 (claim: "userId")
+ * - role: 권한 이름 (claim: "role", 예: USER / ADMIN)
+ * - expiresAt: 토큰 만료 시각 (exp) — 검증 캐시 보관 기한
+ * - tokenId: 토큰 ID (jti) — 로그아웃 시 폐기 목록 키, 이전 버전 토큰은 null
+ */
+public record VerifiedToken(Long userId, String role, Instant expiresAt, String tokenId) {
+}
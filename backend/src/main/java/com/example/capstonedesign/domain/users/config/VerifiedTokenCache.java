@@ -0,0 +1,138 @@
+package com.example.capstonedesign.domain.users.config;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * VerifiedTokenCache
+ * -------------------------------------------------
+ * 검증을 마친 JWT → (userId, role) 캐시
+ * - 같은 토큰이 요청마다 반복되므로 두 번째부터는 HMAC 검증·JSON 파싱 없이 해시 조회로 끝냄
+ * - 키: 토큰 문자열의 SHA-256 (원문 토큰은 메모리에 남기지 않음, 충돌로 다른 토큰 행세 불가)
+ * - 보관 기한: 토큰 exp 까지 (exp 가 지나면 미스 → 원래 검증 경로에서 만료 예외)
+ * - 크기 제한: maxEntries 도달 시 만료 항목부터 정리, 그래도 가득하면 임의 항목을 10% 비움
+ * - 조회 경로는 ConcurrentHashMap get 한 번 (전역 락 없음)
+ */
+public final class VerifiedTokenCache {
+
+    /** SHA-256 32바이트를 long 4개로 보관 (equals/hashCode 를 값 기준으로) */
+    private record Key(long a, long b, long c, long d) {}
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final Map<Key, VerifiedToken> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+    private final Clock clock;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public VerifiedTokenCache(int maxEntries, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * 캐시에 있고 아직 만료 전이면 그 값을, 아니면 verifier 로 검증 후 저장
+     * - verifier 가 던진 예외(서명 불일치·만료 등)는 그대로 전파, 실패한 토큰은 저장하지 않음
+     * - exp 가 없는 토큰은 보관 기한을 정할 수 없으므로 저장하지 않음
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (maxEntries <= 0) {
+            return verifier.apply(token);
+        }
+
+        Key key = keyOf(token);
+        long now = clock.millis();
+        VerifiedToken cached = entries.get(key);
+        if (cached != null) {
+            if (cached.expiresAt().toEpochMilli() > now) {
+                hits.incrementAndGet();
+                return cached;
+            }
+            entries.remove(key, cached);
+        }
+
+        misses.incrementAndGet();
+        VerifiedToken verified = verifier.apply(token);
+        if (verified.expiresAt() != null && verified.expiresAt().toEpochMilli() > now) {
+            if (entries.size() >= maxEntries) {
+                makeRoom(now);
+            }
+            entries.put(key, verified);
+        }
+        return verified;
+    }
+
+    /** 특정 토큰 제거 (로그아웃 등) */
+    public void invalidate(String token) {
+        entries.remove(keyOf(token));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int maxEntries() {
+        return maxEntries;
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    public long evictions() {
+        return evictions.get();
+    }
+
+    public double hitRatio() {
+        long h = hits.get();
+        long m = misses.get();
+        return (h + m) == 0 ? 0.0 : (double) h / (h + m);
+    }
+
+    private void makeRoom(long now) {
+        entries.values().removeIf(v -> {
+            boolean expired = v.expiresAt().toEpochMilli() <= now;
+            if (expired) evictions.incrementAndGet();
+            return expired;
+        });
+
+        int target = maxEntries - Math.max(1, maxEntries / 10);
+        Iterator<Key> it = entries.keySet().iterator();
+        while (entries.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static Key keyOf(String token) {
+        MessageDigest md = SHA256.get();
+        ByteBuffer digest = ByteBuffer.wrap(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        return new Key(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+    }
+}
@@ -5,10 +5,12 @@ import com.example.capstonedesign.common.exception.ErrorCode;
 import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
 import com.example.capstonedesign.domain.users.config.JwtTokenProvider;
 import com.example.capstonedesign.domain.users.config.PasswordEncoder;
+import com.example.capstonedesign.domain.users.config.VerifiedToken;
 import com.example.capstonedesign.domain.users.dto.request.*;
 import com.example.capstonedesign.domain.users.dto.response.TokenResponse;
 import com.example.capstonedesign.domain.users.dto.response.UsersResponse;
 import com.example.capstonedesign.domain.users.entity.Users;
+import com.example.capstonedesign.domain.users.service.RefreshTokenService;
 import com.example.capstonedesign.domain.users.service.UsersService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -21,6 +23,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -34,6 +37,7 @@ import java.util.Map;
  * -------------------------------------------------
  * 회원 관련 API
  * - 회원 가입
+ * - 로그인 / 토큰 재발급 / 로그아웃
  * - 본인확인 (아이디 찾기)
  * - 비밀번호 재설정
  * -------------------------------------------------
@@ -48,6 +52,7 @@ public class UsersController {
     private final UsersService usersService;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
 
     // ---------------------------------------------------------
     // 1. 회원 가입
@@ -69,11 +74,13 @@ public class UsersController {
     // ---------------------------------------------------------
     @Operation(
             summary = "로그인 (JWT 발급)",
-            description = "이메일/비밀번호 검증 후 액세스 토큰(JWT)을 발급합니다.",
+            description = "이메일/비밀번호 검증 후 액세스 토큰(JWT)과 refresh 토큰을 발급합니다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "로그인 성공",
                             content = @Content(schema = @Schema(implementation = TokenResponse.class))),
                     @ApiResponse(responseCode = "401", description = "인증 실패",
+                            content = @Content(schema = @Schema(implementation = ApiError.class))),
+                    @ApiResponse(responseCode = "503", description = "로그인 요청 과다 (잠시 후 재시도)",
                             content = @Content(schema = @Schema(implementation = ApiError.class)))
             }
     )
@@ -86,6 +93,7 @@ public class UsersController {
         if (!passwordEncoder.matches(req.password(), user.getPassword())) {
             throw new ApiException(ErrorCode.UNAUTHORIZED, "이메일 또는 비밀번호가 올바르지 않습니다.");
         }
+        usersService.upgradePasswordHashIfNeeded(user, req.password());
 
         // (3) 토큰 발급: principal = userId(Long)
         String token = jwtTokenProvider.generate(
@@ -95,7 +103,55 @@ public class UsersController {
         );
         long expiresIn = jwtTokenProvider.getExpirySeconds();
 
-        return ResponseEntity.ok(new TokenResponse(token, "Bearer", expiresIn));
+        // (4) refresh 토큰 발급 (새 family)
+        String refreshToken = refreshTokenService.issue(user.getId());
+
+        return ResponseEntity.ok(new TokenResponse(
+                token, "Bearer", expiresIn, refreshToken, refreshTokenService.getExpirySeconds()));
+    }
+
+    // ---------------------------------------------------------
+    // 2-1. 액세스 토큰 재발급 (refresh 토큰 회전)
+    // ---------------------------------------------------------
+    @Operation(
+            summary = "액세스 토큰 재발급",
+            description = "refresh 토큰으로 새 액세스 토큰과 새 refresh 토큰을 발급합니다. "
+                    + "사용한 refresh 토큰은 즉시 무효가 되며, 다시 사용하면 해당 로그인 세션 전체가 폐기됩니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "재발급 성공",
+                            content = @Content(schema = @Schema(implementation = TokenResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "만료·폐기·재사용된 refresh 토큰",
+                            content = @Content(schema = @Schema(implementation = ApiError.class)))
+            }
+    )
+    @PostMapping("/token/refresh")
+    public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody RefreshTokenRequest req) {
+        return ResponseEntity.ok(refreshTokenService.rotate(req.refreshToken()));
+    }
+
+    // ---------------------------------------------------------
+    // 2-2. 로그아웃
+    // ---------------------------------------------------------
+    @Operation(
+            summary = "로그아웃",
+            description = "현재 액세스 토큰을 만료 전까지 사용할 수 없도록 폐기하고, "
+                    + "refreshToken 을 함께 보내면 해당 로그인 세션의 refresh 토큰도 폐기합니다.",
+            security = @SecurityRequirement(name = "bearerAuth"),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "로그아웃 성공",
+                            content = @Content(schema = @Schema(implementation = String.class))),
+                    @ApiResponse(responseCode = "401", description = "인증 실패",
+                            content = @Content(schema = @Schema(implementation = ApiError.class)))
+            }
+    )
+    @PostMapping("/logout")
+    public ResponseEntity<String> logout(@RequestBody(required = false) LogoutRequest req) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Users me = resolveUserFromPrincipal(authentication.getPrincipal());
+        VerifiedToken accessToken = authentication.getDetails() instanceof VerifiedToken v ? v : null;
+
+        refreshTokenService.logout(me.getId(), accessToken, req != null ? req.refreshToken() : null);
+        return ResponseEntity.ok("로그아웃되었습니다.");
     }
 
     // ---------------------------------------------------------
@@ -254,7 +310,7 @@ public class UsersController {
     // ---------------------------------------------------------
     // 8. 비밀번호 재설정 확정
     // ---------------------------------------------------------
-    @Operation(summary = "비밀번호 재설정 확정", description = "토큰 검증 후 새 비밀번호로 변경합니다.")
+    @Operation(summary = "비밀번호 재설정 확정", description = "토큰 검증 후 새 비밀번호로 변경하고, 발급된 refresh 토큰을 모두 폐기합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "비밀번호 재설정 성공"),
             @ApiResponse(responseCode = "401", description = "토큰 만료 또는 유효하지 않음",
@@ -262,7 +318,9 @@ public class UsersController {
     })
     @PostMapping("/password-reset/confirm")
     public ResponseEntity<String> confirmPasswordReset(@Valid @RequestBody PasswordResetConfirmRequest req) {
-        usersService.confirmPasswordReset(req.token(), req.newPassword());
+        Integer userId = usersService.confirmPasswordReset(req.token(), req.newPassword());
+        // 기존 로그인(refresh family)은 새 비밀번호로 다시 로그인해야 이어짐
+        refreshTokenService.revokeAll(userId);
         return ResponseEntity.ok("비밀번호가 성공적으로 재설정되었습니다.");
     }
 
@@ -285,6 +343,7 @@ public class UsersController {
         Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         Users me = resolveUserFromPrincipal(principal);
         String msg = usersService.delete(me.getEmail(), req.password());
+        refreshTokenService.revokeAll(me.getId());
         return ResponseEntity.ok(msg);
     }
 
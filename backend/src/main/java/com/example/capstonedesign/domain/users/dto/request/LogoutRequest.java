@@ -0,0 +1,14 @@
+package com.example.capstonedesign.domain.users.dto.request;
+
+/**
+ * LogoutRequest
+ * -------------------------------------------------
+ * - 로그아웃 요청 시 사용되는 DTO
+ * - refreshToken 을 함께 보내면 해당 로그인 세션의 refresh 토큰도 폐기
+ */
+public record LogoutRequest(
+        /*
+          refresh 토큰 (선택)
+         */
+        String refreshToken
+) {}
@@ -0,0 +1,18 @@
+package com.example.capstonedesign.domain.users.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * RefreshTokenRequest
+ * -------------------------------------------------
+ * - 액세스 토큰 재발급 요청 시 사용되는 DTO
+ * - 로그인(또는 직전 재발급) 응답의 refreshToken 을 그대로 전달
+ */
+public record RefreshTokenRequest(
+        /*
+          refresh 토큰
+          - 1회용, 재발급 응답의 새 값으로 교체해야 함
+         */
+        @NotBlank
+        String refreshToken
+) {}
@@ -5,6 +5,7 @@ package com.example.capstonedesign.domain.users.dto.response;
  * -------------------------------------------------
  * - 로그인 성공 시 클라이언트에 반환되는 JWT 토큰 정보 DTO
  * - 토큰 문자열, 토큰 타입, 만료 시간 등을 포함
+ * - refresh 토큰: 액세스 토큰 만료 시 /api/users/token/refresh 로 재발급 (1회용)
  */
 public record TokenResponse(
 
@@ -15,5 +16,11 @@ public record TokenResponse(
         String tokenType,
 
         // 토큰 만료까지 남은 시간 (초 단위)
-        long expiresInSeconds
+        long expiresInSeconds,
+
+        // refresh 토큰 (재발급 시 새 값으로 교체됨)
+        String refreshToken,
+
+        // refresh 토큰 만료까지 남은 시간 (초 단위)
+        long refreshExpiresInSeconds
 ) {}
@@ -11,6 +11,7 @@ import java.time.Instant;
  * -------------------------------------------------
  * - 비밀번호 재설정을 위한 토큰 정보를 저장하는 엔티티
  * - 각 토큰은 단 한 번만 사용 가능하며, 일정 시간(예: 15분) 후 만료됨
+ * - 만료된 행은 PasswordResetTokenPurger 가 주기적으로 삭제
  * - 사용자 ID를 직접 저장(FK)하여 Users 엔티티와 연관
  */
 @Entity
@@ -18,7 +19,8 @@ import java.time.Instant;
 @Table(name = "password_reset_tokens",
         indexes = {
                 @Index(name = "idx_prt_token", columnList = "token", unique = true),
-                @Index(name = "idx_prt_userid", columnList = "user_id")
+                @Index(name = "idx_prt_userid", columnList = "user_id"),
+                @Index(name = "idx_prt_expires_at", columnList = "expires_at")
         })
 public class PasswordResetToken {
 
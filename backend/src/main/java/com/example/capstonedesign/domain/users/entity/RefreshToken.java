@@ -0,0 +1,58 @@
+package com.example.capstonedesign.domain.users.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * RefreshToken
+ * -------------------------------------------------
+ * - 액세스 토큰 재발급용 refresh 토큰 (1회용, 사용 시 새 토큰으로 교체 = rotation)
+ * - 원문 토큰은 저장하지 않고 SHA-256 해시(hex)만 보관
+ * - 같은 로그인에서 이어진 토큰들은 familyId 를 공유
+ *   · 이미 사용된 토큰이 다시 들어오면 탈취로 보고 family 전체를 폐기
+ */
+@Entity
+@Getter @Setter
+@Table(name = "refresh_tokens",
+        indexes = {
+                @Index(name = "idx_rt_token_hash", columnList = "token_hash", unique = true),
+                @Index(name = "idx_rt_family", columnList = "family_id"),
+                @Index(name = "idx_rt_userid", columnList = "user_id")
+        })
+public class RefreshToken {
+
+    /** 기본 키 (자동 증가) */
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 사용자 ID (Users.id 참조) */
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    /** 토큰 SHA-256 해시 (hex 64자) */
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    /** 로그인 1회에서 이어진 토큰 묶음 ID (UUID) */
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    /** 토큰 만료 시각 */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    /** 재발급에 사용된 시각 (null = 미사용) */
+    @Column(name = "used_at")
+    private Instant usedAt;
+
+    /** 폐기 여부 (로그아웃 / 재사용 감지) */
+    @Column(name = "revoked", nullable = false)
+    private boolean revoked = false;
+
+    /** 생성 시각 */
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt = Instant.now();
+}
@@ -0,0 +1,50 @@
+package com.example.capstonedesign.domain.users.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * RevokedToken
+ * -------------------------------------------------
+ * - 만료 전에 폐기된 액세스 토큰 목록 (토큰 ID(jti) → 원래 만료 시각)
+ * - 만료 시각이 지나면 토큰 자체가 무효이므로 행도 정리 대상
+ * - 인증 필터는 메모리 Bloom filter 로 먼저 거르고, 양성일 때만 이 테이블 확인
+ */
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@Table(name = "revoked_tokens",
+        indexes = @Index(name = "idx_rvt_expires", columnList = "expires_at"))
+public class RevokedToken {
+
+    /** 액세스 토큰 ID (JWT jti, UUID) */
+    @Id
+    @Column(name = "jti", length = 36)
+    private String jti;
+
+    /** 토큰 소유 사용자 ID */
+    @Column(name = "user_id")
+    private Integer userId;
+
+    /** 토큰 원래 만료 시각 */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    /** 폐기 시각 */
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt = Instant.now();
+
+    public RevokedToken(String jti, Integer userId, Instant expiresAt) {
+        this.jti = jti;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -2,7 +2,11 @@ package com.example.capstonedesign.domain.users.repository;
 
 import com.example.capstonedesign.domain.users.entity.PasswordResetToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.Optional;
 
 /**
@@ -10,6 +14,7 @@ import java.util.Optional;
  * -------------------------------------------------
  * - {@link PasswordResetToken} 엔티티에 대한 데이터베이스 접근을 담당하는 리포지토리
  * - 비밀번호 재설정 토큰 조회 및 관리 기능 제공
+ * - 만료 토큰은 expires_at 인덱스 범위로 배치 삭제
  */
 public interface PasswordResetTokenRepository extends JpaRepository<PasswordResetToken, Long> {
 
@@ -20,4 +25,13 @@ public interface PasswordResetTokenRepository extends JpaRepository<PasswordRese
      * @return 해당 토큰 정보 (Optional)
      */
     Optional<PasswordResetToken> findByToken(String token);
+
+    /**
+     * 만료된 토큰 최대 limit 건 삭제 (사용 여부 무관)
+     *
+     * @return 삭제된 건수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM password_reset_tokens WHERE expires_at <= :now LIMIT :limit", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") Instant now, @Param("limit") int limit);
 }
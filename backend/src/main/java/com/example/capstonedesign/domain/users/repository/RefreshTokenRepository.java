@@ -0,0 +1,52 @@
+package com.example.capstonedesign.domain.users.repository;
+
+import com.example.capstonedesign.domain.users.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * RefreshTokenRepository
+ * -------------------------------------------------
+ * - {@link RefreshToken} 엔티티에 대한 데이터베이스 접근을 담당하는 리포지토리
+ * - 해시 조회, 1회 사용 처리(조건부 UPDATE), family 단위 폐기, 만료 정리
+ */
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * 토큰 해시로 refresh 토큰 조회
+     *
+     * @param tokenHash 토큰 SHA-256 해시 (hex)
+     * @return 해당 토큰 정보 (Optional)
+     */
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * 아직 사용·폐기되지 않은 토큰만 사용 처리
+     * - 동시에 같은 토큰으로 재발급을 요청해도 한 요청만 1을 받음
+     *
+     * @return 갱신된 행 수 (0 이면 이미 사용됐거나 폐기됨)
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.usedAt = :now WHERE r.id = :id AND r.usedAt IS NULL AND r.revoked = false")
+    int markUsed(@Param("id") Long id, @Param("now") Instant now);
+
+    /** 같은 family 의 토큰 전체 폐기 */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.familyId = :familyId AND r.revoked = false")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    /** 사용자의 토큰 전체 폐기 */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.userId = :userId AND r.revoked = false")
+    int revokeAllByUserId(@Param("userId") Integer userId);
+
+    /** 만료된 토큰 정리 */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,31 @@
+package com.example.capstonedesign.domain.users.repository;
+
+import com.example.capstonedesign.domain.users.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * RevokedTokenRepository
+ * -------------------------------------------------
+ * - {@link RevokedToken} 엔티티에 대한 데이터베이스 접근을 담당하는 리포지토리
+ * - Bloom filter 재구성용 유효 jti 목록, 양성 판정 확인, 만료 정리
+ */
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /** 아직 만료되지 않은 폐기 토큰 ID 목록 (Bloom filter 재구성용) */
+    @Query("SELECT r.jti FROM RevokedToken r WHERE r.expiresAt > :now")
+    List<String> findActiveJtis(@Param("now") Instant now);
+
+    /** 폐기 여부 확인 (만료된 행은 제외) */
+    boolean existsByJtiAndExpiresAtAfter(String jti, Instant now);
+
+    /** 만료된 폐기 기록 정리 */
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,9 +1,15 @@
 package com.example.capstonedesign.domain.users.repository;
 
 import com.example.capstonedesign.domain.users.entity.Users;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -37,4 +43,25 @@ public interface UsersRepository extends JpaRepository<Users, Integer> {
     Optional<Users> findByEmail(String email);
 
     Optional<Users> findByNameAndBirthdateAndRegionAndDeletedFalse(String name, LocalDate birthdate, String region);
+
+    /**
+     * id 기준 키셋 페이지 조회 (탈퇴 여부 상관 없이)
+     * - 데일리 요약 등 전체 사용자 순회를 청크 단위로 나눌 때 사용
+     *
+     * @param afterId  이전 청크의 마지막 id (처음은 0)
+     * @param pageable 청크 크기 (PageRequest.of(0, size))
+     */
+    List<Users> findByIdGreaterThanOrderByIdAsc(Integer afterId, Pageable pageable);
+
+    /**
+     * 저장된 해시가 그대로일 때만 비밀번호 해시 교체 (로그인 후 백그라운드 재해싱용)
+     * - 재해싱 사이에 비밀번호가 변경됐으면 덮어쓰지 않음, 다른 컬럼은 건드리지 않음
+     * - 요청 트랜잭션 밖(해싱 스레드)에서 호출되므로 자체 트랜잭션 사용
+     *
+     * @return 갱신된 행 수 (0 이면 그 사이 비밀번호가 바뀜)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Users u SET u.password = :next WHERE u.id = :id AND u.password = :current")
+    int updatePasswordIfUnchanged(@Param("id") Integer id, @Param("current") String current, @Param("next") String next);
 }
@@ -0,0 +1,34 @@
+package com.example.capstonedesign.domain.users.service;
+
+import com.example.capstonedesign.common.ttl.ExpiryPurger;
+import com.example.capstonedesign.domain.users.repository.PasswordResetTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * PasswordResetTokenPurger
+ * -------------------------------------------------
+ * 만료된 password_reset_tokens 행 배치 삭제
+ * - TtlStoreSweeper 가 DB 정리 주기(ttl-store.purge-ms)마다 호출
+ * - 만료 후에는 사용 여부와 관계없이 확인에 쓰이지 않으므로 삭제
+ */
+@Component
+@RequiredArgsConstructor
+public class PasswordResetTokenPurger implements ExpiryPurger {
+
+    private final PasswordResetTokenRepository prtRepository;
+
+    @Override
+    @Transactional
+    public int purgeExpired(Instant now, int limit) {
+        return prtRepository.deleteExpiredBatch(now, limit);
+    }
+
+    @Override
+    public String name() {
+        return "password_reset_tokens";
+    }
+}
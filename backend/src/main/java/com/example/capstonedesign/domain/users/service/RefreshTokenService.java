@@ -0,0 +1,174 @@
+package com.example.capstonedesign.domain.users.service;
+
+import com.example.capstonedesign.common.exception.ApiException;
+import com.example.capstonedesign.common.exception.ErrorCode;
+import com.example.capstonedesign.domain.users.config.JwtTokenProvider;
+import com.example.capstonedesign.domain.users.config.VerifiedToken;
+import com.example.capstonedesign.domain.users.dto.response.TokenResponse;
+import com.example.capstonedesign.domain.users.entity.RefreshToken;
+import com.example.capstonedesign.domain.users.entity.Users;
+import com.example.capstonedesign.domain.users.repository.RefreshTokenRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * RefreshTokenService
+ * -------------------------------------------------
+ * refresh 토큰 발급 / 회전(rotation) / 로그아웃
+ * - 발급: 로그인 시 새 family 로 1개 발급 (원문은 응답으로만, DB 에는 SHA-256 해시)
+ * - 회전: refresh 토큰 1회 사용 → 새 액세스 토큰 + 같은 family 의 새 refresh 토큰
+ *   · 이미 사용된 토큰이 다시 오면 탈취로 간주, family 전체 폐기 후 401
+ *   · 새 토큰은 이전 토큰의 만료 시각을 그대로 이어받음 → family 수명은 로그인 시점부터 jwt.refresh.expires-seconds 로 고정
+ *     (회전할 때마다 14일이 다시 시작되면 탈취된 토큰이 계속 살아남음)
+ * - 비밀번호 재설정·탈퇴 시 revokeAll 로 사용자의 모든 family 폐기
+ * - 로그아웃: 현재 액세스 토큰 jti 폐기 + refresh family 폐기
+ * - 액세스 토큰 만료(jwt.expires-seconds)를 짧게 두어도 재로그인(BCrypt) 없이 갱신 가능
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository repository;
+    private final UsersService usersService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService revocationService;
+    private final Clock clock;
+
+    /** refresh 토큰 유효 시간 (초 단위, 기본 14일) */
+    @Getter
+    private final long expirySeconds;
+
+    @Autowired
+    public RefreshTokenService(RefreshTokenRepository repository,
+                               UsersService usersService,
+                               JwtTokenProvider jwtTokenProvider,
+                               TokenRevocationService revocationService,
+                               @Value("${jwt.refresh.expires-seconds:1209600}") long expirySeconds) {
+        this(repository, usersService, jwtTokenProvider, revocationService, expirySeconds, Clock.systemUTC());
+    }
+
+    RefreshTokenService(RefreshTokenRepository repository, UsersService usersService,
+                        JwtTokenProvider jwtTokenProvider, TokenRevocationService revocationService,
+                        long expirySeconds, Clock clock) {
+        this.repository = repository;
+        this.usersService = usersService;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.revocationService = revocationService;
+        this.expirySeconds = expirySeconds;
+        this.clock = clock;
+    }
+
+    /**
+     * 로그인 성공 시 새 family 의 refresh 토큰 발급
+     *
+     * @return refresh 토큰 원문 (클라이언트 보관용)
+     */
+    @Transactional
+    public String issue(Integer userId) {
+        return create(userId, UUID.randomUUID().toString(), clock.instant().plusSeconds(expirySeconds));
+    }
+
+    /**
+     * refresh 토큰으로 액세스 토큰 재발급 (refresh 토큰도 교체)
+     *
+     * @throws ApiException UNAUTHORIZED - 없는 토큰, 만료, 폐기, 재사용
+     */
+    @Transactional(noRollbackFor = ApiException.class)
+    public TokenResponse rotate(String rawToken) {
+        RefreshToken current = repository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED, "유효하지 않은 refresh 토큰입니다."));
+
+        Instant now = clock.instant();
+        if (current.isRevoked() || !current.getExpiresAt().isAfter(now)) {
+            throw new ApiException(ErrorCode.UNAUTHORIZED, "만료되었거나 폐기된 refresh 토큰입니다.");
+        }
+
+        // 1회 사용 처리 (동시 요청 중 하나만 성공)
+        if (repository.markUsed(current.getId(), now) == 0) {
+            int revoked = repository.revokeFamily(current.getFamilyId());
+            log.warn("⚠️ refresh 토큰 재사용 감지 → family 폐기 (userId={}, {}건)", current.getUserId(), revoked);
+            throw new ApiException(ErrorCode.UNAUTHORIZED, "이미 사용된 refresh 토큰입니다. 다시 로그인해 주세요.");
+        }
+
+        Users user = usersService.requireActiveById(current.getUserId());
+        String accessToken = jwtTokenProvider.generate(Long.valueOf(user.getId()), user.getEmail(), user.getRole());
+        String nextRefresh = create(user.getId(), current.getFamilyId(), current.getExpiresAt());
+        long refreshExpiresIn = current.getExpiresAt().getEpochSecond() - now.getEpochSecond();
+
+        return new TokenResponse(accessToken, "Bearer", jwtTokenProvider.getExpirySeconds(), nextRefresh, refreshExpiresIn);
+    }
+
+    /**
+     * 로그아웃
+     * - 현재 액세스 토큰은 만료 전까지 폐기 목록에 등록
+     * - refresh 토큰이 주어지면 그 family 폐기 (본인 토큰일 때만)
+     */
+    @Transactional
+    public void logout(Integer userId, VerifiedToken accessToken, String rawRefreshToken) {
+        if (accessToken != null) {
+            revocationService.revoke(accessToken.tokenId(), userId, accessToken.expiresAt());
+        }
+        if (rawRefreshToken != null && !rawRefreshToken.isBlank()) {
+            repository.findByTokenHash(hash(rawRefreshToken))
+                    .filter(t -> t.getUserId().equals(userId))
+                    .ifPresent(t -> repository.revokeFamily(t.getFamilyId()));
+        }
+    }
+
+    /** 사용자의 refresh 토큰 전체 폐기 (비밀번호 재설정·탈퇴) */
+    @Transactional
+    public void revokeAll(Integer userId) {
+        repository.revokeAllByUserId(userId);
+    }
+
+    /** 만료된 refresh 토큰 정리 (매일 03:40) */
+    @Transactional
+    @Scheduled(cron = "0 40 3 * * *", zone = "Asia/Seoul")
+    public void purgeExpired() {
+        int deleted = repository.deleteExpired(clock.instant());
+        log.info("🧹 만료 refresh 토큰 정리 {}건", deleted);
+    }
+
+    // --------------------------------------------------------------------------
+    // 유틸 메서드
+    // --------------------------------------------------------------------------
+    private String create(Integer userId, String familyId, Instant expiresAt) {
+        byte[] buf = new byte[32];
+        RANDOM.nextBytes(buf);
+        String raw = Base64.getUrlEncoder().withoutPadding().encodeToString(buf);
+
+        RefreshToken token = new RefreshToken();
+        token.setUserId(userId);
+        token.setTokenHash(hash(raw));
+        token.setFamilyId(familyId);
+        token.setExpiresAt(expiresAt);
+        repository.save(token);
+        return raw;
+    }
+
+    static String hash(String raw) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(raw.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.capstonedesign.domain.users.service;
+
+import com.example.capstonedesign.common.collection.BloomFilter;
+import com.example.capstonedesign.domain.users.entity.RevokedToken;
+import com.example.capstonedesign.domain.users.repository.RevokedTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TokenRevocationService
+ * -------------------------------------------------
+ * 만료 전 폐기된 액세스 토큰(jti) 관리
+ * - 저장: revoked_tokens (jti → 원래 만료 시각), 만료 후 행 정리
+ * - 판정: 메모리 Bloom filter 로 먼저 거름
+ *   · 음성(대부분의 요청) → DB 조회 없이 통과
+ *   · 양성 → 이 인스턴스에서 방금 폐기한 목록, 그다음 DB 로 확인 (거짓 양성 ≈ fpp)
+ * - 재구성: jwt.revocation.rebuild-ms 마다 DB 의 유효 jti 로 새 필터를 만들어 교체
+ *   · 다른 인스턴스에서 폐기한 토큰 반영 + 만료된 jti 는 필터에서 빠짐
+ *   · 재구성 도중 폐기된 jti 는 recent 목록에서 새 필터로 다시 넣음 (유실 없음)
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository repository;
+    private final int expectedInsertions;
+    private final double fpp;
+    private final Clock clock;
+
+    private volatile BloomFilter filter;
+
+    /** DB 스냅샷에 아직 반영되지 않았을 수 있는, 이 인스턴스에서 폐기한 jti → 만료 시각 */
+    private final Map<String, Instant> recent = new ConcurrentHashMap<>();
+
+    private final AtomicLong filterPasses = new AtomicLong();
+    private final AtomicLong dbChecks = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+
+    @Autowired
+    public TokenRevocationService(RevokedTokenRepository repository,
+                                  @Value("${jwt.revocation.expected-insertions:10000}") int expectedInsertions,
+                                  @Value("${jwt.revocation.fpp:0.01}") double fpp) {
+        this(repository, expectedInsertions, fpp, Clock.systemUTC());
+    }
+
+    TokenRevocationService(RevokedTokenRepository repository, int expectedInsertions, double fpp, Clock clock) {
+        this.repository = repository;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.clock = clock;
+        this.filter = BloomFilter.create(expectedInsertions, fpp);
+    }
+
+    /**
+     * 폐기된 토큰인지 확인
+     * - jti 가 없는 토큰(이전 버전 발급)은 폐기 대상이 될 수 없으므로 false
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null) return false;
+        if (!filter.mightContain(jti)) {
+            filterPasses.incrementAndGet();
+            return false;
+        }
+
+        Instant now = clock.instant();
+        Instant localExpiry = recent.get(jti);
+        if (localExpiry != null && localExpiry.isAfter(now)) {
+            return true;
+        }
+
+        dbChecks.incrementAndGet();
+        boolean revoked = repository.existsByJtiAndExpiresAtAfter(jti, now);
+        if (!revoked) falsePositives.incrementAndGet();
+        return revoked;
+    }
+
+    /**
+     * 액세스 토큰 폐기
+     * - 이미 만료된 토큰은 기록할 필요 없음
+     * - 메모리(recent, 필터) 반영은 커밋 이후 (롤백된 폐기로 토큰이 거부되는 것 방지)
+     */
+    @Transactional
+    public void revoke(String jti, Integer userId, Instant expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.isAfter(clock.instant())) {
+            return;
+        }
+        repository.save(new RevokedToken(jti, userId, expiresAt));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(jti, expiresAt);
+                }
+            });
+        } else {
+            remember(jti, expiresAt);
+        }
+        log.info("🚫 액세스 토큰 폐기 (userId={}, exp={})", userId, expiresAt);
+    }
+
+    /** recent 에 먼저 넣고 필터에 추가 → 재구성과 겹쳐도 새 필터에 반영됨 */
+    private void remember(String jti, Instant expiresAt) {
+        recent.put(jti, expiresAt);
+        filter.put(jti);
+    }
+
+    /** DB 기준으로 Bloom filter 재구성 + 만료된 폐기 기록 정리 */
+    @Transactional
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-ms:60000}")
+    public void rebuild() {
+        Instant now = clock.instant();
+        Set<String> pending = new HashSet<>(recent.keySet());
+
+        List<String> active = repository.findActiveJtis(now);
+        BloomFilter next = BloomFilter.create(Math.max(expectedInsertions, active.size() * 2), fpp);
+        active.forEach(next::put);
+        filter = next;
+
+        // 교체 전후로 폐기된 jti 재추가 (put 은 멱등)
+        recent.keySet().forEach(next::put);
+
+        // DB 스냅샷에 들어간 항목, 만료된 항목은 recent 에서 제거
+        Set<String> persisted = new HashSet<>(active);
+        pending.stream().filter(persisted::contains).forEach(recent::remove);
+        recent.values().removeIf(exp -> !exp.isAfter(now));
+
+        int purged = repository.deleteExpired(now);
+        if (purged > 0 || !active.isEmpty()) {
+            log.info("🧹 폐기 토큰 필터 재구성 (유효 {}건, 만료 정리 {}건)", active.size(), purged);
+        }
+    }
+
+    /** 필터 음성으로 DB 조회 없이 통과한 횟수 */
+    public long filterPasses() {
+        return filterPasses.get();
+    }
+
+    /** 필터 양성으로 DB 를 확인한 횟수 */
+    public long dbChecks() {
+        return dbChecks.get();
+    }
+
+    /** DB 확인 결과 폐기되지 않은 것으로 나온 횟수 (거짓 양성) */
+    public long falsePositives() {
+        return falsePositives.get();
+    }
+}
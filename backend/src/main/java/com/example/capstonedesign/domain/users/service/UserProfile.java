@@ -0,0 +1,33 @@
+package com.example.capstonedesign.domain.users.service;
+
+import com.example.capstonedesign.domain.notifications.matching.RegionCodes;
+import com.example.capstonedesign.domain.users.entity.Users;
+
+/**
+ * UserProfile
+ * -------------------------------------------------
+ * 맞춤 추천 API 에서 쓰는 사용자 속성의 불변 스냅샷 (UserProfileCache 보관 단위)
+ * - 엔티티 대신 보관 → 영속성 컨텍스트와 무관하게 여러 요청에서 공유 가능
+ * - 조회 때마다 하던 가공을 생성 시 1회로
+ *   · incomeBand: 공백 제거 ("중위소득 100% 이하" → "중위소득100%이하")
+ *   · regionCode: 광역 법정동 코드 (RegionCodes, 청년정책 지역 매칭용)
+ * - 알림 경로(구독 매칭, 데일리 요약)는 Users 를 직접 읽으므로 알림 설정은 담지 않음
+ */
+public record UserProfile(
+        Integer userId,
+        Integer age,
+        String region,
+        String regionCode,
+        String incomeBand
+) {
+
+    public static UserProfile of(Users u) {
+        return new UserProfile(
+                u.getId(),
+                u.getAge(),
+                u.getRegion(),
+                RegionCodes.toCode(u.getRegion()),
+                u.getIncome_band() != null ? u.getIncome_band().replace(" ", "") : null
+        );
+    }
+}
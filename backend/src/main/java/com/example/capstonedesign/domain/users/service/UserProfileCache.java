@@ -0,0 +1,125 @@
+package com.example.capstonedesign.domain.users.service;
+
+import com.example.capstonedesign.domain.users.entity.Users;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * UserProfileCache
+ * -------------------------------------------------
+ * userId → {@link UserProfile} 캐시 (맞춤 추천 API 의 사용자 조회 생략용)
+ * - 크기 제한: LRU (users.profile-cache.max-entries)
+ * - 시간 제한: TTL (users.profile-cache.ttl-seconds) → 다른 인스턴스에서 수정된 정보도 TTL 안에 반영
+ * - 무효화: UserProfileChanges 리스너(UsersService 에서 등록) → 가입·수정·탈퇴 커밋 후 invalidate()
+ *   · 조회(loader) 도중 무효화가 일어나면 읽어 온 값은 저장하지 않음 (수정 전 값이 다시 들어가는 것 방지)
+ * - 적중 시 users 테이블을 조회하지 않음
+ */
+@Component
+public class UserProfileCache {
+
+    private record Entry(UserProfile profile, long expiresAt) {}
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    private final LinkedHashMap<Integer, Entry> entries;
+
+    /** invalidate() 호출마다 증가 → loader 실행 전후 값이 다르면 저장 생략 */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    @Autowired
+    public UserProfileCache(@Value("${users.profile-cache.max-entries:10000}") int maxEntries,
+                            @Value("${users.profile-cache.ttl-seconds:300}") long ttlSeconds) {
+        this(maxEntries, ttlSeconds, Clock.systemUTC());
+    }
+
+    UserProfileCache(int maxEntries, long ttlSeconds, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+                if (size() > UserProfileCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회, 없거나 만료된 경우 loader 로 사용자를 읽어 저장
+     * - loader 는 락 밖에서 실행, loader 가 던진 예외(사용자 없음 등)는 그대로 전파
+     */
+    public UserProfile get(Integer userId, Supplier<Users> loader) {
+        long now = clock.millis();
+        synchronized (entries) {
+            Entry e = entries.get(userId);
+            if (e != null) {
+                if (e.expiresAt() > now) {
+                    hits.incrementAndGet();
+                    return e.profile();
+                }
+                entries.remove(userId);
+            }
+        }
+
+        misses.incrementAndGet();
+        long gen = generation.get();
+        UserProfile profile = UserProfile.of(loader.get());
+
+        synchronized (entries) {
+            if (generation.get() == gen) {
+                entries.put(userId, new Entry(profile, now + ttlMillis));
+            }
+        }
+        return profile;
+    }
+
+    /** 사용자 정보 변경 시 호출 */
+    public void invalidate(Integer userId) {
+        if (userId == null) return;
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.remove(userId);
+        }
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    public long evictions() {
+        return evictions.get();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public double hitRatio() {
+        long h = hits.get();
+        long m = misses.get();
+        return (h + m) == 0 ? 0.0 : (double) h / (h + m);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.capstonedesign.domain.users.service;
+
+import com.example.capstonedesign.domain.users.entity.Users;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * UserProfileChanges
+ * -------------------------------------------------
+ * 사용자 프로필·알림 설정 변경 알림
+ * - UsersService 가 가입/재가입/수정/탈퇴 시 publish
+ * - 트랜잭션 안에서 호출되면 커밋 이후에 리스너 호출 (커밋 전 값으로 파생 데이터가 갱신되는 것 방지)
+ * - 리스너: 구독 매칭 인덱스 갱신, 프로필 캐시 무효화 등
+ */
+@Slf4j
+@Component
+public class UserProfileChanges {
+
+    private final List<Consumer<Users>> listeners = new CopyOnWriteArrayList<>();
+
+    /** 변경 리스너 등록 (커밋 스레드에서 호출되므로 오래 걸리는 작업은 피할 것) */
+    public void addListener(Consumer<Users> listener) {
+        listeners.add(listener);
+    }
+
+    /** 사용자 변경 알림 */
+    public void publish(Users user) {
+        if (user == null || user.getId() == null) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notifyListeners(user);
+                }
+            });
+            return;
+        }
+        notifyListeners(user);
+    }
+
+    private void notifyListeners(Users user) {
+        for (Consumer<Users> l : listeners) {
+            try {
+                l.accept(user);
+            } catch (Exception e) {
+                log.warn("⚠️ 사용자 변경 리스너 실패 (userId={}): {}", user.getId(), e.getMessage());
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.capstonedesign.domain.users.service;
 
 import com.example.capstonedesign.common.exception.ApiException;
 import com.example.capstonedesign.common.exception.ErrorCode;
+import com.example.capstonedesign.common.ttl.TtlStore;
 import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
 import com.example.capstonedesign.domain.users.config.PasswordEncoder;
 import com.example.capstonedesign.domain.users.dto.request.SignupRequest;
@@ -13,8 +14,10 @@ import com.example.capstonedesign.domain.users.entity.Users;
 import com.example.capstonedesign.domain.users.port.EmailSender;
 import com.example.capstonedesign.domain.users.repository.PasswordResetTokenRepository;
 import com.example.capstonedesign.domain.users.repository.UsersRepository;
+import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
@@ -24,14 +27,17 @@ import java.time.LocalDate;
 import java.util.Base64;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * UsersService
  * -------------------------------------------------
  * - 회원 가입, 아이디 찾기, 비밀번호 재설정 등 사용자 관련 주요 비즈니스 로직 처리
  * - 인증 코드/토큰 생성 및 검증, 이메일 발송 포함
+ * - 인증 번호는 TtlStore(만료 시 능동 정리), 재설정 토큰은 DB(만료 행 배치 삭제)에 보관
+ * - 가입·수정·탈퇴는 UserProfileChanges 로 알림 (커밋 후 구독 매칭 인덱스 갱신, UserProfileCache 무효화)
+ *   · 커밋 전에 무효화하면 다른 요청이 커밋 전 값을 다시 캐시에 넣을 수 있으므로 직접 무효화하지 않음
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UsersService {
@@ -41,11 +47,24 @@ public class UsersService {
     private final PasswordResetTokenRepository prtRepository;
     private final EmailSender emailSender;
 
+    /** 이메일 → 아이디 찾기 인증 번호 (VERIFICATION_TTL 후 자동 삭제) */
+    private final TtlStore verificationCodes;
+
+    /** 추천 API 용 사용자 프로필 캐시 (정보 변경 커밋 후 무효화) */
+    private final UserProfileCache userProfileCache;
+
+    /** 사용자 변경 알림 (구독 매칭 인덱스 등 파생 데이터 갱신용) */
+    private final UserProfileChanges profileChanges;
+
     private static final Duration RESET_TOKEN_TTL = Duration.ofMinutes(15);
     private static final Duration VERIFICATION_TTL = Duration.ofMinutes(5);
+    /** 발급 기록 보관 시간 — 번호 만료 후 이 기간에는 '만료'(401), 이후에는 '요청 내역 없음'(404) */
+    private static final Duration VERIFICATION_ISSUED_TTL = Duration.ofHours(1);
 
-    private final Map<String, VerificationCode> verificationCodes = new ConcurrentHashMap<>();
-    private record VerificationCode(String code, Instant expiresAt) {}
+    @PostConstruct
+    void registerCacheInvalidation() {
+        profileChanges.addListener(u -> userProfileCache.invalidate(u.getId()));
+    }
 
     // --------------------------------------------------------------------------
     // 1. 회원 가입
@@ -85,6 +104,7 @@ public class UsersService {
                 existing.setBirthdate(req.birthdate());
 
                 Users reactivated = usersRepository.save(existing);
+                profileChanges.publish(reactivated);
                 return toResponse(reactivated);
             }
 
@@ -106,6 +126,7 @@ public class UsersService {
         u.setBirthdate(req.birthdate());
 
         Users saved = usersRepository.save(u);
+        profileChanges.publish(saved);
         return toResponse(saved);
     }
 
@@ -123,6 +144,25 @@ public class UsersService {
                 .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED, "활성화된 사용자가 아닙니다."));
     }
 
+    /**
+     * 로그인 성공 직후 호출: 저장된 해시 비용이 현재 설정(password.bcrypt.cost)보다 낮으면 재해싱
+     * - 평문 비밀번호를 아는 시점은 로그인뿐이므로 여기서 점진적으로 상향
+     * - 재해싱은 백그라운드에서 실행 → 로그인 응답이 두 번째 해싱을 기다리지 않음
+     * - 해싱 스레드가 바쁘면 건너뛰고 다음 로그인에서 다시 시도
+     * - 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않음 (조건부 UPDATE)
+     */
+    public void upgradePasswordHashIfNeeded(Users user, String rawPassword) {
+        String current = user.getPassword();
+        if (!passwordEncoder.needsRehash(current)) return;
+
+        Integer userId = user.getId();
+        passwordEncoder.encodeInBackground(rawPassword, next -> {
+            if (usersRepository.updatePasswordIfUnchanged(userId, current, next) == 1) {
+                log.info("🔐 비밀번호 해시 비용 상향 (userId={}, cost={})", userId, passwordEncoder.getCost());
+            }
+        });
+    }
+
     // --------------------------------------------------------------------------
     // 3. 아이디(이메일) 찾기 - 인증 코드 전송 및 검증 (이름 + 생년월일 + region 사용)
     // ---------------------------------------------------------------------------
@@ -139,8 +179,8 @@ public class UsersService {
 
         // 인증번호 발송
         String code = generate6DigitCode();
-        verificationCodes.put(email,
-                new VerificationCode(code, Instant.now().plus(VERIFICATION_TTL)));
+        verificationCodes.put(email, code, VERIFICATION_TTL);
+        verificationCodes.put(issuedKey(email), "1", VERIFICATION_ISSUED_TTL);
 
         String body = """
         안녕하세요, Y-Nest 본인 확인 서비스입니다.
@@ -183,24 +223,30 @@ public class UsersService {
     // 4. 인증 번호 검증
     // --------------------------------------------------------------------------
     public String confirmIdVerification(String email, String code) {
-        VerificationCode stored = verificationCodes.get(email);
-
-        if (stored == null)
+        // 만료된 번호는 저장소에서 보이지 않음 → 발급 기록으로 만료/미요청 구분
+        String stored = verificationCodes.get(email).orElse(null);
+        if (stored == null) {
+            if (verificationCodes.get(issuedKey(email)).isPresent()) {
+                verificationCodes.remove(issuedKey(email));
+                throw new ApiException(ErrorCode.UNAUTHORIZED, "인증 번호가 만료되었습니다.");
+            }
             throw new ApiException(ErrorCode.NOT_FOUND, "인증 요청 내역이 없습니다.");
-
-        if (stored.expiresAt().isBefore(Instant.now())) {
-            verificationCodes.remove(email);
-            throw new ApiException(ErrorCode.UNAUTHORIZED, "인증 번호가 만료되었습니다.");
         }
 
-        if (!stored.code().equals(code)) {
+        if (!stored.equals(code)) {
             throw new ApiException(ErrorCode.UNAUTHORIZED, "인증 번호가 일치하지 않습니다.");
         }
 
         verificationCodes.remove(email);
+        verificationCodes.remove(issuedKey(email));
         return email; // 인증 성공 시 이메일 반환
     }
 
+    /** 인증 번호 발급 기록 키 (이메일에는 ':' 가 올 수 없어 번호 키와 겹치지 않음) */
+    private static String issuedKey(String email) {
+        return "issued:" + email;
+    }
+
     // --------------------------------------------------------------------------
     // 4. 비밀번호 변경 / 재설정
     // -------------------------------------------------------------------------
@@ -224,9 +270,13 @@ public class UsersService {
         });
     }
 
-    /** 비밀번호 재설정 완료 처리 */
+    /**
+     * 비밀번호 재설정 완료 처리
+     *
+     * @return 비밀번호가 바뀐 사용자 ID (호출 측에서 refresh 토큰 전체 폐기)
+     */
     @Transactional
-    public void confirmPasswordReset(String token, String newPassword) {
+    public Integer confirmPasswordReset(String token, String newPassword) {
         PasswordResetToken prt = prtRepository.findByToken(token)
                 .orElseThrow(() -> new ApiException(ErrorCode.UNAUTHORIZED, "유효하지 않은 토큰입니다."));
 
@@ -243,6 +293,7 @@ public class UsersService {
 
         u.setPassword(passwordEncoder.encode(newPassword));
         prt.setUsed(true);
+        return u.getId();
     }
 
     // --------------------------------------------------------------------------
@@ -260,6 +311,7 @@ public class UsersService {
         if (req.birthdate() != null) u.setBirthdate(req.birthdate());
 
         Users saved = usersRepository.save(u);
+        profileChanges.publish(saved);
         return toResponse(saved);
     }
 
@@ -269,6 +321,7 @@ public class UsersService {
                 .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "사용자를 찾을 수 없습니다."));
         user.setNotificationEnabled(enabled);
         usersRepository.save(user);
+        profileChanges.publish(user);
     }
 
     @Transactional
@@ -277,6 +330,7 @@ public class UsersService {
                 .orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND, "사용자를 찾을 수 없습니다."));
         user.setNotificationChannel(channel);
         usersRepository.save(user);
+        profileChanges.publish(user);
     }
 
     // --------------------------------------------------------------------------
@@ -290,6 +344,7 @@ public class UsersService {
         }
         u.setDeleted(true);
         u.setDeleted_at(Instant.now());
+        profileChanges.publish(u);
         return "회원 탈퇴가 완료되었습니다.";
     }
 
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,4 +39,7 @@ public interface YouthPolicyRepository extends JpaRepository<YouthPolicy, Long>
     List<YouthPolicy> findActiveOrderByStartDateDesc(@Param("today") String today, Pageable pageable);
 
     List<YouthPolicy> findTop5ByPolicyNameContainingOrDescriptionContainingOrderByIdAsc(String keywordLike, String keywordLike1);
+
+    /** 지정 시각 이후 신규 저장된 정책 (구독 매칭용) */
+    List<YouthPolicy> findByCreatedAtAfter(LocalDateTime since);
 }
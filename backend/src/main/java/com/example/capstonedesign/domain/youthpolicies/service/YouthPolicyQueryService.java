@@ -1,7 +1,8 @@
 package com.example.capstonedesign.domain.youthpolicies.service;
 
-import com.example.capstonedesign.domain.users.entity.Users;
 import com.example.capstonedesign.domain.users.repository.UsersRepository;
+import com.example.capstonedesign.domain.users.service.UserProfile;
+import com.example.capstonedesign.domain.users.service.UserProfileCache;
 import com.example.capstonedesign.domain.youthpolicies.dto.response.YouthPolicyResponse;
 import com.example.capstonedesign.domain.youthpolicies.entity.YouthPolicy;
 import com.example.capstonedesign.domain.youthpolicies.repository.YouthPolicyRepository;
@@ -32,6 +33,7 @@ public class YouthPolicyQueryService {
 
     private final YouthPolicyRepository repository;
     private final UsersRepository usersRepository;
+    private final UserProfileCache userProfileCache;
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
     /** 기본 정책 목록 조회 (검색 + 페이징) */
@@ -156,22 +158,23 @@ public class YouthPolicyQueryService {
 
     /** 사용자 맞춤 추천 (지역·나이·소득 기반 + 추천 점수·사유 포함) */
     public List<YouthPolicyResponse> recommendForUser(Integer userId, boolean strictRegionMatch) {
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 캐시 적중 시 users 조회 생략
+        UserProfile user = userProfileCache.get(userId, () -> usersRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다.")));
 
-        int age = user.getAge();
-        String region = user.getRegion();
-        String incomeBand = user.getIncome_band().replace(" ", "");
-        String regionPrefix = convertRegionToCode(region);
+        int age = user.age();
+        String region = user.region();
+        String incomeBand = user.incomeBand();
+        String regionCode = user.regionCode();
 
         // 사용자 조건(지역/나이/소득)에 맞는 정책 필터링 후 점수 계산 및 상위 10개 추천
         return repository.findAll().stream()
-                .filter(p -> matchRegion(region, regionPrefix, p.getRegionCode(), strictRegionMatch))
+                .filter(p -> matchRegion(region, regionCode, p.getRegionCode(), strictRegionMatch))
                 .filter(p -> matchAgeFlexible(p.getTargetAge(), age))
                 .filter(p -> matchIncomeKeyword(p.getKeyword(), incomeBand))
                 .map(policy -> {
-                    double score = calculateRecommendationScore(age, incomeBand, region, policy);
-                    String reason = getRecommendationReason(age, incomeBand, region, policy);
+                    double score = calculateRecommendationScore(age, incomeBand, regionCode, policy);
+                    String reason = getRecommendationReason(age, incomeBand, region, regionCode, policy);
                     return YouthPolicyResponse.fromEntityWithRecommendation(policy, score, reason);
                 })
                 .sorted(Comparator.comparingDouble(YouthPolicyResponse::getScore))
@@ -183,7 +186,7 @@ public class YouthPolicyQueryService {
      * -------------------------------------------------
      * - 연령 적합도 × 소득 구간 × 지역 일치도 가중치 반영
      */
-    private double calculateRecommendationScore(int age, String incomeBand, String region, YouthPolicy policy) {
+    private double calculateRecommendationScore(int age, String incomeBand, String regionCode, YouthPolicy policy) {
         double baseScore = 1.0;
 
         // 나이 적합도 (범위에 가까울수록 우대)
@@ -199,13 +202,13 @@ public class YouthPolicyQueryService {
         };
 
         // 지역 일치도 (정확히 일치할수록 점수 낮음)
-        double regionFactor = (policy.getRegionCode() != null && policy.getRegionCode().contains(convertRegionToCode(region))) ? 0.8 : 1.1;
+        double regionFactor = (policy.getRegionCode() != null && policy.getRegionCode().contains(regionCode)) ? 0.8 : 1.1;
 
         return baseScore * ageFactor * incomeFactor * regionFactor;
     }
 
     /** 추천 사유 생성 */
-    private String getRecommendationReason(int age, String incomeBand, String region, YouthPolicy policy) {
+    private String getRecommendationReason(int age, String incomeBand, String region, String regionCode, YouthPolicy policy) {
         StringBuilder sb = new StringBuilder();
 
         // 연령 관련 설명
@@ -223,7 +226,7 @@ public class YouthPolicyQueryService {
         }
 
         // 지역 관련 설명
-        if (policy.getRegionCode() != null && policy.getRegionCode().contains(convertRegionToCode(region)))
+        if (policy.getRegionCode() != null && policy.getRegionCode().contains(regionCode))
             sb.append(region).append(" 지역 거주자 우대");
         else
             sb.append("전국 대상 정책 가능");
@@ -273,19 +276,6 @@ public class YouthPolicyQueryService {
                 || keyword.contains("대출");
     }
 
-    /** 지역명 → 법정동 코드 변환 */
-    private String convertRegionToCode(String region) {
-        if (region == null) return "";
-        return switch (region.substring(0, 2)) {
-            case "서울" -> "11"; case "부산" -> "26"; case "대구" -> "27";
-            case "인천" -> "28"; case "광주" -> "29"; case "대전" -> "30";
-            case "울산" -> "31"; case "경기" -> "41"; case "강원" -> "42";
-            case "충북" -> "43"; case "충남" -> "44"; case "전북" -> "45";
-            case "전남" -> "46"; case "경북" -> "47"; case "경남" -> "48";
-            case "제주" -> "50"; default -> "";
-        };
-    }
-
     /** 지역코드 → 대표 지역명 변환 */
     private String getRegionNameFromCode(String code) {
         if (code == null || code.isBlank()) return "";
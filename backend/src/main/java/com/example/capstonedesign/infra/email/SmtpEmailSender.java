@@ -1,5 +1,6 @@
 package com.example.capstonedesign.infra.email;
 
+import com.example.capstonedesign.common.metrics.AppMetrics;
 import com.example.capstonedesign.domain.users.port.EmailSender;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -19,6 +20,7 @@ import org.springframework.stereotype.Component;
  * - @Async 비동기 처리로 API 응답 지연 방지
  * - HTML 본문 자동 감지 및 전송
  * - 예외 발생 시 상세 로그 출력
+ * - 발송 시간/성공 여부는 email.send 지표로 기록
  */
 @Slf4j
 @Component
@@ -27,6 +29,7 @@ import org.springframework.stereotype.Component;
 public class SmtpEmailSender implements EmailSender {
 
     private final JavaMailSender mailSender;
+    private final AppMetrics metrics;
 
     /**
      * 이메일 전송
@@ -38,6 +41,8 @@ public class SmtpEmailSender implements EmailSender {
     @Override
     @Async
     public void send(String to, String subject, String body) {
+        long start = AppMetrics.start();
+        boolean success = false;
         try {
             MimeMessage message = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
@@ -47,6 +52,7 @@ public class SmtpEmailSender implements EmailSender {
             helper.setText(body, body.contains("<html>"));
 
             mailSender.send(message);
+            success = true;
             log.info("✅ 메일 전송 성공 → {}", to);
 
         } catch (MessagingException e) {
@@ -58,12 +64,16 @@ public class SmtpEmailSender implements EmailSender {
         } catch (Exception e) {
             log.error("❌ 메일 오류 → {}, {}", to, e.getMessage(), e);
             throw new RuntimeException("메일 전송 중 오류 발생", e);
+        } finally {
+            metrics.emailSend(start, success);
         }
     }
 
     /** 메일 전송 시 HTML 추가*/
     @Override
     public void sendHtml(String to, String subject, String htmlBody) {
+        long start = AppMetrics.start();
+        boolean success = false;
         try {
             var mime = mailSender.createMimeMessage();
             var helper = new MimeMessageHelper(mime, "UTF-8");
@@ -71,9 +81,12 @@ public class SmtpEmailSender implements EmailSender {
             helper.setSubject(subject);
             helper.setText(htmlBody, true);
             mailSender.send(mime);
+            success = true;
         } catch (Exception e) {
             log.error("❌ HTML 메일 발송 실패 → {}: {}", to, e.getMessage(), e);
             throw new RuntimeException(e);
+        } finally {
+            metrics.emailSend(start, success);
         }
     }
 }
\ No newline at end of file
@@ -1,7 +1,8 @@
 package com.example.capstonedesign.infra.youth;
 
+import com.example.capstonedesign.common.metrics.AppMetrics;
+import com.example.capstonedesign.common.metrics.OutboundMetricsInterceptor;
 import com.example.capstonedesign.domain.youthpolicies.dto.response.YouthPolicyApiResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
@@ -18,16 +19,21 @@ import org.springframework.web.util.UriComponentsBuilder;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class YouthPolicyClient {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
 
     @Value("${youth.api.key}")
     private String apiKey;
 
     private static final String BASE_URL = "https://www.youthcenter.go.kr/go/ythip/getPlcy";
 
+    /** 호출마다 outbound.requests 지표 기록 */
+    public YouthPolicyClient(AppMetrics metrics) {
+        this.restTemplate = new RestTemplate();
+        this.restTemplate.getInterceptors().add(new OutboundMetricsInterceptor(metrics));
+    }
+
     /**
      * 청년정책 목록 조회
      *
@@ -35,7 +35,10 @@ CREATE TABLE IF NOT EXISTS products
     type       ENUM ('HOUSING', 'FINANCE', 'POLICY') NOT NULL,
     name       VARCHAR(255)                          NOT NULL,
     provider   VARCHAR(100),
-    detail_url VARCHAR(500)
+    detail_url VARCHAR(500),
+    name_lc     VARCHAR(255) GENERATED ALWAYS AS (LOWER(name)) STORED,     -- 검색용 소문자 상품명
+    provider_lc VARCHAR(100) GENERATED ALWAYS AS (LOWER(provider)) STORED, -- 검색용 소문자 제공자명
+    INDEX idx_products_type_name_lc (type, name_lc)
 );
 
 -- =========================
@@ -62,6 +65,7 @@ CREATE TABLE IF NOT EXISTS finance_products
     join_condition TEXT,
     interest_rate  DECIMAL(5, 2),
     min_deposit    INT,
+    INDEX idx_fp_type_product (product_type, product_id),
     FOREIGN KEY (product_id) REFERENCES products (id) ON DELETE CASCADE,
     FOREIGN KEY (fin_co_no) REFERENCES finance_companies (fin_co_no) ON DELETE CASCADE
 );
@@ -106,6 +110,9 @@ CREATE TABLE IF NOT EXISTS finance_loan_options
     created_at             TIMESTAMP     NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at             TIMESTAMP     NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
 
+    -- 검색 인덱스 (금리유형 + 평균금리 범위)
+    INDEX idx_flo_lend_type_avg_rate (lend_type_name, lend_rate_avg),
+
     -- FK
     CONSTRAINT fk_flo_product
         FOREIGN KEY (finance_product_id) REFERENCES finance_products (id) ON DELETE CASCADE,
@@ -153,7 +160,12 @@ CREATE TABLE IF NOT EXISTS lh_notices
     clsg_dt       VARCHAR(50),                     -- 공고마감일
     dtl_url       VARCHAR(500),                    -- 상세URL
     created_at    DATETIME DEFAULT CURRENT_TIMESTAMP,
-    UNIQUE KEY uk_lh_notice (pan_nm, pan_nt_st_dt) -- 중복방지
+    pan_nm_lc        VARCHAR(255) GENERATED ALWAYS AS (LOWER(pan_nm)) STORED,        -- 검색용 소문자 공고명
+    cnp_cd_nm_lc     VARCHAR(100) GENERATED ALWAYS AS (LOWER(cnp_cd_nm)) STORED,     -- 검색용 소문자 지역명
+    upp_ais_tp_nm_lc VARCHAR(100) GENERATED ALWAYS AS (LOWER(upp_ais_tp_nm)) STORED, -- 검색용 소문자 공고유형명
+    UNIQUE KEY uk_lh_notice (pan_nm, pan_nt_st_dt), -- 중복방지
+    INDEX idx_lh_category_posted (upp_ais_tp_nm, pan_nt_st_dt), -- 유형 필터 + 게시일 정렬
+    INDEX idx_lh_posted (pan_nt_st_dt)                          -- 기본 정렬(게시일)
 );
 
 -- =========================
@@ -178,7 +190,8 @@ CREATE TABLE IF NOT EXISTS sh_announcements
     detail_url     VARCHAR(255),
     crawled_at     DATETIME,
     updated_at     DATETIME,
-    UNIQUE KEY uq_sh_source_external_id (source, external_id)
+    UNIQUE KEY uq_sh_source_external_id (source, external_id),
+    INDEX idx_sh_post_date (post_date)
 );
 
 -- =========================
@@ -233,6 +246,8 @@ CREATE TABLE IF NOT EXISTS notifications
     status     ENUM ('SENT', 'FAILED'),
     message    TEXT,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_notifications_user_created (user_id, created_at), -- 사용자별 이력 조회
+    INDEX idx_notifications_created (created_at),               -- 보존 기간 정리
     FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
     FOREIGN KEY (product_id) REFERENCES products (id) ON DELETE CASCADE
 );
@@ -249,9 +264,53 @@ CREATE TABLE IF NOT EXISTS password_reset_tokens
     used       BOOLEAN      NOT NULL DEFAULT FALSE,
     created_at TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
     INDEX idx_prt_userid (user_id),
+    INDEX idx_prt_expires_at (expires_at),
     CONSTRAINT fk_prt_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
 );
 
+-- =========================
+-- ttl_entries (만료 시각이 있는 키-값, 다중 인스턴스용 TtlStore)
+-- =========================
+CREATE TABLE IF NOT EXISTS ttl_entries
+(
+    namespace   VARCHAR(50)  NOT NULL,
+    entry_key   VARCHAR(191) NOT NULL,
+    entry_value VARCHAR(512) NOT NULL,
+    expires_at  TIMESTAMP    NOT NULL,
+    PRIMARY KEY (namespace, entry_key),
+    INDEX idx_ttl_expires (namespace, expires_at)
+);
+
+-- =========================
+-- refresh_tokens (1회용, 사용 시 교체 / 원문 대신 SHA-256 hex 저장)
+-- =========================
+CREATE TABLE IF NOT EXISTS refresh_tokens
+(
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id    INT         NOT NULL,
+    token_hash VARCHAR(64) NOT NULL UNIQUE,
+    family_id  VARCHAR(36) NOT NULL,
+    expires_at TIMESTAMP   NOT NULL,
+    used_at    TIMESTAMP   NULL,
+    revoked    BOOLEAN     NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_rt_family (family_id),
+    INDEX idx_rt_userid (user_id),
+    CONSTRAINT fk_rt_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+-- =========================
+-- revoked_tokens (만료 전 폐기된 액세스 토큰 jti → 원래 만료 시각)
+-- =========================
+CREATE TABLE IF NOT EXISTS revoked_tokens
+(
+    jti        VARCHAR(36) NOT NULL PRIMARY KEY,
+    user_id    INT         NULL,
+    expires_at TIMESTAMP   NOT NULL,
+    revoked_at TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_rvt_expires (expires_at)
+);
+
 -- =========================
 -- chat_messages
 -- =========================
@@ -260,5 +319,93 @@ CREATE TABLE IF NOT EXISTS chat_messages
     id         BIGINT AUTO_INCREMENT PRIMARY KEY,
     content    TEXT        NOT NULL,
     sender     VARCHAR(50) NOT NULL,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-);
\ No newline at end of file
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_chat_messages_created (created_at)
+);
+-- =========================
+-- alert_items (구독 매칭 결과 사용자별 알림 큐)
+-- =========================
+CREATE TABLE IF NOT EXISTS alert_items
+(
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id    INT                          NOT NULL,
+    product_id INT                          NOT NULL,
+    source     VARCHAR(20)                  NOT NULL,
+    title      VARCHAR(255)                 NOT NULL,
+    url        VARCHAR(500),
+    channel    ENUM ('EMAIL','KAKAO','SMS') NOT NULL,
+    status     VARCHAR(10)                  NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_alert_user_product (user_id, product_id), -- 사용자별 중복 적재 방지
+    INDEX idx_alert_user_status (user_id, status),
+    INDEX idx_alert_status_channel (status, channel),
+    CONSTRAINT fk_alert_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT fk_alert_product FOREIGN KEY (product_id) REFERENCES products (id) ON DELETE CASCADE
+);
+
+-- =========================
+-- job_watermarks (주기 작업별 마지막 처리 시각, 예: 구독 매칭)
+-- =========================
+CREATE TABLE IF NOT EXISTS job_watermarks
+(
+    name      VARCHAR(50) NOT NULL PRIMARY KEY,
+    watermark DATETIME(6) NOT NULL
+);
+
+-- =========================
+-- user_delivered_items (사용자별 발송 완료 상품 ID 비트맵)
+-- =========================
+CREATE TABLE IF NOT EXISTS user_delivered_items
+(
+    user_id    INT       NOT NULL PRIMARY KEY,
+    bitmap     LONGBLOB  NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    CONSTRAINT fk_udi_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+-- =========================
+-- 보존 기간 정리용 일별 집계
+-- - notifications / chat_messages 는 RetentionScheduler 가 매일
+--   보존 기간(기본 90일 / 30일) 지난 행을 아래 테이블로 집계 후 삭제
+-- - notifications 는 FK 가 있어 InnoDB 파티셔닝 대신 집계+삭제 방식 사용
+-- =========================
+CREATE TABLE IF NOT EXISTS notification_daily_stats
+(
+    id        BIGINT AUTO_INCREMENT PRIMARY KEY,
+    stat_date DATE        NOT NULL,
+    type      VARCHAR(10) NOT NULL,
+    status    VARCHAR(10) NOT NULL,
+    cnt       BIGINT      NOT NULL,
+    UNIQUE KEY uk_nds_date_type_status (stat_date, type, status)
+);
+
+CREATE TABLE IF NOT EXISTS chat_message_daily_stats
+(
+    id            BIGINT AUTO_INCREMENT PRIMARY KEY,
+    stat_date     DATE        NOT NULL,
+    sender        VARCHAR(10) NOT NULL,
+    message_count BIGINT      NOT NULL,
+    total_chars   BIGINT      NOT NULL,
+    UNIQUE KEY uk_cmds_date_sender (stat_date, sender)
+);
+
+-- =========================
+-- 기존 DB 적용용 (검색 생성 컬럼/인덱스)
+-- - 위 CREATE TABLE 로 새로 만든 DB 에는 불필요
+-- =========================
+-- ALTER TABLE products
+--     ADD COLUMN name_lc VARCHAR(255) GENERATED ALWAYS AS (LOWER(name)) STORED,
+--     ADD COLUMN provider_lc VARCHAR(100) GENERATED ALWAYS AS (LOWER(provider)) STORED,
+--     ADD INDEX idx_products_type_name_lc (type, name_lc);
+-- ALTER TABLE finance_products
+--     ADD INDEX idx_fp_type_product (product_type, product_id);
+-- ALTER TABLE finance_loan_options
+--     ADD INDEX idx_flo_lend_type_avg_rate (lend_type_name, lend_rate_avg);
+-- ALTER TABLE lh_notices
+--     ADD COLUMN pan_nm_lc VARCHAR(255) GENERATED ALWAYS AS (LOWER(pan_nm)) STORED,
+--     ADD COLUMN cnp_cd_nm_lc VARCHAR(100) GENERATED ALWAYS AS (LOWER(cnp_cd_nm)) STORED,
+--     ADD COLUMN upp_ais_tp_nm_lc VARCHAR(100) GENERATED ALWAYS AS (LOWER(upp_ais_tp_nm)) STORED,
+--     ADD INDEX idx_lh_category_posted (upp_ais_tp_nm, pan_nt_st_dt),
+--     ADD INDEX idx_lh_posted (pan_nt_st_dt);
+-- ALTER TABLE sh_announcements
+--     ADD INDEX idx_sh_post_date (post_date);
@@ -1,5 +1,6 @@
 package com.example.capstonedesign.application.ingest.Finance;
 
+import com.example.capstonedesign.common.metrics.AppMetrics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +17,9 @@ class FinlifeIngestSchedulerTest {
     @Mock
     private FinlifeIngestService finlifeIngestService;
 
+    @Mock
+    private AppMetrics metrics;
+
     @InjectMocks
     private FinlifeIngestScheduler scheduler;
 
@@ -1,5 +1,6 @@
 package com.example.capstonedesign.application.ingest.Finance;
 
+import com.example.capstonedesign.application.ingest.IngestDataVersions;
 import com.example.capstonedesign.domain.finance.financecompanies.entity.FinanceCompanies;
 import com.example.capstonedesign.domain.finance.financecompanies.repository.FinanceCompaniesRepository;
 import com.example.capstonedesign.domain.finance.financeproducts.dto.response.FinlifeCreditLoanResponse;
@@ -53,6 +54,9 @@ FinlifeIngestServiceTest {
     @Mock
     private FinanceLoanOptionRepository loanOptionRepository;
 
+    @Mock
+    private IngestDataVersions dataVersions;
+
     @InjectMocks
     private FinlifeIngestService service;
 
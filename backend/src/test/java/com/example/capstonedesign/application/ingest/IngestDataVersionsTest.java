@@ -0,0 +1,76 @@
+package com.example.capstonedesign.application.ingest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IngestDataVersionsTest {
+
+    private final IngestDataVersions versions = new IngestDataVersions();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void bump_outsideTransaction_incrementsImmediately() {
+        versions.bump(IngestDomain.LH);
+
+        assertThat(versions.current(IngestDomain.LH)).isEqualTo(1);
+        assertThat(versions.current(IngestDomain.SH)).isZero();
+        assertThat(versions.combined(IngestDomain.LH, IngestDomain.SH)).isEqualTo(1);
+    }
+
+    @Test
+    void bump_insideTransaction_appliesAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        versions.bump(IngestDomain.YOUTH_POLICY);
+        assertThat(versions.current(IngestDomain.YOUTH_POLICY)).isZero();
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        assertThat(versions.current(IngestDomain.YOUTH_POLICY)).isEqualTo(1);
+    }
+
+    @Test
+    void bump_notifiesListeners_andIsolatesFailures() {
+        List<IngestDomain> seen = new ArrayList<>();
+        versions.addListener(d -> {
+            throw new IllegalStateException("boom");
+        });
+        versions.addListener(seen::add);
+
+        versions.bump(IngestDomain.SH);
+
+        assertThat(seen).containsExactly(IngestDomain.SH);
+        assertThat(versions.current(IngestDomain.SH)).isEqualTo(1);
+    }
+
+    @Test
+    void bumpWithIds_passesChangedIdsToChangeListeners_andSkipsWhenNothingChanged() {
+        List<Set<Long>> changes = new ArrayList<>();
+        List<IngestDomain> plain = new ArrayList<>();
+        versions.addChangeListener((d, ids) -> changes.add(ids));
+        versions.addListener(plain::add);
+
+        versions.bump(IngestDomain.LH, Arrays.asList(1L, null, 2L));
+        versions.bump(IngestDomain.LH, List.of());
+        versions.bump(IngestDomain.LH);
+
+        assertThat(versions.current(IngestDomain.LH)).isEqualTo(2);
+        assertThat(changes).containsExactly(Set.of(1L, 2L), null);
+        assertThat(plain).containsExactly(IngestDomain.LH, IngestDomain.LH);
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.capstonedesign.application.ingest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IngestRebuildSchedulerTest {
+
+    enum Key { A, B }
+
+    private final List<Key> rebuilt = new CopyOnWriteArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final IngestRebuildScheduler<Key> scheduler = new IngestRebuildScheduler<>(
+            "test-indexer", Key.class,
+            d -> d == IngestDomain.LH ? Optional.of(Key.A) : Optional.empty(),
+            key -> {
+                started.countDown();
+                try {
+                    release.await(2, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                rebuilt.add(key);
+            });
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    private void awaitRebuilt(int n) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (rebuilt.size() < n && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(rebuilt).hasSizeGreaterThanOrEqualTo(n);
+    }
+
+    @Test
+    void schedule_whilePending_coalesces() throws Exception {
+        scheduler.schedule(Key.A);
+        assertThat(started.await(2, TimeUnit.SECONDS)).isTrue();
+
+        // 첫 재구성이 도는 동안 같은 키 요청 3회 → 대기 1건으로 합침
+        scheduler.schedule(Key.A);
+        scheduler.schedule(Key.A);
+        scheduler.schedule(Key.A);
+        release.countDown();
+
+        awaitRebuilt(2);
+        Thread.sleep(100);
+        assertThat(rebuilt).containsExactly(Key.A, Key.A);
+    }
+
+    @Test
+    void listenTo_schedulesOnlyMappedDomains() throws Exception {
+        release.countDown();
+        IngestDataVersions versions = new IngestDataVersions();
+        scheduler.listenTo(versions);
+
+        versions.bump(IngestDomain.SH);
+        versions.bump(IngestDomain.LH);
+
+        awaitRebuilt(1);
+        Thread.sleep(100);
+        assertThat(rebuilt).containsExactly(Key.A);
+    }
+
+    @Test
+    void scheduleAll_schedulesEveryKey() {
+        release.countDown();
+
+        scheduler.scheduleAll();
+
+        awaitRebuilt(2);
+        assertThat(rebuilt).containsExactly(Key.A, Key.B);
+    }
+
+    @Test
+    void scheduleChanges_mergesPendingIdsIntoOneUpdate() {
+        // B 재구성이 스레드를 잡고 있는 동안 A 변경 행이 쌓임 → 1회로 합침
+        assertThat(runIncremental(s -> {
+            s.schedule(Key.B);
+            s.scheduleChanges(Key.A, List.of(1L, 2L));
+            s.scheduleChanges(Key.A, List.of(3L));
+        }, 2)).containsExactly(FULL, Set.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void scheduleChanges_whileFullRebuildPending_isAbsorbed() {
+        assertThat(runIncremental(s -> {
+            s.schedule(Key.B);
+            s.schedule(Key.A);
+            s.scheduleChanges(Key.A, List.of(9L));
+        }, 2)).containsExactly(FULL, FULL);
+    }
+
+    private static final Set<Long> FULL = Set.of(-1L);
+
+    /** 첫 작업이 스레드를 잡은 상태에서 requests 실행 → 갱신 요청 순서대로 id (전체 재구성은 FULL) */
+    private List<Set<Long>> runIncremental(Consumer<IngestRebuildScheduler<Key>> requests, int expected) {
+        List<Set<Long>> updates = new CopyOnWriteArrayList<>();
+        CountDownLatch busy = new CountDownLatch(1);
+        IngestRebuildScheduler<Key> incremental = new IngestRebuildScheduler<>(
+                "test-incremental", Key.class, d -> Optional.of(Key.A),
+                (key, ids) -> {
+                    try {
+                        busy.await(2, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    updates.add(ids == null ? FULL : ids);
+                });
+        try {
+            requests.accept(incremental);
+            busy.countDown();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (updates.size() < expected && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            Thread.sleep(100);
+            return updates;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return updates;
+        } finally {
+            incremental.shutdown();
+        }
+    }
+
+    @Test
+    void scheduleChanges_onFullRebuildOnlyScheduler_rebuildsWholeKey() {
+        release.countDown();
+
+        scheduler.scheduleChanges(Key.A, List.of(1L));
+
+        awaitRebuilt(1);
+        assertThat(rebuilt).containsExactly(Key.A);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.capstonedesign.application.ingest.LH;
 
+import com.example.capstonedesign.common.metrics.AppMetrics;
 import com.example.capstonedesign.domain.housingannouncements.entity.HousingAnnouncements;
 import com.example.capstonedesign.domain.housingannouncements.entity.HousingCategory;
 import com.example.capstonedesign.domain.housingannouncements.entity.HousingStatus;
@@ -50,6 +51,9 @@ class LhHousingIngestServiceTest {
     @Mock
     HousingAnnouncementsRepository housingRepository;
 
+    @Mock
+    AppMetrics metrics;
+
     @InjectMocks
     LhHousingIngestService service;
 
@@ -1,5 +1,7 @@
 package com.example.capstonedesign.application.ingest.LH;
 
+import com.example.capstonedesign.application.ingest.IngestDataVersions;
+import com.example.capstonedesign.common.metrics.AppMetrics;
 import com.example.capstonedesign.domain.housingannouncements.entity.LhNotice;
 import com.example.capstonedesign.domain.housingannouncements.repository.LhNoticeRepository;
 import com.example.capstonedesign.domain.products.entity.ProductType;
@@ -35,6 +37,12 @@ class LhLeaseNoticeServiceTest {
     @Mock
     ProductsRepository productsRepository;
 
+    @Mock
+    IngestDataVersions dataVersions;
+
+    @Mock
+    AppMetrics metrics;
+
     @InjectMocks
     LhLeaseNoticeService service;
 
@@ -169,7 +177,7 @@ class LhLeaseNoticeServiceTest {
     void syncNotices_delegatesToFetchNotices() {
         // @InjectMocks 대신, 명시적으로 spy 생성 (fetchNotices만 감시)
         LhLeaseNoticeService spyService =
-                Mockito.spy(new LhLeaseNoticeService(lhNoticeRepository, productsRepository));
+                Mockito.spy(new LhLeaseNoticeService(lhNoticeRepository, productsRepository, dataVersions, metrics));
 
         doNothing().when(spyService).fetchNotices();
 
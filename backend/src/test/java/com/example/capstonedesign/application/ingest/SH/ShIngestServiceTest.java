@@ -1,5 +1,7 @@
 package com.example.capstonedesign.application.ingest.SH;
 
+import com.example.capstonedesign.application.ingest.IngestDataVersions;
+import com.example.capstonedesign.common.metrics.AppMetrics;
 import com.example.capstonedesign.domain.products.entity.ProductType;
 import com.example.capstonedesign.domain.products.entity.Products;
 import com.example.capstonedesign.domain.products.repository.ProductsRepository;
@@ -42,6 +44,12 @@ class ShIngestServiceTest {
     @Mock
     ProductsRepository productsRepository;
 
+    @Mock
+    IngestDataVersions dataVersions;
+
+    @Mock
+    AppMetrics metrics;
+
     @InjectMocks
     ShIngestService shIngestService;
 
@@ -125,7 +133,7 @@ class ShIngestServiceTest {
     @DisplayName("syncNotices()는 crawlAll()을 단순 래핑한다")
     void syncNotices_delegatesToCrawlAll() {
         // @InjectMocks가 아니라, spy로 새 인스턴스를 만들어서 내부 호출만 검증
-        ShIngestService spyService = Mockito.spy(new ShIngestService(repo, productsRepository));
+        ShIngestService spyService = Mockito.spy(new ShIngestService(repo, productsRepository, dataVersions, metrics));
 
         doNothing().when(spyService).crawlAll();
 
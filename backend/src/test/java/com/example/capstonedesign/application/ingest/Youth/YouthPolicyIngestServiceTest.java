@@ -1,5 +1,7 @@
 package com.example.capstonedesign.application.ingest.Youth;
 
+import com.example.capstonedesign.application.ingest.IngestDataVersions;
+import com.example.capstonedesign.common.metrics.AppMetrics;
 import com.example.capstonedesign.domain.products.entity.ProductType;
 import com.example.capstonedesign.domain.products.entity.Products;
 import com.example.capstonedesign.domain.products.repository.ProductsRepository;
@@ -41,6 +43,12 @@ class YouthPolicyIngestServiceTest {
     @Mock
     ProductsRepository productsRepository;
 
+    @Mock
+    IngestDataVersions dataVersions;
+
+    @Mock
+    AppMetrics metrics;
+
     @InjectMocks
     YouthPolicyIngestService service;
 
@@ -170,7 +178,7 @@ class YouthPolicyIngestServiceTest {
     @DisplayName("syncPolicies()는 ingestAllPolicies()를 단순 래핑한다")
     void syncPolicies_delegatesToIngestAllPolicies() {
         YouthPolicyIngestService spyService =
-                Mockito.spy(new YouthPolicyIngestService(client, repository, productsRepository));
+                Mockito.spy(new YouthPolicyIngestService(client, repository, productsRepository, dataVersions, metrics));
 
         doNothing().when(spyService).ingestAllPolicies();
 
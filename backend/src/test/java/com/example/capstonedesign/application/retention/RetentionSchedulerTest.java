@@ -0,0 +1,85 @@
+package com.example.capstonedesign.application.retention;
+
+import com.example.capstonedesign.domain.chatbot.repository.ChatMessageRepository;
+import com.example.capstonedesign.domain.notifications.repository.NotificationsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RetentionSchedulerTest {
+
+    @Mock
+    RetentionService retentionService;
+
+    @Mock
+    NotificationsRepository notificationsRepository;
+
+    @Mock
+    ChatMessageRepository chatMessageRepository;
+
+    @InjectMocks
+    RetentionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(scheduler, "notificationsDays", 90);
+        ReflectionTestUtils.setField(scheduler, "chatMessagesDays", 30);
+    }
+
+    @Test
+    void run_purgesEachExpiredDay_untilCutoff() {
+        LocalDate today = LocalDate.now(RetentionService.ZONE);
+        LocalDate oldestChatDay = today.minusDays(33);
+
+        when(notificationsRepository.findOldestCreatedAt()).thenReturn(Optional.empty());
+        when(chatMessageRepository.findOldestCreatedAt())
+                .thenReturn(Optional.of(oldestChatDay.atTime(10, 0)));
+
+        scheduler.run();
+
+        // cutoff = today - 30 → 33, 32, 31일 전 3일치만 정리
+        verify(retentionService).purgeChatMessagesOf(oldestChatDay);
+        verify(retentionService).purgeChatMessagesOf(today.minusDays(32));
+        verify(retentionService).purgeChatMessagesOf(today.minusDays(31));
+        verify(retentionService, times(3)).purgeChatMessagesOf(any());
+        verify(retentionService, never()).purgeNotificationsOf(any());
+    }
+
+    @Test
+    void run_limitsDaysPerRun() {
+        LocalDate today = LocalDate.now(RetentionService.ZONE);
+        when(notificationsRepository.findOldestCreatedAt()).thenReturn(Optional.of(
+                today.minusDays(400).atStartOfDay(RetentionService.ZONE).toInstant()));
+        when(chatMessageRepository.findOldestCreatedAt()).thenReturn(Optional.of(LocalDateTime.now()));
+
+        scheduler.run();
+
+        verify(retentionService, times(RetentionScheduler.MAX_DAYS_PER_RUN)).purgeNotificationsOf(any());
+        verify(retentionService, never()).purgeChatMessagesOf(any());
+    }
+
+    @Test
+    void run_stopsOnFailure_withoutThrowing() {
+        LocalDate today = LocalDate.now(RetentionService.ZONE);
+        when(notificationsRepository.findOldestCreatedAt()).thenReturn(Optional.of(
+                today.minusDays(100).atStartOfDay(RetentionService.ZONE).toInstant()));
+        when(chatMessageRepository.findOldestCreatedAt()).thenReturn(Optional.empty());
+        when(retentionService.purgeNotificationsOf(any())).thenThrow(new RuntimeException("lock wait timeout"));
+
+        scheduler.run();
+
+        verify(retentionService, times(1)).purgeNotificationsOf(any());
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.capstonedesign.application.retention;
+
+import com.example.capstonedesign.domain.chatbot.repository.ChatMessageRepository;
+import com.example.capstonedesign.domain.notifications.repository.NotificationsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RetentionServiceTest {
+
+    @Mock
+    NotificationsRepository notificationsRepository;
+
+    @Mock
+    ChatMessageRepository chatMessageRepository;
+
+    @InjectMocks
+    RetentionService retentionService;
+
+    @Test
+    void purgeNotificationsOf_rollsUpBeforeDeleting_andLoopsBatches() {
+        LocalDate day = LocalDate.of(2025, 1, 10);
+        Instant from = day.atStartOfDay(RetentionService.ZONE).toInstant();
+        Instant to = day.plusDays(1).atStartOfDay(RetentionService.ZONE).toInstant();
+
+        when(notificationsRepository.deleteBatch(from, to, RetentionService.DELETE_BATCH_SIZE))
+                .thenReturn(RetentionService.DELETE_BATCH_SIZE, 12);
+
+        int deleted = retentionService.purgeNotificationsOf(day);
+
+        assertThat(deleted).isEqualTo(RetentionService.DELETE_BATCH_SIZE + 12);
+        InOrder order = inOrder(notificationsRepository);
+        order.verify(notificationsRepository).rollupDaily(day, from, to);
+        order.verify(notificationsRepository, times(2)).deleteBatch(from, to, RetentionService.DELETE_BATCH_SIZE);
+    }
+
+    @Test
+    void purgeChatMessagesOf_usesLocalDayRange() {
+        LocalDate day = LocalDate.of(2025, 1, 10);
+        when(chatMessageRepository.deleteBatch(any(), any(), eq(RetentionService.DELETE_BATCH_SIZE))).thenReturn(0);
+
+        int deleted = retentionService.purgeChatMessagesOf(day);
+
+        assertThat(deleted).isZero();
+        verify(chatMessageRepository).rollupDaily(day,
+                LocalDateTime.of(2025, 1, 10, 0, 0), LocalDateTime.of(2025, 1, 11, 0, 0));
+    }
+}
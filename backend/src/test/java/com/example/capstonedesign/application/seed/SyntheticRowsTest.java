@@ -0,0 +1,73 @@
+package com.example.capstonedesign.application.seed;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyntheticRowsTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 11, 1);
+
+    @Test
+    void sameSeedAndIndex_produceSameRows() {
+        SyntheticRows.Generated a = SyntheticRows.shAnnouncement(10L, SyntheticRows.random(42, "sh_announcements", 7), TODAY);
+        SyntheticRows.Generated b = SyntheticRows.shAnnouncement(10L, SyntheticRows.random(42, "sh_announcements", 7), TODAY);
+
+        assertThat(a.product()).containsExactly(b.product());
+        assertThat(a.row()).containsExactly(b.row());
+    }
+
+    @Test
+    void differentSeed_producesDifferentRows() {
+        Object[] a = SyntheticRows.youthPolicy(1L, SyntheticRows.random(42, "youth_policies", 0), TODAY).row();
+        Object[] b = SyntheticRows.youthPolicy(1L, SyntheticRows.random(43, "youth_policies", 0), TODAY).row();
+
+        assertThat(Arrays.equals(a, b)).isFalse();
+    }
+
+    @Test
+    void favoriteProducts_areDistinctAndWithinRange() {
+        long[] ids = SyntheticRows.favoriteProducts(SyntheticRows.random(42, "favorites", 3), 10, 100, 120);
+
+        assertThat(ids).hasSize(10);
+        assertThat(Arrays.stream(ids).distinct().count()).isEqualTo(10);
+        assertThat(ids).allMatch(id -> id >= 100 && id <= 120);
+    }
+
+    @Test
+    void favoriteProducts_cappedByRange() {
+        long[] ids = SyntheticRows.favoriteProducts(SyntheticRows.random(42, "favorites", 0), 10, 1, 3);
+
+        assertThat(ids).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void loanOptions_minNotAboveMax() {
+        for (int i = 0; i < 200; i++) {
+            List<Object[]> options = SyntheticRows.loanOptions(i, SyntheticRows.random(42, "finance_products", i));
+
+            assertThat(options).isNotEmpty().hasSizeLessThanOrEqualTo(4);
+            for (Object[] o : options) {
+                BigDecimal min = (BigDecimal) o[1];
+                BigDecimal max = (BigDecimal) o[2];
+                BigDecimal avg = (BigDecimal) o[3];
+                assertThat(min).isLessThanOrEqualTo(max);
+                assertThat(avg).isBetween(min, max);
+            }
+        }
+    }
+
+    @Test
+    void shContentHtml_isSizedLikeRealBodies() {
+        Object[] row = SyntheticRows.shAnnouncement(1L, SyntheticRows.random(42, "sh_announcements", 0), TODAY).row();
+        String html = (String) row[10];
+
+        assertThat(html.getBytes(StandardCharsets.UTF_8).length).isBetween(2_000, 8_500);
+    }
+}
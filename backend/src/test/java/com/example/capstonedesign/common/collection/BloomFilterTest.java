@@ -0,0 +1,63 @@
+package com.example.capstonedesign.common.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BloomFilterTest {
+
+    @Test
+    void insertedValues_alwaysReported() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+        String[] values = new String[1_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = UUID.randomUUID().toString();
+            filter.put(values[i]);
+        }
+
+        for (String v : values) {
+            assertThat(filter.mightContain(v)).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRate_closeToTarget() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("revoked-" + i);
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("active-" + i)) falsePositives++;
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    void emptyFilter_containsNothing() {
+        BloomFilter filter = BloomFilter.create(100, 0.01);
+
+        assertThat(filter.mightContain("anything")).isFalse();
+    }
+
+    @Test
+    void sizing_followsExpectedInsertionsAndFpp() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+
+        // m ≈ 9.59 bits/원소, k ≈ 7
+        assertThat(filter.bitCount()).isBetween(95_000L, 97_000L);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+
+    @Test
+    void invalidFpp_rejected() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(10, 1));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.capstonedesign.common.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AppMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private AppMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new AppMetrics(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+
+    @Test
+    void outbound_tagsHostStatusAndOutcome() {
+        long start = AppMetrics.start();
+        metrics.outbound("https://finlife.fss.or.kr/finlifeapi/x.json?auth=secret", 200, start);
+        metrics.outbound("https://finlife.fss.or.kr/finlifeapi/x.json", 503, start);
+        metrics.outbound("https://finlife.fss.or.kr/finlifeapi/x.json", 0, start);
+
+        Timer ok = registry.find("outbound.requests")
+                .tags("host", "finlife.fss.or.kr", "status", "200", "outcome", "SUCCESS").timer();
+        Timer serverError = registry.find("outbound.requests")
+                .tags("status", "503", "outcome", "SERVER_ERROR").timer();
+        Timer ioError = registry.find("outbound.requests")
+                .tags("status", "IO_ERROR", "outcome", "IO_ERROR").timer();
+
+        assertThat(ok).isNotNull();
+        assertThat(ok.count()).isEqualTo(1);
+        assertThat(serverError.count()).isEqualTo(1);
+        assertThat(ioError.count()).isEqualTo(1);
+    }
+
+    @Test
+    void pagingFallback_countsPerSourceAndStrategy() {
+        metrics.pagingFallback("lh-housing", "POST#2");
+        metrics.pagingFallback("lh-housing", "POST#2");
+        metrics.pagingFallback("lh-housing", "none");
+
+        assertThat(registry.get("ingest.paging.fallbacks").tags("source", "lh-housing", "strategy", "POST#2")
+                .counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("ingest.paging.fallbacks").tag("strategy", "none").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void ingestRows_accumulatesAndIgnoresZero() {
+        metrics.ingestRows("sh", "inserted", 3);
+        metrics.ingestRows("sh", "inserted", 2);
+        metrics.ingestRows("sh", "skipped", 0);
+
+        assertThat(registry.get("ingest.rows").tags("source", "sh", "result", "inserted").counter().count())
+                .isEqualTo(5.0);
+        assertThat(registry.find("ingest.rows").tags("result", "skipped").counter()).isNull();
+    }
+
+    @Test
+    void ingestRunAndEmail_recordOutcome() {
+        long start = AppMetrics.start();
+        metrics.ingestRun("lh-notice", start, false);
+        metrics.emailSend(start, true);
+
+        assertThat(registry.get("ingest.run").tags("source", "lh-notice", "outcome", "FAILURE").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("email.send").tag("outcome", "SUCCESS").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void host_fallsBackToUnknown() {
+        assertThat(AppMetrics.host("https://www.i-sh.co.kr/main/list.do?page=1")).isEqualTo("www.i-sh.co.kr");
+        assertThat(AppMetrics.host(null)).isEqualTo("unknown");
+        assertThat(AppMetrics.host("not a url")).isEqualTo("unknown");
+    }
+}
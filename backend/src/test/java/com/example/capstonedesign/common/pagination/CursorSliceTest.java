@@ -0,0 +1,54 @@
+package com.example.capstonedesign.common.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorSliceTest {
+
+    private record Row(String key, long id) {
+    }
+
+    private static final KeysetSort<Row> SORT = KeysetSort.by("key", s -> s, Row::key, Row::id);
+
+    @Test
+    void of_withExtraRow_trimsAndPointsCursorAtLastReturnedItem() {
+        List<Row> fetched = List.of(new Row("c", 3), new Row("b", 2), new Row("a", 1));
+
+        CursorSlice<Row> slice = CursorSlice.of(fetched, 2, SORT::cursorOf, null);
+
+        assertThat(slice.items()).containsExactly(new Row("c", 3), new Row("b", 2));
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(slice.nextCursor())).isEqualTo(new KeysetCursor("b", 2));
+    }
+
+    @Test
+    void of_lastPage_hasNoNextCursor() {
+        CursorSlice<Row> slice = CursorSlice.of(List.of(new Row("a", 1)), 2, SORT::cursorOf, 10L);
+
+        assertThat(slice.hasNext()).isFalse();
+        assertThat(slice.nextCursor()).isNull();
+        assertThat(slice.approximateTotal()).isEqualTo(10L);
+    }
+
+    @Test
+    void map_keepsPagingFields() {
+        CursorSlice<Row> slice = CursorSlice.of(
+                List.of(new Row("b", 2), new Row("a", 1)), 1, SORT::cursorOf, null);
+
+        CursorSlice<Long> ids = slice.map(Row::id);
+
+        assertThat(ids.items()).containsExactly(2L);
+        assertThat(ids.nextCursor()).isEqualTo(slice.nextCursor());
+        assertThat(ids.hasNext()).isTrue();
+    }
+
+    @Test
+    void byIdSort_writesNullKey() {
+        KeysetSort<Row> byId = KeysetSort.byId(Row::id);
+
+        assertThat(byId.cursorOf(new Row("x", 5))).isEqualTo(new KeysetCursor(null, 5));
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.capstonedesign.common.pagination;
+
+import com.example.capstonedesign.common.exception.ApiException;
+import com.example.capstonedesign.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void encode_decode_roundTrip_keepsKeyAndId() {
+        KeysetCursor cursor = new KeysetCursor("2025.01.31", 1234L);
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/");
+        assertThat(KeysetCursor.decode(encoded)).isEqualTo(cursor);
+    }
+
+    @Test
+    void encode_decode_roundTrip_keepsNullKeyAndKoreanKey() {
+        assertThat(KeysetCursor.decode(new KeysetCursor(null, 7L).encode()))
+                .isEqualTo(new KeysetCursor(null, 7L));
+        assertThat(KeysetCursor.decode(new KeysetCursor("청년\t주택", 8L).encode()))
+                .isEqualTo(new KeysetCursor("청년\t주택", 8L));
+    }
+
+    @Test
+    void decode_blank_returnsNull_forFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    void decode_malformed_throwsBadRequest() {
+        String wrongVersion = Base64.getUrlEncoder().encodeToString("9\tk\t1".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().encodeToString("1\tk\tabc".getBytes(StandardCharsets.UTF_8));
+
+        for (String bad : new String[]{"%%%", wrongVersion, badId}) {
+            assertThatThrownBy(() -> KeysetCursor.decode(bad))
+                    .isInstanceOf(ApiException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.BAD_REQUEST);
+        }
+    }
+}
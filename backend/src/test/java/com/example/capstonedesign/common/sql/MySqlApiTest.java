@@ -0,0 +1,40 @@
+package com.example.capstonedesign.common.sql;
+
+import com.example.capstonedesign.application.ingest.DataInitializer;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.context.ImportTestcontainers;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * MySqlApiTest
+ * -------------------------------------------------
+ * 전체 컨텍스트 + MockMvc + MySQL 컨테이너로 API 를 호출하는 테스트 구성
+ * - 필터 체인(JWT 인증, SqlRequestStatsFilter)까지 실제로 거침
+ * - 외부 API 키는 더미 값, 기동 시 초기 수집(DataInitializer)은 목으로 대체
+ * - @QueryBudget 과 함께 써서 엔드포인트 1회 호출의 SQL 문장 수 상한 검사
+ * - 같은 설정을 쓰는 테스트끼리 컨텍스트 재사용
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.mail.host=localhost",
+        "jwt.secret=test-secret-key-for-mysql-api-tests-0123456789",
+        "finlife.api-key=test",
+        "finlife.base-url=http://localhost",
+        "lh.api.service-key=test",
+        "youth.api.key=test"
+})
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+@ImportTestcontainers(MySqlTestContainer.class)
+@MockitoBean(types = DataInitializer.class)
+public @interface MySqlApiTest {
+}
@@ -0,0 +1,19 @@
+package com.example.capstonedesign.common.sql;
+
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+
+/**
+ * MySqlTestContainer
+ * -------------------------------------------------
+ * JPA 쿼리 테스트용 MySQL 컨테이너 (운영과 같은 방언/생성 컬럼/LIMIT 문법 검증)
+ * - @ImportTestcontainers(MySqlTestContainer.class) 로 가져다 씀, DataSource 는 @ServiceConnection 으로 연결
+ * - 테스트 클래스에 @Testcontainers(disabledWithoutDocker = true) 를 함께 붙여 Docker 없는 환경에서는 건너뜀
+ */
+public interface MySqlTestContainer {
+
+    @Container
+    @ServiceConnection
+    MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+}
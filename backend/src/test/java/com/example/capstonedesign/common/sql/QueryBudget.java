@@ -0,0 +1,30 @@
+package com.example.capstonedesign.common.sql;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * QueryBudget
+ * -------------------------------------------------
+ * 테스트 1개(메서드)에서 실행 가능한 SQL 문장 수 상한
+ * - 클래스에 붙이면 모든 테스트에 적용, 메서드에 붙이면 그 값이 우선
+ * - QueryCountingDataSource 를 거친 문장만 집계
+ * <p>
+ * 사용 예:
+ * {@code @QueryBudget(max = 2)} → 요청 처리 중 문장이 3개 이상이면 실패
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    /** 최대 문장 수 */
+    int max();
+
+    /** 같은 모양 문장의 최대 반복 횟수 (초과 시 N+1 로 간주해 실패, 0 이면 검사 안 함) */
+    int maxRepeats() default 0;
+}
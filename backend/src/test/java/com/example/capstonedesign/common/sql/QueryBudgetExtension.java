@@ -0,0 +1,59 @@
+package com.example.capstonedesign.common.sql;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.Map;
+
+/**
+ * QueryBudgetExtension
+ * -------------------------------------------------
+ * @QueryBudget 검사용 JUnit 확장
+ * - 테스트 본문 직전에 QueryStatsHolder 범위를 열고, 본문 종료 시 문장 수/반복 모양 검사
+ *   · @BeforeEach 의 픽스처 저장 문장은 집계하지 않음
+ * - MockMvc 요청은 테스트 스레드에서 처리되므로 컨트롤러 테스트에도 그대로 적용
+ * - 테스트 본문에서 QueryBudgetExtension.stats() 로 현재 집계 조회 가능
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        QueryStats stats = QueryStatsHolder.begin("test " + context.getDisplayName());
+        context.getStore(NAMESPACE).put(QueryStats.class, stats);
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryStats stats = context.getStore(NAMESPACE).remove(QueryStats.class, QueryStats.class);
+        if (stats == null) return;
+        QueryStatsHolder.end(stats);
+
+        if (context.getExecutionException().isPresent()) return;
+
+        QueryBudget budget = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), QueryBudget.class))
+                .orElse(null);
+        if (budget == null) return;
+
+        if (stats.count() > budget.max()) {
+            throw new AssertionError("SQL 문장 수 초과: " + stats.count() + " > " + budget.max()
+                    + " (가장 느린 문장: " + stats.slowestSql() + ")");
+        }
+        if (budget.maxRepeats() > 0) {
+            Map<String, Integer> repeated = stats.repeatedShapes(budget.maxRepeats() + 1);
+            if (!repeated.isEmpty()) {
+                throw new AssertionError("N+1 의심 (같은 문장 " + budget.maxRepeats() + "회 초과): " + repeated);
+            }
+        }
+    }
+
+    /** 현재 스레드에서 진행 중인 테스트의 집계 */
+    public static QueryStats stats() {
+        return QueryStatsHolder.current();
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.capstonedesign.common.sql;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryCountingDataSourceTest {
+
+    /** execute* 는 아무 일도 하지 않는 가짜 JDBC */
+    private static DataSource fakeDataSource() {
+        return (DataSource) Proxy.newProxyInstance(
+                QueryCountingDataSourceTest.class.getClassLoader(),
+                new Class<?>[]{DataSource.class},
+                (p, m, a) -> "getConnection".equals(m.getName()) ? fakeConnection() : null);
+    }
+
+    private static Connection fakeConnection() {
+        return (Connection) Proxy.newProxyInstance(
+                QueryCountingDataSourceTest.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (p, m, a) -> switch (m.getName()) {
+                    case "prepareStatement" -> fakeStatement(PreparedStatement.class);
+                    case "createStatement" -> fakeStatement(Statement.class);
+                    default -> null;
+                });
+    }
+
+    private static Object fakeStatement(Class<?> type) {
+        return Proxy.newProxyInstance(
+                QueryCountingDataSourceTest.class.getClassLoader(),
+                new Class<?>[]{type},
+                (p, m, a) -> switch (m.getName()) {
+                    case "execute" -> {
+                        if (a != null && "boom".equals(a[0])) throw new SQLException("boom");
+                        yield true;
+                    }
+                    case "executeUpdate" -> 1;
+                    case "hashCode" -> 42;
+                    case "equals" -> false;
+                    default -> null;
+                });
+    }
+
+    @Test
+    void preparedAndPlainStatements_areRecordedInOpenScope() throws Exception {
+        DataSource ds = new QueryCountingDataSource(fakeDataSource());
+        QueryStats stats = QueryStatsHolder.begin("test");
+        try (Connection c = ds.getConnection()) {
+            for (int id = 1; id <= 3; id++) {
+                PreparedStatement ps = c.prepareStatement("select * from products where id = ?");
+                ps.setInt(1, id);
+                ps.executeQuery();
+            }
+            c.createStatement().executeUpdate("update products set name = 'a' where id = 7");
+        } finally {
+            QueryStatsHolder.end(stats);
+        }
+
+        assertThat(stats.count()).isEqualTo(4);
+        assertThat(stats.repeatedShapes(3)).containsEntry("select * from products where id = ?", 3);
+        assertThat(stats.repeatedShapes(2)).hasSize(1);
+        assertThat(QueryStatsHolder.current()).isNull();
+    }
+
+    @Test
+    void failingStatement_isRecorded_andExceptionPropagates() throws Exception {
+        DataSource ds = new QueryCountingDataSource(fakeDataSource());
+        QueryStats stats = QueryStatsHolder.begin("test");
+        try (Connection c = ds.getConnection()) {
+            Statement st = c.createStatement();
+            assertThatThrownBy(() -> st.execute("boom")).isInstanceOf(SQLException.class);
+        } finally {
+            QueryStatsHolder.end(stats);
+        }
+
+        assertThat(stats.count()).isEqualTo(1);
+        assertThat(stats.slowestSql()).isEqualTo("boom");
+    }
+
+    @Test
+    void nestedScopes_bothReceiveStatements() throws Exception {
+        DataSource ds = new QueryCountingDataSource(fakeDataSource());
+        QueryStats outer = QueryStatsHolder.begin("outer");
+        QueryStats inner = QueryStatsHolder.begin("inner");
+        try (Connection c = ds.getConnection()) {
+            c.createStatement().execute("select 1");
+        } finally {
+            QueryStatsHolder.end(inner);
+        }
+        try (Connection c = ds.getConnection()) {
+            c.createStatement().execute("select 2");
+        } finally {
+            QueryStatsHolder.end(outer);
+        }
+
+        assertThat(inner.count()).isEqualTo(1);
+        assertThat(outer.count()).isEqualTo(2);
+    }
+
+    @Test
+    void statementProxies_useIdentityEquality_forHashKeys() throws Exception {
+        DataSource ds = new QueryCountingDataSource(fakeDataSource());
+        try (Connection c = ds.getConnection()) {
+            Statement st = c.createStatement();
+            Set<Statement> registry = new HashSet<>();
+            registry.add(st);
+
+            assertThat(registry.remove(st)).isTrue();
+        }
+    }
+
+    @Test
+    @QueryBudget(max = 2, maxRepeats = 1)
+    void queryBudgetExtension_seesStatementsOfTestThread() throws Exception {
+        DataSource ds = new QueryCountingDataSource(fakeDataSource());
+        try (Connection c = ds.getConnection()) {
+            c.prepareStatement("select * from favorites where user_id = ?").executeQuery();
+            c.prepareStatement("select * from products where id = ?").executeQuery();
+        }
+
+        assertThat(QueryBudgetExtension.stats().count()).isEqualTo(2);
+    }
+}
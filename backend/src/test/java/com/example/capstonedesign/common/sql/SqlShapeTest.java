@@ -0,0 +1,27 @@
+package com.example.capstonedesign.common.sql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlShapeTest {
+
+    @Test
+    void of_replacesLiteralsAndCollapsesInLists() {
+        String a = SqlShape.of("SELECT * FROM products p1_0 WHERE p1_0.id = 10 AND name = 'it''s'");
+        String b = SqlShape.of("select *  from products p1_0\n where p1_0.id = 2 and name = 'x'");
+
+        assertThat(a).isEqualTo(b).isEqualTo("select * from products p1_0 where p1_0.id = ? and name = ?");
+    }
+
+    @Test
+    void of_sameShape_forDifferentInListSizes() {
+        assertThat(SqlShape.of("select * from t where id in (?, ?, ?)"))
+                .isEqualTo(SqlShape.of("select * from t where id IN (?)"));
+    }
+
+    @Test
+    void of_null_isEmpty() {
+        assertThat(SqlShape.of(null)).isEmpty();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.capstonedesign.common.text;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AhoCorasickMatcherTest {
+
+    @Test
+    void scan_findsOverlappingAndNestedPatterns_inSinglePass() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.of(List.of("he", "she", "his", "hers"));
+
+        assertThat(matcher.scan("ushers").stream().toArray()).containsExactly(0, 1, 3);
+        assertThat(matcher.scan("ahis").stream().toArray()).containsExactly(2);
+        assertThat(matcher.scan("xyz").isEmpty()).isTrue();
+    }
+
+    @Test
+    void scan_matchesKoreanPatterns_sameAsContains() {
+        List<String> patterns = List.of("청년", "청년주택", "주택", "전세");
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.of(patterns);
+
+        String text = "서울 청년주택 월세";
+        for (int id = 0; id < patterns.size(); id++) {
+            assertThat(matcher.scan(text).get(id)).isEqualTo(text.contains(patterns.get(id)));
+        }
+    }
+
+    @Test
+    void firstMatch_returnsHighestPriorityPattern_notEarliestPosition() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.of(List.of("마포", "강남"));
+
+        // 제목에 강남이 먼저 나와도 목록 순서상 마포가 우선
+        assertThat(matcher.firstMatch("강남·마포 행복주택")).isEqualTo(0);
+        assertThat(matcher.firstMatch("강남 행복주택")).isEqualTo(1);
+        assertThat(matcher.firstMatch("노원 행복주택")).isEqualTo(-1);
+    }
+
+    @Test
+    void scan_nullText_returnsNoHits() {
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.of(List.of("LH"));
+
+        assertThat(matcher.scan(null).isEmpty()).isTrue();
+    }
+
+    @Test
+    void of_rejectsEmptyPattern() {
+        assertThatThrownBy(() -> AhoCorasickMatcher.of(List.of("LH", "")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
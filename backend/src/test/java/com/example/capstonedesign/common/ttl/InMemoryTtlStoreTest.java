@@ -0,0 +1,142 @@
+package com.example.capstonedesign.common.ttl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * InMemoryTtlStore 단위 테스트
+ * - 만료 전/후 조회, 휠 진행에 따른 능동 삭제
+ * - 휠 한 바퀴를 넘는 TTL(rounds), 덮어쓴 키의 이전 타이머 무시
+ */
+class InMemoryTtlStoreTest {
+
+    private static final Instant T0 = Instant.parse("2025-11-01T00:00:00Z");
+
+    private final MutableClock clock = new MutableClock(T0);
+
+    /** tick 1초 × 8 슬롯 → 8초마다 한 바퀴 */
+    private final InMemoryTtlStore store = new InMemoryTtlStore("test", clock, Duration.ofSeconds(1), 8);
+
+    @Test
+    @DisplayName("만료 전에는 값을 돌려주고, 만료 후에는 정리 전이라도 돌려주지 않는다")
+    void get_respectsExpiry() {
+        store.put("a", "123456", Duration.ofSeconds(5));
+
+        clock.advanceSeconds(4);
+        assertThat(store.get("a")).contains("123456");
+
+        clock.advanceSeconds(1);
+        assertThat(store.get("a")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회가 없어도 purgeExpired() 로 만료 항목이 삭제된다")
+    void purgeExpired_removesWithoutAccess() {
+        store.put("a", "1", Duration.ofSeconds(3));
+        store.put("b", "2", Duration.ofSeconds(6));
+
+        clock.advanceSeconds(2);
+        assertThat(store.purgeExpired(clock.instant(), Integer.MAX_VALUE)).isZero();
+        assertThat(store.size()).isEqualTo(2);
+
+        clock.advanceSeconds(1);
+        assertThat(store.purgeExpired(clock.instant(), Integer.MAX_VALUE)).isEqualTo(1);
+        assertThat(store.size()).isEqualTo(1);
+
+        clock.advanceSeconds(3);
+        assertThat(store.purgeExpired(clock.instant(), Integer.MAX_VALUE)).isEqualTo(1);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 긴 TTL 은 남은 바퀴 수만큼 지난 뒤에 삭제된다")
+    void purgeExpired_longTtl_waitsForRounds() {
+        store.put("long", "v", Duration.ofSeconds(20));   // 8초 휠에서 2바퀴 + 4칸
+
+        for (int s = 1; s < 20; s++) {
+            clock.advanceSeconds(1);
+            store.purgeExpired(clock.instant(), Integer.MAX_VALUE);
+            assertThat(store.size()).as("t+%ds", s).isEqualTo(1);
+        }
+
+        clock.advanceSeconds(1);
+        assertThat(store.purgeExpired(clock.instant(), Integer.MAX_VALUE)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정리가 밀려도 한 번의 호출로 밀린 tick 을 모두 처리한다")
+    void purgeExpired_catchesUpAfterGap() {
+        store.put("a", "1", Duration.ofSeconds(3));
+        store.put("b", "2", Duration.ofSeconds(30));
+
+        clock.advanceSeconds(60);
+
+        assertThat(store.purgeExpired(clock.instant(), Integer.MAX_VALUE)).isEqualTo(2);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 키를 다시 저장하면 이전 만료 예약은 새 값을 지우지 않는다")
+    void put_overwrite_oldTimerIgnored() {
+        store.put("a", "old", Duration.ofSeconds(2));
+        clock.advanceSeconds(1);
+        store.put("a", "new", Duration.ofSeconds(10));
+
+        clock.advanceSeconds(2);
+        assertThat(store.purgeExpired(clock.instant(), Integer.MAX_VALUE)).isZero();
+        assertThat(store.get("a")).contains("new");
+    }
+
+    @Test
+    @DisplayName("remove() 는 삭제 여부를 돌려준다")
+    void remove_reportsPresence() {
+        store.put("a", "1", Duration.ofSeconds(5));
+
+        assertThat(store.remove("a")).isTrue();
+        assertThat(store.remove("a")).isFalse();
+        assertThat(store.get("a")).isEmpty();
+    }
+
+    @Test
+    void slots_mustBePowerOfTwo() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new InMemoryTtlStore("bad", clock, Duration.ofSeconds(1), 10));
+    }
+
+    /** 테스트용 수동 시계 */
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advanceSeconds(long seconds) {
+            now = now.plusSeconds(seconds);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.capstonedesign.common.ttl;
+
+import com.example.capstonedesign.common.sql.MySqlTestContainer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.testcontainers.context.ImportTestcontainers;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JdbcTtlStore 테스트 (실제 MySQL, ttl_entries 는 youth.sql 의 DDL 그대로 생성)
+ * - ON DUPLICATE KEY UPDATE 덮어쓰기, 만료 행 숨김, namespace 분리
+ * - purgeExpired 의 DELETE ... LIMIT 배치 크기
+ * - TIMESTAMP 컬럼은 초 단위로 반올림되므로 시각은 정수 초로만 사용
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@ImportTestcontainers(MySqlTestContainer.class)
+class JdbcTtlStoreTest {
+
+    private static final Instant T0 = Instant.parse("2025-11-01T00:00:00Z");
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void createTable() throws IOException {
+        jdbc.execute(ttlEntriesDdl());
+    }
+
+    /** youth.sql 에서 ttl_entries CREATE 문만 추출 (스키마 정의를 테스트에 복사하지 않음) */
+    private static String ttlEntriesDdl() throws IOException {
+        String schema = new ClassPathResource("youth.sql").getContentAsString(StandardCharsets.UTF_8);
+        int start = schema.indexOf("CREATE TABLE IF NOT EXISTS ttl_entries");
+        return schema.substring(start, schema.indexOf(';', start));
+    }
+
+    private JdbcTtlStore store(String namespace, Instant now) {
+        return new JdbcTtlStore(jdbc, namespace, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 저장하면 값과 만료 시각을 덮어쓴다")
+    void put_upserts() {
+        JdbcTtlStore store = store("code", T0);
+        store.put("a@test.com", "111111", Duration.ofMinutes(5));
+        store.put("a@test.com", "222222", Duration.ofMinutes(5));
+
+        assertThat(store.get("a@test.com")).contains("222222");
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 행은 삭제 전이라도 조회되지 않는다")
+    void get_hidesExpiredRows() {
+        store("code", T0).put("a@test.com", "111111", Duration.ofSeconds(10));
+
+        assertThat(store("code", T0.plusSeconds(9)).get("a@test.com")).contains("111111");
+        assertThat(store("code", T0.plusSeconds(10)).get("a@test.com")).isEmpty();
+        assertThat(store("code", T0.plusSeconds(10)).size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("namespace 가 다르면 같은 키도 서로 보이지 않는다")
+    void namespaces_areIsolated() {
+        store("code", T0).put("k", "code-value", Duration.ofMinutes(5));
+        store("token", T0).put("k", "token-value", Duration.ofMinutes(5));
+
+        assertThat(store("code", T0).get("k")).contains("code-value");
+        assertThat(store("token", T0).get("k")).contains("token-value");
+
+        assertThat(store("code", T0).remove("k")).isTrue();
+        assertThat(store("code", T0).remove("k")).isFalse();
+        assertThat(store("token", T0).get("k")).contains("token-value");
+    }
+
+    @Test
+    @DisplayName("purgeExpired 는 자기 namespace 의 만료 행만 limit 건씩 지운다")
+    void purgeExpired_deletesInBatches() {
+        JdbcTtlStore code = store("code", T0);
+        for (int i = 0; i < 3; i++) code.put("expired-" + i, "v", Duration.ofSeconds(5));
+        code.put("live", "v", Duration.ofHours(1));
+        store("token", T0).put("expired", "v", Duration.ofSeconds(5));
+
+        Instant later = T0.plusSeconds(60);
+        assertThat(code.purgeExpired(later, 2)).isEqualTo(2);
+        assertThat(code.purgeExpired(later, 2)).isEqualTo(1);
+        assertThat(code.purgeExpired(later, 2)).isZero();
+
+        assertThat(code.size()).isEqualTo(1);
+        assertThat(code.get("live")).contains("v");
+        assertThat(store("token", T0).size()).isEqualTo(1);
+    }
+}
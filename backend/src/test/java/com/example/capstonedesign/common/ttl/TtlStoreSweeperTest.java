@@ -0,0 +1,77 @@
+package com.example.capstonedesign.common.ttl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * TtlStoreSweeper 단위 테스트
+ * - 메모리 / DB 정리 대상 분리, 배치 반복 종료 조건, 실패 격리
+ */
+class TtlStoreSweeperTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-01T00:00:00Z");
+
+    @Test
+    @DisplayName("DB 정리는 배치가 가득 찬 동안만 반복하고 메모리 저장소는 건드리지 않는다")
+    void purgeDatabase_repeatsWhileBatchFull() {
+        ExpiryPurger db = mock(ExpiryPurger.class);
+        ExpiryPurger memory = mock(ExpiryPurger.class);
+        when(memory.inMemory()).thenReturn(true);
+        when(db.purgeExpired(NOW, 100)).thenReturn(100, 100, 40);
+
+        sweeper(List.of(db, memory)).purgeDatabase();
+
+        verify(db, times(3)).purgeExpired(NOW, 100);
+        verify(memory, never()).purgeExpired(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("밀린 행이 많아도 1회 실행당 배치 수는 제한된다")
+    void purgeDatabase_cappedPerRun() {
+        ExpiryPurger db = mock(ExpiryPurger.class);
+        when(db.purgeExpired(NOW, 100)).thenReturn(100);
+
+        sweeper(List.of(db)).purgeDatabase();
+
+        verify(db, times(TtlStoreSweeper.MAX_BATCHES_PER_RUN)).purgeExpired(NOW, 100);
+    }
+
+    @Test
+    @DisplayName("한 대상의 정리 실패가 다른 대상 정리를 막지 않는다")
+    void purgeDatabase_failureIsolated() {
+        ExpiryPurger broken = mock(ExpiryPurger.class);
+        ExpiryPurger ok = mock(ExpiryPurger.class);
+        when(broken.purgeExpired(any(), anyInt())).thenThrow(new IllegalStateException("db down"));
+
+        sweeper(List.of(broken, ok)).purgeDatabase();
+
+        verify(ok).purgeExpired(NOW, 100);
+    }
+
+    @Test
+    @DisplayName("메모리 정리는 메모리 저장소만 진행시킨다")
+    void sweepMemory_onlyInMemory() {
+        ExpiryPurger db = mock(ExpiryPurger.class);
+        ExpiryPurger memory = mock(ExpiryPurger.class);
+        when(memory.inMemory()).thenReturn(true);
+
+        sweeper(List.of(db, memory)).sweepMemory();
+
+        verify(memory).purgeExpired(eq(NOW), anyInt());
+        verify(db, never()).purgeExpired(any(), anyInt());
+    }
+
+    private TtlStoreSweeper sweeper(List<ExpiryPurger> purgers) {
+        return new TtlStoreSweeper(purgers, 100, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+}
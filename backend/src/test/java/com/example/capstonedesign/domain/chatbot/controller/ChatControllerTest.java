@@ -2,27 +2,38 @@ package com.example.capstonedesign.domain.chatbot.controller;
 
 import com.example.capstonedesign.domain.chatbot.dto.request.ChatRequestDto;
 import com.example.capstonedesign.domain.chatbot.dto.response.ChatResponseDto;
+import com.example.capstonedesign.domain.chatbot.entity.IntentType;
 import com.example.capstonedesign.domain.chatbot.service.ChatService;
+import com.example.capstonedesign.domain.chatbot.service.ChatStreamExecutor;
+import com.example.capstonedesign.domain.chatbot.service.ChatStreamListener;
 import com.example.capstonedesign.domain.users.config.JwtTokenProvider;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
 @WebMvcTest(ChatController.class)
+@Import(ChatStreamExecutor.class)
 @AutoConfigureMockMvc(addFilters = false)
 class ChatControllerTest {
 
@@ -61,4 +72,43 @@ class ChatControllerTest {
 
         verify(chatService).chat(any(ChatRequestDto.class));
     }
+
+    @Test
+    void streamEndpoint_emitsSseEventsInOrder() throws Exception {
+        // given
+        ChatRequestDto requestDto = new ChatRequestDto();
+        requestDto.setMessage("서울 전세 뭐 있어?");
+
+        AtomicReference<String> workerThread = new AtomicReference<>();
+        doAnswer(inv -> {
+            workerThread.set(Thread.currentThread().getName());
+            ChatStreamListener listener = inv.getArgument(1);
+            listener.onIntent(IntentType.HOUSING, "서울 지역 주거 공고를 찾고 있어요.");
+            listener.onLine("LH", "- [LH] 테스트 공고");
+            listener.onComplete("안내 문구", "전체 답변");
+            return null;
+        }).when(chatService).streamChat(any(ChatRequestDto.class), any(ChatStreamListener.class));
+
+        // when
+        MvcResult result = mockMvc.perform(post("/api/chat/stream")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5_000);
+
+        // then: 스트림 작업은 요청 스레드가 아닌 전용 풀에서 실행
+        assertThat(workerThread.get()).startsWith("chat-stream-");
+
+        String body = result.getResponse().getContentAsString();
+        assertThat(body)
+                .contains("event:intent")
+                .contains("event:line")
+                .contains("event:hint")
+                .contains("event:done");
+        assertThat(body.indexOf("event:intent")).isLessThan(body.indexOf("event:line"));
+        assertThat(body.indexOf("event:line")).isLessThan(body.indexOf("event:done"));
+    }
 }
+
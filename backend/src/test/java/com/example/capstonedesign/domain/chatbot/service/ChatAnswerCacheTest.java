@@ -0,0 +1,136 @@
+package com.example.capstonedesign.domain.chatbot.service;
+
+import com.example.capstonedesign.application.ingest.IngestDataVersions;
+import com.example.capstonedesign.application.ingest.IngestDomain;
+import com.example.capstonedesign.domain.chatbot.entity.IntentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatAnswerCacheTest {
+
+    private IngestDataVersions versions;
+    private MutableClock clock;
+    private ChatAnswerCache cache;
+
+    @BeforeEach
+    void setUp() {
+        versions = new IngestDataVersions();
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        cache = new ChatAnswerCache(versions, 2, 60, clock);
+    }
+
+    private static ChatAnswerCache.Key housing(String region, String keyword) {
+        return new ChatAnswerCache.Key(IntentType.HOUSING, region, keyword, false, false);
+    }
+
+    private static Supplier<String> counting(AtomicInteger calls, String reply) {
+        return () -> {
+            calls.incrementAndGet();
+            return reply;
+        };
+    }
+
+    @Test
+    void get_sameKey_hitsWithoutReloading() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.get(housing("서울", "전세"), counting(calls, "A"))).isEqualTo("A");
+        assertThat(cache.get(housing("서울", "전세"), counting(calls, "B"))).isEqualTo("A");
+
+        assertThat(calls).hasValue(1);
+        assertThat(cache.stats().hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void key_treatsNullAndBlankAlike() {
+        assertThat(housing(null, null)).isEqualTo(housing("", ""));
+    }
+
+    @Test
+    void get_afterTtl_reloads() {
+        AtomicInteger calls = new AtomicInteger();
+        cache.get(housing("서울", "전세"), counting(calls, "A"));
+
+        clock.advance(Duration.ofSeconds(61));
+
+        assertThat(cache.get(housing("서울", "전세"), counting(calls, "B"))).isEqualTo("B");
+        assertThat(calls).hasValue(2);
+        assertThat(cache.stats().invalidations()).isEqualTo(1);
+    }
+
+    @Test
+    void get_afterRelevantIngest_reloads_unrelatedIngestKeepsEntry() {
+        AtomicInteger calls = new AtomicInteger();
+        cache.get(housing("서울", "전세"), counting(calls, "A"));
+
+        versions.bump(IngestDomain.FINANCE);   // 주거와 무관
+        assertThat(cache.get(housing("서울", "전세"), counting(calls, "B"))).isEqualTo("A");
+
+        versions.bump(IngestDomain.SH);        // 주거 도메인
+        assertThat(cache.get(housing("서울", "전세"), counting(calls, "C"))).isEqualTo("C");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void get_overCapacity_evictsLeastRecentlyUsed() {
+        AtomicInteger calls = new AtomicInteger();
+        cache.get(housing("서울", "전세"), counting(calls, "A"));
+        cache.get(housing("부산", "전세"), counting(calls, "B"));
+        cache.get(housing("서울", "전세"), counting(calls, "A"));  // 서울 최근 사용
+        cache.get(housing("경기", "전세"), counting(calls, "C"));  // 부산 축출
+
+        assertThat(cache.stats().size()).isEqualTo(2);
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+
+        cache.get(housing("서울", "전세"), counting(calls, "X"));
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void get_notCacheable_returnsReplyWithoutStoring() {
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.get(housing("서울", "전세"), counting(calls, "partial"), () -> false);
+        cache.get(housing("서울", "전세"), counting(calls, "full"));
+
+        assertThat(calls).hasValue(2);
+        assertThat(cache.get(housing("서울", "전세"), counting(calls, "X"))).isEqualTo("full");
+    }
+
+    /** 테스트용 수동 시계 */
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration d) {
+            now = now.plus(d);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.capstonedesign.domain.chatbot.service;
+
+import com.example.capstonedesign.domain.chatbot.entity.ChatMessage;
+import com.example.capstonedesign.domain.chatbot.entity.ChatSender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatLogWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private ChatLogWriter writer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (writer != null) writer.shutdown();
+    }
+
+    private static ChatMessage msg(String content) {
+        return ChatMessage.builder().sender(ChatSender.USER).content(content).build();
+    }
+
+    /** batchUpdate 호출마다 배치 크기를 기록 (writer 가 배치 리스트를 재사용하므로 호출 시점에 읽음) */
+    private List<Integer> recordBatchSizes() {
+        List<Integer> sizes = new CopyOnWriteArrayList<>();
+        lenient().when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenAnswer(inv -> {
+                    sizes.add(((Collection<?>) inv.getArgument(1)).size());
+                    return new int[0][];
+                });
+        return sizes;
+    }
+
+    @Test
+    void append_flushesInBatches_andDrainsOnShutdown() throws InterruptedException {
+        List<Integer> sizes = recordBatchSizes();
+        writer = new ChatLogWriter(jdbcTemplate, 100, 10, 50, ChatLogWriter.OverflowPolicy.DROP);
+
+        for (int i = 0; i < 25; i++) writer.append(msg("m" + i));
+        writer.shutdown();
+
+        assertThat(sizes).allMatch(s -> s <= 10);
+        assertThat(sizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(25);
+        assertThat(writer.writtenCount()).isEqualTo(25);
+        assertThat(writer.pendingCount()).isZero();
+        writer = null;
+    }
+
+    @Test
+    void append_setsCreatedAtAtEnqueueTime() throws InterruptedException {
+        recordBatchSizes();
+        writer = new ChatLogWriter(jdbcTemplate, 10, 10, 50, ChatLogWriter.OverflowPolicy.DROP);
+
+        ChatMessage m = msg("hello");
+        writer.append(m);
+
+        assertThat(m.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void append_whenQueueFull_dropPolicyCountsDrops() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch inFlush = new CountDownLatch(1);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenAnswer(inv -> {
+                    inFlush.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return new int[0][];
+                });
+        writer = new ChatLogWriter(jdbcTemplate, 2, 1, 10, ChatLogWriter.OverflowPolicy.DROP);
+
+        writer.append(msg("first"));             // flush 스레드가 잡고 블로킹
+        assertThat(inFlush.await(5, TimeUnit.SECONDS)).isTrue();
+        writer.append(msg("q1"));
+        writer.append(msg("q2"));                // 큐 용량 2 가득
+        writer.append(msg("overflow"));
+
+        assertThat(writer.droppedCount()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    void append_whenQueueFull_callerPolicyWritesSynchronously() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch inFlush = new CountDownLatch(1);
+        Thread testThread = Thread.currentThread();
+        List<Integer> callerWrites = new CopyOnWriteArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenAnswer(inv -> {
+                    if (Thread.currentThread() == testThread) {
+                        callerWrites.add(((Collection<?>) inv.getArgument(1)).size());
+                        return new int[0][];
+                    }
+                    inFlush.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return new int[0][];
+                });
+        writer = new ChatLogWriter(jdbcTemplate, 1, 1, 10, ChatLogWriter.OverflowPolicy.CALLER);
+
+        writer.append(msg("first"));
+        assertThat(inFlush.await(5, TimeUnit.SECONDS)).isTrue();
+        writer.append(msg("q1"));
+        writer.append(msg("overflow"));
+
+        assertThat(callerWrites).containsExactly(1);
+        assertThat(writer.droppedCount()).isZero();
+        release.countDown();
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.capstonedesign.domain.chatbot.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatSearchFanoutTest {
+
+    private ChatSearchFanout fanout;
+
+    @AfterEach
+    void tearDown() {
+        if (fanout != null) fanout.shutdown();
+    }
+
+    private static List<String> slow(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return List.of(value);
+    }
+
+    @Test
+    void join_runsDomainsConcurrently_latencyIsMaxNotSum() {
+        fanout = new ChatSearchFanout(true, 4, 16, 2000);
+        ChatSearchFanout.Request req = fanout.begin();
+
+        long start = System.nanoTime();
+        Future<List<String>> lh = req.submit(() -> slow(300, "LH"));
+        Future<List<String>> sh = req.submit(() -> slow(300, "SH"));
+
+        assertThat(req.join(lh, "LH")).containsExactly("LH");
+        assertThat(req.join(sh, "SH")).containsExactly("SH");
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMs).isLessThan(550);
+        assertThat(req.isPartial()).isFalse();
+    }
+
+    @Test
+    void join_afterDeadline_returnsEmpty_andMarksPartial() {
+        fanout = new ChatSearchFanout(true, 4, 16, 100);
+        ChatSearchFanout.Request req = fanout.begin();
+
+        Future<List<String>> fast = req.submit(() -> List.of("LH"));
+        Future<List<String>> slow = req.submit(() -> slow(2000, "SH"));
+
+        assertThat(req.join(fast, "LH")).containsExactly("LH");
+        assertThat(req.join(slow, "SH")).isEmpty();
+        assertThat(req.isPartial()).isTrue();
+        assertThat(slow.isCancelled()).isTrue();
+    }
+
+    @Test
+    void join_failedSearch_returnsEmpty_andMarksPartial() {
+        fanout = new ChatSearchFanout(true, 4, 16, 1000);
+        ChatSearchFanout.Request req = fanout.begin();
+
+        Future<List<String>> failing = req.submit(() -> {
+            throw new IllegalStateException("db down");
+        });
+
+        assertThat(req.join(failing, "정책")).isEmpty();
+        assertThat(req.isPartial()).isTrue();
+    }
+
+    @Test
+    void submit_whenPoolSaturated_doesNotRunOnCaller_andGivesUpAtDeadline() {
+        // 워커 1, 큐 1 → 세 번째 검색은 자리가 나지 않음
+        fanout = new ChatSearchFanout(true, 1, 1, 150);
+        ChatSearchFanout.Request req = fanout.begin();
+
+        req.submit(() -> slow(1000, "LH"));
+        req.submit(() -> slow(1000, "SH"));
+
+        long start = System.nanoTime();
+        Future<List<String>> third = req.submit(() -> slow(1000, "정책"));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(req.join(third, "정책")).isEmpty();
+        assertThat(req.isPartial()).isTrue();
+        assertThat(elapsedMs).isLessThan(600);
+        assertThat(third.isDone()).isTrue();
+    }
+
+    @Test
+    void async_whenPoolSaturated_completesEmptyWithinDeadline() {
+        fanout = new ChatSearchFanout(true, 1, 1, 150);
+        ChatSearchFanout.Request req = fanout.begin();
+
+        req.submit(() -> slow(1000, "LH"));
+        req.submit(() -> slow(1000, "SH"));
+
+        long start = System.nanoTime();
+        List<String> result = req.<String>async(() -> List.of("정책"), "정책").join();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(result).isEmpty();
+        assertThat(req.isPartial()).isTrue();
+        assertThat(elapsedMs).isLessThan(600);
+    }
+
+    @Test
+    void submit_whenDisabled_runsInlineOnCallerThread() throws Exception {
+        fanout = new ChatSearchFanout(false, 4, 16, 1000);
+        ChatSearchFanout.Request req = fanout.begin();
+        Thread caller = Thread.currentThread();
+
+        Future<List<Thread>> f = req.submit(() -> List.of(Thread.currentThread()));
+
+        assertThat(f.isDone()).isTrue();
+        assertThat(f.get()).containsExactly(caller);
+    }
+}
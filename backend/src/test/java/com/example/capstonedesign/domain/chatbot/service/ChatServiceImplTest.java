@@ -1,28 +1,34 @@
 package com.example.capstonedesign.domain.chatbot.service;
 
+import com.example.capstonedesign.application.ingest.IngestDataVersions;
 import com.example.capstonedesign.domain.chatbot.dto.request.ChatRequestDto;
 import com.example.capstonedesign.domain.chatbot.dto.response.ChatResponseDto;
 import com.example.capstonedesign.domain.chatbot.entity.ChatMessage;
 import com.example.capstonedesign.domain.chatbot.entity.ChatSender;
 import com.example.capstonedesign.domain.chatbot.entity.IntentType;
-import com.example.capstonedesign.domain.chatbot.repository.ChatMessageRepository;
 import com.example.capstonedesign.domain.chatbot.service.DB.DbChatSearchService;
 import com.example.capstonedesign.domain.chatbot.service.DB.DbIntentDetector;
 import com.example.capstonedesign.domain.housingannouncements.entity.LhNotice;
 import com.example.capstonedesign.domain.products.entity.Products;
 import com.example.capstonedesign.domain.shannouncements.entity.ShAnnouncement;
 import com.example.capstonedesign.domain.youthpolicies.entity.YouthPolicy;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -30,7 +36,7 @@ import static org.mockito.Mockito.*;
 class ChatServiceImplTest {
 
     @Mock
-    private ChatMessageRepository chatMessageRepository;
+    private ChatLogWriter chatLogWriter;
 
     @Mock
     private DbIntentDetector dbIntentDetector;
@@ -41,9 +47,20 @@ class ChatServiceImplTest {
     @Mock
     private DbChatSearchService dbChatSearchService;
 
+    @Spy
+    private ChatAnswerCache answerCache = new ChatAnswerCache(new IngestDataVersions(), 100, 600);
+
+    @Spy
+    private ChatSearchFanout searchFanout = new ChatSearchFanout(true, 4, 16, 5000);
+
     @InjectMocks
     private ChatServiceImpl chatService;
 
+    @AfterEach
+    void tearDown() {
+        searchFanout.shutdown();
+    }
+
     private ChatRequestDto createRequest(String message) {
         ChatRequestDto dto = new ChatRequestDto();
         dto.setMessage(message);
@@ -56,11 +73,11 @@ class ChatServiceImplTest {
         String message = "서울 전세 지원 뭐 있어?";
         ChatRequestDto requestDto = createRequest(message);
 
-        when(dbIntentDetector.detectIntent(anyString()))
+        when(dbIntentDetector.detectIntent(any(ChatKeywordDictionary.Scan.class)))
                 .thenReturn(IntentType.HOUSING);
 
-        when(textExtractor.extractRegion(message)).thenReturn("서울");
-        when(textExtractor.extractHousingKeyword(message)).thenReturn("전세");
+        when(textExtractor.extractRegion(any(ChatKeywordDictionary.Scan.class))).thenReturn("서울");
+        when(textExtractor.extractHousingKeyword(any(ChatKeywordDictionary.Scan.class))).thenReturn("전세");
 
         // LhNotice / ShAnnouncement는 실제 엔티티 대신 mock으로 최소 필드만 사용
         LhNotice lhNotice = mock(LhNotice.class);
@@ -87,7 +104,7 @@ class ChatServiceImplTest {
 
         // 사용자/봇 메시지 각각 한 번씩 저장되는지 확인
         ArgumentCaptor<ChatMessage> captor = ArgumentCaptor.forClass(ChatMessage.class);
-        verify(chatMessageRepository, times(2)).save(captor.capture());
+        verify(chatLogWriter, times(2)).append(captor.capture());
 
         List<ChatMessage> savedMessages = captor.getAllValues();
         assertThat(savedMessages)
@@ -97,16 +114,42 @@ class ChatServiceImplTest {
         assertThat(savedMessages.get(0).getContent()).isEqualTo(message);
     }
 
+    @Test
+    void chat_scansMessageOnce_andSharesScanWithExtractors() {
+        // given
+        when(dbIntentDetector.detectIntent(any(ChatKeywordDictionary.Scan.class))).thenReturn(IntentType.HOUSING);
+        when(textExtractor.extractRegion(any(ChatKeywordDictionary.Scan.class))).thenReturn("서울");
+        when(textExtractor.extractHousingKeyword(any(ChatKeywordDictionary.Scan.class))).thenReturn("전세");
+        when(dbChatSearchService.findTopLhByRegionAndKeyword("서울", "전세", 5)).thenReturn(List.of());
+        when(dbChatSearchService.findTopShByRegionAndKeyword("서울", "전세", 5)).thenReturn(List.of());
+
+        // when
+        chatService.chat(createRequest("서울 전세 지원 뭐 있어?"));
+
+        // then: 의도 판별과 엔티티 추출이 같은 스캔 결과를 사용
+        ArgumentCaptor<ChatKeywordDictionary.Scan> intentScan = ArgumentCaptor.forClass(ChatKeywordDictionary.Scan.class);
+        ArgumentCaptor<ChatKeywordDictionary.Scan> regionScan = ArgumentCaptor.forClass(ChatKeywordDictionary.Scan.class);
+        ArgumentCaptor<ChatKeywordDictionary.Scan> keywordScan = ArgumentCaptor.forClass(ChatKeywordDictionary.Scan.class);
+        verify(dbIntentDetector).detectIntent(intentScan.capture());
+        verify(textExtractor).extractRegion(regionScan.capture());
+        verify(textExtractor).extractHousingKeyword(keywordScan.capture());
+
+        assertThat(regionScan.getValue()).isSameAs(intentScan.getValue());
+        assertThat(keywordScan.getValue()).isSameAs(intentScan.getValue());
+        verify(dbIntentDetector, never()).detectIntent(anyString());
+        verify(textExtractor, never()).extractRegion(anyString());
+    }
+
     @Test
     void chat_financeIntent_returnsFinanceReply() {
         // given
         String message = "청년 적금 추천해 줘";
         ChatRequestDto requestDto = createRequest(message);
 
-        when(dbIntentDetector.detectIntent(anyString()))
+        when(dbIntentDetector.detectIntent(any(ChatKeywordDictionary.Scan.class)))
                 .thenReturn(IntentType.FINANCE);
 
-        when(textExtractor.extractFinanceKeyword(message)).thenReturn("청년 적금");
+        when(textExtractor.extractFinanceKeyword(any(ChatKeywordDictionary.Scan.class))).thenReturn("청년 적금");
 
         Products p1 = mock(Products.class);
         when(p1.getName()).thenReturn("청년 희망 적금");
@@ -131,10 +174,10 @@ class ChatServiceImplTest {
         String message = "교통비 지원 정책 있어?";
         ChatRequestDto requestDto = createRequest(message);
 
-        when(dbIntentDetector.detectIntent(anyString()))
+        when(dbIntentDetector.detectIntent(any(ChatKeywordDictionary.Scan.class)))
                 .thenReturn(IntentType.POLICY);
 
-        when(textExtractor.extractPolicyKeyword(message)).thenReturn("교통비");
+        when(textExtractor.extractPolicyKeyword(any(ChatKeywordDictionary.Scan.class))).thenReturn("교통비");
 
         // 1차 검색은 빈 리스트
         when(dbChatSearchService.findTopPolicyByKeyword("교통비", 5))
@@ -164,7 +207,7 @@ class ChatServiceImplTest {
         String message = "어떻게 물어봐야 해?";
         ChatRequestDto requestDto = createRequest(message);
 
-        when(dbIntentDetector.detectIntent(anyString()))
+        when(dbIntentDetector.detectIntent(any(ChatKeywordDictionary.Scan.class)))
                 .thenReturn(IntentType.HELP);
 
         // when
@@ -181,7 +224,7 @@ class ChatServiceImplTest {
         String message = "의미 없는 문장 아무거나...";
         ChatRequestDto requestDto = createRequest(message);
 
-        when(dbIntentDetector.detectIntent(anyString()))
+        when(dbIntentDetector.detectIntent(any(ChatKeywordDictionary.Scan.class)))
                 .thenReturn(IntentType.UNKNOWN);
 
         // when
@@ -198,11 +241,11 @@ class ChatServiceImplTest {
         String message = "LH 서울 전세 지원 보고 싶어";  // 'lh' 포함 → preferLh = true
         ChatRequestDto requestDto = createRequest(message);
 
-        when(dbIntentDetector.detectIntent(anyString()))
+        when(dbIntentDetector.detectIntent(any(ChatKeywordDictionary.Scan.class)))
                 .thenReturn(IntentType.HOUSING);
 
-        when(textExtractor.extractRegion(message)).thenReturn("서울");
-        when(textExtractor.extractHousingKeyword(message)).thenReturn("전세");
+        when(textExtractor.extractRegion(any(ChatKeywordDictionary.Scan.class))).thenReturn("서울");
+        when(textExtractor.extractHousingKeyword(any(ChatKeywordDictionary.Scan.class))).thenReturn("전세");
 
         // LH는 없음, SH만 존재
         when(dbChatSearchService.findTopLhByRegionAndKeyword("서울", "전세", 5))
@@ -228,11 +271,11 @@ class ChatServiceImplTest {
         String message = "LH 부산 월세 지원 알려줘";  // preferLh = true
         ChatRequestDto requestDto = createRequest(message);
 
-        when(dbIntentDetector.detectIntent(anyString()))
+        when(dbIntentDetector.detectIntent(any(ChatKeywordDictionary.Scan.class)))
                 .thenReturn(IntentType.HOUSING);
 
-        when(textExtractor.extractRegion(message)).thenReturn("부산");
-        when(textExtractor.extractHousingKeyword(message)).thenReturn("월세");
+        when(textExtractor.extractRegion(any(ChatKeywordDictionary.Scan.class))).thenReturn("부산");
+        when(textExtractor.extractHousingKeyword(any(ChatKeywordDictionary.Scan.class))).thenReturn("월세");
 
         // LH/SH 모두 없음
         when(dbChatSearchService.findTopLhByRegionAndKeyword("부산", "월세", 5))
@@ -255,11 +298,11 @@ class ChatServiceImplTest {
         String message = "SH 경기 전세 지원 알려 줘";  // 'sh' 포함 → preferSh = true
         ChatRequestDto requestDto = createRequest(message);
 
-        when(dbIntentDetector.detectIntent(anyString()))
+        when(dbIntentDetector.detectIntent(any(ChatKeywordDictionary.Scan.class)))
                 .thenReturn(IntentType.HOUSING);
 
-        when(textExtractor.extractRegion(message)).thenReturn("경기");
-        when(textExtractor.extractHousingKeyword(message)).thenReturn("전세");
+        when(textExtractor.extractRegion(any(ChatKeywordDictionary.Scan.class))).thenReturn("경기");
+        when(textExtractor.extractHousingKeyword(any(ChatKeywordDictionary.Scan.class))).thenReturn("전세");
 
         // SH는 없음, LH만 존재
         when(dbChatSearchService.findTopShByRegionAndKeyword("경기", "전세", 5))
@@ -285,12 +328,12 @@ class ChatServiceImplTest {
         String message = "집 관련 지원 뭐 있어?";  // LH/SH 언급 없음 → preferLh/ preferSh 둘 다 false
         ChatRequestDto requestDto = createRequest(message);
 
-        when(dbIntentDetector.detectIntent(anyString()))
+        when(dbIntentDetector.detectIntent(any(ChatKeywordDictionary.Scan.class)))
                 .thenReturn(IntentType.HOUSING);
 
         // region/keyword를 null/blank로 내려 보낼 때 처리 확인
-        when(textExtractor.extractRegion(message)).thenReturn(null);
-        when(textExtractor.extractHousingKeyword(message)).thenReturn("");
+        when(textExtractor.extractRegion(any(ChatKeywordDictionary.Scan.class))).thenReturn(null);
+        when(textExtractor.extractHousingKeyword(any(ChatKeywordDictionary.Scan.class))).thenReturn("");
 
         // LH/SH 모두 없음
         when(dbChatSearchService.findTopLhByRegionAndKeyword(null, "", 5))
@@ -306,4 +349,127 @@ class ChatServiceImplTest {
                 .contains("전체 지역에서 '전체' 관련 주거 공고를 찾지 못했어요")
                 .contains("지역이나 키워드를 조금 더 넓게 바꿔서 다시 물어봐 주세요");
     }
+
+    @Test
+    void chat_sameNormalizedQuery_servedFromCache_withoutRequery() {
+        // given: 표현은 달라도 (FINANCE, "청년 적금") 튜플은 동일
+        when(dbIntentDetector.detectIntent(any(ChatKeywordDictionary.Scan.class)))
+                .thenReturn(IntentType.FINANCE);
+        when(textExtractor.extractFinanceKeyword(any(ChatKeywordDictionary.Scan.class))).thenReturn("청년 적금");
+
+        Products p1 = mock(Products.class);
+        when(p1.getName()).thenReturn("청년 희망 적금");
+        when(p1.getProvider()).thenReturn("OO은행");
+        when(dbChatSearchService.findTopFinanceByKeyword("청년 적금", 5))
+                .thenReturn(List.of(p1));
+
+        // when
+        ChatResponseDto first = chatService.chat(createRequest("청년 적금 추천해 줘"));
+        ChatResponseDto second = chatService.chat(createRequest("청년 적금 뭐 있어?"));
+
+        // then
+        assertThat(second.getReply()).isEqualTo(first.getReply());
+        verify(dbChatSearchService, times(1)).findTopFinanceByKeyword("청년 적금", 5);
+        assertThat(answerCache.stats().hits()).isEqualTo(1);
+        assertThat(answerCache.stats().misses()).isEqualTo(1);
+    }
+
+    /** 스트리밍 이벤트 기록용 listener */
+    private static class RecordingListener implements ChatStreamListener {
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(1);
+        volatile String reply;
+
+        @Override
+        public void onIntent(IntentType intent, String message) {
+            events.add("intent:" + intent);
+        }
+
+        @Override
+        public void onLine(String domain, String line) {
+            events.add("line:" + domain + ":" + line);
+        }
+
+        @Override
+        public void onComplete(String hint, String reply) {
+            if (hint != null) events.add("hint");
+            events.add("done");
+            this.reply = reply;
+            done.countDown();
+        }
+
+        void await() throws InterruptedException {
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    void streamChat_housingIntent_emitsIntentFirst_thenLines_thenHintAndDone() throws Exception {
+        // given
+        String message = "서울 전세 지원 뭐 있어?";
+        when(dbIntentDetector.detectIntent(any(ChatKeywordDictionary.Scan.class))).thenReturn(IntentType.HOUSING);
+        when(textExtractor.extractRegion(any(ChatKeywordDictionary.Scan.class))).thenReturn("서울");
+        when(textExtractor.extractHousingKeyword(any(ChatKeywordDictionary.Scan.class))).thenReturn("전세");
+
+        LhNotice lhNotice = mock(LhNotice.class);
+        when(lhNotice.getPanNm()).thenReturn("서울 청년전세 임대주택");
+        when(lhNotice.getPanNtStDt()).thenReturn("2025-01-01");
+        ShAnnouncement shAnnouncement = mock(ShAnnouncement.class);
+        when(shAnnouncement.getTitle()).thenReturn("서울 청년 월세 지원");
+        when(shAnnouncement.getPostDate()).thenReturn(LocalDate.of(2025, 1, 2));
+        when(dbChatSearchService.findTopLhByRegionAndKeyword("서울", "전세", 5)).thenReturn(List.of(lhNotice));
+        when(dbChatSearchService.findTopShByRegionAndKeyword("서울", "전세", 5)).thenReturn(List.of(shAnnouncement));
+
+        // when
+        RecordingListener listener = new RecordingListener();
+        chatService.streamChat(createRequest(message), listener);
+        listener.await();
+
+        // then
+        assertThat(listener.events.get(0)).isEqualTo("intent:HOUSING");
+        assertThat(listener.events).contains(
+                "line:LH:- [LH] 서울 청년전세 임대주택 (게시: 2025-01-01)",
+                "line:SH:- [SH] 서울 청년 월세 지원 (게시: 2025-01-02)");
+        assertThat(listener.events.subList(listener.events.size() - 2, listener.events.size()))
+                .containsExactly("hint", "done");
+
+        // 동기 응답과 같은 답변 → 이후 동기 요청은 캐시 적중
+        assertThat(chatService.chat(createRequest(message)).getReply()).isEqualTo(listener.reply);
+        verify(dbChatSearchService, times(1)).findTopLhByRegionAndKeyword("서울", "전세", 5);
+    }
+
+    @Test
+    void streamChat_housingPreferLh_onlyShExists_streamsShAsFallback() throws Exception {
+        // given
+        String message = "LH 서울 전세 지원 보고 싶어";
+        when(dbIntentDetector.detectIntent(any(ChatKeywordDictionary.Scan.class))).thenReturn(IntentType.HOUSING);
+        when(textExtractor.extractRegion(any(ChatKeywordDictionary.Scan.class))).thenReturn("서울");
+        when(textExtractor.extractHousingKeyword(any(ChatKeywordDictionary.Scan.class))).thenReturn("전세");
+
+        ShAnnouncement shAnnouncement = mock(ShAnnouncement.class);
+        when(shAnnouncement.getTitle()).thenReturn("서울 청년 월세 지원");
+        when(dbChatSearchService.findTopLhByRegionAndKeyword("서울", "전세", 5)).thenReturn(List.of());
+        when(dbChatSearchService.findTopShByRegionAndKeyword("서울", "전세", 5)).thenReturn(List.of(shAnnouncement));
+
+        // when
+        RecordingListener listener = new RecordingListener();
+        chatService.streamChat(createRequest(message), listener);
+        listener.await();
+
+        // then
+        assertThat(listener.events).anyMatch(e -> e.startsWith("line:SH:"));
+        assertThat(listener.reply).contains("요청하신 LH 공고는 현재 검색되지 않았어요");
+    }
+
+    @Test
+    void streamChat_helpIntent_completesImmediately_andLogsBothTurns() throws Exception {
+        when(dbIntentDetector.detectIntent(any(ChatKeywordDictionary.Scan.class))).thenReturn(IntentType.HELP);
+
+        RecordingListener listener = new RecordingListener();
+        chatService.streamChat(createRequest("어떻게 물어봐야 해?"), listener);
+        listener.await();
+
+        assertThat(listener.events).containsExactly("intent:HELP", "done");
+        verify(chatLogWriter, times(2)).append(any(ChatMessage.class));
+    }
 }
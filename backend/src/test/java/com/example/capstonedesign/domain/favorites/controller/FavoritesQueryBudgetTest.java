@@ -0,0 +1,96 @@
+package com.example.capstonedesign.domain.favorites.controller;
+
+import com.example.capstonedesign.common.sql.MySqlApiTest;
+import com.example.capstonedesign.common.sql.QueryBudget;
+import com.example.capstonedesign.domain.favorites.entity.Favorites;
+import com.example.capstonedesign.domain.favorites.repository.FavoritesRepository;
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
+import com.example.capstonedesign.domain.products.entity.ProductType;
+import com.example.capstonedesign.domain.products.entity.Products;
+import com.example.capstonedesign.domain.products.repository.ProductsRepository;
+import com.example.capstonedesign.domain.users.config.JwtTokenProvider;
+import com.example.capstonedesign.domain.users.entity.UserRole;
+import com.example.capstonedesign.domain.users.entity.Users;
+import com.example.capstonedesign.domain.users.repository.UsersRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 즐겨찾기 목록 API 1회 호출의 SQL 문장 수 검사 (실제 MySQL)
+ * - 즐겨찾기 + 상품 1문장, 페이지가 꽉 차면 COUNT 1문장 추가
+ */
+@MySqlApiTest
+class FavoritesQueryBudgetTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    UsersRepository usersRepository;
+
+    @Autowired
+    ProductsRepository productsRepository;
+
+    @Autowired
+    FavoritesRepository favoritesRepository;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        Users user = usersRepository.save(Users.builder()
+                .email("fav-api@test.com")
+                .password("encoded")
+                .is_homeless(false)
+                .role(UserRole.USER)
+                .deleted(false)
+                .created_at(Instant.now())
+                .updated_at(Instant.now())
+                .notificationEnabled(true)
+                .notificationChannel(NotificationChannel.EMAIL)
+                .build());
+        for (int i = 0; i < 5; i++) {
+            Products product = productsRepository.save(Products.builder()
+                    .type(ProductType.HOUSING)
+                    .name("공고 " + i)
+                    .build());
+            favoritesRepository.save(Favorites.builder().user(user).product(product).build());
+        }
+        token = jwtTokenProvider.generate(user.getId().longValue(), user.getEmail(), UserRole.USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        favoritesRepository.deleteAllInBatch();
+        productsRepository.deleteAllInBatch();
+        usersRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @QueryBudget(max = 2, maxRepeats = 1)
+    @DisplayName("GET /api/favorites?size=3 - 상품별 지연 로딩 없이 목록 + COUNT")
+    void list_paged() throws Exception {
+        mvc.perform(get("/api/favorites")
+                        .param("page", "0")
+                        .param("size", "3")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)))
+                .andExpect(jsonPath("$.content[0].productName").exists())
+                .andExpect(jsonPath("$.totalElements").value(5));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.capstonedesign.domain.favorites.repository;
+
+import com.example.capstonedesign.common.sql.MySqlTestContainer;
+import com.example.capstonedesign.common.sql.QueryBudget;
+import com.example.capstonedesign.common.sql.SqlInstrumentationConfig;
+import com.example.capstonedesign.domain.favorites.entity.Favorites;
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
+import com.example.capstonedesign.domain.products.entity.ProductType;
+import com.example.capstonedesign.domain.products.entity.Products;
+import com.example.capstonedesign.domain.users.entity.UserRole;
+import com.example.capstonedesign.domain.users.entity.Users;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.context.ImportTestcontainers;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 즐겨찾기 JOIN FETCH 쿼리를 실제 MySQL 에서 실행
+ * - 즐겨찾기마다 상품을 지연 로딩하지 않는지 @QueryBudget 으로 확인
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@ImportTestcontainers(MySqlTestContainer.class)
+@Import(SqlInstrumentationConfig.class)
+class FavoritesRepositoryTest {
+
+    @Autowired
+    private FavoritesRepository repository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Integer userId;
+
+    @BeforeEach
+    void setUp() {
+        Users user = em.persist(user("fav@test.com"));
+        Users other = em.persist(user("other@test.com"));
+        userId = user.getId();
+
+        for (int i = 0; i < 5; i++) {
+            Products product = em.persist(Products.builder()
+                    .type(ProductType.HOUSING)
+                    .name("공고 " + i)
+                    .build());
+            em.persist(Favorites.builder().user(user).product(product).build());
+            if (i == 0) em.persist(Favorites.builder().user(other).product(product).build());
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    private static Users user(String email) {
+        return Users.builder()
+                .email(email)
+                .password("encoded")
+                .is_homeless(false)
+                .role(UserRole.USER)
+                .deleted(false)
+                .created_at(Instant.now())
+                .updated_at(Instant.now())
+                .notificationEnabled(true)
+                .notificationChannel(NotificationChannel.EMAIL)
+                .build();
+    }
+
+    @Test
+    @QueryBudget(max = 1)
+    void findByUserIdOrderByCreatedAtDesc_fetchesProducts() {
+        List<Favorites> favorites = repository.findByUser_IdOrderByCreatedAtDesc(userId);
+
+        assertThat(favorites).extracting(f -> f.getProduct().getName())
+                .hasSize(5)
+                .allMatch(name -> name.startsWith("공고 "));
+    }
+
+    @Test
+    @QueryBudget(max = 2)
+    void findPageByUserId_fetchesProductsWithPageAndCount() {
+        Page<Favorites> page = repository.findPageByUserId(userId, PageRequest.of(0, 3));
+
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).extracting(f -> f.getProduct().getName()).hasSize(3);
+    }
+}
@@ -301,4 +301,21 @@ class FavoritesServiceTest {
         assertThat(first.provider()).isEqualTo("테스트 기관");
         assertThat(first.detailUrl()).isEqualTo("https://example.com/detail");
     }
+
+    @Test
+    @DisplayName("getFavoriteProducts - 즐겨찾기 수와 무관하게 조회 1회 (상품 개별 로딩 없음)")
+    void getFavoriteProducts_singleQuery() {
+        List<Favorites> favorites = List.of(
+                Favorites.builder().id(1).user(createUser(1)).product(createProduct(10)).build(),
+                Favorites.builder().id(2).user(createUser(1)).product(createProduct(11)).build(),
+                Favorites.builder().id(3).user(createUser(1)).product(createProduct(12)).build()
+        );
+        when(favoritesRepository.findByUser_IdOrderByCreatedAtDesc(1)).thenReturn(favorites);
+
+        List<FavoriteProductResponse> result = favoritesService.getFavoriteProducts(1L);
+
+        assertThat(result).extracting(FavoriteProductResponse::productId).containsExactly(10L, 11L, 12L);
+        verify(favoritesRepository, times(1)).findByUser_IdOrderByCreatedAtDesc(1);
+        verifyNoMoreInteractions(favoritesRepository, productsRepository);
+    }
 }
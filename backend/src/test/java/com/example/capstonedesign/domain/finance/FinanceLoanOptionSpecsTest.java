@@ -0,0 +1,86 @@
+package com.example.capstonedesign.domain.finance;
+
+import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceLoanOption;
+import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProductType;
+import jakarta.persistence.criteria.*;
+import jakarta.persistence.metamodel.Attribute;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * FinanceLoanOptionSpecs 단위 테스트
+ * - 값이 없는 조건은 null, 있는 조건만 생성
+ * - 상품 조인은 조건이 여러 개여도 1번만 추가
+ */
+class FinanceLoanOptionSpecsTest {
+
+    @SuppressWarnings("unchecked")
+    private final Root<FinanceLoanOption> root = mock(Root.class);
+    private final CriteriaQuery<?> cq = mock(CriteriaQuery.class);
+    private final CriteriaBuilder cb = mock(CriteriaBuilder.class);
+
+    @Test
+    @DisplayName("null 또는 공백 조건은 WHERE 절에 포함되지 않는다")
+    void blankConditions_returnNull() {
+        assertThat(FinanceLoanOptionSpecs.productType(null).toPredicate(root, cq, cb)).isNull();
+        assertThat(FinanceLoanOptionSpecs.lendType(" ").toPredicate(root, cq, cb)).isNull();
+        assertThat(FinanceLoanOptionSpecs.rpayType(null).toPredicate(root, cq, cb)).isNull();
+        assertThat(FinanceLoanOptionSpecs.mrtgType("").toPredicate(root, cq, cb)).isNull();
+        assertThat(FinanceLoanOptionSpecs.minAvgRate(null).toPredicate(root, cq, cb)).isNull();
+        assertThat(FinanceLoanOptionSpecs.maxAvgRate(null).toPredicate(root, cq, cb)).isNull();
+        assertThat(FinanceLoanOptionSpecs.keyword(null).toPredicate(root, cq, cb)).isNull();
+        verifyNoInteractions(root, cb);
+    }
+
+    @Test
+    @DisplayName("옵션 컬럼 조건은 조인 없이 생성")
+    void optionColumns_buildWithoutJoin() {
+        Predicate predicate = mock(Predicate.class);
+        when(cb.equal(any(), eq("고정금리"))).thenReturn(predicate);
+        when(cb.greaterThanOrEqualTo(any(), eq(new BigDecimal("3.0")))).thenReturn(predicate);
+
+        assertThat(FinanceLoanOptionSpecs.lendType("고정금리").toPredicate(root, cq, cb)).isSameAs(predicate);
+        assertThat(FinanceLoanOptionSpecs.minAvgRate(new BigDecimal("3.0")).toPredicate(root, cq, cb)).isSameAs(predicate);
+        verify(root, never()).join(anyString());
+    }
+
+    @Test
+    @DisplayName("productType - 이미 있는 financeProduct 조인을 재사용한다")
+    @SuppressWarnings("unchecked")
+    void productType_reusesExistingJoin() {
+        Join<FinanceLoanOption, Object> existing = mock(Join.class);
+        Attribute<Object, Object> attribute = mock(Attribute.class);
+        when(attribute.getName()).thenReturn("financeProduct");
+        when(existing.getAttribute()).thenReturn((Attribute) attribute);
+        doReturn(Set.of(existing)).when(root).getJoins();
+
+        FinanceLoanOptionSpecs.productType(FinanceProductType.CREDIT_LOAN).toPredicate(root, cq, cb);
+
+        verify(root, never()).join(anyString());
+        verify(existing).get("productType");
+    }
+
+    @Test
+    @DisplayName("keyword - 상품 조인 후 소문자 생성 컬럼으로 검색")
+    @SuppressWarnings("unchecked")
+    void keyword_joinsProductAndSearchesLowercaseColumns() {
+        Join<Object, Object> financeProduct = mock(Join.class);
+        Join<Object, Object> product = mock(Join.class);
+        when(root.getJoins()).thenReturn(Set.of());
+        doReturn(financeProduct).when(root).join("financeProduct");
+        doReturn(product).when(financeProduct).join("product");
+
+        FinanceLoanOptionSpecs.keyword(" KB ").toPredicate(root, cq, cb);
+
+        verify(cb, times(2)).like(any(), eq("%kb%"));
+        verify(product).get("nameLc");
+        verify(product).get("providerLc");
+    }
+}
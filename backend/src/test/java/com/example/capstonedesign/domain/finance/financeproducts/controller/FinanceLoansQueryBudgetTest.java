@@ -0,0 +1,155 @@
+package com.example.capstonedesign.domain.finance.financeproducts.controller;
+
+import com.example.capstonedesign.common.sql.MySqlApiTest;
+import com.example.capstonedesign.common.sql.QueryBudget;
+import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceLoanOption;
+import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProductType;
+import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProducts;
+import com.example.capstonedesign.domain.finance.financeproducts.repository.FinanceLoanOptionRepository;
+import com.example.capstonedesign.domain.finance.financeproducts.repository.FinanceProductsRepository;
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
+import com.example.capstonedesign.domain.products.entity.ProductType;
+import com.example.capstonedesign.domain.products.entity.Products;
+import com.example.capstonedesign.domain.products.repository.ProductsRepository;
+import com.example.capstonedesign.domain.users.config.JwtTokenProvider;
+import com.example.capstonedesign.domain.users.entity.UserRole;
+import com.example.capstonedesign.domain.users.entity.Users;
+import com.example.capstonedesign.domain.users.repository.UsersRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 대출 옵션 API 1회 호출의 SQL 문장 수 검사 (실제 MySQL)
+ * - 목록: 옵션 + 상품 1문장 (+ 페이지 요청이면 COUNT 1문장)
+ * - 추천: 사용자 1문장 + 옵션·상품 1문장
+ */
+@MySqlApiTest
+class FinanceLoansQueryBudgetTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    ProductsRepository productsRepository;
+
+    @Autowired
+    FinanceProductsRepository financeProductsRepository;
+
+    @Autowired
+    FinanceLoanOptionRepository loanOptionRepository;
+
+    @Autowired
+    UsersRepository usersRepository;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            FinanceProducts fp = product("주담대 " + i, FinanceProductType.MORTGAGE_LOAN);
+            option(fp, "3.10");
+            option(fp, "3.40");
+        }
+        for (int i = 0; i < 2; i++) {
+            FinanceProducts fp = product("신용대출 " + i, FinanceProductType.CREDIT_LOAN);
+            option(fp, "5.20");
+            option(fp, "6.10");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        loanOptionRepository.deleteAllInBatch();
+        financeProductsRepository.deleteAllInBatch();
+        productsRepository.deleteAllInBatch();
+        usersRepository.deleteAllInBatch();
+    }
+
+    private FinanceProducts product(String name, FinanceProductType type) {
+        Products product = productsRepository.save(Products.builder()
+                .type(ProductType.FINANCE)
+                .name(name)
+                .provider("테스트은행")
+                .build());
+        return financeProductsRepository.save(FinanceProducts.builder()
+                .product(product)
+                .finCoNo("0010001")
+                .productType(type)
+                .build());
+    }
+
+    private void option(FinanceProducts fp, String avgRate) {
+        loanOptionRepository.save(FinanceLoanOption.builder()
+                .financeProduct(fp)
+                .lendRateAvg(new BigDecimal(avgRate))
+                .build());
+    }
+
+    @Test
+    @QueryBudget(max = 1, maxRepeats = 1)
+    @DisplayName("GET /type/MORTGAGE_LOAN (전체) - 상품별 재조회 없이 1문장")
+    void mortgage_unpaged() throws Exception {
+        mvc.perform(get("/api/finance/loans/options/type/MORTGAGE_LOAN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(6)));
+    }
+
+    @Test
+    @QueryBudget(max = 2, maxRepeats = 1)
+    @DisplayName("GET /type/MORTGAGE_LOAN?page=0&size=4 - 목록 + COUNT")
+    void mortgage_paged() throws Exception {
+        mvc.perform(get("/api/finance/loans/options/type/MORTGAGE_LOAN")
+                        .param("page", "0")
+                        .param("size", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(4)))
+                .andExpect(jsonPath("$.totalElements").value(6));
+    }
+
+    @Test
+    @QueryBudget(max = 1, maxRepeats = 1)
+    @DisplayName("GET /type/CREDIT_LOAN (전체) - 상품별 대표 옵션을 1문장으로")
+    void credit_unpaged() throws Exception {
+        mvc.perform(get("/api/finance/loans/options/type/CREDIT_LOAN"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    @QueryBudget(max = 2, maxRepeats = 1)
+    @DisplayName("GET /recommend/{userId} - 사용자 1문장 + 옵션·상품 1문장")
+    void recommend() throws Exception {
+        Users user = usersRepository.save(Users.builder()
+                .email("loan@test.com")
+                .password("encoded")
+                .age(27)
+                .income_band("중위소득 200% 이하")
+                .is_homeless(true)
+                .role(UserRole.USER)
+                .deleted(false)
+                .created_at(Instant.now())
+                .updated_at(Instant.now())
+                .notificationEnabled(true)
+                .notificationChannel(NotificationChannel.EMAIL)
+                .build());
+        String token = jwtTokenProvider.generate(user.getId().longValue(), user.getEmail(), UserRole.USER);
+
+        mvc.perform(get("/api/finance/loans/options/recommend/" + user.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].productName").exists());
+    }
+}
@@ -1,5 +1,10 @@
 package com.example.capstonedesign.domain.finance.financeproducts.controller;
 
+import com.example.capstonedesign.common.pagination.CursorSlice;
+import com.example.capstonedesign.common.pagination.KeysetCursor;
+import com.example.capstonedesign.common.pagination.KeysetPager;
+import com.example.capstonedesign.common.pagination.KeysetSort;
+import com.example.capstonedesign.common.pagination.TableRowEstimator;
 import com.example.capstonedesign.domain.finance.financeproducts.dto.response.FinanceProductsResponse;
 import com.example.capstonedesign.domain.finance.financeproducts.entity.DSProductType;
 import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProductType;
@@ -27,6 +32,9 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -55,6 +63,12 @@ class FinanceProductQueryControllerTest {
     @MockitoBean
     JwtTokenProvider jwtTokenProvider;
 
+    @MockitoBean
+    KeysetPager keysetPager;
+
+    @MockitoBean
+    TableRowEstimator rowEstimator;
+
     // ----------------------------------------------------------
     // 1. /api/finance/products 목록 조회
     // ----------------------------------------------------------
@@ -107,6 +121,49 @@ class FinanceProductQueryControllerTest {
         verify(repo).findAll(any(Specification.class), any(Pageable.class));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("금융 상품 커서 조회 - nextCursor/hasNext 전달, 필터 없을 때만 추정 건수 조회")
+    void listCursor_success() throws Exception {
+        // given
+        FinanceProducts fp = FinanceProducts.builder()
+                .id(5)
+                .product(Products.builder().id(50).name("청년 적금").provider("B은행").build())
+                .productType(FinanceProductType.SAVING)
+                .build();
+        String next = new KeysetCursor(null, 5).encode();
+
+        when(rowEstimator.estimate("finance_products")).thenReturn(1200L);
+        when(keysetPager.fetch(eq(FinanceProducts.class), any(Specification.class), any(KeysetSort.class),
+                eq("abc"), eq(1), eq(1200L)))
+                .thenReturn(new CursorSlice<>(List.of(fp), 1, true, next, 1200L));
+
+        // when & then
+        mvc.perform(get("/api/finance/products/cursor")
+                        .param("cursor", "abc")
+                        .param("size", "1")
+                        .param("withTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].productName").value("청년 적금"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(next))
+                .andExpect(jsonPath("$.approximateTotal").value(1200));
+
+        // 필터가 있으면 추정 건수 조회 안 함
+        when(keysetPager.fetch(eq(FinanceProducts.class), any(Specification.class), any(KeysetSort.class),
+                isNull(), eq(20), isNull()))
+                .thenReturn(new CursorSlice<>(List.of(), 20, false, null, null));
+
+        mvc.perform(get("/api/finance/products/cursor")
+                        .param("productType", "SAVING")
+                        .param("withTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        verify(rowEstimator, times(1)).estimate("finance_products");
+    }
+
     // ----------------------------------------------------------
     // 2. /api/finance/products/recommend/{userId}
     // ----------------------------------------------------------
@@ -0,0 +1,134 @@
+package com.example.capstonedesign.domain.finance.financeproducts.repository;
+
+import com.example.capstonedesign.common.sql.MySqlTestContainer;
+import com.example.capstonedesign.common.sql.QueryBudget;
+import com.example.capstonedesign.common.sql.SqlInstrumentationConfig;
+import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceLoanOption;
+import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProductType;
+import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProducts;
+import com.example.capstonedesign.domain.products.entity.ProductType;
+import com.example.capstonedesign.domain.products.entity.Products;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.context.ImportTestcontainers;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대출 옵션 JOIN FETCH 쿼리를 실제 MySQL 에서 실행
+ * - 옵션 → 금융상품 → 상품 이름까지 접근해도 추가 문장이 없어야 함 (@QueryBudget)
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@ImportTestcontainers(MySqlTestContainer.class)
+@Import(SqlInstrumentationConfig.class)
+class FinanceLoanOptionRepositoryTest {
+
+    @Autowired
+    private FinanceLoanOptionRepository repository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    /** 상품별 첫 옵션 id (대표 옵션 기대값) */
+    private final List<Integer> firstCreditOptionIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            FinanceProducts fp = product("주담대 " + i, FinanceProductType.MORTGAGE_LOAN);
+            option(fp, "3.10");
+            option(fp, "3.40");
+        }
+        for (int i = 0; i < 2; i++) {
+            FinanceProducts fp = product("신용대출 " + i, FinanceProductType.CREDIT_LOAN);
+            firstCreditOptionIds.add(option(fp, "5.20").getId());
+            option(fp, "6.10");
+        }
+        option(product("적금", FinanceProductType.SAVING), "2.50");
+
+        em.flush();
+        em.clear();
+    }
+
+    private FinanceProducts product(String name, FinanceProductType type) {
+        Products product = em.persist(Products.builder()
+                .type(ProductType.FINANCE)
+                .name(name)
+                .provider("테스트은행")
+                .build());
+        return em.persist(FinanceProducts.builder()
+                .product(product)
+                .finCoNo("0010001")
+                .productType(type)
+                .build());
+    }
+
+    private FinanceLoanOption option(FinanceProducts fp, String avgRate) {
+        return em.persist(FinanceLoanOption.builder()
+                .financeProduct(fp)
+                .lendRateAvg(new BigDecimal(avgRate))
+                .build());
+    }
+
+    /** 지연 로딩이 남아 있으면 여기서 추가 SELECT 가 나감 */
+    private static List<String> productNames(List<FinanceLoanOption> options) {
+        return options.stream()
+                .map(o -> o.getFinanceProduct().getProduct().getName())
+                .toList();
+    }
+
+    @Test
+    @QueryBudget(max = 2)
+    void findPageWithProductByType_fetchesProductsWithPageAndCount() {
+        Page<FinanceLoanOption> page = repository.findPageWithProductByType(
+                FinanceProductType.MORTGAGE_LOAN, PageRequest.of(0, 4));
+
+        assertThat(page.getTotalElements()).isEqualTo(6);
+        assertThat(productNames(page.getContent()))
+                .containsExactly("주담대 0", "주담대 0", "주담대 1", "주담대 1");
+    }
+
+    @Test
+    @QueryBudget(max = 1)
+    void findPageWithProductByType_unpaged_skipsCount() {
+        Page<FinanceLoanOption> page = repository.findPageWithProductByType(
+                FinanceProductType.MORTGAGE_LOAN, Pageable.unpaged());
+
+        assertThat(productNames(page.getContent())).hasSize(6);
+    }
+
+    @Test
+    @QueryBudget(max = 2)
+    void findRepresentativePageWithProductByType_returnsFirstOptionPerProduct() {
+        Page<FinanceLoanOption> page = repository.findRepresentativePageWithProductByType(
+                FinanceProductType.CREDIT_LOAN, PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(FinanceLoanOption::getId)
+                .containsExactlyElementsOf(firstCreditOptionIds);
+        assertThat(productNames(page.getContent())).containsExactly("신용대출 0", "신용대출 1");
+    }
+
+    @Test
+    @QueryBudget(max = 1)
+    void findAllWithProductByTypeIn_loadsAllLoanTypesInOneStatement() {
+        List<FinanceLoanOption> options = repository.findAllWithProductByTypeIn(
+                List.of(FinanceProductType.MORTGAGE_LOAN, FinanceProductType.CREDIT_LOAN));
+
+        assertThat(productNames(options)).hasSize(10).doesNotContain("적금");
+    }
+}
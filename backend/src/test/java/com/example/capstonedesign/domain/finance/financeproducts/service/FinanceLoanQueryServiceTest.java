@@ -1,27 +1,37 @@
 package com.example.capstonedesign.domain.finance.financeproducts.service;
 
 import com.example.capstonedesign.domain.finance.financeproducts.dto.response.FinanceLoanResponse;
+import com.example.capstonedesign.domain.finance.financeproducts.dto.response.MortgageLoanResponse;
 import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceLoanOption;
 import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProductType;
 import com.example.capstonedesign.domain.finance.financeproducts.entity.FinanceProducts;
 import com.example.capstonedesign.domain.finance.financeproducts.repository.FinanceLoanOptionRepository;
-import com.example.capstonedesign.domain.finance.financeproducts.repository.FinanceProductsRepository;
 import com.example.capstonedesign.domain.products.entity.Products;
 import com.example.capstonedesign.domain.users.entity.Users;
 import com.example.capstonedesign.domain.users.repository.UsersRepository;
+import com.example.capstonedesign.domain.users.service.UserProfileCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,8 +40,8 @@ class FinanceLoanQueryServiceTest {
     @Mock
     UsersRepository usersRepository;
 
-    @Mock
-    FinanceProductsRepository financeProductsRepository;
+    @Spy
+    UserProfileCache userProfileCache = new UserProfileCache(100, 300);
 
     @Mock
     FinanceLoanOptionRepository loanOptionRepository;
@@ -66,16 +76,13 @@ class FinanceLoanQueryServiceTest {
                 .productType(FinanceProductType.RENT_HOUSE_LOAN)
                 .build();
 
-        when(financeProductsRepository.findByProductTypeIn(anyList()))
-                .thenReturn(List.of(loanProduct));
-
-        // 옵션 (평균 금리 3.50%)
+        // 옵션 (평균 금리 3.50%) - 상품 정보와 함께 한 번에 조회
         FinanceLoanOption option = FinanceLoanOption.builder()
                 .financeProduct(loanProduct)
                 .lendRateAvg(new BigDecimal("3.50"))
                 .build();
 
-        when(loanOptionRepository.findByFinanceProduct(loanProduct))
+        when(loanOptionRepository.findAllWithProductByTypeIn(anyList()))
                 .thenReturn(List.of(option));
 
         // when
@@ -99,4 +106,66 @@ class FinanceLoanQueryServiceTest {
         assertTrue(r.getReason().contains("평균 금리"), "reason에 평균 금리 설명이 포함되어야 한다.");
         assertTrue(r.getReason().contains("청년층") || r.getReason().contains("청년"), "reason에 청년층 관련 설명이 포함되어야 한다.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("주택담보대출 목록 - 상품 수와 무관하게 옵션 조회 1회 (상품별 재조회 없음)")
+    void getMortgageLoans_singleQueryForAllProducts() {
+        // given: 상품 3개 × 옵션 2개
+        List<FinanceLoanOption> options = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            FinanceProducts fp = loanProduct(i, FinanceProductType.MORTGAGE_LOAN);
+            options.add(FinanceLoanOption.builder().financeProduct(fp).lendTypeName("고정").lendRateAvg(new BigDecimal("4.10")).build());
+            options.add(FinanceLoanOption.builder().financeProduct(fp).lendTypeName("변동").lendRateAvg(new BigDecimal("4.50")).build());
+        }
+        when(loanOptionRepository.findPageWithProductByType(FinanceProductType.MORTGAGE_LOAN, Pageable.unpaged()))
+                .thenReturn(new PageImpl<>(options));
+
+        // when
+        List<MortgageLoanResponse> result = service.getMortgageLoans();
+
+        // then
+        assertEquals(6, result.size());
+        assertEquals(List.of(100, 100, 200, 200, 300, 300),
+                result.stream().map(MortgageLoanResponse::getProductId).toList());
+        verify(loanOptionRepository, times(1)).findPageWithProductByType(FinanceProductType.MORTGAGE_LOAN, Pageable.unpaged());
+        verifyNoMoreInteractions(loanOptionRepository, usersRepository);
+    }
+
+    @Test
+    @DisplayName("신용대출 목록 (페이징) - 대표 옵션 쿼리 1회로 페이지 구성")
+    void getCreditLoans_paged_singleQuery() {
+        // given
+        Pageable pageable = PageRequest.of(1, 2);
+        List<FinanceLoanOption> options = List.of(
+                FinanceLoanOption.builder().financeProduct(loanProduct(3, FinanceProductType.CREDIT_LOAN))
+                        .crdtGradAvg(new BigDecimal("6.20")).build(),
+                FinanceLoanOption.builder().financeProduct(loanProduct(4, FinanceProductType.CREDIT_LOAN))
+                        .crdtGradAvg(new BigDecimal("7.00")).build()
+        );
+        when(loanOptionRepository.findRepresentativePageWithProductByType(FinanceProductType.CREDIT_LOAN, pageable))
+                .thenReturn(new PageImpl<>(options, pageable, 5));
+
+        // when
+        Page<FinanceLoanResponse> page = service.getCreditLoans(pageable);
+
+        // then
+        assertEquals(5, page.getTotalElements());
+        assertEquals(List.of(300, 400), page.getContent().stream().map(FinanceLoanResponse::getProductId).toList());
+        assertEquals(new BigDecimal("6.20"), page.getContent().get(0).getCrdtGradAvg());
+        verify(loanOptionRepository, times(1)).findRepresentativePageWithProductByType(FinanceProductType.CREDIT_LOAN, pageable);
+        verifyNoMoreInteractions(loanOptionRepository);
+    }
+
+    private static FinanceProducts loanProduct(int id, FinanceProductType type) {
+        Products p = Products.builder()
+                .id(id * 100)
+                .name("대출상품" + id)
+                .provider("은행" + id)
+                .build();
+        return FinanceProducts.builder()
+                .id(id)
+                .product(p)
+                .productType(type)
+                .build();
+    }
+}
@@ -8,12 +8,14 @@ import com.example.capstonedesign.domain.products.entity.Products;
 import com.example.capstonedesign.domain.users.entity.UserRole;
 import com.example.capstonedesign.domain.users.entity.Users;
 import com.example.capstonedesign.domain.users.repository.UsersRepository;
+import com.example.capstonedesign.domain.users.service.UserProfileCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -35,6 +37,9 @@ class FinanceProductRecommendationServiceTest {
     @Mock
     UsersRepository usersRepository;
 
+    @Spy
+    UserProfileCache userProfileCache = new UserProfileCache(100, 300);
+
     @Mock
     FinanceProductsRepository financeProductsRepository;
 
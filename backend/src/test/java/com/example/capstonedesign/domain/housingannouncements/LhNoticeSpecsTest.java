@@ -0,0 +1,64 @@
+package com.example.capstonedesign.domain.housingannouncements;
+
+import com.example.capstonedesign.domain.housingannouncements.entity.LhNotice;
+import jakarta.persistence.criteria.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LhNoticeSpecs 단위 테스트
+ * - 값이 없으면 조건 미적용(null), 값이 있으면 해당 조건만 생성되는지 검증
+ */
+class LhNoticeSpecsTest {
+
+    @SuppressWarnings("unchecked")
+    private final Root<LhNotice> root = mock(Root.class);
+    private final CriteriaQuery<?> cq = mock(CriteriaQuery.class);
+    private final CriteriaBuilder cb = mock(CriteriaBuilder.class);
+
+    @Test
+    @DisplayName("null 또는 공백 조건은 WHERE 절에 포함되지 않는다")
+    void blankConditions_returnNull() {
+        assertThat(LhNoticeSpecs.category(null).toPredicate(root, cq, cb)).isNull();
+        assertThat(LhNoticeSpecs.status(" ").toPredicate(root, cq, cb)).isNull();
+        assertThat(LhNoticeSpecs.keyword("").toPredicate(root, cq, cb)).isNull();
+        verifyNoInteractions(cb);
+    }
+
+    @Test
+    @DisplayName("category - 공고유형 일치 조건 생성")
+    void category_buildsEqual() {
+        Predicate predicate = mock(Predicate.class);
+        when(cb.equal(any(), eq("임대주택"))).thenReturn(predicate);
+
+        assertThat(LhNoticeSpecs.category(" 임대주택 ").toPredicate(root, cq, cb)).isSameAs(predicate);
+        verify(root).get("uppAisTpNm");
+    }
+
+    @Test
+    @DisplayName("status - 기존과 같이 포함(LIKE) 조건 생성")
+    void status_buildsContainsLike() {
+        Predicate predicate = mock(Predicate.class);
+        when(cb.like(any(), eq("%공고중%"))).thenReturn(predicate);
+
+        assertThat(LhNoticeSpecs.status("공고중").toPredicate(root, cq, cb)).isSameAs(predicate);
+    }
+
+    @Test
+    @DisplayName("keyword - 소문자 생성 컬럼 3개를 OR 로 검색")
+    void keyword_searchesLowercaseColumns() {
+        Predicate predicate = mock(Predicate.class);
+        when(cb.or(any(), any(), any())).thenReturn(predicate);
+
+        assertThat(LhNoticeSpecs.keyword(" LH ").toPredicate(root, cq, cb)).isSameAs(predicate);
+        verify(cb, times(3)).like(any(), eq("%lh%"));
+        verify(root).get("panNmLc");
+        verify(root).get("cnpCdNmLc");
+        verify(root).get("uppAisTpNmLc");
+        verify(cb, never()).lower(any());
+    }
+}
@@ -8,6 +8,7 @@ import com.example.capstonedesign.domain.housingannouncements.repository.LhNotic
 import com.example.capstonedesign.domain.products.entity.Products;
 import com.example.capstonedesign.domain.users.entity.Users;
 import com.example.capstonedesign.domain.users.repository.UsersRepository;
+import com.example.capstonedesign.domain.users.service.UserProfileCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
@@ -34,6 +36,9 @@ class HousingAnnouncementsServiceTest {
     @Mock
     private UsersRepository usersRepository;
 
+    @Spy
+    private UserProfileCache userProfileCache = new UserProfileCache(100, 300);
+
     @InjectMocks
     private HousingAnnouncementsService housingAnnouncementsService;
 
@@ -0,0 +1,159 @@
+package com.example.capstonedesign.domain.notifications.dispatch;
+
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationDispatchServiceTest {
+
+    private NotificationDispatchService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) service.shutdown();
+    }
+
+    private static DispatchMessage message(int userId) {
+        return new DispatchMessage(userId, "u" + userId + "@y-nest.com", "제목", "<p>본문</p>");
+    }
+
+    /** 테스트용 어댑터: latch 가 열릴 때까지 발송을 붙잡아 둠 */
+    private static ChannelAdapter blockingAdapter(NotificationChannel channel, CountDownLatch gate) {
+        return new ChannelAdapter() {
+            @Override
+            public NotificationChannel channel() {
+                return channel;
+            }
+
+            @Override
+            public void send(DispatchMessage message) throws Exception {
+                gate.await(5, TimeUnit.SECONDS);
+            }
+        };
+    }
+
+    private static DispatchProperties props(int queueCapacity, int concurrency, long offerTimeoutMillis) {
+        DispatchProperties props = new DispatchProperties();
+        props.setOfferTimeoutMillis(offerTimeoutMillis);
+        for (NotificationChannel c : NotificationChannel.values()) {
+            DispatchProperties.Channel ch = new DispatchProperties.Channel();
+            ch.setQueueCapacity(queueCapacity);
+            ch.setConcurrency(concurrency);
+            ch.setRatePerSecond(1_000);
+            ch.setBurst(100);
+            props.getChannels().put(c, ch);
+        }
+        return props;
+    }
+
+    @Test
+    void dispatch_slowChannelDoesNotBlockOtherChannels() throws Exception {
+        CountDownLatch emailGate = new CountDownLatch(1);
+        service = new NotificationDispatchService(List.of(
+                blockingAdapter(NotificationChannel.EMAIL, emailGate),
+                new SmsChannelAdapter()
+        ), props(10, 1, 100));
+
+        var slow = service.dispatch(NotificationChannel.EMAIL, message(1));
+        var fast = service.dispatch(NotificationChannel.SMS, message(2));
+
+        assertThat(fast.get(2, TimeUnit.SECONDS).isSent()).isTrue();
+        assertThat(slow.isDone()).isFalse();
+
+        emailGate.countDown();
+        assertThat(slow.get(2, TimeUnit.SECONDS).isSent()).isTrue();
+    }
+
+    @Test
+    void dispatch_rejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch gate = new CountDownLatch(1);
+        service = new NotificationDispatchService(
+                List.of(blockingAdapter(NotificationChannel.EMAIL, gate)), props(1, 1, 10));
+
+        var first = service.dispatch(NotificationChannel.EMAIL, message(1));   // 워커가 붙잡음
+        Thread.sleep(300);
+        var second = service.dispatch(NotificationChannel.EMAIL, message(2));  // 큐 1칸 점유
+        var third = service.dispatch(NotificationChannel.EMAIL, message(3));   // 큐 포화 → 거절
+
+        assertThat(third.get(1, TimeUnit.SECONDS).status()).isEqualTo(DispatchResult.REJECTED);
+
+        gate.countDown();
+        assertThat(first.get(2, TimeUnit.SECONDS).isSent()).isTrue();
+        assertThat(second.get(2, TimeUnit.SECONDS).isSent()).isTrue();
+
+        ChannelStats stats = service.stats().get(0);
+        assertThat(stats.sent()).isEqualTo(2);
+        assertThat(stats.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void dispatch_recordsFailure_andFallsBackToEmailForMissingChannel() throws Exception {
+        ChannelAdapter failing = new ChannelAdapter() {
+            @Override
+            public NotificationChannel channel() {
+                return NotificationChannel.EMAIL;
+            }
+
+            @Override
+            public void send(DispatchMessage message) {
+                throw new IllegalStateException("SMTP down");
+            }
+        };
+        service = new NotificationDispatchService(List.of(failing), props(10, 1, 100));
+
+        DispatchResult result = service.dispatch(NotificationChannel.KAKAO, message(1)).get(2, TimeUnit.SECONDS);
+
+        assertThat(result.channel()).isEqualTo(NotificationChannel.EMAIL);
+        assertThat(result.status()).isEqualTo(DispatchResult.FAILED);
+        assertThat(result.error()).isEqualTo("SMTP down");
+        assertThat(service.stats().get(0).failed()).isEqualTo(1);
+    }
+
+    @Test
+    void shutdown_completesQueuedAndLateSubmissions() throws Exception {
+        CountDownLatch gate = new CountDownLatch(1);
+        DispatchProperties props = props(10, 1, 100);
+        props.setShutdownTimeoutMillis(100);
+        service = new NotificationDispatchService(List.of(blockingAdapter(NotificationChannel.EMAIL, gate)), props);
+
+        var held = service.dispatch(NotificationChannel.EMAIL, message(1));    // 워커가 붙잡음
+        Thread.sleep(200);
+        var queued = service.dispatch(NotificationChannel.EMAIL, message(2));  // 큐 대기
+
+        service.shutdown();
+        var late = service.dispatch(NotificationChannel.EMAIL, message(3));
+
+        // 완료되지 않은 채 남는 future 가 없어야 함
+        assertThat(queued.get(1, TimeUnit.SECONDS).status()).isEqualTo(DispatchResult.REJECTED);
+        assertThat(late.get(1, TimeUnit.SECONDS).status()).isEqualTo(DispatchResult.REJECTED);
+        assertThat(held.get(2, TimeUnit.SECONDS).status()).isEqualTo(DispatchResult.FAILED);   // interrupt 로 중단
+    }
+
+    @Test
+    void stubAdapters_registeredOnlyWhenEnabled() {
+        ApplicationContextRunner runner = new ApplicationContextRunner()
+                .withUserConfiguration(KakaoChannelAdapter.class, SmsChannelAdapter.class);
+
+        // 기본값: 스텁 미등록 → KAKAO/SMS 사용자는 EMAIL 로 대체 발송
+        runner.run(ctx -> assertThat(ctx).doesNotHaveBean(ChannelAdapter.class));
+
+        runner.withPropertyValues("notification.dispatch.stub-channels-enabled=true")
+                .run(ctx -> assertThat(ctx.getBeansOfType(ChannelAdapter.class)).hasSize(2));
+    }
+
+    @Test
+    void tokenBucket_limitsBurst() {
+        TokenBucket bucket = new TokenBucket(1, 2);
+
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.capstonedesign.domain.notifications.matching;
+
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
+import com.example.capstonedesign.domain.users.entity.Users;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSubscriptionIndexTest {
+
+    private Users user(int id, String region, Integer age, String income, NotificationChannel channel) {
+        return Users.builder()
+                .id(id)
+                .email("u" + id + "@y-nest.com")
+                .region(region)
+                .age(age)
+                .income_band(income)
+                .deleted(false)
+                .notificationEnabled(true)
+                .notificationChannel(channel)
+                .build();
+    }
+
+    @Test
+    void build_excludesDeletedAndDisabledUsers() {
+        Users deleted = user(2, "서울", 25, null, NotificationChannel.EMAIL);
+        deleted.setDeleted(true);
+        Users disabled = user(3, "서울", 25, null, NotificationChannel.EMAIL);
+        disabled.setNotificationEnabled(false);
+
+        UserSubscriptionIndex index = UserSubscriptionIndex.build(List.of(
+                user(1, "서울", 25, null, NotificationChannel.EMAIL), deleted, disabled));
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.match(AlertTarget.nationwide()).get(NotificationChannel.EMAIL)).containsExactly(1);
+    }
+
+    @Test
+    void match_intersectsRegionAndAge_andGroupsByChannel() {
+        UserSubscriptionIndex index = UserSubscriptionIndex.build(List.of(
+                user(1, "서울특별시 강남구", 25, null, NotificationChannel.EMAIL),
+                user(2, "서울", 45, null, NotificationChannel.EMAIL),
+                user(3, "부산", 25, null, NotificationChannel.EMAIL),
+                user(4, "서울", 31, null, NotificationChannel.SMS)
+        ));
+
+        Map<NotificationChannel, int[]> result =
+                index.match(new AlertTarget(Set.of("11"), 19, 34, Set.of()));
+
+        assertThat(result.get(NotificationChannel.EMAIL)).containsExactly(1);
+        assertThat(result.get(NotificationChannel.SMS)).containsExactly(4);
+        assertThat(result).doesNotContainKey(NotificationChannel.KAKAO);
+    }
+
+    @Test
+    void match_includesUsersWithUnknownProfileValues() {
+        UserSubscriptionIndex index = UserSubscriptionIndex.build(List.of(
+                user(1, null, null, null, NotificationChannel.EMAIL),
+                user(2, "부산", 25, "중위소득 300% 이하", NotificationChannel.EMAIL)
+        ));
+
+        Map<NotificationChannel, int[]> result =
+                index.match(new AlertTarget(Set.of("11"), 19, 34, Set.of("중위소득100%이하")));
+
+        assertThat(result.get(NotificationChannel.EMAIL)).containsExactly(1);
+    }
+
+    @Test
+    void match_filtersByNormalizedIncomeBand() {
+        UserSubscriptionIndex index = UserSubscriptionIndex.build(List.of(
+                user(1, "서울", 25, "중위소득 100% 이하", NotificationChannel.KAKAO),
+                user(2, "서울", 25, "중위소득300%이하", NotificationChannel.KAKAO)
+        ));
+
+        Map<NotificationChannel, int[]> result =
+                index.match(new AlertTarget(Set.of(), null, null, Set.of("중위소득100%이하")));
+
+        assertThat(result.get(NotificationChannel.KAKAO)).containsExactly(1);
+    }
+
+    @Test
+    void match_returnsEmpty_whenNoUserMatches() {
+        UserSubscriptionIndex index = UserSubscriptionIndex.build(List.of(
+                user(1, "부산", 25, null, NotificationChannel.EMAIL)
+        ));
+
+        assertThat(index.match(new AlertTarget(Set.of("11"), null, null, Set.of()))).isEmpty();
+    }
+
+    @Test
+    void with_movesChangedUserOnly_andKeepsOriginalSnapshot() {
+        Users moving = user(2, "부산", 25, null, NotificationChannel.EMAIL);
+        UserSubscriptionIndex before = UserSubscriptionIndex.build(List.of(
+                user(1, "서울", 25, null, NotificationChannel.EMAIL), moving));
+        UserSubscriptionIndex.Subscription previous = UserSubscriptionIndex.Subscription.of(moving);
+
+        moving.setRegion("서울");
+        moving.setNotificationChannel(NotificationChannel.SMS);
+        UserSubscriptionIndex after = before.with(2, previous, UserSubscriptionIndex.Subscription.of(moving));
+
+        AlertTarget seoul = new AlertTarget(Set.of("11"), null, null, Set.of());
+        assertThat(after.match(seoul).get(NotificationChannel.EMAIL)).containsExactly(1);
+        assertThat(after.match(seoul).get(NotificationChannel.SMS)).containsExactly(2);
+        assertThat(after.size()).isEqualTo(2);
+
+        // 기존 스냅샷은 그대로
+        assertThat(before.match(seoul).get(NotificationChannel.EMAIL)).containsExactly(1);
+        assertThat(before.match(seoul)).doesNotContainKey(NotificationChannel.SMS);
+    }
+
+    @Test
+    void with_addsNewSubscriber_andRemovesUnsubscribed() {
+        Users existing = user(5, "서울", 25, null, NotificationChannel.EMAIL);
+        UserSubscriptionIndex index = UserSubscriptionIndex.build(List.of(existing));
+
+        Users joined = user(3, "서울", 25, null, NotificationChannel.EMAIL);
+        index = index.with(3, null, UserSubscriptionIndex.Subscription.of(joined));
+        assertThat(index.match(AlertTarget.nationwide()).get(NotificationChannel.EMAIL)).containsExactly(3, 5);
+
+        UserSubscriptionIndex.Subscription previous = UserSubscriptionIndex.Subscription.of(existing);
+        existing.setNotificationEnabled(false);
+        assertThat(UserSubscriptionIndex.Subscription.of(existing)).isNull();
+
+        index = index.with(5, previous, null);
+        assertThat(index.match(AlertTarget.nationwide()).get(NotificationChannel.EMAIL)).containsExactly(3);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void postingLists_insertAndRemove_keepOrder() {
+        assertThat(PostingLists.insert(new int[]{1, 5, 9}, 6)).containsExactly(1, 5, 6, 9);
+        assertThat(PostingLists.insert(new int[]{1, 5}, 5)).containsExactly(1, 5);
+        assertThat(PostingLists.remove(new int[]{1, 5, 9}, 5)).containsExactly(1, 9);
+        assertThat(PostingLists.remove(new int[]{1, 9}, 4)).containsExactly(1, 9);
+    }
+
+    @Test
+    void postingLists_intersectAndUnion() {
+        int[] large = new int[1000];
+        for (int i = 0; i < large.length; i++) large[i] = i * 2;
+
+        assertThat(PostingLists.intersect(new int[]{1, 3, 5, 7}, new int[]{3, 4, 5, 8})).containsExactly(3, 5);
+        assertThat(PostingLists.intersect(new int[]{4, 5, 998, 3000}, large)).containsExactly(4, 998);
+        assertThat(PostingLists.union(new int[]{1, 3}, new int[]{2, 3, 9})).containsExactly(1, 2, 3, 9);
+    }
+}
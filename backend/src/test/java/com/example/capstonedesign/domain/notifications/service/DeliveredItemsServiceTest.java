@@ -0,0 +1,104 @@
+package com.example.capstonedesign.domain.notifications.service;
+
+import com.example.capstonedesign.domain.notifications.entity.UserDeliveredItems;
+import com.example.capstonedesign.domain.notifications.repository.UserDeliveredItemsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeliveredItemsServiceTest {
+
+    @Mock
+    UserDeliveredItemsRepository repository;
+
+    DeliveredItemsService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DeliveredItemsService(repository, 2);
+    }
+
+    @Test
+    void snapshot_loadsFromDbOnce_thenServesFromCache() {
+        RoaringBitmap stored = RoaringBitmap.bitmapOf(7);
+        when(repository.findById(1)).thenReturn(Optional.of(
+                UserDeliveredItems.builder().userId(1).bitmap(DeliveredItemsService.serialize(stored)).updatedAt(Instant.now()).build()));
+
+        assertThat(service.snapshot(1).contains(7)).isTrue();
+        assertThat(service.snapshot(1).contains(7)).isTrue();
+        verify(repository, times(1)).findById(1);
+    }
+
+    @Test
+    void markDelivered_persistsMergedBitmap() throws Exception {
+        when(repository.findById(1)).thenReturn(Optional.empty());
+
+        service.markDelivered(1, List.of(3, 5));
+
+        ArgumentCaptor<UserDeliveredItems> captor = ArgumentCaptor.forClass(UserDeliveredItems.class);
+        verify(repository).save(captor.capture());
+        RoaringBitmap saved = DeliveredItemsService.deserialize(captor.getValue().getBitmap());
+        assertThat(saved.contains(3)).isTrue();
+        assertThat(saved.contains(5)).isTrue();
+        assertThat(service.snapshot(1).getCardinality()).isEqualTo(2);
+    }
+
+    @Test
+    void markDelivered_keepsPreviousSnapshotUnchanged() {
+        when(repository.findById(1)).thenReturn(Optional.empty());
+        RoaringBitmap before = service.snapshot(1);
+
+        service.markDelivered(1, List.of(3));
+
+        assertThat(before.isEmpty()).isTrue();
+        assertThat(service.snapshot(1).contains(3)).isTrue();
+    }
+
+    @Test
+    void markDelivered_skipsWrite_whenNothingNew() {
+        when(repository.findById(1)).thenReturn(Optional.empty());
+        service.markDelivered(1, List.of(3));
+
+        service.markDelivered(1, List.of(3));
+
+        verify(repository, times(1)).save(any());
+    }
+
+    @Test
+    void cache_isBoundedToMaxEntries_evictingLeastRecentlyUsed() {
+        when(repository.findById(anyInt())).thenReturn(Optional.empty());
+
+        service.snapshot(1);
+        service.snapshot(2);
+        service.snapshot(1);      // 1 최근 사용
+        service.snapshot(3);      // 2 축출
+
+        assertThat(service.cachedUsers()).isEqualTo(2);
+        service.snapshot(1);
+        verify(repository, times(1)).findById(1);
+        service.snapshot(2);
+        verify(repository, times(2)).findById(2);
+    }
+
+    @Test
+    void snapshot_resetsCorruptedBitmap() {
+        when(repository.findById(1)).thenReturn(Optional.of(
+                UserDeliveredItems.builder().userId(1).bitmap(new byte[]{9}).updatedAt(Instant.now()).build()));
+
+        assertThat(service.snapshot(1).isEmpty()).isTrue();
+    }
+}
@@ -1,23 +1,39 @@
 package com.example.capstonedesign.domain.notifications.service;
 
 import com.example.capstonedesign.domain.finance.financeproducts.repository.FinanceLoanOptionRepository;
+import com.example.capstonedesign.domain.housingannouncements.entity.LhNotice;
 import com.example.capstonedesign.domain.housingannouncements.repository.LhNoticeRepository;
+import com.example.capstonedesign.domain.notifications.dispatch.DispatchProperties;
+import com.example.capstonedesign.domain.notifications.dispatch.EmailChannelAdapter;
+import com.example.capstonedesign.domain.notifications.dispatch.NotificationDispatchService;
+import com.example.capstonedesign.domain.notifications.entity.AlertItem;
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
 import com.example.capstonedesign.domain.notifications.entity.Notifications;
+import com.example.capstonedesign.domain.notifications.repository.AlertItemRepository;
 import com.example.capstonedesign.domain.notifications.repository.NotificationsRepository;
+import com.example.capstonedesign.domain.products.entity.Products;
 import com.example.capstonedesign.domain.shannouncements.repository.ShAnnouncementRepository;
 import com.example.capstonedesign.domain.users.entity.Users;
 import com.example.capstonedesign.domain.users.port.EmailSender;
 import com.example.capstonedesign.domain.users.repository.UsersRepository;
 import com.example.capstonedesign.domain.youthpolicies.repository.YouthPolicyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -47,9 +63,35 @@ class NotificationsServiceTest {
     @Mock
     EmailSender emailSender;
 
-    @InjectMocks
+    @Mock
+    DeliveredItemsService deliveredItemsService;
+
+    @Mock
+    AlertItemRepository alertItemRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    NotificationDispatchService dispatchService;
+
     NotificationsService notificationsService;
 
+    @BeforeEach
+    void setUp() {
+        // 실제 디스패처 + EMAIL 어댑터(Mock EmailSender)로 발송 경로 검증
+        dispatchService = new NotificationDispatchService(
+                List.of(new EmailChannelAdapter(emailSender)), new DispatchProperties());
+        notificationsService = new NotificationsService(
+                usersRepository, lhNoticeRepository, shAnnouncementRepository, loanOptionRepository,
+                notificationsRepository, youthPolicyRepository, deliveredItemsService, dispatchService, alertItemRepository,
+                transactionManager, 200, 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatchService.shutdown();
+    }
+
     @Test
     void sendDailyDigest_sendsEmailToActiveUsersOnly() {
         // given
@@ -74,7 +116,7 @@ class NotificationsServiceTest {
                 .notificationEnabled(false)
                 .build();
 
-        when(usersRepository.findAll())
+        when(usersRepository.findByIdGreaterThanOrderByIdAsc(eq(0), any()))
                 .thenReturn(List.of(activeUser, deletedUser, disabledUser));
 
         // 섹션에서 사용하는 레포지토리들은 비어있는 리스트 반환해도 무방
@@ -83,6 +125,8 @@ class NotificationsServiceTest {
         when(loanOptionRepository.findAll()).thenReturn(Collections.emptyList());
         when(youthPolicyRepository.findAll()).thenReturn(Collections.emptyList());
 
+        when(deliveredItemsService.snapshot(anyInt())).thenReturn(new RoaringBitmap());
+
         // Notifications 저장 시 그대로 반환
         when(notificationsRepository.save(any(Notifications.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
@@ -123,7 +167,7 @@ class NotificationsServiceTest {
                 .notificationEnabled(true)
                 .build();
 
-        when(usersRepository.findAll())
+        when(usersRepository.findByIdGreaterThanOrderByIdAsc(eq(0), any()))
                 .thenReturn(List.of(user));
 
         when(lhNoticeRepository.findAll()).thenReturn(Collections.emptyList());
@@ -131,6 +175,8 @@ class NotificationsServiceTest {
         when(loanOptionRepository.findAll()).thenReturn(Collections.emptyList());
         when(youthPolicyRepository.findAll()).thenReturn(Collections.emptyList());
 
+        when(deliveredItemsService.snapshot(anyInt())).thenReturn(new RoaringBitmap());
+
         // 메일 전송 시 예외 발생
         doThrow(new RuntimeException("SMTP error"))
                 .when(emailSender)
@@ -150,5 +196,193 @@ class NotificationsServiceTest {
         assertEquals("EMAIL", saved.getType());
         assertEquals("FAILED", saved.getStatus());
         assertEquals(user, saved.getUser());
+
+        // 발송 실패 시 발송 이력에 기록하지 않음
+        verify(deliveredItemsService, never()).markDelivered(anyInt(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendDailyDigest_excludesAlreadyDeliveredItems_andRecordsNewOnes() {
+        // given
+        Users user = Users.builder()
+                .id(1)
+                .email("user@y-nest.com")
+                .deleted(false)
+                .notificationEnabled(true)
+                .build();
+
+        String closing = LocalDate.now().plusDays(1).toString();
+        LhNotice delivered = LhNotice.builder()
+                .product(Products.builder().id(10).build())
+                .panNm("이미 받은 공고")
+                .clsgDt(closing)
+                .build();
+        LhNotice fresh = LhNotice.builder()
+                .product(Products.builder().id(11).build())
+                .panNm("새로운 공고")
+                .clsgDt(closing)
+                .build();
+
+        RoaringBitmap history = new RoaringBitmap();
+        history.add(10);
+
+        when(usersRepository.findByIdGreaterThanOrderByIdAsc(eq(0), any())).thenReturn(List.of(user));
+        when(lhNoticeRepository.findAll()).thenReturn(List.of(delivered, fresh));
+        when(shAnnouncementRepository.findAll()).thenReturn(Collections.emptyList());
+        when(loanOptionRepository.findAll()).thenReturn(Collections.emptyList());
+        when(youthPolicyRepository.findAll()).thenReturn(Collections.emptyList());
+        when(deliveredItemsService.snapshot(1)).thenReturn(history);
+
+        // when
+        notificationsService.sendDailyDigest();
+
+        // then
+        ArgumentCaptor<String> html = ArgumentCaptor.forClass(String.class);
+        verify(emailSender).sendHtml(eq("user@y-nest.com"), anyString(), html.capture());
+        assertTrue(html.getValue().contains("새로운 공고"));
+        assertFalse(html.getValue().contains("이미 받은 공고"));
+
+        ArgumentCaptor<Collection<Integer>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(deliveredItemsService).markDelivered(eq(1), ids.capture());
+        assertEquals(List.of(11), List.copyOf(ids.getValue()));
+    }
+
+    @Test
+    void sendDailyDigest_processesUsersInChunks_withTransactionPerChunk() {
+        // given: 청크 크기 2, 사용자 3명 → 2청크
+        NotificationsService chunked = new NotificationsService(
+                usersRepository, lhNoticeRepository, shAnnouncementRepository, loanOptionRepository,
+                notificationsRepository, youthPolicyRepository, deliveredItemsService, dispatchService, alertItemRepository,
+                transactionManager, 2, 10_000);
+
+        Users u1 = Users.builder().id(1).email("u1@y-nest.com").deleted(false).notificationEnabled(true).build();
+        Users u2 = Users.builder().id(2).email("u2@y-nest.com").deleted(false).notificationEnabled(true).build();
+        Users u3 = Users.builder().id(5).email("u3@y-nest.com").deleted(false).notificationEnabled(true).build();
+
+        when(usersRepository.findByIdGreaterThanOrderByIdAsc(eq(0), any())).thenReturn(List.of(u1, u2));
+        when(usersRepository.findByIdGreaterThanOrderByIdAsc(eq(2), any())).thenReturn(List.of(u3));
+        when(lhNoticeRepository.findAll()).thenReturn(Collections.emptyList());
+        when(shAnnouncementRepository.findAll()).thenReturn(Collections.emptyList());
+        when(loanOptionRepository.findAll()).thenReturn(Collections.emptyList());
+        when(youthPolicyRepository.findAll()).thenReturn(Collections.emptyList());
+        when(deliveredItemsService.snapshot(anyInt())).thenReturn(new RoaringBitmap());
+
+        // when
+        chunked.sendDailyDigest();
+
+        // then
+        ArgumentCaptor<Pageable> pages = ArgumentCaptor.forClass(Pageable.class);
+        verify(usersRepository, times(2)).findByIdGreaterThanOrderByIdAsc(anyInt(), pages.capture());
+        assertEquals(2, pages.getValue().getPageSize());
+        verify(usersRepository, never()).findAll();
+
+        verify(emailSender, times(3)).sendHtml(anyString(), anyString(), anyString());
+        verify(notificationsRepository, times(3)).save(any(Notifications.class));
+
+        // 후보 조회 1회(읽기 전용) + 청크별 기록 2회
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void sendDailyDigest_resultNeverCompletes_recordsFailedAfterTimeout() {
+        // given: 결과가 오지 않는 발송 (디스패처 종료와 경합 등)
+        NotificationDispatchService stuck = mock(NotificationDispatchService.class);
+        when(stuck.dispatch(any(), any())).thenReturn(new CompletableFuture<>());
+        NotificationsService service = new NotificationsService(
+                usersRepository, lhNoticeRepository, shAnnouncementRepository, loanOptionRepository,
+                notificationsRepository, youthPolicyRepository, deliveredItemsService, stuck, alertItemRepository,
+                transactionManager, 200, 50);
+
+        Users user = Users.builder().id(1).email("u1@y-nest.com").deleted(false).notificationEnabled(true).build();
+        when(usersRepository.findByIdGreaterThanOrderByIdAsc(eq(0), any())).thenReturn(List.of(user));
+        when(lhNoticeRepository.findAll()).thenReturn(Collections.emptyList());
+        when(shAnnouncementRepository.findAll()).thenReturn(Collections.emptyList());
+        when(loanOptionRepository.findAll()).thenReturn(Collections.emptyList());
+        when(youthPolicyRepository.findAll()).thenReturn(Collections.emptyList());
+        when(deliveredItemsService.snapshot(anyInt())).thenReturn(new RoaringBitmap());
+
+        // when: 기한 후 반환 (무한 대기 없음)
+        assertTimeoutPreemptively(Duration.ofSeconds(5), service::sendDailyDigest);
+
+        // then: FAILED 기록, 발송 이력에는 남기지 않음 (다음 실행에서 재발송)
+        ArgumentCaptor<Notifications> captor = ArgumentCaptor.forClass(Notifications.class);
+        verify(notificationsRepository).save(captor.capture());
+        assertEquals("FAILED", captor.getValue().getStatus());
+        assertEquals("EMAIL", captor.getValue().getType());
+        verify(deliveredItemsService, never()).markDelivered(anyInt(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendDailyDigest_includesPendingAlerts_andMarksThemSent() {
+        // given: 구독 매칭이 적재한 알림 2건 (1건은 이미 받은 상품)
+        Users user = Users.builder().id(1).email("user@y-nest.com").deleted(false).notificationEnabled(true).build();
+        AlertItem fresh = alert(100L, 1, 21, "구독 맞춤 공고");
+        AlertItem seen = alert(101L, 1, 20, "이미 받은 구독 공고");
+
+        RoaringBitmap history = new RoaringBitmap();
+        history.add(20);
+
+        when(usersRepository.findByIdGreaterThanOrderByIdAsc(eq(0), any())).thenReturn(List.of(user));
+        when(alertItemRepository.findByUserIdInAndStatusOrderByIdAsc(List.of(1), AlertItem.PENDING))
+                .thenReturn(List.of(fresh, seen));
+        when(lhNoticeRepository.findAll()).thenReturn(Collections.emptyList());
+        when(shAnnouncementRepository.findAll()).thenReturn(Collections.emptyList());
+        when(loanOptionRepository.findAll()).thenReturn(Collections.emptyList());
+        when(youthPolicyRepository.findAll()).thenReturn(Collections.emptyList());
+        when(deliveredItemsService.snapshot(1)).thenReturn(history);
+
+        // when
+        notificationsService.sendDailyDigest();
+
+        // then: 새 항목만 본문에 표시
+        ArgumentCaptor<String> html = ArgumentCaptor.forClass(String.class);
+        verify(emailSender).sendHtml(eq("user@y-nest.com"), anyString(), html.capture());
+        assertTrue(html.getValue().contains("구독 맞춤 공고"));
+        assertFalse(html.getValue().contains("이미 받은 구독 공고"));
+
+        // 발송 성공 → 두 항목 모두 SENT, 새 상품은 발송 이력에 기록
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(alertItemRepository).updateStatus(ids.capture(), eq(AlertItem.SENT));
+        assertEquals(List.of(100L, 101L), List.copyOf(ids.getValue()));
+
+        ArgumentCaptor<Collection<Integer>> products = ArgumentCaptor.forClass(Collection.class);
+        verify(deliveredItemsService).markDelivered(eq(1), products.capture());
+        assertEquals(List.of(21), List.copyOf(products.getValue()));
+    }
+
+    @Test
+    void sendDailyDigest_failedSend_keepsAlertsPending() {
+        Users user = Users.builder().id(1).email("user@y-nest.com").deleted(false).notificationEnabled(true).build();
+
+        when(usersRepository.findByIdGreaterThanOrderByIdAsc(eq(0), any())).thenReturn(List.of(user));
+        when(alertItemRepository.findByUserIdInAndStatusOrderByIdAsc(List.of(1), AlertItem.PENDING))
+                .thenReturn(List.of(alert(100L, 1, 21, "구독 맞춤 공고")));
+        when(lhNoticeRepository.findAll()).thenReturn(Collections.emptyList());
+        when(shAnnouncementRepository.findAll()).thenReturn(Collections.emptyList());
+        when(loanOptionRepository.findAll()).thenReturn(Collections.emptyList());
+        when(youthPolicyRepository.findAll()).thenReturn(Collections.emptyList());
+        when(deliveredItemsService.snapshot(1)).thenReturn(new RoaringBitmap());
+        doThrow(new RuntimeException("SMTP error")).when(emailSender).sendHtml(anyString(), anyString(), anyString());
+
+        notificationsService.sendDailyDigest();
+
+        // 다음 요약에서 다시 발송되도록 PENDING 유지
+        verify(alertItemRepository, never()).updateStatus(any(), any());
+    }
+
+    private static AlertItem alert(long id, int userId, int productId, String title) {
+        return AlertItem.builder()
+                .id(id)
+                .userId(userId)
+                .productId(productId)
+                .source("LH")
+                .title(title)
+                .url("https://apply.lh.or.kr/" + productId)
+                .channel(NotificationChannel.EMAIL)
+                .status(AlertItem.PENDING)
+                .build();
     }
 }
@@ -0,0 +1,161 @@
+package com.example.capstonedesign.domain.notifications.service;
+
+import com.example.capstonedesign.domain.housingannouncements.entity.LhNotice;
+import com.example.capstonedesign.domain.housingannouncements.repository.LhNoticeRepository;
+import com.example.capstonedesign.domain.notifications.entity.AlertItem;
+import com.example.capstonedesign.domain.notifications.entity.JobWatermark;
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
+import com.example.capstonedesign.domain.notifications.matching.AlertTarget;
+import com.example.capstonedesign.domain.notifications.matching.UserSubscriptionIndex;
+import com.example.capstonedesign.domain.notifications.repository.AlertItemRepository;
+import com.example.capstonedesign.domain.notifications.repository.JobWatermarkRepository;
+import com.example.capstonedesign.domain.products.entity.Products;
+import com.example.capstonedesign.domain.shannouncements.repository.ShAnnouncementRepository;
+import com.example.capstonedesign.domain.users.entity.Users;
+import com.example.capstonedesign.domain.youthpolicies.entity.YouthPolicy;
+import com.example.capstonedesign.domain.youthpolicies.repository.YouthPolicyRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubscriptionMatchingServiceTest {
+
+    @Mock
+    UserSubscriptionRegistry subscriptionRegistry;
+
+    @Mock
+    LhNoticeRepository lhNoticeRepository;
+
+    @Mock
+    ShAnnouncementRepository shAnnouncementRepository;
+
+    @Mock
+    YouthPolicyRepository youthPolicyRepository;
+
+    @Mock
+    AlertItemRepository alertItemRepository;
+
+    @Mock
+    JobWatermarkRepository watermarkRepository;
+
+    @InjectMocks
+    SubscriptionMatchingService service;
+
+    private Users user(int id, String region, int age) {
+        return Users.builder()
+                .id(id)
+                .email("u" + id + "@y-nest.com")
+                .region(region)
+                .age(age)
+                .deleted(false)
+                .notificationEnabled(true)
+                .notificationChannel(NotificationChannel.EMAIL)
+                .build();
+    }
+
+    @Test
+    void matchNewItems_skipsIndexBuild_whenNothingNew() {
+        when(lhNoticeRepository.findByCreatedAtAfter(any())).thenReturn(List.of());
+        when(shAnnouncementRepository.findByCrawledAtAfter(any())).thenReturn(List.of());
+        when(youthPolicyRepository.findByCreatedAtAfter(any())).thenReturn(List.of());
+
+        assertThat(service.matchNewItems()).isZero();
+        verifyNoInteractions(subscriptionRegistry, alertItemRepository);
+        verify(watermarkRepository).save(any(JobWatermark.class));
+    }
+
+    @Test
+    void matchNewItems_resumesFromPersistedWatermark_andAdvancesIt() {
+        LocalDateTime stored = LocalDateTime.now().minusDays(3);   // 3일 중단 후 재기동
+        when(watermarkRepository.findById(SubscriptionMatchingService.WATERMARK))
+                .thenReturn(Optional.of(new JobWatermark(SubscriptionMatchingService.WATERMARK, stored)));
+        when(lhNoticeRepository.findByCreatedAtAfter(stored)).thenReturn(List.of());
+        when(shAnnouncementRepository.findByCrawledAtAfter(stored)).thenReturn(List.of());
+        when(youthPolicyRepository.findByCreatedAtAfter(stored)).thenReturn(List.of());
+
+        service.matchNewItems();
+
+        ArgumentCaptor<JobWatermark> captor = ArgumentCaptor.forClass(JobWatermark.class);
+        verify(watermarkRepository).save(captor.capture());
+        assertThat(captor.getValue().getName()).isEqualTo(SubscriptionMatchingService.WATERMARK);
+        assertThat(captor.getValue().getWatermark()).isAfter(stored);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void matchNewItems_enqueuesMatchingUsers_andSkipsAlreadyAlerted() {
+        LhNotice notice = LhNotice.builder()
+                .product(Products.builder().id(100).build())
+                .panNm("서울 행복주택 모집")
+                .cnpCdNm("서울특별시")
+                .aisTpCdNm("행복주택")
+                .build();
+
+        when(lhNoticeRepository.findByCreatedAtAfter(any())).thenReturn(List.of(notice));
+        when(shAnnouncementRepository.findByCrawledAtAfter(any())).thenReturn(List.of());
+        when(youthPolicyRepository.findByCreatedAtAfter(any())).thenReturn(List.of());
+        when(subscriptionRegistry.current()).thenReturn(UserSubscriptionIndex.build(List.of(
+                user(1, "서울", 25), user(2, "서울", 30), user(3, "부산", 25))));
+        when(alertItemRepository.findUserIdsByProductId(100)).thenReturn(List.of(2));
+
+        int enqueued = service.matchNewItems();
+
+        ArgumentCaptor<List<AlertItem>> captor = ArgumentCaptor.forClass(List.class);
+        verify(alertItemRepository).saveAll(captor.capture());
+        List<AlertItem> saved = captor.getValue();
+
+        assertThat(enqueued).isEqualTo(1);
+        assertThat(saved).hasSize(1);
+        assertThat(saved.get(0).getUserId()).isEqualTo(1);
+        assertThat(saved.get(0).getProductId()).isEqualTo(100);
+        assertThat(saved.get(0).getSource()).isEqualTo("LH");
+        assertThat(saved.get(0).getStatus()).isEqualTo(AlertItem.PENDING);
+    }
+
+    @Test
+    void targetOf_lhRentalType_restrictsIncomeBands() {
+        LhNotice notice = LhNotice.builder().cnpCdNm("충청북도").aisTpCdNm("영구임대").build();
+
+        AlertTarget target = SubscriptionMatchingService.targetOf(notice);
+
+        assertThat(target.regionCodes()).containsExactly("43");
+        assertThat(target.incomeBands()).containsExactly("중위소득100%이하");
+        assertThat(target.hasAgeLimit()).isFalse();
+    }
+
+    @Test
+    void targetOf_youthPolicy_parsesRegionCodesAndAgeRange() {
+        YouthPolicy policy = YouthPolicy.builder()
+                .regionCode("11110,11140,26110")
+                .targetAge("19 ~ 34")
+                .build();
+
+        AlertTarget target = SubscriptionMatchingService.targetOf(policy);
+
+        assertThat(target.regionCodes()).containsExactlyInAnyOrder("11", "26");
+        assertThat(target.minAge()).isEqualTo(19);
+        assertThat(target.maxAge()).isEqualTo(34);
+    }
+
+    @Test
+    void targetOf_youthPolicy_treatsZeroAgeAsUnlimited() {
+        YouthPolicy policy = YouthPolicy.builder().targetAge("0 ~ 0").build();
+
+        AlertTarget target = SubscriptionMatchingService.targetOf(policy);
+
+        assertThat(target.hasAgeLimit()).isFalse();
+        assertThat(target.regionCodes()).isEmpty();
+    }
+}
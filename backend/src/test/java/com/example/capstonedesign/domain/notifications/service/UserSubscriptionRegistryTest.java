@@ -0,0 +1,83 @@
+package com.example.capstonedesign.domain.notifications.service;
+
+import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
+import com.example.capstonedesign.domain.notifications.matching.AlertTarget;
+import com.example.capstonedesign.domain.users.entity.Users;
+import com.example.capstonedesign.domain.users.repository.UsersRepository;
+import com.example.capstonedesign.domain.users.service.UserProfileChanges;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSubscriptionRegistryTest {
+
+    @Mock
+    UsersRepository usersRepository;
+
+    @Spy
+    UserProfileChanges profileChanges = new UserProfileChanges();
+
+    @InjectMocks
+    UserSubscriptionRegistry registry;
+
+    private Users user(int id, String region) {
+        return Users.builder()
+                .id(id)
+                .email("u" + id + "@y-nest.com")
+                .region(region)
+                .age(25)
+                .deleted(false)
+                .notificationEnabled(true)
+                .notificationChannel(NotificationChannel.EMAIL)
+                .build();
+    }
+
+    @Test
+    void current_buildsOnce_thenAppliesChangesWithoutReloading() {
+        Users u1 = user(1, "서울");
+        when(usersRepository.findAll()).thenReturn(List.of(u1, user(2, "부산")));
+        registry.registerListener();
+
+        assertThat(registry.current().size()).isEqualTo(2);
+
+        // 트랜잭션 밖 publish → 즉시 반영
+        u1.setRegion("부산");
+        profileChanges.publish(u1);
+        profileChanges.publish(user(3, "서울"));
+
+        AlertTarget busan = new AlertTarget(Set.of("26"), null, null, Set.of());
+        assertThat(registry.current().match(busan).get(NotificationChannel.EMAIL)).containsExactly(1, 2);
+        assertThat(registry.current().size()).isEqualTo(3);
+        verify(usersRepository, times(1)).findAll();
+    }
+
+    @Test
+    void onUserChanged_beforeFirstBuild_isIgnored() {
+        registry.onUserChanged(user(1, "서울"));
+
+        verifyNoInteractions(usersRepository);
+    }
+
+    @Test
+    void onUserChanged_deletedUser_leavesIndex() {
+        Users u1 = user(1, "서울");
+        when(usersRepository.findAll()).thenReturn(List.of(u1));
+        registry.current();
+
+        u1.setDeleted(true);
+        registry.onUserChanged(u1);
+
+        assertThat(registry.current().size()).isZero();
+        assertThat(registry.current().match(AlertTarget.nationwide())).isEmpty();
+    }
+}
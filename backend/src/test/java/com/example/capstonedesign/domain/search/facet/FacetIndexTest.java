@@ -0,0 +1,90 @@
+package com.example.capstonedesign.domain.search.facet;
+
+import com.example.capstonedesign.domain.notifications.matching.RegionCodes;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FacetIndexTest {
+
+    private final FacetIndex index = FacetIndex.build(List.of(
+            doc(1, "주택임대", "now", "행복주택", "강남"),
+            doc(2, "주택임대", "now", "청년안심주택", "송파"),
+            doc(3, "주택분양", "suc", null, "강남"),
+            doc(4, "주택임대", "suc", "행복주택", "강남"),
+            doc(5, "주택임대", "now", "행복주택", null)
+    ));
+
+    private static FacetDocument doc(long id, String category, String status, String supplyType, String region) {
+        return new FacetDocument(id, "공고" + id, category, status, supplyType, region, region, null, null, null);
+    }
+
+    @Test
+    void query_withoutSelection_returnsAllInLoadOrder_withCounts() {
+        FacetIndex.Result r = index.query(Map.of(), 0, 10);
+
+        assertThat(r.total()).isEqualTo(5);
+        assertThat(r.items()).extracting(FacetDocument::id).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(r.counts().get(Facet.REGION)).containsExactly(Map.entry("강남", 3), Map.entry("송파", 1));
+    }
+
+    @Test
+    void query_orsWithinFacet_andsAcrossFacets() {
+        FacetIndex.Result r = index.query(Map.of(
+                Facet.SUPPLY_TYPE, Set.of("행복주택", "청년안심주택"),
+                Facet.STATUS, Set.of("now")), 0, 10);
+
+        assertThat(r.items()).extracting(FacetDocument::id).containsExactly(1L, 2L, 5L);
+    }
+
+    @Test
+    void counts_excludeOwnFacetSelection() {
+        FacetIndex.Result r = index.query(Map.of(
+                Facet.STATUS, Set.of("now"),
+                Facet.REGION, Set.of("강남")), 0, 10);
+
+        assertThat(r.total()).isEqualTo(1);
+        // 상태 건수는 지역=강남 만 반영 (now 1, suc 2)
+        assertThat(r.counts().get(Facet.STATUS)).containsEntry("now", 1).containsEntry("suc", 2);
+        // 지역 건수는 상태=now 만 반영
+        assertThat(r.counts().get(Facet.REGION)).containsEntry("강남", 1).containsEntry("송파", 1);
+    }
+
+    @Test
+    void query_pagesOverMatchedOrdinals() {
+        FacetIndex.Result r = index.query(Map.of(Facet.CATEGORY, Set.of("주택임대")), 1, 2);
+
+        assertThat(r.total()).isEqualTo(4);
+        assertThat(r.items()).extracting(FacetDocument::id).containsExactly(4L, 5L);
+        assertThat(index.query(Map.of(), 5, 2).items()).isEmpty();
+    }
+
+    @Test
+    void query_unknownValue_matchesNothing() {
+        assertThat(index.query(Map.of(Facet.REGION, Set.of("부산")), 0, 10).total()).isZero();
+        assertThat(FacetIndex.empty().query(Map.of(), 0, 10).items()).isEmpty();
+    }
+
+    @Test
+    void regionFacet_groupsSpellingVariantsByRegionCode() {
+        FacetIndex lh = FacetIndex.build(List.of(
+                lhDoc(1, "전라북도"),
+                lhDoc(2, "전북특별자치도"),
+                lhDoc(3, "서울특별시")
+        ));
+
+        FacetIndex.Result r = lh.query(Map.of(Facet.REGION, Set.of("45")), 0, 10);
+
+        assertThat(r.items()).extracting(FacetDocument::id).containsExactly(1L, 2L);
+        assertThat(r.counts().get(Facet.REGION)).containsEntry("45", 2).containsEntry("11", 1);
+    }
+
+    private static FacetDocument lhDoc(long id, String region) {
+        return new FacetDocument(id, "공고" + id, "임대주택", "공고중", null,
+                region, RegionCodes.toCode(region), null, null, null);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.capstonedesign.domain.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BigramTokenizerTest {
+
+    @Test
+    void normalize_dropsWhitespaceAndSymbols_andLowercases() {
+        assertThat(BigramTokenizer.normalize("행복 주택(LH)")).isEqualTo("행복주택lh");
+        assertThat(BigramTokenizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void tokens_areOverlappingBigrams() {
+        assertThat(BigramTokenizer.tokens("청년주택")).containsExactly("청년", "년주", "주택");
+        assertThat(BigramTokenizer.tokens("집")).containsExactly("집");
+        assertThat(BigramTokenizer.tokens("  ")).isEmpty();
+    }
+
+    @Test
+    void distinctTokens_removeDuplicates() {
+        assertThat(BigramTokenizer.distinctTokens("하하하")).containsExactly("하하");
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.capstonedesign.domain.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomainIndexTest {
+
+    private final DomainIndex index = DomainIndex.build(SearchDomain.LH, List.of(
+            new SearchDocument(1L, "강남 행복주택 입주자 모집", "서울특별시", "u1", "임대공고 행복주택"),
+            new SearchDocument(2L, "성남 국민임대 예비입주자 모집", "경기도", "u2", "임대공고 국민임대"),
+            new SearchDocument(3L, "서울 전세임대 모집", "서울특별시", "u3", "임대공고 행복 주택 연계"),
+            new SearchDocument(4L, "분양 공고", "부산광역시", "u4", "분양공고")
+    ));
+
+    @Test
+    void search_requiresAllBigrams_likeSubstringMatch() {
+        DomainIndex.Result r = index.search("행복주택", 10);
+
+        // 3번은 본문 "행복 주택" 이 정규화로 연결되어 일치
+        assertThat(r.total()).isEqualTo(2);
+        assertThat(r.hits()).extracting(SearchHit::id).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void search_ranksTitleMatchAboveBodyMatch() {
+        DomainIndex.Result r = index.search("서울", 10);
+
+        assertThat(r.hits()).extracting(SearchHit::id).startsWith(3L);
+        assertThat(r.hits()).extracting(SearchHit::domain).containsOnly(SearchDomain.LH);
+    }
+
+    @Test
+    void search_singleCharQuery_matchesAnyTermContainingChar() {
+        assertThat(index.search("부", 10).hits()).extracting(SearchHit::id).containsExactly(4L);
+    }
+
+    @Test
+    void search_limitsHits_butReportsTotal() {
+        DomainIndex.Result r = index.search("모집", 1);
+
+        assertThat(r.total()).isEqualTo(3);
+        assertThat(r.hits()).hasSize(1);
+    }
+
+    @Test
+    void search_unknownTokenOrEmptyIndex_returnsNothing() {
+        assertThat(index.search("없는단어", 10).total()).isZero();
+        assertThat(DomainIndex.empty(SearchDomain.SH).search("행복", 10).hits()).isEmpty();
+    }
+
+    @Test
+    void withChanges_addsUpdatesAndRemovesOnlyTouchedDocuments() {
+        DomainIndex next = index.withChanges(Set.of(1L, 4L, 5L), List.of(
+                new SearchDocument(1L, "강남 장기전세 모집", "서울특별시", "u1", "임대공고"),
+                new SearchDocument(5L, "대구 행복주택 모집", "대구광역시", "u5", "임대공고 행복주택")));
+
+        // 1번은 제목이 바뀌어 빠지고, 4번은 원본에서 삭제, 5번은 신규
+        assertThat(next.search("행복주택", 10).hits()).extracting(SearchHit::id).containsExactly(5L, 3L);
+        assertThat(next.search("장기전세", 10).hits()).extracting(SearchHit::id).containsExactly(1L);
+        assertThat(next.search("분양", 10).total()).isZero();
+        assertThat(next.size()).isEqualTo(4);
+        assertThat(next.documents()).extracting(SearchDocument::id).containsExactly(2L, 3L, 1L, 5L);
+
+        // 이전 인스턴스는 그대로 (조회 중 교체 안전)
+        assertThat(index.search("행복주택", 10).hits()).extracting(SearchHit::id).containsExactly(1L, 3L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void withChanges_compactsWhenRemovedSlotsOutnumberLiveDocuments() {
+        DomainIndex next = index.withChanges(Set.of(1L, 2L, 3L), List.of(
+                new SearchDocument(3L, "서울 전세임대 모집", "서울특별시", "u3", "임대공고")));
+
+        assertThat(next.size()).isEqualTo(2);
+        assertThat(next.documents()).extracting(SearchDocument::id).containsExactly(4L, 3L);
+        assertThat(next.search("모집", 10).hits()).extracting(SearchHit::id).containsExactly(3L);
+        assertThat(next.search("부", 10).hits()).extracting(SearchHit::id).containsExactly(4L);
+    }
+}
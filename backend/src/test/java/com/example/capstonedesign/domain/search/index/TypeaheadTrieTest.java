@@ -0,0 +1,50 @@
+package com.example.capstonedesign.domain.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeaheadTrieTest {
+
+    private final TypeaheadTrie trie = TypeaheadTrie.build(List.of(
+            new Suggestion("강남 행복주택 입주자 모집", SuggestionKind.NAME, 1, 10),
+            new Suggestion("행복주택", SuggestionKind.NAME, 3, 5),
+            new Suggestion("서울특별시", SuggestionKind.REGION, 40, 99),
+            new Suggestion("서울 전세임대", SuggestionKind.NAME, 1, 3),
+            new Suggestion("LH 행복", SuggestionKind.NAME, 1, 1)
+    ), 10);
+
+    @Test
+    void suggest_matchesPrefixAtAnyWordStart_rankedByPopularityThenRecency() {
+        assertThat(trie.suggest("행복", 10)).extracting(Suggestion::text)
+                .containsExactly("행복주택", "강남 행복주택 입주자 모집", "LH 행복");
+    }
+
+    @Test
+    void suggest_chosungQuery_usesInitialConsonantKeySpace() {
+        assertThat(trie.suggest("ㅎㅂㅈㅌ", 10)).extracting(Suggestion::text)
+                .containsExactly("행복주택", "강남 행복주택 입주자 모집");
+        assertThat(trie.suggest("LHㅎ", 10)).extracting(Suggestion::text).containsExactly("LH 행복");
+    }
+
+    @Test
+    void suggest_ignoresSpacesAndCase_andEndsInsideCompressedEdge() {
+        assertThat(trie.suggest("서울 특", 10)).extracting(Suggestion::text).containsExactly("서울특별시");
+        assertThat(trie.suggest("lh", 10)).extracting(Suggestion::text).containsExactly("LH 행복");
+    }
+
+    @Test
+    void suggest_respectsLimit_andMissesReturnEmpty() {
+        assertThat(trie.suggest("서", 1)).extracting(Suggestion::text).containsExactly("서울특별시");
+        assertThat(trie.suggest("부산", 10)).isEmpty();
+        assertThat(trie.suggest("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void toChosung_keepsNonHangulCharacters() {
+        assertThat(HangulChosung.toChosung("LH행복주택")).isEqualTo("LHㅎㅂㅈㅌ");
+        assertThat(HangulChosung.containsChosung("행복")).isFalse();
+    }
+}
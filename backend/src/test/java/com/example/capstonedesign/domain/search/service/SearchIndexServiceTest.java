@@ -0,0 +1,137 @@
+package com.example.capstonedesign.domain.search.service;
+
+import com.example.capstonedesign.application.ingest.IngestDataVersions;
+import com.example.capstonedesign.application.ingest.IngestDomain;
+import com.example.capstonedesign.common.exception.ApiException;
+import com.example.capstonedesign.domain.search.dto.response.SearchHitResponse;
+import com.example.capstonedesign.domain.search.dto.response.SearchResponse;
+import com.example.capstonedesign.domain.search.index.SearchDocument;
+import com.example.capstonedesign.domain.search.index.SearchDomain;
+import com.example.capstonedesign.domain.search.repository.SearchDocumentLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexServiceTest {
+
+    @Mock
+    SearchDocumentLoader documentLoader;
+
+    private final IngestDataVersions dataVersions = new IngestDataVersions();
+    private SearchIndexService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SearchIndexService(documentLoader, dataVersions);
+        service.registerListener();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void search_mergesDomainsByScore() {
+        when(documentLoader.load(SearchDomain.LH)).thenReturn(List.of(
+                new SearchDocument(1L, "행복주택 모집", "서울", "lh", null)));
+        when(documentLoader.load(SearchDomain.POLICY)).thenReturn(List.of(
+                new SearchDocument(7L, "청년 월세 지원", "서울시", "p", "행복주택 입주자 포함")));
+        service.rebuild(SearchDomain.LH);
+        service.rebuild(SearchDomain.POLICY);
+
+        SearchResponse res = service.search("행복주택", null, 10);
+
+        assertThat(res.total()).isEqualTo(2);
+        assertThat(res.items()).extracting(SearchHitResponse::domain)
+                .containsExactly(SearchDomain.LH, SearchDomain.POLICY);
+    }
+
+    @Test
+    void search_filtersByDomain() {
+        when(documentLoader.load(SearchDomain.LH)).thenReturn(List.of(
+                new SearchDocument(1L, "행복주택 모집", "서울", "lh", null)));
+        service.rebuild(SearchDomain.LH);
+
+        assertThat(service.search("행복주택", Set.of(SearchDomain.SH), 10).items()).isEmpty();
+    }
+
+    @Test
+    void search_blankQuery_throws() {
+        assertThatThrownBy(() -> service.search(" ", null, 10)).isInstanceOf(ApiException.class);
+    }
+
+    @Test
+    void rebuild_failure_keepsPreviousIndex() {
+        when(documentLoader.load(SearchDomain.SH))
+                .thenReturn(List.of(new SearchDocument(3L, "장기전세 모집", "강남구", "sh", null)))
+                .thenThrow(new IllegalStateException("db down"));
+        service.rebuild(SearchDomain.SH);
+        service.rebuild(SearchDomain.SH);
+
+        assertThat(service.search("장기전세", null, 10).total()).isEqualTo(1);
+    }
+
+    @Test
+    void dataVersionBump_rebuildsOnlyChangedDomain() {
+        when(documentLoader.load(SearchDomain.FINANCE)).thenReturn(List.of(
+                new SearchDocument(9L, "청년도약계좌", "은행", "f", null)));
+
+        dataVersions.bump(IngestDomain.FINANCE);
+
+        verify(documentLoader, timeout(2000)).load(SearchDomain.FINANCE);
+        verify(documentLoader, never()).load(SearchDomain.LH);
+        verify(documentLoader, atMostOnce()).load(any());
+    }
+
+    @Test
+    void dataVersionBumpWithIds_appliesOnlyChangedRows() {
+        when(documentLoader.load(SearchDomain.LH)).thenReturn(List.of(
+                new SearchDocument(1L, "행복주택 모집", "서울", "lh", null)));
+        when(documentLoader.load(SearchDomain.LH, Set.of(2L))).thenReturn(List.of(
+                new SearchDocument(2L, "행복주택 추가 모집", "부산", "lh2", null)));
+        service.rebuild(SearchDomain.LH);
+
+        dataVersions.bump(IngestDomain.LH, List.of(2L));
+
+        verify(documentLoader, timeout(2000)).load(SearchDomain.LH, Set.of(2L));
+        verify(documentLoader, times(1)).load(SearchDomain.LH);
+        await(() -> service.indexedCounts().get(SearchDomain.LH) == 2);
+        assertThat(service.search("행복주택", null, 10).total()).isEqualTo(2);
+    }
+
+    @Test
+    void applyChanges_beforeFirstBuild_fallsBackToFullRebuild() {
+        when(documentLoader.load(SearchDomain.SH)).thenReturn(List.of(
+                new SearchDocument(3L, "장기전세 모집", "강남구", "sh", null)));
+
+        service.applyChanges(SearchDomain.SH, Set.of(3L));
+
+        verify(documentLoader, never()).load(eq(SearchDomain.SH), anyCollection());
+        assertThat(service.search("장기전세", null, 10).total()).isEqualTo(1);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
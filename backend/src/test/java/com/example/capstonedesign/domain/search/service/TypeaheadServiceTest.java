@@ -0,0 +1,61 @@
+package com.example.capstonedesign.domain.search.service;
+
+import com.example.capstonedesign.domain.search.dto.response.TypeaheadItemResponse;
+import com.example.capstonedesign.domain.search.index.SearchDocument;
+import com.example.capstonedesign.domain.search.index.SearchDomain;
+import com.example.capstonedesign.domain.search.index.SuggestionKind;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class TypeaheadServiceTest {
+
+    @Mock
+    SearchIndexService searchIndexService;
+
+    @Test
+    void onDomainRebuilt_aggregatesPopularityAcrossDocuments() {
+        TypeaheadService service = new TypeaheadService(searchIndexService, 10);
+
+        service.onDomainRebuilt(SearchDomain.LH, List.of(
+                new SearchDocument(1L, "행복주택 모집", "서울특별시", null, null),
+                new SearchDocument(2L, "국민임대 모집", "서울특별시", null, null)));
+        service.onDomainRebuilt(SearchDomain.FINANCE, List.of(
+                new SearchDocument(5L, "서울청년적금", "서울은행", null, null)));
+
+        List<TypeaheadItemResponse> items = service.suggest("서울", 10).items();
+
+        assertThat(items).first().satisfies(i -> {
+            assertThat(i.text()).isEqualTo("서울특별시");
+            assertThat(i.kind()).isEqualTo(SuggestionKind.REGION);
+            assertThat(i.popularity()).isEqualTo(2);
+        });
+        assertThat(items).extracting(TypeaheadItemResponse::text).contains("서울청년적금", "서울은행");
+    }
+
+    @Test
+    void onDomainRebuilt_replacesOnlyThatDomainsCandidates() {
+        TypeaheadService service = new TypeaheadService(searchIndexService, 10);
+        service.onDomainRebuilt(SearchDomain.SH, List.of(new SearchDocument(1L, "장기전세 모집", "강남구", null, null)));
+        service.onDomainRebuilt(SearchDomain.POLICY, List.of(new SearchDocument(2L, "청년 월세", "국토부", null, null)));
+
+        service.onDomainRebuilt(SearchDomain.SH, List.of());
+
+        assertThat(service.suggest("ㅈㄱㅈㅅ", 10).items()).isEmpty();
+        assertThat(service.suggest("ㅊㄴ", 10).items()).extracting(TypeaheadItemResponse::text)
+                .containsExactly("청년 월세");
+    }
+
+    @Test
+    void suggest_blankInput_returnsEmpty() {
+        TypeaheadService service = new TypeaheadService(searchIndexService, 10);
+
+        assertThat(service.suggest(" ", 10).items()).isEmpty();
+    }
+}
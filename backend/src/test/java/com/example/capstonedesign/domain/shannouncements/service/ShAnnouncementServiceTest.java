@@ -9,11 +9,13 @@ import com.example.capstonedesign.domain.shannouncements.entity.ShAnnouncement;
 import com.example.capstonedesign.domain.shannouncements.repository.ShAnnouncementRepository;
 import com.example.capstonedesign.domain.users.entity.Users;
 import com.example.capstonedesign.domain.users.repository.UsersRepository;
+import com.example.capstonedesign.domain.users.service.UserProfileCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -46,6 +48,9 @@ class ShAnnouncementServiceTest {
     @Mock
     private UsersRepository usersRepository;
 
+    @Spy
+    private UserProfileCache userProfileCache = new UserProfileCache(100, 300);
+
     @InjectMocks
     private ShAnnouncementService service;
 
@@ -1,7 +1,6 @@
 package com.example.capstonedesign.domain.users.config;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import com.example.capstonedesign.domain.users.service.TokenRevocationService;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -17,6 +16,7 @@ import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.io.IOException;
+import java.time.Instant;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -28,6 +28,7 @@ import static org.mockito.Mockito.*;
  *   다음 필터 체인으로 정상 위임되는지 검증
  * - 잘못된 JWT일 때 401 응답이 반환되고 필터 체인이 중단되는지 검증
  * - Authorization 헤더가 없을 때 필터가 통과(pass-through) 동작을 하는지 검증
+ * - 폐기된(로그아웃한) 토큰이면 서명이 유효해도 401 로 차단되는지 검증
  */
 @ExtendWith(MockitoExtension.class)
 class JwtAuthenticationFilterTest {
@@ -58,15 +59,9 @@ class JwtAuthenticationFilterTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
         request.addHeader("Authorization", "Bearer " + token);
 
-        // JwtTokenProvider.parse()가 반환할 Jws<Claims>와 Claims mock
-        @SuppressWarnings("unchecked")
-        Jws<Claims> jws = (Jws<Claims>) mock(Jws.class);
-        Claims claims = mock(Claims.class);
-
-        when(jwtTokenProvider.parse(token)).thenReturn(jws);
-        when(jws.getBody()).thenReturn(claims);
-        when(claims.get("userId", Number.class)).thenReturn(1L);
-        when(claims.get("role", String.class)).thenReturn("USER");
+        // JwtTokenProvider.verify()가 반환할 검증 결과
+        when(jwtTokenProvider.verify(token))
+                .thenReturn(new VerifiedToken(1L, "USER", Instant.now().plusSeconds(3600), "jti-1"));
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -95,7 +90,7 @@ class JwtAuthenticationFilterTest {
         MockHttpServletResponse response = new MockHttpServletResponse();
         request.addHeader("Authorization", "Bearer " + token);
 
-        when(jwtTokenProvider.parse(token))
+        when(jwtTokenProvider.verify(token))
                 .thenThrow(new JwtException("유효하지 않은 토큰"));
 
         // when
@@ -112,6 +107,33 @@ class JwtAuthenticationFilterTest {
         verify(filterChain, never()).doFilter(any(), any());
     }
 
+    @Test
+    @DisplayName("폐기된 토큰이면 서명이 유효해도 401을 반환하고 체인을 중단한다")
+    void doFilterInternal_revokedToken_returns401AndStopsChain()
+            throws ServletException, IOException {
+
+        // given
+        String token = "revoked.jwt.token";
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        request.addHeader("Authorization", "Bearer " + token);
+
+        TokenRevocationService revocationService = mock(TokenRevocationService.class);
+        jwtAuthenticationFilter.setTokenRevocationService(revocationService);
+
+        when(jwtTokenProvider.verify(token))
+                .thenReturn(new VerifiedToken(1L, "USER", Instant.now().plusSeconds(3600), "jti-revoked"));
+        when(revocationService.isRevoked("jti-revoked")).thenReturn(true);
+
+        // when
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
     @Test
     @DisplayName("Authorization 헤더가 없으면 JWT 검증 없이 체인을 그대로 통과한다")
     void doFilterInternal_noAuthorizationHeader_passThrough()
@@ -132,7 +154,8 @@ class JwtAuthenticationFilterTest {
         // 필터 체인은 정상적으로 호출되어야 한다
         verify(filterChain, times(1)).doFilter(request, response);
 
-        // JwtTokenProvider.parse()는 호출되지 않아야 한다
+        // JwtTokenProvider 검증은 호출되지 않아야 한다
+        verify(jwtTokenProvider, never()).verify(anyString());
         verify(jwtTokenProvider, never()).parse(anyString());
     }
 }
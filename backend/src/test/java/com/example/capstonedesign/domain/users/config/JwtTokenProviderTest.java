@@ -7,7 +7,10 @@ import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
 import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 
@@ -20,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
  * - generate()로 생성한 토큰을 parse()로 다시 파싱했을 때
  *   subject, userId, role, exp 등이 예상대로 담겨 있는지 검증
  * - 잘못된 토큰을 파싱할 경우 예외가 발생하는지 검증
+ * - verify()가 검증 결과를 토큰 만료 전까지 캐시하는지 검증
  */
 class JwtTokenProviderTest {
 
@@ -49,6 +53,7 @@ class JwtTokenProviderTest {
         assertThat(claims.getSubject()).isEqualTo(email);
         assertThat(claims.get("userId", Long.class)).isEqualTo(userId);
         assertThat(claims.get("role", String.class)).isEqualTo(role.name());
+        assertThat(claims.getId()).isNotBlank();   // 폐기(로그아웃) 식별용 jti
 
         // 시간 관련 검증
         Date issuedAt = claims.getIssuedAt();
@@ -89,4 +94,107 @@ class JwtTokenProviderTest {
         // when & then
         assertThrows(JwtException.class, () -> provider.parse(invalidToken));
     }
+
+    @Test
+    @DisplayName("verify() - 같은 토큰은 두 번째부터 캐시에서 userId/role을 반환한다")
+    void verify_sameToken_servedFromCache() {
+        // given
+        JwtTokenProvider provider = new JwtTokenProvider(TEST_SECRET, 3600L);
+        String token = provider.generate(7L, "cache@example.com", UserRole.ADMIN);
+
+        // when
+        VerifiedToken first = provider.verify(token);
+        VerifiedToken second = provider.verify(token);
+
+        // then
+        assertThat(first.userId()).isEqualTo(7L);
+        assertThat(first.role()).isEqualTo("ADMIN");
+        assertThat(second).isSameAs(first);
+        assertThat(provider.getVerifiedTokens().misses()).isEqualTo(1);
+        assertThat(provider.getVerifiedTokens().hits()).isEqualTo(1);
+        assertThat(provider.getVerifiedTokens().size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("verify() - 위조된 토큰은 매번 검증에 실패하고 캐시에 저장되지 않는다")
+    void verify_tamperedToken_throwsAndIsNotCached() {
+        // given
+        JwtTokenProvider provider = new JwtTokenProvider(TEST_SECRET, 3600L);
+        String token = provider.generate(1L, "a@example.com", UserRole.USER);
+        provider.verify(token);
+
+        // 다른 사용자 토큰의 payload 에 원래 서명을 붙임
+        String[] original = token.split("\\.");
+        String[] other = provider.generate(2L, "b@example.com", UserRole.ADMIN).split("\\.");
+        String tampered = original[0] + "." + other[1] + "." + original[2];
+
+        // when & then
+        assertThrows(JwtException.class, () -> provider.verify(tampered));
+        assertThrows(JwtException.class, () -> provider.verify(tampered));
+        assertThat(provider.getVerifiedTokens().size()).isEqualTo(1);
+        assertThat(provider.getVerifiedTokens().misses()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("verify() - 캐시 항목은 토큰 exp 이후에는 사용되지 않는다")
+    void verify_afterExpiry_cacheEntryNotUsed() {
+        // given
+        MutableClock clock = new MutableClock(Instant.now());
+        JwtTokenProvider provider = new JwtTokenProvider(TEST_SECRET, 60L, 100, clock);
+        String token = provider.generate(1L, "a@example.com", UserRole.USER);
+        provider.verify(token);
+
+        // when: 캐시 기준 시각만 exp 이후로 이동 (서명 검증은 실제 시각 기준이라 통과)
+        clock.advanceSeconds(120);
+        provider.verify(token);
+
+        // then
+        assertThat(provider.getVerifiedTokens().hits()).isZero();
+        assertThat(provider.getVerifiedTokens().misses()).isEqualTo(2);
+        assertThat(provider.getVerifiedTokens().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("verify() - 최대 항목 수를 넘지 않는다")
+    void verify_manyTokens_boundedByMaxEntries() {
+        // given
+        JwtTokenProvider provider = new JwtTokenProvider(TEST_SECRET, 3600L, 10, Clock.systemUTC());
+
+        // when
+        for (long id = 1; id <= 50; id++) {
+            provider.verify(provider.generate(id, "u" + id + "@example.com", UserRole.USER));
+        }
+
+        // then
+        assertThat(provider.getVerifiedTokens().size()).isLessThanOrEqualTo(10);
+        assertThat(provider.getVerifiedTokens().evictions()).isPositive();
+    }
+
+    /** 테스트용 수동 시계 */
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advanceSeconds(long seconds) {
+            now = now.plusSeconds(seconds);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
 }
@@ -0,0 +1,213 @@
+package com.example.capstonedesign.domain.users.config;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import com.example.capstonedesign.common.exception.ApiException;
+import com.example.capstonedesign.common.exception.ErrorCode;
+import com.example.capstonedesign.common.metrics.AppMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * PasswordEncoder 단위 테스트
+ * - 해싱/검증 왕복, 설정한 비용 인자 적용
+ * - 낮은 비용 해시 재해싱 판정
+ * - 해싱 대기열 초과 / 대기 시간 초과 시 503(SERVICE_UNAVAILABLE), 시간 초과된 작업은 해싱하지 않음
+ * - 백그라운드 재해싱은 해싱 스레드가 한가할 때만 제출
+ */
+class PasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AppMetrics metrics = new AppMetrics(new SimpleMeterRegistry());
+    private PasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) encoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("encode() 결과는 matches() 로 검증되고 설정한 비용 인자를 사용한다")
+    void encodeAndMatches_roundTrip() {
+        encoder = new PasswordEncoder(5, 2, 8, 5000, metrics);
+
+        String hash = encoder.encode("Password1!");
+
+        assertThat(encoder.matches("Password1!", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+        assertThat(PasswordEncoder.costOf(hash)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("저장된 해시 비용이 현재 설정보다 낮을 때만 재해싱 대상이다")
+    void needsRehash_onlyForLowerCost() {
+        encoder = new PasswordEncoder(6, 1, 8, 5000, metrics);
+        String low = BCrypt.withDefaults().hashToString(4, "pw".toCharArray());
+        String same = BCrypt.withDefaults().hashToString(6, "pw".toCharArray());
+        String higher = BCrypt.withDefaults().hashToString(7, "pw".toCharArray());
+
+        assertThat(encoder.needsRehash(low)).isTrue();
+        assertThat(encoder.needsRehash(same)).isFalse();
+        assertThat(encoder.needsRehash(higher)).isFalse();
+        assertThat(encoder.needsRehash("not-a-bcrypt-hash")).isFalse();
+        assertThat(encoder.needsRehash(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("해싱 스레드와 대기열이 모두 차면 즉시 503을 던진다")
+    void queueFull_rejectedWith503() throws Exception {
+        encoder = new PasswordEncoder(4, 1, 1, 5000, metrics);
+        CountDownLatch running = new CountDownLatch(1);
+
+        // 스레드 1개 점유 + 대기열 1칸 점유
+        Thread busy = new Thread(() -> encoder.submit("test", () -> {
+            running.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        Thread queued = new Thread(() -> encoder.submit("test", () -> true));
+        busy.start();
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        queued.start();
+        waitUntilQueued(1);
+
+        ApiException ex = assertThrows(ApiException.class, () -> encoder.encode("pw"));
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.SERVICE_UNAVAILABLE);
+
+        release.countDown();
+        busy.join(5000);
+        queued.join(5000);
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기면 503을 던진다")
+    void timeout_503() throws Exception {
+        encoder = new PasswordEncoder(4, 1, 8, 50, metrics);
+        CountDownLatch running = new CountDownLatch(1);
+
+        Thread busy = new Thread(() -> {
+            try {
+                encoder.submit("test", () -> {
+                    running.countDown();
+                    // 시간 초과로 취소(interrupt)돼도 release 전까지 스레드를 계속 점유
+                    while (release.getCount() > 0) {
+                        try {
+                            release.await();
+                        } catch (InterruptedException ignored) {
+                        }
+                    }
+                    return true;
+                });
+            } catch (ApiException ignored) {
+                // 이 작업도 50ms 뒤 시간 초과 → 무시
+            }
+        });
+        busy.start();
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        ApiException ex = assertThrows(ApiException.class, () -> encoder.matches("pw", "$2a$04$invalid"));
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.SERVICE_UNAVAILABLE);
+
+        release.countDown();
+        busy.join(5000);
+    }
+
+    @Test
+    @DisplayName("대기 중 시간 초과된 작업은 대기열에서 빠지고 해싱되지 않는다")
+    void timeout_queuedTaskNeverRuns() throws Exception {
+        encoder = new PasswordEncoder(4, 1, 8, 50, metrics);
+        Thread busy = occupyWorker();
+        AtomicInteger ran = new AtomicInteger();
+
+        ApiException ex = assertThrows(ApiException.class, () -> encoder.submit("test", ran::incrementAndGet));
+        assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.SERVICE_UNAVAILABLE);
+        assertThat(encoder.queuedTasks()).isZero();
+
+        release.countDown();
+        busy.join(5000);
+        assertThat(ran).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("encodeInBackground() 는 기다리지 않고 해시를 콜백으로 넘긴다")
+    void encodeInBackground_idle_deliversHash() throws Exception {
+        encoder = new PasswordEncoder(5, 1, 8, 5000, metrics);
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<String> hash = new AtomicReference<>();
+
+        boolean submitted = encoder.encodeInBackground("Password1!", h -> {
+            hash.set(h);
+            done.countDown();
+        });
+
+        assertThat(submitted).isTrue();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(encoder.matches("Password1!", hash.get())).isTrue();
+        assertThat(PasswordEncoder.costOf(hash.get())).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("대기 중인 해싱이 있으면 encodeInBackground() 는 건너뛴다")
+    void encodeInBackground_busy_skipped() throws Exception {
+        encoder = new PasswordEncoder(4, 1, 8, 5000, metrics);
+        Thread busy = occupyWorker();
+        Thread queued = new Thread(() -> encoder.submit("test", () -> true));
+        queued.start();
+        waitUntilQueued(1);
+        AtomicInteger called = new AtomicInteger();
+
+        assertThat(encoder.encodeInBackground("pw", h -> called.incrementAndGet())).isFalse();
+
+        release.countDown();
+        busy.join(5000);
+        queued.join(5000);
+        assertThat(called).hasValue(0);
+    }
+
+    @Test
+    void invalidCost_rejected() {
+        assertThrows(IllegalArgumentException.class, () -> new PasswordEncoder(3, 1, 1, 1000, metrics));
+        assertThrows(IllegalArgumentException.class, () -> new PasswordEncoder(32, 1, 1, 1000, metrics));
+    }
+
+    /** release 전까지 해싱 스레드 1개를 점유 (interrupt 무시) */
+    private Thread occupyWorker() throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        Thread busy = new Thread(() -> {
+            try {
+                encoder.submit("test", () -> {
+                    running.countDown();
+                    while (release.getCount() > 0) {
+                        try {
+                            release.await();
+                        } catch (InterruptedException ignored) {
+                        }
+                    }
+                    return true;
+                });
+            } catch (ApiException ignored) {
+                // 점유 작업 자체의 시간 초과는 무시
+            }
+        });
+        busy.start();
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        return busy;
+    }
+
+    private void waitUntilQueued(int n) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (encoder.queuedTasks() < n && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(encoder.queuedTasks()).isEqualTo(n);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.capstonedesign.domain.users.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SecurityConfig.prometheusAccess 단위 테스트
+ * - 허용 목록 주소는 인증 없이, 그 외 주소는 ADMIN 만 /actuator/prometheus 접근
+ */
+class SecurityConfigTest {
+
+    private final AuthorizationManager<RequestAuthorizationContext> access =
+            SecurityConfig.prometheusAccess("127.0.0.1, 10.0.0.0/8");
+
+    private boolean granted(String remoteAddr, Authentication auth) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/prometheus");
+        request.setRemoteAddr(remoteAddr);
+        return access.authorize(() -> auth, new RequestAuthorizationContext(request)).isGranted();
+    }
+
+    @Test
+    @DisplayName("허용 목록(IP/CIDR) 주소는 인증 없이 허용")
+    void allowedAddress_withoutAuthentication() {
+        assertThat(granted("127.0.0.1", null)).isTrue();
+        assertThat(granted("10.20.30.40", null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("그 외 주소는 ADMIN 만 허용")
+    void otherAddress_requiresAdmin() {
+        assertThat(granted("203.0.113.7", null)).isFalse();
+        assertThat(granted("203.0.113.7", new TestingAuthenticationToken(1L, null, "ROLE_USER"))).isFalse();
+        assertThat(granted("203.0.113.7", new TestingAuthenticationToken(1L, null, "ROLE_ADMIN"))).isTrue();
+    }
+}
@@ -6,11 +6,15 @@ import com.example.capstonedesign.domain.notifications.entity.NotificationChanne
 import com.example.capstonedesign.domain.users.config.JwtTokenProvider;
 import com.example.capstonedesign.domain.users.config.PasswordEncoder;
 import com.example.capstonedesign.domain.users.dto.request.LoginRequest;
+import com.example.capstonedesign.domain.users.dto.request.LogoutRequest;
+import com.example.capstonedesign.domain.users.dto.request.RefreshTokenRequest;
 import com.example.capstonedesign.domain.users.dto.request.SignupRequest;
 import com.example.capstonedesign.domain.users.dto.request.UpdateUserRequest;
+import com.example.capstonedesign.domain.users.dto.response.TokenResponse;
 import com.example.capstonedesign.domain.users.dto.response.UsersResponse;
 import com.example.capstonedesign.domain.users.entity.UserRole;
 import com.example.capstonedesign.domain.users.entity.Users;
+import com.example.capstonedesign.domain.users.service.RefreshTokenService;
 import com.example.capstonedesign.domain.users.service.UsersService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +31,7 @@ import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -54,6 +59,9 @@ class UsersControllerTest {
     @MockitoBean
     JwtTokenProvider jwtTokenProvider;
 
+    @MockitoBean
+    RefreshTokenService refreshTokenService;
+
     // ----------------------------------------------------------
     // 1. 회원 가입
     // ----------------------------------------------------------
@@ -151,6 +159,29 @@ class UsersControllerTest {
                 .andExpect(jsonPath("$.token").value("jwt-token"))
                 .andExpect(jsonPath("$.tokenType").value("Bearer"))
                 .andExpect(jsonPath("$.expiresInSeconds").value(3600));
+
+        verify(usersService).upgradePasswordHashIfNeeded(mockUser, "pw");
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("로그인 실패 → 해싱 대기열 초과(SERVICE_UNAVAILABLE)")
+    void login_hashingSaturated_503() throws Exception {
+        LoginRequest req = new LoginRequest("aaa@example.com", "pw");
+
+        Users mockUser = Users.builder()
+                .id(1).email("aaa@example.com").password("encoded").build();
+
+        when(usersService.requireActiveByEmail("aaa@example.com"))
+                .thenReturn(mockUser);
+        when(passwordEncoder.matches("pw", "encoded"))
+                .thenThrow(new ApiException(ErrorCode.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다."));
+
+        mvc.perform(post("/api/users/login")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(req)))
+                .andExpect(status().isServiceUnavailable());
     }
 
     @Test
@@ -173,6 +204,55 @@ class UsersControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    // ----------------------------------------------------------
+    // 2-1. 토큰 재발급 / 2-2. 로그아웃
+    // ----------------------------------------------------------
+    @Test
+    @WithMockUser
+    @DisplayName("refresh 토큰으로 재발급 성공")
+    void refresh_success() throws Exception {
+        when(refreshTokenService.rotate("refresh-1"))
+                .thenReturn(new TokenResponse("jwt-2", "Bearer", 3600L, "refresh-2", 1209600L));
+
+        mvc.perform(post("/api/users/token/refresh")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(new RefreshTokenRequest("refresh-1"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("jwt-2"))
+                .andExpect(jsonPath("$.refreshToken").value("refresh-2"));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("refresh 토큰 재사용 → 401")
+    void refresh_reused_unauthorized() throws Exception {
+        when(refreshTokenService.rotate("refresh-1"))
+                .thenThrow(new ApiException(ErrorCode.UNAUTHORIZED, "이미 사용된 refresh 토큰입니다."));
+
+        mvc.perform(post("/api/users/token/refresh")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(new RefreshTokenRequest("refresh-1"))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(username = "1")
+    @DisplayName("로그아웃 성공 → refresh family 폐기 요청")
+    void logout_success() throws Exception {
+        Users mockUser = Users.builder().id(1).email("test@example.com").role(UserRole.USER).build();
+        when(usersService.requireActiveById(1)).thenReturn(mockUser);
+
+        mvc.perform(post("/api/users/logout")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(new LogoutRequest("refresh-1"))))
+                .andExpect(status().isOk());
+
+        verify(refreshTokenService).logout(eq(1), isNull(), eq("refresh-1"));
+    }
+
     // ----------------------------------------------------------
     // 3. 내 정보 조회
     // ----------------------------------------------------------
@@ -425,6 +505,7 @@ class UsersControllerTest {
     @WithMockUser
     @DisplayName("비밀번호 재설정 확정 성공")
     void confirmPasswordReset_success() throws Exception {
+        when(usersService.confirmPasswordReset("reset-token", "NewPw123!")).thenReturn(1);
         String body = """
             {
               "token": "reset-token",
@@ -440,6 +521,7 @@ class UsersControllerTest {
                 .andExpect(content().string("비밀번호가 성공적으로 재설정되었습니다."));
 
         verify(usersService).confirmPasswordReset("reset-token", "NewPw123!");
+        verify(refreshTokenService).revokeAll(1);
     }
 
     // ----------------------------------------------------------
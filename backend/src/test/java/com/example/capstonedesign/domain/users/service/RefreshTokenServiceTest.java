@@ -0,0 +1,170 @@
+package com.example.capstonedesign.domain.users.service;
+
+import com.example.capstonedesign.common.exception.ApiException;
+import com.example.capstonedesign.common.exception.ErrorCode;
+import com.example.capstonedesign.domain.users.config.JwtTokenProvider;
+import com.example.capstonedesign.domain.users.config.VerifiedToken;
+import com.example.capstonedesign.domain.users.dto.response.TokenResponse;
+import com.example.capstonedesign.domain.users.entity.RefreshToken;
+import com.example.capstonedesign.domain.users.entity.UserRole;
+import com.example.capstonedesign.domain.users.entity.Users;
+import com.example.capstonedesign.domain.users.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * RefreshTokenService 단위 테스트
+ * - 발급 시 원문 대신 해시 저장
+ * - 회전 성공(만료 시각 승계) / 재사용 감지(family 폐기) / 만료 토큰 거부
+ * - 로그아웃 시 액세스 토큰 jti 폐기
+ */
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-01T00:00:00Z");
+
+    @Mock RefreshTokenRepository repository;
+    @Mock UsersService usersService;
+    @Mock JwtTokenProvider jwtTokenProvider;
+    @Mock TokenRevocationService revocationService;
+
+    RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RefreshTokenService(repository, usersService, jwtTokenProvider, revocationService,
+                3600, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private RefreshToken stored(String raw, Instant expiresAt) {
+        RefreshToken t = new RefreshToken();
+        t.setId(10L);
+        t.setUserId(1);
+        t.setTokenHash(RefreshTokenService.hash(raw));
+        t.setFamilyId("family-1");
+        t.setExpiresAt(expiresAt);
+        return t;
+    }
+
+    @Test
+    @DisplayName("issue() 는 원문이 아닌 SHA-256 해시를 저장한다")
+    void issue_storesHashOnly() {
+        String raw = service.issue(1);
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(repository).save(captor.capture());
+        RefreshToken saved = captor.getValue();
+
+        assertThat(raw).isNotBlank();
+        assertThat(saved.getTokenHash()).isEqualTo(RefreshTokenService.hash(raw)).isNotEqualTo(raw).hasSize(64);
+        assertThat(saved.getFamilyId()).isNotBlank();
+        assertThat(saved.getExpiresAt()).isEqualTo(NOW.plusSeconds(3600));
+    }
+
+    @Test
+    @DisplayName("rotate() 성공 시 새 액세스 토큰과 같은 family 의 새 refresh 토큰을 발급한다")
+    void rotate_success() {
+        RefreshToken current = stored("raw-1", NOW.plusSeconds(60));
+        Users user = Users.builder().id(1).email("test@example.com").role(UserRole.USER).build();
+
+        when(repository.findByTokenHash(RefreshTokenService.hash("raw-1"))).thenReturn(Optional.of(current));
+        when(repository.markUsed(10L, NOW)).thenReturn(1);
+        when(usersService.requireActiveById(1)).thenReturn(user);
+        when(jwtTokenProvider.generate(1L, "test@example.com", UserRole.USER)).thenReturn("access");
+        when(jwtTokenProvider.getExpirySeconds()).thenReturn(900L);
+
+        TokenResponse res = service.rotate("raw-1");
+
+        assertEquals("access", res.token());
+        assertEquals(900L, res.expiresInSeconds());
+        assertThat(res.refreshToken()).isNotBlank().isNotEqualTo("raw-1");
+        // family 수명은 로그인 시점 기준 → 회전해도 남은 60초만 유지
+        assertEquals(60L, res.refreshExpiresInSeconds());
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(repository).save(captor.capture());
+        assertEquals("family-1", captor.getValue().getFamilyId());
+        assertEquals(NOW.plusSeconds(60), captor.getValue().getExpiresAt());
+        verify(repository, never()).revokeFamily(anyString());
+    }
+
+    @Test
+    @DisplayName("이미 사용된 refresh 토큰이 다시 오면 family 전체를 폐기하고 401")
+    void rotate_reuse_revokesFamily() {
+        RefreshToken current = stored("raw-1", NOW.plusSeconds(60));
+        when(repository.findByTokenHash(RefreshTokenService.hash("raw-1"))).thenReturn(Optional.of(current));
+        when(repository.markUsed(10L, NOW)).thenReturn(0);
+
+        ApiException ex = assertThrows(ApiException.class, () -> service.rotate("raw-1"));
+
+        assertEquals(ErrorCode.UNAUTHORIZED, ex.getErrorCode());
+        verify(repository).revokeFamily("family-1");
+        verify(jwtTokenProvider, never()).generate(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("만료되었거나 폐기된 refresh 토큰은 401")
+    void rotate_expiredOrRevoked_unauthorized() {
+        RefreshToken expired = stored("raw-old", NOW.minusSeconds(1));
+        RefreshToken revoked = stored("raw-revoked", NOW.plusSeconds(60));
+        revoked.setRevoked(true);
+        when(repository.findByTokenHash(RefreshTokenService.hash("raw-old"))).thenReturn(Optional.of(expired));
+        when(repository.findByTokenHash(RefreshTokenService.hash("raw-revoked"))).thenReturn(Optional.of(revoked));
+
+        assertThrows(ApiException.class, () -> service.rotate("raw-old"));
+        assertThrows(ApiException.class, () -> service.rotate("raw-revoked"));
+        verify(repository, never()).markUsed(any(), any());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 refresh 토큰은 401")
+    void rotate_unknown_unauthorized() {
+        when(repository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        ApiException ex = assertThrows(ApiException.class, () -> service.rotate("nope"));
+        assertEquals(ErrorCode.UNAUTHORIZED, ex.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("logout() 은 액세스 토큰 jti 를 폐기하고 본인 refresh family 만 폐기한다")
+    void logout_revokesAccessAndOwnFamily() {
+        VerifiedToken access = new VerifiedToken(1L, "USER", NOW.plusSeconds(300), "jti-1");
+        when(repository.findByTokenHash(RefreshTokenService.hash("raw-1")))
+                .thenReturn(Optional.of(stored("raw-1", NOW.plusSeconds(60))));
+
+        service.logout(1, access, "raw-1");
+
+        verify(revocationService).revoke("jti-1", 1, NOW.plusSeconds(300));
+        verify(repository).revokeFamily("family-1");
+    }
+
+    @Test
+    @DisplayName("logout() 시 다른 사용자의 refresh 토큰이면 family 를 건드리지 않는다")
+    void logout_foreignRefreshToken_ignored() {
+        RefreshToken other = stored("raw-2", NOW.plusSeconds(60));
+        other.setUserId(2);
+        when(repository.findByTokenHash(RefreshTokenService.hash("raw-2"))).thenReturn(Optional.of(other));
+
+        service.logout(1, null, "raw-2");
+
+        verify(repository, never()).revokeFamily(anyString());
+        verifyNoInteractions(revocationService);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.capstonedesign.domain.users.service;
+
+import com.example.capstonedesign.domain.users.entity.RevokedToken;
+import com.example.capstonedesign.domain.users.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * TokenRevocationService 단위 테스트
+ * - Bloom filter 음성이면 DB 를 조회하지 않는지
+ * - 폐기 직후 / 재구성 후 판정, 만료 토큰 처리 검증
+ * - 트랜잭션 안의 폐기는 커밋 후에만 메모리에 반영
+ */
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-11-01T00:00:00Z");
+
+    @Mock
+    RevokedTokenRepository repository;
+
+    TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TokenRevocationService(repository, 1_000, 0.01, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("폐기 목록에 없는 토큰은 DB 조회 없이 통과한다")
+    void isRevoked_unknownToken_noDbLookup() {
+        assertThat(service.isRevoked("not-revoked")).isFalse();
+        assertThat(service.isRevoked(null)).isFalse();
+
+        verify(repository, never()).existsByJtiAndExpiresAtAfter(anyString(), any());
+        assertThat(service.filterPasses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("revoke() 직후 같은 인스턴스에서는 DB 조회 없이 폐기로 판정한다")
+    void revoke_thenIsRevoked_true() {
+        service.revoke("jti-1", 1, NOW.plusSeconds(600));
+
+        assertThat(service.isRevoked("jti-1")).isTrue();
+        verify(repository).save(any(RevokedToken.class));
+        verify(repository, never()).existsByJtiAndExpiresAtAfter(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 revoke() 는 커밋 후에만 메모리 판정에 반영되고, 롤백되면 반영되지 않는다")
+    void revoke_inTransaction_appliedAfterCommitOnly() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.revoke("jti-commit", 1, NOW.plusSeconds(600));
+            service.revoke("jti-rollback", 1, NOW.plusSeconds(600));
+            List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+            assertThat(syncs).hasSize(2);
+
+            // 커밋 전: 아직 필터에 없음
+            assertThat(service.isRevoked("jti-commit")).isFalse();
+
+            // 첫 번째만 커밋, 두 번째는 롤백(afterCommit 미호출)
+            syncs.get(0).afterCommit();
+
+            assertThat(service.isRevoked("jti-commit")).isTrue();
+            verify(repository, never()).existsByJtiAndExpiresAtAfter(anyString(), any());
+            assertThat(service.isRevoked("jti-rollback")).isFalse();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 폐기 기록을 남기지 않는다")
+    void revoke_expiredToken_ignored() {
+        service.revoke("jti-old", 1, NOW.minusSeconds(1));
+
+        verify(repository, never()).save(any());
+        assertThat(service.isRevoked("jti-old")).isFalse();
+    }
+
+    @Test
+    @DisplayName("rebuild() 는 다른 인스턴스에서 폐기한 jti 를 DB 에서 읽어 반영한다")
+    void rebuild_loadsRevocationsFromDb() {
+        when(repository.findActiveJtis(NOW)).thenReturn(List.of("jti-remote"));
+        when(repository.existsByJtiAndExpiresAtAfter("jti-remote", NOW)).thenReturn(true);
+
+        assertThat(service.isRevoked("jti-remote")).isFalse();   // 재구성 전: 모름
+
+        service.rebuild();
+
+        assertThat(service.isRevoked("jti-remote")).isTrue();
+        verify(repository).deleteExpired(NOW);
+        assertThat(service.dbChecks()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("rebuild() 후에도 DB 스냅샷에 없던 로컬 폐기 jti 는 유지된다")
+    void rebuild_keepsLocalRevocationsNotYetInSnapshot() {
+        service.revoke("jti-local", 1, NOW.plusSeconds(600));
+        when(repository.findActiveJtis(NOW)).thenReturn(List.of());
+
+        service.rebuild();
+
+        assertThat(service.isRevoked("jti-local")).isTrue();
+    }
+
+    @Test
+    @DisplayName("필터 양성이지만 DB 에 없으면 거짓 양성으로 집계하고 통과시킨다")
+    void isRevoked_falsePositive_checkedAgainstDb() {
+        // 테스트용으로 아주 작은 필터 + 많은 원소 → 거의 모든 값이 양성
+        TokenRevocationService tiny = new TokenRevocationService(repository, 1, 0.5, Clock.fixed(NOW, ZoneOffset.UTC));
+        List<String> many = IntStream.range(0, 500).mapToObj(i -> "jti-" + i).toList();
+        when(repository.findActiveJtis(NOW)).thenReturn(many);
+        tiny.rebuild();
+        lenient().when(repository.existsByJtiAndExpiresAtAfter(anyString(), eq(NOW))).thenReturn(false);
+
+        int revoked = 0;
+        for (int i = 0; i < 100; i++) {
+            if (tiny.isRevoked("other-" + i)) revoked++;
+        }
+
+        assertThat(revoked).isZero();
+        assertThat(tiny.dbChecks()).isPositive();
+        assertThat(tiny.falsePositives()).isEqualTo(tiny.dbChecks());
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.capstonedesign.domain.users.service;
+
+import com.example.capstonedesign.domain.users.entity.Users;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserProfileCacheTest {
+
+    private MutableClock clock;
+    private UserProfileCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        cache = new UserProfileCache(2, 60, clock);
+    }
+
+    private static Users user(int id, int age, String region) {
+        return Users.builder()
+                .id(id)
+                .age(age)
+                .region(region)
+                .income_band("중위소득 150% 이하")
+                .is_homeless(true)
+                .build();
+    }
+
+    private static Supplier<Users> counting(AtomicInteger calls, Users user) {
+        return () -> {
+            calls.incrementAndGet();
+            return user;
+        };
+    }
+
+    @Test
+    void get_sameUser_hitsWithoutReloading() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(cache.get(1, counting(calls, user(1, 25, "서울"))).age()).isEqualTo(25);
+        assertThat(cache.get(1, counting(calls, user(1, 40, "부산"))).age()).isEqualTo(25);
+
+        assertThat(calls).hasValue(1);
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void get_afterTtl_reloads() {
+        AtomicInteger calls = new AtomicInteger();
+        cache.get(1, counting(calls, user(1, 25, "서울")));
+
+        clock.advance(Duration.ofSeconds(61));
+
+        assertThat(cache.get(1, counting(calls, user(1, 26, "서울"))).age()).isEqualTo(26);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void invalidate_forcesReload() {
+        AtomicInteger calls = new AtomicInteger();
+        cache.get(1, counting(calls, user(1, 25, "서울")));
+
+        cache.invalidate(1);
+
+        assertThat(cache.get(1, counting(calls, user(1, 25, "인천"))).region()).isEqualTo("인천");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void invalidate_duringLoad_doesNotStoreStaleProfile() {
+        AtomicInteger calls = new AtomicInteger();
+
+        // 조회 도중 다른 요청이 프로필을 수정한 상황
+        UserProfile loaded = cache.get(1, () -> {
+            calls.incrementAndGet();
+            cache.invalidate(1);
+            return user(1, 25, "서울");
+        });
+        assertThat(loaded.region()).isEqualTo("서울");
+        assertThat(cache.size()).isZero();
+
+        assertThat(cache.get(1, counting(calls, user(1, 25, "인천"))).region()).isEqualTo("인천");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void get_overMaxEntries_evictsLeastRecentlyUsed() {
+        AtomicInteger calls = new AtomicInteger();
+        cache.get(1, counting(calls, user(1, 25, "서울")));
+        cache.get(2, counting(calls, user(2, 25, "서울")));
+        cache.get(1, counting(calls, user(1, 25, "서울")));     // 1 최근 사용
+        cache.get(3, counting(calls, user(3, 25, "서울")));     // 2 축출
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evictions()).isEqualTo(1);
+
+        cache.get(1, counting(calls, user(1, 25, "서울")));
+        assertThat(calls).hasValue(3);
+        cache.get(2, counting(calls, user(2, 25, "서울")));
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    void get_loaderThrows_propagatesAndCachesNothing() {
+        assertThatThrownBy(() -> cache.get(9, () -> {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void profile_normalizesOnce() {
+        UserProfile p = cache.get(1, () -> user(1, 27, "서울 강남구"));
+
+        assertThat(p.incomeBand()).isEqualTo("중위소득150%이하");
+        assertThat(p.regionCode()).isEqualTo("11");
+        assertThat(p.region()).isEqualTo("서울 강남구");
+        assertThat(p.age()).isEqualTo(27);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration d) {
+            now = now.plus(d);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
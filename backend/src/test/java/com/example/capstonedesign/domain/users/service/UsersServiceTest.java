@@ -2,6 +2,8 @@ package com.example.capstonedesign.domain.users.service;
 
 import com.example.capstonedesign.common.exception.ApiException;
 import com.example.capstonedesign.common.exception.ErrorCode;
+import com.example.capstonedesign.common.ttl.InMemoryTtlStore;
+import com.example.capstonedesign.common.ttl.TtlStore;
 import com.example.capstonedesign.domain.notifications.entity.NotificationChannel;
 import com.example.capstonedesign.domain.users.config.PasswordEncoder;
 import com.example.capstonedesign.domain.users.dto.request.SignupRequest;
@@ -16,16 +18,17 @@ import com.example.capstonedesign.domain.users.repository.UsersRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.lang.reflect.Field;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
-import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -51,6 +54,15 @@ class UsersServiceTest {
     @Mock
     EmailSender emailSender;
 
+    @Spy
+    TtlStore verificationCodes = new InMemoryTtlStore("test");
+
+    @Mock
+    UserProfileCache userProfileCache;
+
+    @Mock
+    UserProfileChanges profileChanges;
+
     @InjectMocks
     UsersService usersService;
 
@@ -283,20 +295,12 @@ class UsersServiceTest {
         // 1) 인증번호 저장
         usersService.sendIdVerificationCode(name, birthdate, region);
 
-        // 2) verificationCodes Map 읽기
-        Field field = UsersService.class.getDeclaredField("verificationCodes");
-        field.setAccessible(true);
-
-        @SuppressWarnings("unchecked")
-        Map<String, Object> map = (Map<String, Object>) field.get(usersService);
+        // 2) 인증번호 저장소 읽기
+        String storedCode = verificationCodes.get(email).orElse(null);
+        assertNotNull(storedCode, "verificationCodes에 값이 있어야 한다.");
 
-        Object vc = map.get(email);
-        assertNotNull(vc, "verificationCodes에 값이 있어야 한다.");
-
-        // 3) 내부 code 필드 추출
-        Field codeField = vc.getClass().getDeclaredField("code");
-        codeField.setAccessible(true);
-        String storedCode = (String) codeField.get(vc);
+        // 3) 메일 본문에 같은 번호가 실렸는지 확인
+        verify(emailSender).send(eq(email), anyString(), contains(storedCode));
 
         // 4) confirm 검증
         String resultEmail = usersService.confirmIdVerification(email, storedCode);
@@ -330,20 +334,9 @@ class UsersServiceTest {
         // (1) 먼저 sendIdVerificationCode 호출 → verificationCodes 맵에 값 들어감
         usersService.sendIdVerificationCode(name, birthdate, region);
 
-        // (2) Reflection으로 private Map<String, VerificationCode> 접근
-        Field field = UsersService.class.getDeclaredField("verificationCodes");
-        field.setAccessible(true);
-
-        @SuppressWarnings("unchecked")
-        Map<String, Object> map = (Map<String, Object>) field.get(usersService);
-
-        Object vc = map.get(email);
-        assertNotNull(vc, "verificationCodes에 값이 있어야 한다.");
-
-        // VerificationCode 내부 code 필드 읽기
-        Field codeField = vc.getClass().getDeclaredField("code");
-        codeField.setAccessible(true);
-        String storedCode = (String) codeField.get(vc);
+        // (2) 인증번호 저장소에서 발급된 번호 읽기
+        String storedCode = verificationCodes.get(email).orElse(null);
+        assertNotNull(storedCode, "verificationCodes에 값이 있어야 한다.");
 
         // (3) confirm 검증
         String resultEmail = usersService.confirmIdVerification(email, storedCode);
@@ -357,6 +350,62 @@ class UsersServiceTest {
         assertEquals(ErrorCode.NOT_FOUND, ex.getErrorCode());
     }
 
+    @Test
+    void confirmIdVerification_expiredCode_unauthorized() {
+        String email = "test@example.com";
+        String name = "테스터";
+        LocalDate birthdate = LocalDate.of(1990, 1, 1);
+        String region = "서울특별시 강서구";
+        when(usersRepository.findByNameAndBirthdateAndRegionAndDeletedFalse(name, birthdate, region))
+                .thenReturn(Optional.of(Users.builder().email(email).name(name).birthdate(birthdate).region(region).build()));
+
+        usersService.sendIdVerificationCode(name, birthdate, region);
+        String storedCode = verificationCodes.get(email).orElseThrow();
+
+        // 번호 TTL 이 지난 상황 (발급 기록은 남아 있음)
+        verificationCodes.remove(email);
+
+        ApiException ex = assertThrows(ApiException.class,
+                () -> usersService.confirmIdVerification(email, storedCode));
+        assertEquals(ErrorCode.UNAUTHORIZED, ex.getErrorCode());
+        assertEquals("인증 번호가 만료되었습니다.", ex.getMessage());
+
+        // 한 번 만료를 알린 뒤에는 요청 내역 없음
+        ApiException again = assertThrows(ApiException.class,
+                () -> usersService.confirmIdVerification(email, storedCode));
+        assertEquals(ErrorCode.NOT_FOUND, again.getErrorCode());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void upgradePasswordHashIfNeeded_lowerCost_rehashesInBackground() {
+        when(passwordEncoder.needsRehash("encoded-pass")).thenReturn(true);
+        ArgumentCaptor<Consumer<String>> onEncoded = ArgumentCaptor.forClass(Consumer.class);
+        when(passwordEncoder.encodeInBackground(eq("Password1!"), onEncoded.capture())).thenReturn(true);
+
+        usersService.upgradePasswordHashIfNeeded(activeUser, "Password1!");
+
+        // 로그인 요청 안에서는 해싱·저장하지 않음
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(usersRepository, never()).updatePasswordIfUnchanged(any(), any(), any());
+
+        // 해싱이 끝나면 이전 해시가 그대로일 때만 교체
+        onEncoded.getValue().accept("encoded-stronger");
+        verify(usersRepository).updatePasswordIfUnchanged(1, "encoded-pass", "encoded-stronger");
+        verify(usersRepository, never()).save(any());
+    }
+
+    @Test
+    void upgradePasswordHashIfNeeded_currentCost_noop() {
+        when(passwordEncoder.needsRehash("encoded-pass")).thenReturn(false);
+
+        usersService.upgradePasswordHashIfNeeded(activeUser, "Password1!");
+
+        assertEquals("encoded-pass", activeUser.getPassword());
+        verify(passwordEncoder, never()).encodeInBackground(anyString(), any());
+        verify(usersRepository, never()).save(any());
+    }
+
     // -------------------------------------------------------------------------
     // 6. requestPasswordReset()
     // -------------------------------------------------------------------------
@@ -399,7 +448,7 @@ class UsersServiceTest {
         when(passwordEncoder.encode("new-pass")).thenReturn("encoded-new");
 
         // when
-        usersService.confirmPasswordReset(token, "new-pass");
+        assertEquals(activeUser.getId(), usersService.confirmPasswordReset(token, "new-pass"));
 
         // then
         assertEquals("encoded-new", activeUser.getPassword());
@@ -460,6 +509,7 @@ class UsersServiceTest {
         assertTrue(res.is_homeless());
         assertFalse(res.notificationEnabled());
         assertEquals(LocalDate.of(1999, 12, 31), res.birthdate());
+        verify(profileChanges).publish(activeUser);
     }
 
     // -------------------------------------------------------------------------
@@ -473,6 +523,7 @@ class UsersServiceTest {
 
         assertFalse(activeUser.getNotificationEnabled());
         verify(usersRepository, times(1)).save(activeUser);
+        verify(profileChanges).publish(activeUser);
     }
 
     // -------------------------------------------------------------------------
@@ -486,6 +537,24 @@ class UsersServiceTest {
 
         assertEquals(NotificationChannel.SMS, activeUser.getNotificationChannel());
         verify(usersRepository, times(1)).save(activeUser);
+        verify(profileChanges).publish(activeUser);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void registerCacheInvalidation_invalidatesOnlyWhenChangeIsPublished() {
+        ArgumentCaptor<Consumer<Users>> listener = ArgumentCaptor.forClass(Consumer.class);
+
+        usersService.registerCacheInvalidation();
+        verify(profileChanges).addListener(listener.capture());
+
+        // 서비스는 직접 무효화하지 않고, UserProfileChanges 가 커밋 후 리스너를 호출
+        when(usersRepository.findById(1)).thenReturn(Optional.of(activeUser));
+        usersService.updateNotificationPreference(1, false);
+        verify(userProfileCache, never()).invalidate(any());
+
+        listener.getValue().accept(activeUser);
+        verify(userProfileCache).invalidate(1);
     }
 
     // -------------------------------------------------------------------------
@@ -509,6 +578,9 @@ class UsersServiceTest {
         ApiException ex = assertThrows(ApiException.class,
                 () -> usersService.delete("test@example.com", "wrong"));
         assertEquals(ErrorCode.UNAUTHORIZED, ex.getErrorCode());
+
+        // 탈퇴 성공 1회만 변경 알림 (캐시 무효화는 커밋 후 리스너에서)
+        verify(profileChanges, times(1)).publish(activeUser);
     }
 
     // -------------------------------------------------------------------------
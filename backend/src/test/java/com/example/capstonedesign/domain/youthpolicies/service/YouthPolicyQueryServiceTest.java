@@ -3,6 +3,7 @@ package com.example.capstonedesign.domain.youthpolicies.service;
 import com.example.capstonedesign.domain.products.entity.Products;
 import com.example.capstonedesign.domain.users.entity.Users;
 import com.example.capstonedesign.domain.users.repository.UsersRepository;
+import com.example.capstonedesign.domain.users.service.UserProfileCache;
 import com.example.capstonedesign.domain.youthpolicies.dto.response.YouthPolicyResponse;
 import com.example.capstonedesign.domain.youthpolicies.entity.YouthPolicy;
 import com.example.capstonedesign.domain.youthpolicies.repository.YouthPolicyRepository;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -37,6 +39,9 @@ class YouthPolicyQueryServiceTest {
     @Mock
     private UsersRepository usersRepository;
 
+    @Spy
+    private UserProfileCache userProfileCache = new UserProfileCache(100, 300);
+
     @InjectMocks
     private YouthPolicyQueryService queryService;
 
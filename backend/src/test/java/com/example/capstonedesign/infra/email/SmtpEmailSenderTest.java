@@ -1,5 +1,6 @@
 package com.example.capstonedesign.infra.email;
 
+import com.example.capstonedesign.common.metrics.AppMetrics;
 import jakarta.mail.BodyPart;
 import jakarta.mail.Message;
 import jakarta.mail.internet.InternetAddress;
@@ -24,6 +25,9 @@ class SmtpEmailSenderTest {
     @Mock
     private JavaMailSender mailSender;
 
+    @Mock
+    private AppMetrics metrics;
+
     @InjectMocks
     private SmtpEmailSender smtpEmailSender;
 
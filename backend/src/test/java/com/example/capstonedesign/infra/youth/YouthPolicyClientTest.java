@@ -1,6 +1,8 @@
 package com.example.capstonedesign.infra.youth;
 
+import com.example.capstonedesign.common.metrics.AppMetrics;
 import com.example.capstonedesign.domain.youthpolicies.dto.response.YouthPolicyApiResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,7 +43,7 @@ class YouthPolicyClientTest {
         MockitoAnnotations.openMocks(this);
 
         // YouthPolicyClient 인스턴스 생성 (기본 생성자 사용)
-        youthPolicyClient = new YouthPolicyClient();
+        youthPolicyClient = new YouthPolicyClient(new AppMetrics(new SimpleMeterRegistry()));
 
         // private final RestTemplate restTemplate 필드를 Mock으로 교체
         ReflectionTestUtils.setField(youthPolicyClient, "restTemplate", restTemplate);
@@ -0,0 +1,79 @@
+package com.example.capstonedesign.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+
+    @Test
+    void indexOf_belowSubBucketCount_isExact() {
+        for (long v = 0; v < 256; v++) {
+            assertThat(LatencyHistogram.indexOf(v)).isEqualTo((int) v);
+            assertThat(LatencyHistogram.highestEquivalent((int) v)).isEqualTo(v);
+        }
+    }
+
+    @Test
+    void buckets_areContiguousAndWithinOnePercent() {
+        int last = LatencyHistogram.indexOf(LatencyHistogram.MAX_VALUE_MICROS);
+        for (int i = 0; i < last; i++) {
+            long high = LatencyHistogram.highestEquivalent(i);
+            // 상한은 자기 버킷, 상한 + 1 은 다음 버킷 → 빈틈/겹침 없음
+            assertThat(LatencyHistogram.indexOf(high)).isEqualTo(i);
+            assertThat(LatencyHistogram.indexOf(high + 1)).isEqualTo(i + 1);
+            if (high >= 256) {
+                long low = LatencyHistogram.highestEquivalent(i - 1) + 1;
+                assertThat((double) (high - low) / low).isLessThan(0.01);
+            }
+        }
+    }
+
+    @Test
+    void indexOf_powerOfTwoBoundaries() {
+        assertThat(LatencyHistogram.indexOf(255)).isEqualTo(255);
+        assertThat(LatencyHistogram.indexOf(256)).isEqualTo(256);
+        assertThat(LatencyHistogram.indexOf(257)).isEqualTo(256);
+        assertThat(LatencyHistogram.indexOf(511)).isEqualTo(383);
+        assertThat(LatencyHistogram.indexOf(512)).isEqualTo(384);
+        assertThat(LatencyHistogram.highestEquivalent(384)).isEqualTo(515);
+    }
+
+    @Test
+    void percentile_reportsBucketUpperBoundCappedAtMax() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (long v = 1; v <= 1000; v++) h.recordMicros(v);
+
+        assertThat(h.count()).isEqualTo(1000);
+        assertThat(h.minMicros()).isEqualTo(1);
+        assertThat(h.maxMicros()).isEqualTo(1000);
+        assertThat(h.meanMicros()).isEqualTo(500.5);
+        assertThat(h.percentileMicros(50)).isBetween(500L, 505L);
+        assertThat(h.percentileMicros(99)).isBetween(990L, 1000L);
+        assertThat(h.percentileMicros(100)).isEqualTo(1000);
+        assertThat(h.percentileMicros(0)).isEqualTo(1);
+    }
+
+    @Test
+    void record_clampsNegativeAndOversizedValues() {
+        LatencyHistogram h = new LatencyHistogram();
+        h.recordMicros(-5);
+        h.recordMicros(Long.MAX_VALUE);
+        h.recordNanos(2_500);
+
+        assertThat(h.minMicros()).isZero();
+        assertThat(h.maxMicros()).isEqualTo(LatencyHistogram.MAX_VALUE_MICROS);
+        assertThat(h.nonEmptyBuckets()).extracting(b -> b[1]).containsExactly(1L, 1L, 1L);
+        assertThat(h.nonEmptyBuckets().get(1)[0]).isEqualTo(2);
+    }
+
+    @Test
+    void empty_reportsZero() {
+        LatencyHistogram h = new LatencyHistogram();
+
+        assertThat(h.percentileMicros(99)).isZero();
+        assertThat(h.minMicros()).isZero();
+        assertThat(h.meanMicros()).isZero();
+        assertThat(h.nonEmptyBuckets()).isEmpty();
+    }
+}
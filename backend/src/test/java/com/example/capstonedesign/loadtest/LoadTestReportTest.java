@@ -0,0 +1,69 @@
+package com.example.capstonedesign.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadTestReportTest {
+
+    @TempDir
+    Path dir;
+
+    private Path baseline() throws IOException {
+        Path file = dir.resolve("baseline.json");
+        Files.writeString(file, """
+                {
+                  "routes": {
+                    "search":  { "p99Ms": 100.0, "throughputRps": 50.0 },
+                    "housing": { "p99Ms": 200.0, "throughputRps": 40.0 },
+                    "zero":    { "p99Ms": 0.0,   "throughputRps": 0.0 }
+                  }
+                }
+                """);
+        return file;
+    }
+
+    private static Map<String, Object> route(double p99Ms, double rps) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("p99Ms", p99Ms);
+        m.put("throughputRps", rps);
+        return m;
+    }
+
+    private static Map<String, Object> report() {
+        Map<String, Object> routes = new LinkedHashMap<>();
+        routes.put("search", route(115.0, 48.0));   // +15%
+        routes.put("housing", route(210.0, 41.0));  // +5%
+        routes.put("zero", route(30.0, 10.0));      // baseline 0 → 변화율 0 으로 취급
+        routes.put("chat", route(999.0, 1.0));      // baseline 에 없음 → 판정 제외
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("routes", routes);
+        return report;
+    }
+
+    @Test
+    void compare_flagsRoutesOverP99Threshold() throws IOException {
+        List<String> regressed = LoadTestReport.compare(report(), baseline(), 10);
+
+        assertThat(regressed).containsExactly("search");
+    }
+
+    @Test
+    void compare_thresholdIsExclusive() throws IOException {
+        assertThat(LoadTestReport.compare(report(), baseline(), 15)).isEmpty();
+        assertThat(LoadTestReport.compare(report(), baseline(), 4.9)).containsExactly("search", "housing");
+    }
+
+    @Test
+    void compare_negativeThreshold_disablesCheck() throws IOException {
+        assertThat(LoadTestReport.compare(report(), baseline(), -1)).isEmpty();
+    }
+}